@@ -6,8 +6,13 @@ import com.sanctuary.bridge.listener.BridgeEventListener;
 import com.sanctuary.bridge.packet.PacketManager;
 import com.sanctuary.bridge.packet.PacketType;
 import com.sanctuary.bridge.sync.StatSyncService;
+import com.sanctuary.combat.status.StatusEffectManager;
+import com.sanctuary.core.ecs.EcsSystem;
+import com.sanctuary.core.ecs.EntityQuery;
+import com.sanctuary.core.ecs.SystemScheduler;
+import com.sanctuary.core.ecs.component.AttributeComponent;
 import org.bukkit.command.PluginCommand;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.entity.Player;
 
 /**
  * SanctuaryBridge (신경망)
@@ -15,13 +20,16 @@ import org.bukkit.scheduler.BukkitRunnable;
  */
 public class SanctuaryBridge {
 
+    // 동기화 시스템 이름
+    public static final String SYSTEM_STAT_SYNC = "bridge:stat_sync";
+
     private final DiabloPlugin plugin;
 
     private PacketManager packetManager;
     private StatSyncService statSyncService;
 
-    // 동기화 태스크
-    private BukkitRunnable syncTask;
+    // 동기화 시스템이 순회하는 ECS 쿼리 뷰
+    private EntityQuery attributeQuery;
 
     public SanctuaryBridge(DiabloPlugin plugin) {
         this.plugin = plugin;
@@ -49,8 +57,8 @@ public class SanctuaryBridge {
                 new BridgeEventListener(this),
                 plugin);
 
-        // 5. 주기적 동기화 태스크 시작
-        startSyncTask();
+        // 5. 주기적 동기화 시스템 등록
+        registerSyncSystem();
 
         // 6. 테스트 명령어 등록
         registerCommands();
@@ -76,20 +84,23 @@ public class SanctuaryBridge {
 
     /**
      * 주기적으로 모드 클라이언트에 데이터를 동기화합니다.
+     * 패킷 전송은 Bukkit API를 사용하므로 메인 스레드 시스템으로 등록합니다.
+     *
+     * 접속한 플레이어는 모두 AttributeComponent를 가지므로 해당 쿼리 뷰를 순회합니다.
      */
-    private void startSyncTask() {
-        syncTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (var player : plugin.getServer().getOnlinePlayers()) {
-                    if (packetManager.hasModClient(player)) {
+    private void registerSyncSystem() {
+        attributeQuery = plugin.getCoreModule().getEntityManager().query(AttributeComponent.class);
+        plugin.getCoreModule().getSystemScheduler().register(EcsSystem.builder(SYSTEM_STAT_SYNC)
+                .reads(AttributeComponent.class, StatusEffectManager.class)
+                .mainThread()
+                .interval(10) // 0.5초마다
+                .run(tick -> attributeQuery.forEach(entity -> {
+                    if (entity.getBukkitEntity() instanceof Player player && packetManager.hasModClient(player)) {
                         statSyncService.syncStats(player);
                         statSyncService.syncStatusEffects(player);
                     }
-                }
-            }
-        };
-        syncTask.runTaskTimer(plugin, 20L, 10L); // 0.5초마다
+                }))
+                .build());
     }
 
     private void registerCommands() {
@@ -102,8 +113,9 @@ public class SanctuaryBridge {
     }
 
     public void shutdown() {
-        if (syncTask != null) {
-            syncTask.cancel();
+        SystemScheduler scheduler = plugin.getCoreModule().getSystemScheduler();
+        if (scheduler != null) {
+            scheduler.unregister(SYSTEM_STAT_SYNC);
         }
         if (packetManager != null) {
             packetManager.shutdown();
@@ -4,6 +4,7 @@ import com.sanctuary.DiabloPlugin;
 import com.sanctuary.combat.calc.DamageCalculator;
 import com.sanctuary.combat.calc.DefenseCalculator;
 import com.sanctuary.combat.event.CombatEventBus;
+import com.sanctuary.combat.event.CombatJournal;
 import com.sanctuary.combat.listener.DamageListener;
 import com.sanctuary.combat.paragon.ParagonBoardManager;
 import com.sanctuary.combat.paragon.ParagonCommand;
@@ -13,8 +14,9 @@ import com.sanctuary.combat.skill.SkillTreeManager;
 import com.sanctuary.combat.stat.StatManager;
 import com.sanctuary.combat.status.StatusEffectManager;
 import com.sanctuary.core.SanctuaryCore;
+import com.sanctuary.core.ecs.EcsSystem;
+import com.sanctuary.core.ecs.SystemScheduler;
 import com.sanctuary.items.SanctuaryItems;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * SanctuaryCombat (심장)
@@ -37,9 +39,13 @@ public class SanctuaryCombat {
     private SkillExecutor skillExecutor;
     private ParagonBoardManager paragonBoardManager;
 
-    // 상태 이상 틱 태스크
-    private BukkitRunnable statusTickTask;
-    private BukkitRunnable dotDamageTask;
+    // 틱 시스템 이름
+    public static final String SYSTEM_STATUS_TICK = "combat:status_tick";
+    public static final String SYSTEM_DOT_DAMAGE = "combat:dot_damage";
+    public static final String SYSTEM_EVENT_FLUSH = "combat:event_flush";
+
+    // 전투 저널 크기 (최근 이벤트 수)
+    private static final int JOURNAL_CAPACITY = 1 << 16;
 
     public SanctuaryCombat(DiabloPlugin plugin, SanctuaryCore core, SanctuaryItems items) {
         this.plugin = plugin;
@@ -52,6 +58,7 @@ public class SanctuaryCombat {
 
         // 1. 전투 이벤트 버스 초기화 (가장 먼저)
         this.eventBus = new CombatEventBus(plugin.getLogger(), core.getScriptEngine());
+        eventBus.setJournal(new CombatJournal(JOURNAL_CAPACITY, core.getSystemScheduler()::getTick));
 
         // 2. 매니저 및 계산기 초기화
         this.statManager = new StatManager(core);
@@ -63,7 +70,7 @@ public class SanctuaryCombat {
         this.skillTreeManager = new SkillTreeManager(plugin.getLogger(), core.getEntityManager(),
                 core.getDataRepository());
         this.skillExecutor = new SkillExecutor(plugin.getLogger(), skillTreeManager, core.getEntityManager(),
-                core.getScriptEngine());
+                core.getScriptEngine(), statManager, damageCalculator);
         this.paragonBoardManager = new ParagonBoardManager(plugin.getLogger(), core.getEntityManager());
 
         // 4. 이벤트 리스너 등록
@@ -78,11 +85,14 @@ public class SanctuaryCombat {
         // 5. 명령어 등록
         registerCommands();
 
-        // 6. 상태 이상 틱 태스크 시작
-        startStatusTickTask();
+        // 6. 상태 이상 틱 시스템 등록
+        registerStatusSystems();
+
+        // 7. DoT 피해 시스템 등록 (1초마다)
+        registerDoTDamageSystem();
 
-        // 7. DoT 피해 태스크 시작 (1초마다)
-        startDoTDamageTask();
+        // 7.1 병합 이벤트 전달 시스템 등록 (매 틱)
+        registerEventFlushSystem();
 
         // 8. Lua 전투 스크립트 로드
         loadCombatScripts();
@@ -100,41 +110,54 @@ public class SanctuaryCombat {
     }
 
     /**
-     * 상태 이상 지속시간을 처리하는 틱 태스크를 시작합니다.
-     * 매 틱(50ms)마다 실행됩니다.
+     * 상태 이상 지속시간을 처리하는 틱 시스템을 등록합니다.
+     * 효과 맵은 메인 스레드의 전투 코드와 공유하므로 매 틱(50ms)마다 메인 스레드에서 실행됩니다.
      */
-    private void startStatusTickTask() {
-        statusTickTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                statusEffectManager.update();
-            }
-        };
-        statusTickTask.runTaskTimer(plugin, 1L, 1L); // 매 틱
+    private void registerStatusSystems() {
+        core.getSystemScheduler().register(EcsSystem.builder(SYSTEM_STATUS_TICK)
+                .writes(StatusEffectManager.class)
+                .mainThread()
+                .run(tick -> statusEffectManager.update())
+                .build());
     }
 
     /**
-     * DoT(지속 피해)를 처리하는 태스크를 시작합니다.
-     * 매 초(20틱)마다 실행됩니다.
+     * DoT(지속 피해)를 처리하는 시스템을 등록합니다.
+     * 매 초(20틱)마다 메인 스레드에서 실행됩니다.
      */
-    private void startDoTDamageTask() {
-        dotDamageTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                // 모든 플레이어의 DoT 처리
-                for (var player : plugin.getServer().getOnlinePlayers()) {
-                    double dotDamage = statusEffectManager.processDoTDamage(player);
-                    if (dotDamage > 0) {
-                        double currentHp = player.getHealth();
-                        double newHp = Math.max(0.5, currentHp - dotDamage); // 최소 0.5 유지
-                        player.setHealth(newHp);
-
-                        // TODO: DoT 피해 인디케이터 표시
+    private void registerDoTDamageSystem() {
+        core.getSystemScheduler().register(EcsSystem.builder(SYSTEM_DOT_DAMAGE)
+                .writes(StatusEffectManager.class)
+                .after(SYSTEM_STATUS_TICK)
+                .mainThread()
+                .interval(20)
+                .run(tick -> {
+                    // 모든 플레이어의 DoT 처리
+                    for (var player : plugin.getServer().getOnlinePlayers()) {
+                        double dotDamage = statusEffectManager.processDoTDamage(player);
+                        if (dotDamage > 0) {
+                            double currentHp = player.getHealth();
+                            double newHp = Math.max(0.5, currentHp - dotDamage); // 최소 0.5 유지
+                            player.setHealth(newHp);
+
+                            // TODO: DoT 피해 인디케이터 표시
+                        }
                     }
-                }
-            }
-        };
-        dotDamageTask.runTaskTimer(plugin, 20L, 20L); // 매 초
+                })
+                .build());
+    }
+
+    /**
+     * 틱 동안 쌓인 병합 이벤트를 병합 리스너에 전달하는 시스템을 등록합니다.
+     * 리스너가 Bukkit API(UI 등)를 사용할 수 있으므로 메인 스레드에서 실행합니다.
+     */
+    private void registerEventFlushSystem() {
+        core.getSystemScheduler().register(EcsSystem.builder(SYSTEM_EVENT_FLUSH)
+                .writes(CombatEventBus.class)
+                .after(SYSTEM_DOT_DAMAGE)
+                .mainThread()
+                .run(eventBus::flushCoalesced)
+                .build());
     }
 
     /**
@@ -150,17 +173,18 @@ public class SanctuaryCombat {
     }
 
     public void shutdown() {
-        // 태스크 취소
-        if (statusTickTask != null) {
-            statusTickTask.cancel();
-        }
-        if (dotDamageTask != null) {
-            dotDamageTask.cancel();
+        // 틱 시스템 해제
+        SystemScheduler scheduler = core.getSystemScheduler();
+        if (scheduler != null) {
+            scheduler.unregister(SYSTEM_STATUS_TICK);
+            scheduler.unregister(SYSTEM_DOT_DAMAGE);
+            scheduler.unregister(SYSTEM_EVENT_FLUSH);
         }
 
         // 이벤트 버스 정리
         if (eventBus != null) {
             eventBus.clear();
+            eventBus.shutdown();
         }
 
         // 상태 이상 정리
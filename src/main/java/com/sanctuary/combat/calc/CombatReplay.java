@@ -0,0 +1,186 @@
+package com.sanctuary.combat.calc;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.sanctuary.combat.event.CombatEventType;
+import com.sanctuary.combat.event.CombatJournal;
+import com.sanctuary.combat.model.DamageContext;
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import com.sanctuary.core.model.DamageBucketData;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * 전투 저널 리플레이 도구
+ *
+ * {@link CombatJournal} 덤프의 피해 레코드를 기록된 입력(공격자 스탯, 스킬 계수, 태그, 취약 여부)으로
+ * 다시 계산해 기록된 피해와 비교합니다. 치명타/제압 판정은 난수 대신 기록된 결과를 그대로 사용하므로
+ * 같은 덤프와 같은 공식에서는 항상 같은 결과가 나옵니다.
+ *
+ * 계산은 {@link DamageCalculator}의 Java 경로와 같은 {@link DamageFormula}를 사용하므로,
+ * Java 공식으로 계산된 레코드만 재계산합니다. Lua 스크립트로 계산된 레코드({@link CombatJournal#FLAG_LUA_CALCULATED})는
+ * 스크립트 상태에 따라 결과가 달라지므로 건너뜁니다.
+ *
+ * 명령줄 사용: {@code java ... CombatReplay <덤프 파일> [damage_formula.json]}
+ */
+public final class CombatReplay {
+
+    private static final double TOLERANCE = 1e-6;
+
+    private final DamageFormula formula;
+
+    public CombatReplay(DamageFormula formula) {
+        this.formula = formula;
+    }
+
+    /**
+     * 레코드 하나의 재계산 결과
+     *
+     * @param entry    원본 레코드
+     * @param replayed 재계산한 공격 피해 (방어 적용 전)
+     */
+    public record Result(CombatJournal.Entry entry, double replayed) {
+
+        /**
+         * 재계산 결과가 기록된 공격 피해와 같은지 확인합니다.
+         */
+        public boolean matches() {
+            double recorded = entry.baseDamage();
+            return Math.abs(replayed - recorded) <= TOLERANCE * Math.max(1.0, Math.abs(recorded));
+        }
+    }
+
+    /**
+     * 피해 레코드를 다시 계산합니다.
+     * 공격자 스탯이 없는 레코드, Lua로 계산된 레코드, 다른 타입의 이벤트는 건너뜁니다.
+     *
+     * @param entries 저널 레코드 (기록 순서)
+     * @return 재계산 결과
+     */
+    public List<Result> replay(List<CombatJournal.Entry> entries) {
+        List<Result> results = new ArrayList<>();
+        for (CombatJournal.Entry entry : entries) {
+            if (!isReplayable(entry)) {
+                continue;
+            }
+            results.add(new Result(entry, replay(entry)));
+        }
+        return results;
+    }
+
+    /**
+     * 레코드를 Java 공식으로 재계산할 수 있는지 확인합니다.
+     *
+     * @param entry 저널 레코드
+     * @return Java 공식으로 계산된, 공격자 스탯이 있는 피해 레코드면 true
+     */
+    public static boolean isReplayable(CombatJournal.Entry entry) {
+        return entry.type() == CombatEventType.DAMAGE_DEALT
+                && entry.hasFlag(CombatJournal.FLAG_HAS_STATS)
+                && !entry.hasFlag(CombatJournal.FLAG_LUA_CALCULATED);
+    }
+
+    /**
+     * 피해 레코드 하나를 다시 계산합니다.
+     */
+    public double replay(CombatJournal.Entry entry) {
+        CombatStatSnapshot attacker = entry.attackerSnapshot();
+        DamageContext ctx = new DamageContext(attacker, null);
+        ctx.setAttackerHandle(entry.attacker());
+        ctx.setVictimHandle(entry.victim());
+        ctx.setSkillCoefficient(entry.skillCoefficient());
+        ctx.setVulnerable(entry.hasFlag(CombatJournal.FLAG_VULNERABLE));
+        for (String tag : CombatJournal.TAGS) {
+            if (entry.hasTag(tag)) {
+                ctx.addTag(tag);
+            }
+        }
+
+        return formula.evaluate(ctx, new RecordedRolls(
+                formula.hasCritRoll(), entry.hasFlag(CombatJournal.FLAG_CRITICAL),
+                formula.hasOverpowerRoll(), entry.hasFlag(CombatJournal.FLAG_OVERPOWER)));
+    }
+
+    /**
+     * 기록된 판정 결과를 순서대로 재현하는 난수 생성기입니다.
+     * 성공은 0.0(항상 확률 미만), 실패는 1.0 바로 아래 값(항상 확률 이상)을 반환합니다.
+     */
+    private static final class RecordedRolls implements RandomGenerator {
+        private static final long HIT = 0L;
+        private static final long MISS = -1L; // nextDouble() = 1 - 2^-53
+
+        private final long[] rolls;
+        private int next;
+
+        RecordedRolls(boolean hasCrit, boolean critical, boolean hasOverpower, boolean overpower) {
+            long[] sequence = new long[2];
+            int count = 0;
+            if (hasCrit) {
+                sequence[count++] = critical ? HIT : MISS;
+            }
+            if (hasOverpower) {
+                sequence[count++] = overpower ? HIT : MISS;
+            }
+            this.rolls = Arrays.copyOf(sequence, count);
+        }
+
+        @Override
+        public long nextLong() {
+            return next < rolls.length ? rolls[next++] : MISS;
+        }
+    }
+
+    // ===== 명령줄 도구 =====
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: CombatReplay <덤프 파일> [damage_formula.json]");
+            System.exit(1);
+            return;
+        }
+
+        DamageFormula formula = DamageFormula.DEFAULT;
+        if (args.length > 1) {
+            try (Reader reader = Files.newBufferedReader(Path.of(args[1]), StandardCharsets.UTF_8)) {
+                List<DamageBucketData> buckets = new Gson().fromJson(reader,
+                        new TypeToken<List<DamageBucketData>>() {
+                        }.getType());
+                formula = DamageFormula.fromBucketData(buckets);
+            }
+        }
+
+        List<CombatJournal.Entry> entries = CombatJournal.read(Path.of(args[0]));
+        List<Result> results = new CombatReplay(formula).replay(entries);
+
+        int mismatches = 0;
+        for (Result result : results) {
+            CombatJournal.Entry entry = result.entry();
+            boolean matches = result.matches();
+            if (!matches) {
+                mismatches++;
+            }
+            System.out.println(String.format(Locale.ROOT,
+                    "#%d tick=%d %d -> %d recorded=%.2f final=%.2f replayed=%.2f%s%s%s",
+                    entry.sequence(), entry.tick(), entry.attacker(), entry.victim(), entry.baseDamage(),
+                    entry.finalDamage(), result.replayed(),
+                    entry.hasFlag(CombatJournal.FLAG_CRITICAL) ? " [CRIT]" : "",
+                    entry.hasFlag(CombatJournal.FLAG_OVERPOWER) ? " [OVERPOWER]" : "",
+                    matches ? "" : " [MISMATCH]"));
+        }
+        long luaEntries = entries.stream()
+                .filter(entry -> entry.type() == CombatEventType.DAMAGE_DEALT
+                        && entry.hasFlag(CombatJournal.FLAG_LUA_CALCULATED))
+                .count();
+        System.out.println("레코드 " + entries.size() + "개, 피해 재계산 " + results.size() + "개, 불일치 " + mismatches
+                + "개 (Lua 계산 레코드 " + luaEntries + "개 제외)");
+    }
+}
@@ -2,16 +2,22 @@ package com.sanctuary.combat.calc;
 
 import com.sanctuary.combat.event.CombatContext;
 import com.sanctuary.combat.event.CombatEventBus;
+import com.sanctuary.combat.event.CombatEventPool;
 import com.sanctuary.combat.event.DamageDealtEvent;
 import com.sanctuary.combat.model.DamageContext;
-import com.sanctuary.combat.stat.Stat;
-import com.sanctuary.combat.stat.AttributeContainer;
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import com.sanctuary.core.script.LuaSchema;
 import com.sanctuary.core.script.ScriptEngine;
+import com.sanctuary.core.script.ScriptFunction;
 
+import org.bukkit.entity.LivingEntity;
+import org.luaj.vm2.LuaString;
 import org.luaj.vm2.LuaTable;
 import org.luaj.vm2.LuaValue;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,18 +26,43 @@ import java.util.logging.Logger;
  * 디아블로 4 시즌 6 공식 적용
  * 
  * Lua 스크립트와 통합되어 실제 계산은 Lua에서 수행됩니다.
- * Lua 오류 시 Java 폴백 로직을 사용합니다.
+ * Lua 오류 시(또는 Lua 비활성화 시) damage_formula.json에서 컴파일된 {@link DamageFormula}로 계산합니다.
  *
  * 공식: FinalDamage = WeaponDamage * (1 + AdditiveTotal) * Multipliers * Crit *
  * Vuln
  * + Overpower Damage (if proc)
+ *
+ * 광역 스킬처럼 한 공격자가 여러 대상을 동시에 타격하면 {@link #calculateBatch(List)}를 사용합니다.
+ * 대상 전체를 배열로 한 번에 넘겨 Java↔Lua 전환이 대상 수와 관계없이 1회로 줄어듭니다.
  */
 public class DamageCalculator {
 
     private static final String DAMAGE_SCRIPT = "damage_calculator.lua";
     private static final String CALCULATE_FUNCTION = "calculateFinalDamage";
+    private static final String CALCULATE_BATCH_FUNCTION = "calculateFinalDamageBatch";
+
+    // ===== Lua 테이블 스키마 (호출이 끝나면 풀에 반환) =====
+
+    private static final LuaSchema CASTER = CombatStatSnapshot.LUA_SCHEMA;
+    private static final LuaString K_CASTER_ID = CASTER.key("id");
+    private static final LuaString K_CASTER_UUID = CASTER.key("uuid");
+
+    private static final LuaSchema TARGET = LuaSchema.of("target", "id", "uuid", "isVulnerable", "tags");
+    private static final LuaString K_TARGET_ID = TARGET.key("id");
+    private static final LuaString K_TARGET_UUID = TARGET.key("uuid");
+    private static final LuaString K_IS_VULNERABLE = TARGET.key("isVulnerable");
+    private static final LuaString K_TAGS = TARGET.key("tags");
+    private static final LuaSchema TAGS = LuaSchema.list("tags", 8);
+
+    private static final LuaSchema SKILL = LuaSchema.of("skillData", "baseDamage", "distanceToTarget");
+    private static final LuaString K_BASE_DAMAGE = SKILL.key("baseDamage");
+    private static final LuaString K_DISTANCE = SKILL.key("distanceToTarget");
+
+    private static final LuaSchema TARGETS = LuaSchema.list("targets", 32);
 
     private final ScriptEngine scriptEngine;
+    private final ScriptFunction calculateFunction; // 스크립트 로드 및 리로드 시 재바인딩은 핸들이 처리
+    private final ScriptFunction calculateBatchFunction;
     private final CombatEventBus eventBus;
     private final Logger logger;
 
@@ -42,6 +73,8 @@ public class DamageCalculator {
      */
     public DamageCalculator() {
         this.scriptEngine = null;
+        this.calculateFunction = null;
+        this.calculateBatchFunction = null;
         this.eventBus = null;
         this.logger = Logger.getLogger(DamageCalculator.class.getName());
         this.luaEnabled = false;
@@ -52,55 +85,205 @@ public class DamageCalculator {
      */
     public DamageCalculator(ScriptEngine scriptEngine, CombatEventBus eventBus) {
         this.scriptEngine = scriptEngine;
+        this.calculateFunction = scriptEngine != null
+                ? scriptEngine.function(DAMAGE_SCRIPT, CALCULATE_FUNCTION)
+                : null;
+        this.calculateBatchFunction = scriptEngine != null
+                ? scriptEngine.function(DAMAGE_SCRIPT, CALCULATE_BATCH_FUNCTION)
+                : null;
         this.eventBus = eventBus;
         this.logger = Logger.getLogger(DamageCalculator.class.getName());
         this.luaEnabled = scriptEngine != null;
     }
 
     /**
-     * 데미지를 계산합니다.
+     * 데미지를 계산하고 피해 이벤트를 발생시킵니다.
      * Lua 스크립트가 로드되어 있으면 Lua로 계산하고, 그렇지 않으면 Java 폴백을 사용합니다.
+     *
+     * 방어 계산까지 마친 뒤 피해 이벤트를 직접 발생시키는 호출자는 {@link #calculateRaw(DamageContext)}를 사용해야
+     * 한 타격에 피해 이벤트가 두 번 발생하지 않습니다.
      */
     public double calculate(DamageContext ctx) {
-        double result;
-        boolean usedLua = false;
+        double result = computeDamage(ctx);
+
+        // 이벤트 발생
+        if (eventBus != null) {
+            DamageDealtEvent event = createDamageEvent(ctx, result);
+            try {
+                eventBus.fire(event);
+            } finally {
+                CombatEventPool.release(event);
+            }
+        }
 
+        return result;
+    }
+
+    /**
+     * 공격 단계 데미지만 계산합니다. 피해 이벤트는 발생시키지 않습니다.
+     * 방어/보강/보호막을 적용한 최종 피해로 이벤트를 직접 발생시키는 호출자(DamageListener)가 사용합니다.
+     *
+     * @param ctx 데미지 컨텍스트
+     * @return 방어 적용 전 데미지
+     */
+    public double calculateRaw(DamageContext ctx) {
+        return computeDamage(ctx);
+    }
+
+    /**
+     * 대상 하나의 데미지를 계산합니다. (이벤트 없음)
+     */
+    private double computeDamage(DamageContext ctx) {
         // Lua 계산 시도
         if (luaEnabled && scriptEngine != null) {
             try {
-                result = calculateWithLua(ctx);
-                usedLua = true;
+                double result = calculateWithLua(ctx);
+                ctx.setLuaCalculated(true);
+                return result;
             } catch (Exception e) {
                 logger.log(Level.WARNING, "[DamageCalculator] Lua 계산 실패, Java 폴백 사용: " + e.getMessage());
-                result = calculateWithJava(ctx);
+            }
+        }
+        ctx.setLuaCalculated(false);
+        return calculateWithJava(ctx);
+    }
+
+    /**
+     * 한 공격자가 같은 스킬로 여러 대상을 타격할 때 데미지를 한 번에 계산합니다.
+     * 공격자 스냅샷과 스킬 계수는 첫 번째 컨텍스트의 값을 사용하며, 피해 이벤트는 {@link CombatEventBus#fireBatch}로 함께 발생합니다.
+     *
+     * Lua에 일괄 계산 함수가 없으면 대상마다 {@link #calculate(DamageContext)}와 같은 방식으로 계산합니다.
+     * 실행 예산은 대상별이 아니라 일괄 호출 전체에 적용됩니다.
+     *
+     * @param contexts 대상별 컨텍스트 (같은 공격자, 같은 스킬)
+     * @return 대상별 최종 데미지 (contexts와 같은 순서)
+     * @throws IllegalArgumentException 공격자 스냅샷이나 스킬 계수가 다른 컨텍스트가 섞여 있는 경우
+     */
+    public double[] calculateBatch(List<DamageContext> contexts) {
+        double[] results = new double[contexts.size()];
+        if (contexts.isEmpty()) {
+            return results;
+        }
+        requireSameAttackerAndSkill(contexts);
+
+        if (luaEnabled && scriptEngine != null && calculateBatchFunction.isDefined()) {
+            try {
+                calculateBatchWithLua(contexts, results);
+                for (DamageContext ctx : contexts) {
+                    ctx.setLuaCalculated(true);
+                }
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "[DamageCalculator] Lua 일괄 계산 실패, Java 폴백 사용: " + e.getMessage());
+                for (int i = 0; i < results.length; i++) {
+                    contexts.get(i).setLuaCalculated(false);
+                    results[i] = calculateWithJava(contexts.get(i));
+                }
             }
         } else {
-            result = calculateWithJava(ctx);
+            for (int i = 0; i < results.length; i++) {
+                results[i] = computeDamage(contexts.get(i));
+            }
         }
 
-        // 이벤트 발생
+        // 이벤트 일괄 발생
         if (eventBus != null) {
-            fireDamageEvent(ctx, result, usedLua);
+            List<DamageDealtEvent> events = new ArrayList<>(results.length);
+            for (int i = 0; i < results.length; i++) {
+                events.add(createDamageEvent(contexts.get(i), results[i]));
+            }
+            try {
+                eventBus.fireBatch(events);
+            } finally {
+                for (DamageDealtEvent event : events) {
+                    CombatEventPool.release(event);
+                }
+            }
         }
 
-        return result;
+        return results;
+    }
+
+    /**
+     * 일괄 계산은 첫 번째 컨텍스트의 공격자 스냅샷과 스킬 계수만 Lua에 넘기므로 모든 컨텍스트가 같아야 합니다.
+     */
+    private static void requireSameAttackerAndSkill(List<DamageContext> contexts) {
+        DamageContext first = contexts.get(0);
+        for (int i = 1; i < contexts.size(); i++) {
+            DamageContext ctx = contexts.get(i);
+            if (ctx.getAttackerHandle() != first.getAttackerHandle()
+                    || ctx.getAttackerSnapshot() != first.getAttackerSnapshot()) {
+                throw new IllegalArgumentException("일괄 계산 컨텍스트의 공격자가 다릅니다: " + i);
+            }
+            if (ctx.getSkillCoefficient() != first.getSkillCoefficient()) {
+                throw new IllegalArgumentException("일괄 계산 컨텍스트의 스킬 계수가 다릅니다: " + i);
+            }
+        }
     }
 
     /**
      * Lua 스크립트를 사용하여 데미지를 계산합니다.
      */
     private double calculateWithLua(DamageContext ctx) {
-        // 스크립트 로드 확인
-        scriptEngine.loadScript(DAMAGE_SCRIPT);
-
-        // 컨텍스트를 Lua 테이블로 변환
+        // 컨텍스트를 Lua 테이블로 변환 (풀 테이블 재사용)
         LuaTable casterTable = createCasterTable(ctx);
-        LuaTable targetTable = createTargetTable(ctx);
+        LuaTable tagsTable = TAGS.acquire();
+        LuaTable targetTable = createTargetTable(ctx, tagsTable);
         LuaTable skillData = createSkillDataTable(ctx);
 
-        // Lua 함수 호출
-        LuaValue result = scriptEngine.callFunction(CALCULATE_FUNCTION, casterTable, targetTable, skillData);
+        try {
+            // Lua 함수 호출
+            return readResult(calculateFunction.call(casterTable, targetTable, skillData), ctx);
+        } finally {
+            CASTER.release(casterTable);
+            TARGET.release(targetTable);
+            TAGS.release(tagsTable);
+            SKILL.release(skillData);
+        }
+    }
+
+    /**
+     * 대상 전체를 배열로 넘겨 Lua 일괄 계산 함수를 한 번 호출합니다.
+     */
+    private void calculateBatchWithLua(List<DamageContext> contexts, double[] results) {
+        DamageContext first = contexts.get(0);
+        LuaTable casterTable = createCasterTable(first);
+        LuaTable skillData = createSkillDataTable(first);
+        LuaTable[] tagsTables = new LuaTable[contexts.size()];
+        LuaTable[] targetTables = new LuaTable[contexts.size()];
+        LuaTable targetsTable = TARGETS.acquire();
+
+        try {
+            for (int i = 0; i < targetTables.length; i++) {
+                tagsTables[i] = TAGS.acquire();
+                targetTables[i] = createTargetTable(contexts.get(i), tagsTables[i]);
+            }
+            LuaSchema.fillValues(targetsTable, Arrays.asList(targetTables));
+
+            // Lua 함수 호출 (대상 수와 관계없이 1회)
+            LuaValue result = calculateBatchFunction.call(casterTable, targetsTable, skillData);
+            if (!result.istable()) {
+                throw new RuntimeException("Lua 일괄 계산 결과가 예상과 다름: " + result);
+            }
 
+            LuaTable resultList = result.checktable();
+            for (int i = 0; i < results.length; i++) {
+                results[i] = readResult(resultList.get(i + 1), contexts.get(i));
+            }
+        } finally {
+            CASTER.release(casterTable);
+            SKILL.release(skillData);
+            for (int i = 0; i < targetTables.length; i++) {
+                TARGET.release(targetTables[i]);
+                TAGS.release(tagsTables[i]);
+            }
+            TARGETS.release(targetsTable);
+        }
+    }
+
+    /**
+     * Lua 계산 결과(테이블 또는 숫자)에서 데미지를 읽고 치명타/제압 여부를 컨텍스트에 반영합니다.
+     */
+    private double readResult(LuaValue result, DamageContext ctx) {
         if (result.istable()) {
             LuaTable resultTable = result.checktable();
             double damage = resultTable.get("damage").todouble();
@@ -125,64 +308,55 @@ public class DamageCalculator {
      * 공격자 정보를 Lua 테이블로 변환합니다.
      */
     private LuaTable createCasterTable(DamageContext ctx) {
-        LuaTable table = new LuaTable();
-        AttributeContainer stats = ctx.getAttackerStats();
-
-        // 주요 스탯 설정
-        table.set("uuid", ctx.getAttacker().getUniqueId().toString());
-        table.set("WEAPON_DAMAGE", stats.getValue(Stat.WEAPON_DAMAGE));
-        table.set("STRENGTH", stats.getValue(Stat.STRENGTH));
-        table.set("CRIT_CHANCE", stats.getValue(Stat.CRIT_CHANCE));
-        table.set("CRIT_DAMAGE", stats.getValue(Stat.CRIT_DAMAGE));
-        table.set("OVERPOWER_DAMAGE", stats.getValue(Stat.OVERPOWER_DAMAGE));
-        table.set("MAX_HP", stats.getValue(Stat.MAX_HP));
-
-        // 조건부 피해
-        table.set("DAMAGE_TO_CLOSE", stats.getValue(Stat.DAMAGE_VS_CLOSE));
-        table.set("DAMAGE_TO_DISTANT", stats.getValue(Stat.DAMAGE_VS_DISTANT));
-        table.set("DAMAGE_TO_CC", stats.getValue(Stat.DAMAGE_VS_CC));
-        table.set("VULNERABLE_DAMAGE", stats.getValue(Stat.VULNERABLE_DAMAGE));
-
+        // 주요 스탯과 조건부 피해는 타격 시작 시 캡처한 스냅샷에서 가져옴
+        LuaTable table = ctx.getAttackerSnapshot().writeTo(CASTER.acquire());
+        table.rawset(K_CASTER_ID, LuaValue.valueOf(ctx.getAttackerHandle()));
+        table.rawset(K_CASTER_UUID, uuidOf(ctx.getAttacker()));
         return table;
     }
 
     /**
      * 피격자 정보를 Lua 테이블로 변환합니다.
      */
-    private LuaTable createTargetTable(DamageContext ctx) {
-        LuaTable table = new LuaTable();
+    private LuaTable createTargetTable(DamageContext ctx, LuaTable tags) {
+        LuaTable table = TARGET.acquire();
 
-        table.set("uuid", ctx.getVictim().getUniqueId().toString());
-        table.set("isVulnerable", LuaValue.valueOf(ctx.isVulnerable()));
+        table.rawset(K_TARGET_ID, LuaValue.valueOf(ctx.getVictimHandle()));
+        table.rawset(K_TARGET_UUID, uuidOf(ctx.getVictim()));
+        table.rawset(K_IS_VULNERABLE, LuaValue.valueOf(ctx.isVulnerable()));
 
         // 태그 정보
-        LuaTable tags = new LuaTable();
-        int i = 1;
-        for (String tag : ctx.getTags()) {
-            tags.set(i++, tag);
-        }
-        table.set("tags", tags);
+        table.rawset(K_TAGS, LuaSchema.fillList(tags, ctx.getTags()));
 
         return table;
     }
 
+    /**
+     * 엔티티 UUID 문자열을 반환합니다. (엔티티 없이 스냅샷만 있는 컨텍스트는 nil)
+     */
+    private static LuaValue uuidOf(LivingEntity entity) {
+        return entity != null ? LuaValue.valueOf(entity.getUniqueId().toString()) : LuaValue.NIL;
+    }
+
     /**
      * 스킬 데이터를 Lua 테이블로 변환합니다.
      */
     private LuaTable createSkillDataTable(DamageContext ctx) {
-        LuaTable table = new LuaTable();
+        LuaTable table = SKILL.acquire();
 
-        table.set("baseDamage", ctx.getSkillCoefficient());
-        table.set("distanceToTarget", 5.0); // TODO: 실제 거리 계산
+        table.rawset(K_BASE_DAMAGE, LuaValue.valueOf(ctx.getSkillCoefficient()));
+        table.rawset(K_DISTANCE, LuaValue.valueOf(5.0)); // TODO: 실제 거리 계산
 
         return table;
     }
 
     /**
-     * 피해 이벤트를 발생시킵니다.
+     * 피해 이벤트를 풀에서 가져와 채웁니다. 발생이 끝나면 {@link CombatEventPool#release(DamageDealtEvent)}로 반환합니다.
      */
-    private void fireDamageEvent(DamageContext ctx, double damage, boolean usedLua) {
-        CombatContext combatContext = CombatContext.builder()
+    private DamageDealtEvent createDamageEvent(DamageContext ctx, double damage) {
+        CombatContext combatContext = CombatEventPool.acquireContext()
+                .attackerStats(ctx.getAttackerSnapshot())
+                .victimStats(ctx.getVictimSnapshot())
                 .skillCoefficient(ctx.getSkillCoefficient())
                 .build();
 
@@ -191,71 +365,20 @@ public class DamageCalculator {
             combatContext.addTag(tag);
         }
 
-        DamageDealtEvent event = new DamageDealtEvent(combatContext, damage)
+        return CombatEventPool.acquireDamageEvent(combatContext, damage)
                 .finalDamage(damage)
                 .critical(ctx.isCritical())
                 .overpower(ctx.isOverpower())
-                .vulnerable(ctx.isVulnerable());
-
-        eventBus.fire(event);
+                .vulnerable(ctx.isVulnerable())
+                .luaCalculated(ctx.isLuaCalculated());
     }
 
     /**
-     * Java 폴백 로직으로 데미지를 계산합니다.
-     * (기존 로직 유지)
+     * Java 공식으로 데미지를 계산합니다.
+     * 공식은 damage_formula.json에서 컴파일된 {@link DamageFormula}를 사용합니다. (없으면 기본 공식)
      */
     private double calculateWithJava(DamageContext ctx) {
-        AttributeContainer stats = ctx.getAttackerStats();
-
-        // 1. 무기 데미지
-        double weaponDamageBase = stats.getValue(Stat.WEAPON_DAMAGE);
-        double baseDamage = weaponDamageBase * ctx.getSkillCoefficient();
-
-        // 2. 주 스탯 보너스
-        double mainStat = stats.getValue(Stat.STRENGTH);
-        double mainStatMultiplier = 1.0 + (mainStat * 0.001);
-
-        // 3. 합연산 버킷
-        double additiveBonus = 0.0;
-        if (ctx.hasTag("PHYSICAL"))
-            additiveBonus += stats.getValue(Stat.PHYSICAL_DAMAGE);
-        if (ctx.hasTag("FIRE"))
-            additiveBonus += stats.getValue(Stat.FIRE_DAMAGE);
-        additiveBonus += stats.getValue(Stat.DAMAGE_VS_CLOSE);
-        additiveBonus += stats.getValue(Stat.CRIT_DAMAGE);
-        additiveBonus += stats.getValue(Stat.VULNERABLE_DAMAGE);
-
-        double additiveMultiplier = 1.0 + additiveBonus;
-
-        // 4. 곱연산 그룹
-        double globalMultiplier = stats.getValue(Stat.GLOBAL_DAMAGE_MULTI);
-        if (globalMultiplier == 0)
-            globalMultiplier = 1.0;
-
-        // 5. 치명타 및 취약
-        double critChance = stats.getValue(Stat.CRIT_CHANCE);
-        boolean isCrit = ThreadLocalRandom.current().nextDouble() < critChance;
-        ctx.setCritical(isCrit);
-
-        boolean isVuln = ctx.isVulnerable();
-
-        double critMultiplier = isCrit ? 1.5 : 1.0;
-        double vulnMultiplier = isVuln ? 1.2 : 1.0;
-
-        double currentDamage = baseDamage * mainStatMultiplier * additiveMultiplier
-                * globalMultiplier * critMultiplier * vulnMultiplier;
-
-        // 6. 제압
-        boolean isOverpower = ThreadLocalRandom.current().nextDouble() < 0.03;
-        if (isOverpower) {
-            ctx.setOverpower(true);
-            double maxHp = stats.getValue(Stat.MAX_HP);
-            double overpowerBonus = stats.getValue(Stat.OVERPOWER_DAMAGE);
-            double overpowerDamage = maxHp * 1.5 * (1.0 + overpowerBonus);
-            currentDamage += overpowerDamage;
-        }
-
-        return currentDamage;
+        return DamageFormula.active().evaluate(ctx);
     }
 
     /**
@@ -0,0 +1,397 @@
+package com.sanctuary.combat.calc;
+
+import com.sanctuary.combat.model.DamageContext;
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import com.sanctuary.combat.stat.Stat;
+import com.sanctuary.core.model.DamageBucketData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * 선언형 피해 공식(damage_formula.json)을 컴파일한 Java 평가기입니다.
+ *
+ * 공식: FinalDamage = Base * Scaling * (1 + Additive) * Multiplicative * Factor * Crit * Vuln + Overpower
+ *
+ * 컴파일 시점에 처리하는 것:
+ * - 스탯 키는 {@link CombatStatSnapshot}의 필드 접근 함수로 바뀝니다. (타격마다 맵/이름 조회 없음)
+ * - 조건(태그, 취약, 치명타)은 조건 함수로 바뀌며, 조건 없는 항은 분기 없이 계산됩니다.
+ * - 같은 종류의 항은 하나의 합/곱 함수로 묶여 타격마다 고정된 순서로 한 번씩 평가됩니다.
+ *
+ * 공식은 불변이며, 데이터 리로드 시 새 공식을 {@link #install(DamageFormula)}로 교체합니다.
+ * 잘못된 스펙(알 수 없는 타입/스탯/조건, BASE 없음)은 컴파일 시 {@link IllegalArgumentException}으로 거부됩니다.
+ */
+public final class DamageFormula {
+
+    /**
+     * 버킷 타입
+     */
+    public enum BucketType {
+        BASE, SCALING, ADDITIVE, MULTIPLICATIVE, FACTOR, CRIT, VULNERABLE, OVERPOWER
+    }
+
+    /**
+     * 컴파일된 공식 항 (공격자 스냅샷과 타격 문맥으로 값을 계산)
+     */
+    @FunctionalInterface
+    interface Term {
+        double eval(CombatStatSnapshot stats, DamageContext ctx);
+    }
+
+    /**
+     * 컴파일된 적용 조건
+     */
+    @FunctionalInterface
+    interface Condition {
+        boolean test(DamageContext ctx);
+    }
+
+    /** 기본 공식 (damage_formula.json이 없을 때, 기존 Java 폴백 공식과 같음) */
+    public static final DamageFormula DEFAULT = fromBucketData(defaultBuckets());
+
+    private static volatile DamageFormula active = DEFAULT;
+
+    private final Term base;
+    private final Term multiplier; // Scaling * (1 + Additive) * Multiplicative * Factor
+    private final ToDoubleFunction<CombatStatSnapshot> critChance; // 치명타 버킷이 없으면 null
+    private final double critMultiplier;
+    private final double vulnerableMultiplier;
+    private final double overpowerChance;
+    private final Term overpowerDamage; // 제압 버킷이 없으면 null
+    private final int bucketCount;
+
+    private DamageFormula(Term base, Term multiplier, ToDoubleFunction<CombatStatSnapshot> critChance,
+            double critMultiplier, double vulnerableMultiplier, double overpowerChance, Term overpowerDamage,
+            int bucketCount) {
+        this.base = base;
+        this.multiplier = multiplier;
+        this.critChance = critChance;
+        this.critMultiplier = critMultiplier;
+        this.vulnerableMultiplier = vulnerableMultiplier;
+        this.overpowerChance = overpowerChance;
+        this.overpowerDamage = overpowerDamage;
+        this.bucketCount = bucketCount;
+    }
+
+    // ===== 활성 공식 =====
+
+    /**
+     * 현재 적용 중인 공식을 반환합니다.
+     *
+     * @return 활성 공식 (설치 전에는 {@link #DEFAULT})
+     */
+    public static DamageFormula active() {
+        return active;
+    }
+
+    /**
+     * 공식을 활성화합니다. 다음 타격부터 적용됩니다.
+     *
+     * @param formula 새 공식 (null이면 {@link #DEFAULT})
+     */
+    public static void install(DamageFormula formula) {
+        active = formula != null ? formula : DEFAULT;
+    }
+
+    // ===== 평가 =====
+
+    /**
+     * 공격자 스냅샷과 타격 문맥으로 최종 피해를 계산합니다.
+     * 치명타/제압 판정 결과는 컨텍스트에 기록되며, 판정 난수는 {@link DamageContext#combatRandom()}을 사용합니다.
+     *
+     * @param ctx 타격 문맥
+     * @return 최종 피해
+     */
+    public double evaluate(DamageContext ctx) {
+        return evaluate(ctx, ctx.combatRandom());
+    }
+
+    /**
+     * 지정한 난수 생성기로 최종 피해를 계산합니다. (리플레이용)
+     * 난수는 치명타 판정(치명타 버킷이 있을 때), 제압 판정(제압 버킷이 있을 때) 순서로 하나씩 사용됩니다.
+     *
+     * @param ctx    타격 문맥
+     * @param random 판정에 사용할 난수 생성기
+     * @return 최종 피해
+     */
+    public double evaluate(DamageContext ctx, RandomGenerator random) {
+        CombatStatSnapshot stats = ctx.getAttackerSnapshot();
+
+        // 치명타 판정은 "crit" 조건 항보다 먼저 수행
+        boolean isCrit = critChance != null && random.nextDouble() < critChance.applyAsDouble(stats);
+        ctx.setCritical(isCrit);
+
+        double damage = base.eval(stats, ctx) * multiplier.eval(stats, ctx);
+        if (isCrit) {
+            damage *= critMultiplier;
+        }
+        if (ctx.isVulnerable()) {
+            damage *= vulnerableMultiplier;
+        }
+
+        if (overpowerDamage != null && random.nextDouble() < overpowerChance) {
+            ctx.setOverpower(true);
+            damage += overpowerDamage.eval(stats, ctx);
+        }
+
+        return damage;
+    }
+
+    boolean hasCritRoll() {
+        return critChance != null;
+    }
+
+    boolean hasOverpowerRoll() {
+        return overpowerDamage != null;
+    }
+
+    /**
+     * 컴파일된 버킷 수를 반환합니다.
+     */
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    @Override
+    public String toString() {
+        return "DamageFormula{buckets=" + bucketCount + "}";
+    }
+
+    // ===== 컴파일 =====
+
+    /**
+     * damage_formula.json 데이터로부터 공식을 컴파일합니다.
+     * 항의 평가 순서가 로드 순서에 따라 달라지지 않도록 버킷 ID 순으로 정렬해 묶습니다.
+     *
+     * @param buckets 버킷 데이터 목록
+     * @return 공식
+     * @throws IllegalArgumentException 스펙이 잘못된 경우
+     */
+    public static DamageFormula fromBucketData(Collection<DamageBucketData> buckets) {
+        List<DamageBucketData> sorted = new ArrayList<>(buckets);
+        sorted.sort(Comparator.comparing(DamageBucketData::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        Term base = null;
+        Term multiplier = null;
+        Term additive = null;
+        ToDoubleFunction<CombatStatSnapshot> critChance = null;
+        double critMultiplier = 1.0;
+        double vulnerableMultiplier = 1.0;
+        boolean hasVulnerable = false;
+        double overpowerChance = 0.0;
+        Term overpowerDamage = null;
+
+        for (DamageBucketData data : sorted) {
+            BucketType type = typeOf(data);
+            double value = data.getValue() != null ? data.getValue() : 1.0;
+
+            switch (type) {
+                case BASE: {
+                    ToDoubleFunction<CombatStatSnapshot> stat = requireStat(data, data.getStat());
+                    base = sum(base, (s, c) -> stat.applyAsDouble(s) * value * c.getSkillCoefficient());
+                    break;
+                }
+                case SCALING: {
+                    ToDoubleFunction<CombatStatSnapshot> stat = requireStat(data, data.getStat());
+                    multiplier = product(multiplier, when(condition(data), (s, c) -> 1.0 + stat.applyAsDouble(s) * value, 1.0));
+                    break;
+                }
+                case ADDITIVE: {
+                    ToDoubleFunction<CombatStatSnapshot> stat = requireStat(data, data.getStat());
+                    Term term = value == 1.0 ? (s, c) -> stat.applyAsDouble(s) : (s, c) -> stat.applyAsDouble(s) * value;
+                    additive = sum(additive, when(condition(data), term, 0.0));
+                    break;
+                }
+                case MULTIPLICATIVE: {
+                    Term term;
+                    if (data.getStat() != null) {
+                        ToDoubleFunction<CombatStatSnapshot> stat = requireStat(data, data.getStat());
+                        term = (s, c) -> 1.0 + stat.applyAsDouble(s) * value;
+                    } else {
+                        term = (s, c) -> value;
+                    }
+                    multiplier = product(multiplier, when(condition(data), term, 1.0));
+                    break;
+                }
+                case FACTOR: {
+                    ToDoubleFunction<CombatStatSnapshot> stat = requireStat(data, data.getStat());
+                    multiplier = product(multiplier, when(condition(data), (s, c) -> {
+                        double factor = stat.applyAsDouble(s);
+                        return factor == 0 ? 1.0 : factor;
+                    }, 1.0));
+                    break;
+                }
+                case CRIT:
+                    if (critChance != null) {
+                        throw new IllegalArgumentException("CRIT 버킷이 중복되었습니다: " + data.getId());
+                    }
+                    critChance = requireStat(data, data.getStat());
+                    critMultiplier = value;
+                    break;
+                case VULNERABLE:
+                    if (hasVulnerable) {
+                        throw new IllegalArgumentException("VULNERABLE 버킷이 중복되었습니다: " + data.getId());
+                    }
+                    hasVulnerable = true;
+                    vulnerableMultiplier = value;
+                    break;
+                case OVERPOWER: {
+                    if (overpowerDamage != null) {
+                        throw new IllegalArgumentException("OVERPOWER 버킷이 중복되었습니다: " + data.getId());
+                    }
+                    ToDoubleFunction<CombatStatSnapshot> stat = requireStat(data, data.getStat());
+                    ToDoubleFunction<CombatStatSnapshot> bonus = data.getBonusStat() != null
+                            ? requireStat(data, data.getBonusStat())
+                            : s -> 0.0;
+                    overpowerChance = data.getChance() != null ? data.getChance() : 0.0;
+                    overpowerDamage = (s, c) -> stat.applyAsDouble(s) * value * (1.0 + bonus.applyAsDouble(s));
+                    break;
+                }
+                default:
+                    break;
+            }
+        }
+
+        if (base == null) {
+            throw new IllegalArgumentException("피해 공식에 BASE 버킷이 없습니다.");
+        }
+        if (additive != null) {
+            Term additiveTotal = additive;
+            multiplier = product(multiplier, (s, c) -> 1.0 + additiveTotal.eval(s, c));
+        }
+        if (multiplier == null) {
+            multiplier = (s, c) -> 1.0;
+        }
+
+        return new DamageFormula(base, multiplier, critChance, critMultiplier, vulnerableMultiplier,
+                overpowerChance, overpowerDamage, sorted.size());
+    }
+
+    private static BucketType typeOf(DamageBucketData data) {
+        if (data.getType() == null) {
+            throw new IllegalArgumentException("버킷 타입이 없습니다: " + data.getId());
+        }
+        try {
+            return BucketType.valueOf(data.getType().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 버킷 타입입니다: " + data.getType() + " (" + data.getId() + ")");
+        }
+    }
+
+    private static Term sum(Term left, Term right) {
+        return left == null ? right : (s, c) -> left.eval(s, c) + right.eval(s, c);
+    }
+
+    private static Term product(Term left, Term right) {
+        return left == null ? right : (s, c) -> left.eval(s, c) * right.eval(s, c);
+    }
+
+    private static Term when(Condition condition, Term term, double otherwise) {
+        return condition == null ? term : (s, c) -> condition.test(c) ? term.eval(s, c) : otherwise;
+    }
+
+    /**
+     * 조건 문자열을 컴파일합니다. ("tag:FIRE", "vulnerable", "crit", 앞에 '!'를 붙이면 부정)
+     *
+     * @return 조건 또는 null (조건 없음)
+     */
+    private static Condition condition(DamageBucketData data) {
+        String spec = data.getCondition();
+        if (spec == null || spec.isBlank()) {
+            return null;
+        }
+        spec = spec.trim();
+        boolean negate = spec.startsWith("!");
+        if (negate) {
+            spec = spec.substring(1).trim();
+        }
+
+        Condition condition;
+        if (spec.regionMatches(true, 0, "tag:", 0, 4)) {
+            String tag = spec.substring(4).trim();
+            condition = c -> c.hasTag(tag);
+        } else if (spec.equalsIgnoreCase("vulnerable")) {
+            condition = DamageContext::isVulnerable;
+        } else if (spec.equalsIgnoreCase("crit")) {
+            condition = DamageContext::isCritical;
+        } else {
+            throw new IllegalArgumentException("알 수 없는 조건입니다: " + data.getCondition() + " (" + data.getId() + ")");
+        }
+        return negate ? c -> !condition.test(c) : condition;
+    }
+
+    /**
+     * 스탯 키를 스냅샷 필드 접근 함수로 변환합니다.
+     */
+    private static ToDoubleFunction<CombatStatSnapshot> requireStat(DamageBucketData data, String key) {
+        Stat stat = key != null ? Stat.byKey(key.toUpperCase(Locale.ROOT)) : null;
+        if (stat == null) {
+            throw new IllegalArgumentException("알 수 없는 스탯입니다: " + key + " (" + data.getId() + ")");
+        }
+        switch (stat) {
+            case WEAPON_DAMAGE:
+                return CombatStatSnapshot::weaponDamage;
+            case STRENGTH:
+                return CombatStatSnapshot::strength;
+            case CRIT_CHANCE:
+                return CombatStatSnapshot::critChance;
+            case CRIT_DAMAGE:
+                return CombatStatSnapshot::critDamage;
+            case OVERPOWER_DAMAGE:
+                return CombatStatSnapshot::overpowerDamage;
+            case VULNERABLE_DAMAGE:
+                return CombatStatSnapshot::vulnerableDamage;
+            case PHYSICAL_DAMAGE:
+                return CombatStatSnapshot::physicalDamage;
+            case FIRE_DAMAGE:
+                return CombatStatSnapshot::fireDamage;
+            case DAMAGE_VS_CLOSE:
+                return CombatStatSnapshot::damageVsClose;
+            case DAMAGE_VS_DISTANT:
+                return CombatStatSnapshot::damageVsDistant;
+            case DAMAGE_VS_CC:
+                return CombatStatSnapshot::damageVsCc;
+            case GLOBAL_DAMAGE_MULTI:
+                return CombatStatSnapshot::globalDamageMulti;
+            case MAX_HP:
+                return CombatStatSnapshot::maxHp;
+            case ARMOR:
+                return CombatStatSnapshot::armor;
+            default:
+                throw new IllegalArgumentException("전투 스냅샷에 없는 스탯은 피해 공식에 사용할 수 없습니다: " + key
+                        + " (" + data.getId() + ")");
+        }
+    }
+
+    // ===== 기본 스펙 =====
+
+    /**
+     * 기본 피해 공식 스펙을 반환합니다. damage_formula.json이 없을 때 예시 파일로도 저장됩니다.
+     *
+     * @return 새 버킷 데이터 목록
+     */
+    public static List<DamageBucketData> defaultBuckets() {
+        List<DamageBucketData> buckets = new ArrayList<>();
+        buckets.add(new DamageBucketData("base", "BASE", "WEAPON_DAMAGE", null, null));
+        buckets.add(new DamageBucketData("main_stat", "SCALING", "STRENGTH", 0.001, null));
+        buckets.add(new DamageBucketData("physical", "ADDITIVE", "PHYSICAL_DAMAGE", null, "tag:PHYSICAL"));
+        buckets.add(new DamageBucketData("fire", "ADDITIVE", "FIRE_DAMAGE", null, "tag:FIRE"));
+        buckets.add(new DamageBucketData("close", "ADDITIVE", "DAMAGE_VS_CLOSE", null, null));
+        buckets.add(new DamageBucketData("crit_damage", "ADDITIVE", "CRIT_DAMAGE", null, null));
+        buckets.add(new DamageBucketData("vulnerable_damage", "ADDITIVE", "VULNERABLE_DAMAGE", null, null));
+        buckets.add(new DamageBucketData("global", "FACTOR", "GLOBAL_DAMAGE_MULTI", null, null));
+        buckets.add(new DamageBucketData("crit", "CRIT", "CRIT_CHANCE", 1.5, null));
+        buckets.add(new DamageBucketData("vulnerable", "VULNERABLE", null, 1.2, null));
+
+        DamageBucketData overpower = new DamageBucketData("overpower", "OVERPOWER", "MAX_HP", 1.5, null);
+        overpower.setBonusStat("OVERPOWER_DAMAGE");
+        overpower.setChance(0.03);
+        buckets.add(overpower);
+        return buckets;
+    }
+}
@@ -1,8 +1,7 @@
 package com.sanctuary.combat.calc;
 
 import com.sanctuary.combat.model.DamageContext;
-import com.sanctuary.combat.stat.AttributeContainer;
-import com.sanctuary.combat.stat.Stat;
+import com.sanctuary.combat.stat.CombatStatSnapshot;
 
 /**
  * 방어 계산기 (Defense Calculator)
@@ -30,13 +29,14 @@ public class DefenseCalculator {
      * @return 감소된 피해량
      */
     public double applyDefense(DamageContext ctx, double incomingDamage) {
-        AttributeContainer victimStats = ctx.getVictimStats();
+        // 타격 시작 시 캡처한 스냅샷 사용 (도중의 버프 변경과 무관하게 일관된 값)
+        CombatStatSnapshot victimStats = ctx.getVictimSnapshot();
 
         double reduction = 0.0;
 
         // 물리 피해인 경우 방어력 적용
         if (ctx.hasTag("PHYSICAL")) {
-            double armor = victimStats.getValue(Stat.ARMOR);
+            double armor = victimStats.armor();
             reduction = calculateArmorReduction(armor, getAttackerLevel(ctx));
         }
 
@@ -71,19 +71,19 @@ public class DefenseCalculator {
     /**
      * 저항에 의한 원소 피해 감소율을 계산합니다.
      */
-    private double calculateElementalReduction(DamageContext ctx, AttributeContainer stats) {
+    private double calculateElementalReduction(DamageContext ctx, CombatStatSnapshot stats) {
         double resistance = 0.0;
 
         if (ctx.hasTag("FIRE")) {
-            resistance = stats.getValue(Stat.RESISTANCE_FIRE);
+            resistance = stats.resistanceFire();
         } else if (ctx.hasTag("COLD")) {
-            resistance = stats.getValue(Stat.RESISTANCE_COLD);
+            resistance = stats.resistanceCold();
         } else if (ctx.hasTag("LIGHTNING")) {
-            resistance = stats.getValue(Stat.RESISTANCE_LIGHTNING);
+            resistance = stats.resistanceLightning();
         } else if (ctx.hasTag("POISON")) {
-            resistance = stats.getValue(Stat.RESISTANCE_POISON);
+            resistance = stats.resistancePoison();
         } else if (ctx.hasTag("SHADOW")) {
-            resistance = stats.getValue(Stat.RESISTANCE_SHADOW);
+            resistance = stats.resistanceShadow();
         }
 
         // 저항은 퍼센트 값으로 저장됨 (0.3 = 30%)
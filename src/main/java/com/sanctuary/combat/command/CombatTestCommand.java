@@ -2,18 +2,23 @@ package com.sanctuary.combat.command;
 
 import com.sanctuary.DiabloPlugin;
 import com.sanctuary.combat.SanctuaryCombat;
+import com.sanctuary.combat.event.CombatJournal;
 import com.sanctuary.combat.stat.AttributeContainer;
 import com.sanctuary.combat.stat.Stat;
 import com.sanctuary.combat.status.StatusEffect;
 import com.sanctuary.combat.status.StatusEffectManager;
+import com.sanctuary.core.ecs.SanctuaryEntity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -27,6 +32,7 @@ import java.util.List;
  * - /combattest vulnerable <초> - 취약 상태 적용
  * - /combattest fortify <양> - 보강 적용
  * - /combattest cleardebuffs - 디버프 제거
+ * - /combattest journal [플레이어] - 최근 전투 기록을 이진 파일로 저장 (CombatReplay로 재현)
  */
 public class CombatTestCommand implements CommandExecutor, TabCompleter {
 
@@ -69,6 +75,7 @@ public class CombatTestCommand implements CommandExecutor, TabCompleter {
             case "clearall" -> handleClearAll(player);
             case "event" -> handleEvent(player);
             case "damage" -> handleDamage(player, args);
+            case "journal" -> handleJournal(player, args);
             default -> sendHelp(player);
         }
 
@@ -100,6 +107,38 @@ public class CombatTestCommand implements CommandExecutor, TabCompleter {
                 .append(Component.text(
                         eventBus.getListenerCount(com.sanctuary.combat.event.CombatEventType.DAMAGE_DEALT) + "개",
                         NamedTextColor.WHITE)));
+        player.sendMessage(Component.text("  비동기 큐 초과로 버려진 이벤트: ", NamedTextColor.GRAY)
+                .append(Component.text(eventBus.getAsyncDroppedCount() + "개", NamedTextColor.WHITE)));
+    }
+
+    private void handleJournal(Player player, String[] args) {
+        CombatJournal journal = combat.getEventBus() != null ? combat.getEventBus().getJournal() : null;
+        if (journal == null) {
+            player.sendMessage(PREFIX.append(Component.text("전투 저널이 비활성화되어 있습니다.", NamedTextColor.RED)));
+            return;
+        }
+
+        Player target = args.length > 1 ? Bukkit.getPlayerExact(args[1]) : player;
+        if (target == null) {
+            player.sendMessage(PREFIX.append(Component.text("플레이어를 찾을 수 없습니다: " + args[1], NamedTextColor.RED)));
+            return;
+        }
+
+        SanctuaryEntity entity = combat.getCore().getEntityManager().get(target.getUniqueId());
+        if (entity == null) {
+            player.sendMessage(PREFIX.append(Component.text("전투 기록이 없습니다.", NamedTextColor.GRAY)));
+            return;
+        }
+
+        Path file = plugin.getDataFolder().toPath().resolve("journal")
+                .resolve(target.getName() + "-" + System.currentTimeMillis() + ".scj");
+        try {
+            int count = journal.dump(entity.getHandle(), file);
+            player.sendMessage(PREFIX.append(Component.text("전투 기록 " + count + "개 저장: " + file.getFileName(),
+                    NamedTextColor.GREEN)));
+        } catch (IOException e) {
+            player.sendMessage(PREFIX.append(Component.text("저장 실패: " + e.getMessage(), NamedTextColor.RED)));
+        }
     }
 
     private void handleDamage(Player player, String[] args) {
@@ -250,6 +289,8 @@ public class CombatTestCommand implements CommandExecutor, TabCompleter {
                 .append(Component.text(" - 데미지 계산 테스트", NamedTextColor.WHITE)));
         player.sendMessage(Component.text("/combattest cleardebuffs", NamedTextColor.GRAY)
                 .append(Component.text(" - 디버프 제거", NamedTextColor.WHITE)));
+        player.sendMessage(Component.text("/combattest journal [플레이어]", NamedTextColor.YELLOW)
+                .append(Component.text(" - 최근 전투 기록 저장", NamedTextColor.WHITE)));
     }
 
     @Override
@@ -257,7 +298,7 @@ public class CombatTestCommand implements CommandExecutor, TabCompleter {
         if (args.length == 1) {
             return filterCompletions(args[0],
                     "stats", "setstats", "vulnerable", "fortify", "bleeding", "cleardebuffs", "clearall", "event",
-                    "damage");
+                    "damage", "journal");
         }
         if (args.length == 2 && args[0].equalsIgnoreCase("setstats")) {
             return filterCompletions(args[1],
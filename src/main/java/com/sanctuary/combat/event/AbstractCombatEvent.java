@@ -7,8 +7,13 @@ package com.sanctuary.combat.event;
 public abstract class AbstractCombatEvent implements CombatEvent {
 
     protected final CombatEventType type;
-    protected final CombatContext context;
+    protected CombatContext context; // 풀링된 이벤트는 reset 시 교체됨
     protected boolean cancelled = false;
+    protected boolean readOnly = false; // snapshot()으로 만든 사본
+
+    // 풀 상태 (CombatEventPool에서 관리)
+    boolean pooled;
+    boolean free;
 
     public AbstractCombatEvent(CombatEventType type, CombatContext context) {
         this.type = type;
@@ -32,6 +37,25 @@ public abstract class AbstractCombatEvent implements CombatEvent {
 
     @Override
     public void setCancelled(boolean cancelled) {
+        checkMutable();
         this.cancelled = cancelled;
     }
+
+    /**
+     * 공통 상태를 초기화하고 컨텍스트를 교체합니다. (하위 클래스의 reset에서 호출)
+     */
+    protected void resetBase(CombatContext context) {
+        checkMutable();
+        this.context = context;
+        this.cancelled = false;
+    }
+
+    /**
+     * 읽기 전용 사본이면 예외를 던집니다. (하위 클래스의 수정 메서드에서 호출)
+     */
+    protected void checkMutable() {
+        if (readOnly) {
+            throw new IllegalStateException("읽기 전용 이벤트 사본은 수정할 수 없습니다: " + type);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.sanctuary.combat.event;
+
+/**
+ * 병합된 피해 이벤트
+ * 한 틱 동안 같은 공격자가 같은 대상에게 입힌 피해 이벤트를 하나로 합친 결과입니다.
+ *
+ * 피해는 합계이고, 치명타/제압/취약/행운의 적중 플래그는 하나라도 있으면 true입니다.
+ * 컨텍스트는 첫 번째 원본 이벤트의 것을 사용합니다.
+ * {@link CombatEventBus#registerCoalesced}로 등록한 리스너에만 전달됩니다.
+ */
+public class CoalescedDamageEvent extends DamageDealtEvent {
+
+    private final int hitCount;
+    private final long tick;
+
+    public CoalescedDamageEvent(CombatContext context, int hitCount, long tick) {
+        super(context);
+        this.hitCount = hitCount;
+        this.tick = tick;
+    }
+
+    /**
+     * 병합된 원본 이벤트 수를 반환합니다.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 병합이 전달된 스케줄러 틱을 반환합니다.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    @Override
+    public CoalescedDamageEvent snapshot() {
+        CoalescedDamageEvent copy = new CoalescedDamageEvent(copyContext(), hitCount, tick);
+        copyStateTo(copy);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescedDamageEvent{hits=" + hitCount + ", tick=" + tick + ", " + super.toString() + "}";
+    }
+}
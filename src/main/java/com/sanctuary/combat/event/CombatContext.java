@@ -1,11 +1,14 @@
 package com.sanctuary.combat.event;
 
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import com.sanctuary.core.ecs.EntityHandle;
 import com.sanctuary.core.ecs.SanctuaryEntity;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 전투 컨텍스트
@@ -21,36 +24,85 @@ import java.util.UUID;
  *         .addTag("FIRE")
  *         .build();
  * </pre>
+ *
+ * 타격마다 만들어지는 객체이므로 생성 비용을 줄였습니다.
+ * - 컨텍스트 ID는 프로세스 안에서 단조 증가하는 long입니다. (UUID 생성 없음)
+ * - 태그는 전역 태그 레지스트리의 비트 인덱스로 저장합니다. (서로 다른 태그가 64개를 넘으면 나머지는 Set에 저장)
+ * - 커스텀 데이터 Map은 처음 {@link #put}할 때 생성합니다.
+ * - {@link #reset()}으로 비워서 다시 사용할 수 있습니다. ({@link CombatEventPool} 참고)
  */
 public class CombatContext {
 
+    // ===== 태그 레지스트리 =====
+    // 태그 이름(대문자) → 비트 인덱스 (처음 추가된 순서대로 최대 64개, 해제하지 않음)
+    private static final Map<String, Integer> TAG_BITS = new ConcurrentHashMap<>();
+    private static final String[] TAG_NAMES = new String[Long.SIZE];
+
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
     // ===== 기본 정보 =====
-    private final UUID contextId;
-    private final long timestamp;
+    private long contextId;
+    private long timestamp;
 
     // ===== 참여자 =====
     private SanctuaryEntity attacker;
     private SanctuaryEntity victim;
 
+    // 타격 시작 시 캡처한 스탯 스냅샷 (없으면 null)
+    private CombatStatSnapshot attackerStats;
+    private CombatStatSnapshot victimStats;
+
     // ===== 스킬/아이템 정보 =====
     private String skillId;
     private double skillCoefficient = 1.0;
     private String itemId;
 
     // ===== 태그 =====
-    private final Set<String> tags = new HashSet<>();
+    private long tagBits;
+    private Set<String> extraTags; // 레지스트리가 가득 찬 뒤 추가된 태그 (지연 생성)
 
     // ===== 거리/위치 =====
     private double distance;
 
     // ===== 커스텀 데이터 =====
-    private final Map<String, Object> customData = new HashMap<>();
+    private Map<String, Object> customData; // 지연 생성
+
+    // ===== 풀 상태 (CombatEventPool에서 관리) =====
+    boolean pooled;
+    boolean free;
 
     public CombatContext() {
-        this.contextId = UUID.randomUUID();
+        this.contextId = NEXT_ID.incrementAndGet();
         this.timestamp = System.currentTimeMillis();
     }
 
+    /**
+     * 모든 필드를 비우고 새 컨텍스트 ID와 시각을 부여합니다.
+     * 태그 Set과 커스텀 데이터 Map은 할당된 것을 비워서 재사용합니다.
+     *
+     * @return this
+     */
+    public CombatContext reset() {
+        this.contextId = NEXT_ID.incrementAndGet();
+        this.timestamp = System.currentTimeMillis();
+        this.attacker = null;
+        this.victim = null;
+        this.attackerStats = null;
+        this.victimStats = null;
+        this.skillId = null;
+        this.skillCoefficient = 1.0;
+        this.itemId = null;
+        this.distance = 0.0;
+        this.tagBits = 0L;
+        if (extraTags != null) {
+            extraTags.clear();
+        }
+        if (customData != null) {
+            customData.clear();
+        }
+        return this;
+    }
+
     // ===== Fluent Setters =====
 
     public CombatContext attacker(SanctuaryEntity attacker) {
@@ -63,6 +115,16 @@ public class CombatContext {
         return this;
     }
 
+    public CombatContext attackerStats(CombatStatSnapshot attackerStats) {
+        this.attackerStats = attackerStats;
+        return this;
+    }
+
+    public CombatContext victimStats(CombatStatSnapshot victimStats) {
+        this.victimStats = victimStats;
+        return this;
+    }
+
     public CombatContext skillId(String skillId) {
         this.skillId = skillId;
         return this;
@@ -84,25 +146,40 @@ public class CombatContext {
     }
 
     public CombatContext addTag(String tag) {
-        this.tags.add(tag.toUpperCase());
+        String name = tag.toUpperCase();
+        int bit = registerTag(name);
+        if (bit >= 0) {
+            tagBits |= 1L << bit;
+        } else {
+            if (extraTags == null) {
+                extraTags = new HashSet<>();
+            }
+            extraTags.add(name);
+        }
         return this;
     }
 
     public CombatContext addTags(String... tags) {
         for (String tag : tags) {
-            this.tags.add(tag.toUpperCase());
+            addTag(tag);
         }
         return this;
     }
 
     public CombatContext put(String key, Object value) {
+        if (customData == null) {
+            customData = new HashMap<>();
+        }
         this.customData.put(key, value);
         return this;
     }
 
     // ===== Getters =====
 
-    public UUID getContextId() {
+    /**
+     * 컨텍스트 ID를 반환합니다. 프로세스 안에서 단조 증가하며, {@link #reset()}할 때마다 새로 부여됩니다.
+     */
+    public long getContextId() {
         return contextId;
     }
 
@@ -118,6 +195,38 @@ public class CombatContext {
         return victim;
     }
 
+    /**
+     * 공격자 핸들을 반환합니다. 엔티티가 없으면 공격자 스냅샷의 핸들을 사용합니다.
+     *
+     * @return 핸들 (알 수 없으면 {@link EntityHandle#NONE})
+     */
+    public int getAttackerHandle() {
+        if (attacker != null) {
+            return attacker.getHandle();
+        }
+        return attackerStats != null ? attackerStats.handle() : EntityHandle.NONE;
+    }
+
+    /**
+     * 피격자 핸들을 반환합니다. 엔티티가 없으면 피격자 스냅샷의 핸들을 사용합니다.
+     *
+     * @return 핸들 (알 수 없으면 {@link EntityHandle#NONE})
+     */
+    public int getVictimHandle() {
+        if (victim != null) {
+            return victim.getHandle();
+        }
+        return victimStats != null ? victimStats.handle() : EntityHandle.NONE;
+    }
+
+    public CombatStatSnapshot getAttackerStats() {
+        return attackerStats;
+    }
+
+    public CombatStatSnapshot getVictimStats() {
+        return victimStats;
+    }
+
     public String getSkillId() {
         return skillId;
     }
@@ -135,12 +244,17 @@ public class CombatContext {
     }
 
     public boolean hasTag(String tag) {
-        return tags.contains(tag.toUpperCase());
+        String name = tag.toUpperCase();
+        Integer bit = TAG_BITS.get(name);
+        if (bit != null) {
+            return (tagBits & (1L << bit)) != 0;
+        }
+        return extraTags != null && extraTags.contains(name);
     }
 
     public boolean hasAnyTag(String... checkTags) {
         for (String tag : checkTags) {
-            if (tags.contains(tag.toUpperCase())) {
+            if (hasTag(tag)) {
                 return true;
             }
         }
@@ -148,23 +262,56 @@ public class CombatContext {
     }
 
     public Set<String> getTags() {
-        return new HashSet<>(tags);
+        Set<String> result = new HashSet<>();
+        for (long bits = tagBits; bits != 0; bits &= bits - 1) {
+            result.add(TAG_NAMES[Long.numberOfTrailingZeros(bits)]);
+        }
+        if (extraTags != null) {
+            result.addAll(extraTags);
+        }
+        return result;
     }
 
     @SuppressWarnings("unchecked")
     public <T> T get(String key) {
-        return (T) customData.get(key);
+        return customData != null ? (T) customData.get(key) : null;
     }
 
     public <T> T get(String key, T defaultValue) {
-        Object value = customData.get(key);
+        Object value = customData != null ? customData.get(key) : null;
         if (value == null)
             return defaultValue;
         return (T) value;
     }
 
     public Map<String, Object> getCustomData() {
-        return new HashMap<>(customData);
+        return customData != null ? new HashMap<>(customData) : new HashMap<>();
+    }
+
+    /**
+     * 태그의 비트 인덱스를 반환하고, 처음 보는 태그면 등록합니다.
+     *
+     * @param name 대문자 태그 이름
+     * @return 비트 인덱스 (레지스트리가 가득 차면 -1)
+     */
+    private static int registerTag(String name) {
+        Integer bit = TAG_BITS.get(name);
+        if (bit != null) {
+            return bit;
+        }
+        synchronized (TAG_NAMES) {
+            bit = TAG_BITS.get(name);
+            if (bit != null) {
+                return bit;
+            }
+            int next = TAG_BITS.size();
+            if (next >= TAG_NAMES.length) {
+                return -1;
+            }
+            TAG_NAMES[next] = name;
+            TAG_BITS.put(name, next);
+            return next;
+        }
     }
 
     // ===== Builder Pattern =====
@@ -188,12 +335,19 @@ public class CombatContext {
         CombatContext copy = new CombatContext();
         copy.attacker = this.attacker;
         copy.victim = this.victim;
+        copy.attackerStats = this.attackerStats;
+        copy.victimStats = this.victimStats;
         copy.skillId = this.skillId;
         copy.skillCoefficient = this.skillCoefficient;
         copy.itemId = this.itemId;
         copy.distance = this.distance;
-        copy.tags.addAll(this.tags);
-        copy.customData.putAll(this.customData);
+        copy.tagBits = this.tagBits;
+        if (this.extraTags != null && !this.extraTags.isEmpty()) {
+            copy.extraTags = new HashSet<>(this.extraTags);
+        }
+        if (this.customData != null && !this.customData.isEmpty()) {
+            copy.customData = new HashMap<>(this.customData);
+        }
         return copy;
     }
 
@@ -204,7 +358,7 @@ public class CombatContext {
                 ", attacker=" + (attacker != null ? attacker.getUuid() : "null") +
                 ", victim=" + (victim != null ? victim.getUuid() : "null") +
                 ", skillId='" + skillId + '\'' +
-                ", tags=" + tags +
+                ", tags=" + getTags() +
                 '}';
     }
 }
@@ -26,4 +26,10 @@ public interface CombatEvent {
      * 취소된 이벤트는 후속 리스너에게 전달되지만, 최종 처리되지 않습니다.
      */
     void setCancelled(boolean cancelled);
+
+    /**
+     * 현재 상태를 복사한 읽기 전용 사본을 반환합니다.
+     * 비동기 리스너에 전달되며, 사본을 수정하면 {@link IllegalStateException}이 발생합니다.
+     */
+    CombatEvent snapshot();
 }
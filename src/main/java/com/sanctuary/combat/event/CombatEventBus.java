@@ -1,13 +1,19 @@
 package com.sanctuary.combat.event;
 
+import com.sanctuary.core.script.LuaSchema;
 import com.sanctuary.core.script.ScriptEngine;
-import org.luaj.vm2.LuaValue;
+import com.sanctuary.core.script.ScriptFunction;
 import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,71 +31,298 @@ import java.util.logging.Logger;
  *     DamageDealtEvent damage = (DamageDealtEvent) event;
  *     logger.info("Damage: " + damage.getFinalDamage());
  * });
+ *
+ * // 우선순위 지정, 취소된 이벤트는 건너뜀
+ * eventBus.register(CombatEventType.DAMAGE_DEALT, CombatEventPriority.HIGH, true, listener);
+ *
+ * // 통계/로그 리스너는 워커 스레드에서 읽기 전용 사본으로 수신
+ * eventBus.registerAsync(CombatEventType.ENTITY_KILLED, killCounter);
+ *
+ * // 틱당 (공격자, 대상)별 피해 합계만 수신 (DoT/다단히트 UI)
+ * eventBus.registerCoalesced(CombatEventType.DAMAGE_DEALT, indicator);
  * 
  * // Lua 훅 등록
  * eventBus.registerLuaHook(CombatEventType.CRITICAL_HIT, "onCriticalHit");
  * 
  * // 이벤트 발생
  * eventBus.fire(new DamageDealtEvent(context, 100.0));
+ *
+ * // 광역 타격: 일괄 훅은 이벤트 배열을 받아 한 번만 호출됨
+ * eventBus.registerLuaBatchHook(CombatEventType.DAMAGE_DEALT, "onDamageBatch");
+ * eventBus.fireBatch(events);
  * </pre>
+ *
+ * 디스패치 테이블은 {@link CombatEventType#ordinal()}로 인덱싱되는 불변 배열이며,
+ * 등록/제거 시 해당 타입의 항목만 새 배열로 교체합니다. (발생 경로에는 맵 조회/락/박싱 없음)
+ * 리스너와 훅이 하나도 없는 타입은 통계만 기록하고 바로 반환합니다.
+ *
+ * 호출 순서: 전역 리스너 → 우선순위 순 리스너(LOWEST~HIGHEST) → Lua 훅 → MONITOR 리스너 → 저널 기록 → Lua 일괄 훅.
+ * 비동기 리스너는 MONITOR 리스너까지 처리된 이벤트의 사본을 제한된 큐를 통해 워커 스레드에서 받으며,
+ * 큐가 가득 차면 해당 사본은 버려집니다. (게임 진행을 막지 않음)
+ * 병합 리스너는 원본 대신 {@link #flushCoalesced(long)}에서 틱 단위 집계를 받으며, 일반 리스너는 모든 원본을 그대로 받습니다.
+ *
+ * {@link CombatEventPool}에서 가져온 이벤트는 발생 후 재사용되므로, 발생이 끝난 뒤에도 보관하는 비동기/병합 경로는
+ * 사본을 만들어 보관합니다. (풀링되지 않은 이벤트는 그대로 보관)
  */
 public class CombatEventBus {
 
+    // 일괄 훅에 전달하는 이벤트 배열 (호출이 끝나면 풀에 반환)
+    private static final LuaSchema EVENTS = LuaSchema.list("events", 32);
+
+    private static final CombatEventType[] TYPES = CombatEventType.values();
+
+    // 비동기 리스너 워커 설정
+    private static final int ASYNC_THREADS = 2;
+    private static final int ASYNC_QUEUE_CAPACITY = 4096;
+
     private final Logger logger;
     private final ScriptEngine scriptEngine;
 
-    // Java 리스너 저장소
-    private final Map<CombatEventType, List<CombatEventListener>> listeners = new ConcurrentHashMap<>();
-
-    // Lua 훅 저장소 (이벤트 타입 -> Lua 함수 이름 목록)
-    private final Map<CombatEventType, List<String>> luaHooks = new ConcurrentHashMap<>();
+    // 타입별 디스패치 테이블 (ordinal 인덱스, 등록 시 복사 후 교체)
+    private volatile Route[] routes = emptyRoutes();
 
     // 전역 리스너 (모든 이벤트 수신)
-    private final List<CombatEventListener> globalListeners = new CopyOnWriteArrayList<>();
+    private volatile CombatEventListener[] globalListeners = new CombatEventListener[0];
+
+    // 이벤트 통계 (디버깅용, ordinal 인덱스)
+    private final LongAdder[] eventCounts = new LongAdder[TYPES.length];
 
-    // 이벤트 통계 (디버깅용)
-    private final Map<CombatEventType, Long> eventCounts = new ConcurrentHashMap<>();
+    // 비동기 리스너 워커 (첫 비동기 등록 시 생성)
+    private volatile ThreadPoolExecutor asyncExecutor;
+    private final LongAdder asyncDropped = new LongAdder();
+
+    // 전투 저널 (없으면 기록하지 않음)
+    private volatile CombatJournal journal;
+
+    // 병합 리스너에 다음 flushCoalesced()에서 전달할 이벤트 (pendingLock으로 보호)
+    private final Object pendingLock = new Object();
+    private Map<Long, DamageAggregate> pendingDamage = new LinkedHashMap<>();
+    private List<CombatEvent> pendingEvents = new ArrayList<>();
 
     public CombatEventBus(Logger logger, ScriptEngine scriptEngine) {
         this.logger = logger;
         this.scriptEngine = scriptEngine;
+        for (int i = 0; i < eventCounts.length; i++) {
+            eventCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 우선순위가 지정된 리스너 등록 정보
+     */
+    private static final class RegisteredListener {
+        final CombatEventListener listener;
+        final CombatEventPriority priority;
+        final boolean ignoreCancelled;
+
+        RegisteredListener(CombatEventListener listener, CombatEventPriority priority, boolean ignoreCancelled) {
+            this.listener = listener;
+            this.priority = priority;
+            this.ignoreCancelled = ignoreCancelled;
+        }
+    }
+
+    /**
+     * Lua 훅 등록 정보
+     */
+    private static final class LuaHook {
+        final ScriptFunction function;
+        final boolean ignoreCancelled;
+
+        LuaHook(ScriptFunction function, boolean ignoreCancelled) {
+            this.function = function;
+            this.ignoreCancelled = ignoreCancelled;
+        }
+    }
+
+    /**
+     * 이벤트 타입 하나의 디스패치 항목 (불변)
+     */
+    private static final class Route {
+        static final Route EMPTY = new Route(new RegisteredListener[0], new LuaHook[0], new ScriptFunction[0],
+                new CombatEventListener[0], new CombatEventListener[0]);
+
+        final RegisteredListener[] listeners; // 우선순위 순 (같은 우선순위는 등록 순)
+        final int monitorStart; // 첫 MONITOR 리스너 위치
+        final LuaHook[] hooks;
+        final ScriptFunction[] batchHooks;
+        final CombatEventListener[] asyncListeners;
+        final CombatEventListener[] coalescedListeners;
+        final boolean empty;
+
+        Route(RegisteredListener[] listeners, LuaHook[] hooks, ScriptFunction[] batchHooks,
+                CombatEventListener[] asyncListeners, CombatEventListener[] coalescedListeners) {
+            this.listeners = listeners;
+            this.hooks = hooks;
+            this.batchHooks = batchHooks;
+            this.asyncListeners = asyncListeners;
+            this.coalescedListeners = coalescedListeners;
+            int start = listeners.length;
+            while (start > 0 && listeners[start - 1].priority == CombatEventPriority.MONITOR) {
+                start--;
+            }
+            this.monitorStart = start;
+            this.empty = listeners.length == 0 && hooks.length == 0 && batchHooks.length == 0
+                    && asyncListeners.length == 0 && coalescedListeners.length == 0;
+        }
+
+        Route withListeners(RegisteredListener[] listeners) {
+            return new Route(listeners, hooks, batchHooks, asyncListeners, coalescedListeners);
+        }
+
+        Route withHooks(LuaHook[] hooks) {
+            return new Route(listeners, hooks, batchHooks, asyncListeners, coalescedListeners);
+        }
+
+        Route withBatchHooks(ScriptFunction[] batchHooks) {
+            return new Route(listeners, hooks, batchHooks, asyncListeners, coalescedListeners);
+        }
+
+        Route withAsyncListeners(CombatEventListener[] asyncListeners) {
+            return new Route(listeners, hooks, batchHooks, asyncListeners, coalescedListeners);
+        }
+
+        Route withCoalescedListeners(CombatEventListener[] coalescedListeners) {
+            return new Route(listeners, hooks, batchHooks, asyncListeners, coalescedListeners);
+        }
+    }
+
+    /**
+     * 한 틱 동안 같은 공격자/대상 쌍의 피해 이벤트를 합산하는 누적기
+     */
+    private static final class DamageAggregate {
+        final CombatContext context;
+        final String damageType;
+        int hits;
+        double baseDamage;
+        double finalDamage;
+        boolean critical;
+        boolean overpower;
+        boolean vulnerable;
+        boolean luckyHit;
+
+        DamageAggregate(DamageDealtEvent first) {
+            // 풀링된 이벤트는 발생이 끝나면 재사용되므로 컨텍스트를 복사해 보관
+            this.context = CombatEventPool.escape(first.getContext());
+            this.damageType = first.getDamageType();
+        }
+
+        void add(DamageDealtEvent event) {
+            hits++;
+            baseDamage += event.getBaseDamage();
+            finalDamage += event.getFinalDamage();
+            critical |= event.isCritical();
+            overpower |= event.isOverpower();
+            vulnerable |= event.isVulnerable();
+            luckyHit |= event.isLuckyHit();
+        }
+
+        CoalescedDamageEvent toEvent(long tick) {
+            CoalescedDamageEvent event = new CoalescedDamageEvent(context, hits, tick);
+            event.baseDamage(baseDamage)
+                    .finalDamage(finalDamage)
+                    .damageType(damageType)
+                    .critical(critical)
+                    .overpower(overpower)
+                    .vulnerable(vulnerable)
+                    .luckyHit(luckyHit);
+            return event;
+        }
     }
 
     // ===== Java 리스너 관리 =====
 
     /**
-     * 특정 이벤트 타입에 리스너를 등록합니다.
+     * 특정 이벤트 타입에 리스너를 등록합니다. (NORMAL 우선순위)
      * 
      * @param type     이벤트 타입
      * @param listener 리스너
      */
     public void register(CombatEventType type, CombatEventListener listener) {
-        listeners.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>()).add(listener);
-        logger.fine("[CombatEventBus] 리스너 등록: " + type);
+        register(type, CombatEventPriority.NORMAL, false, listener);
+    }
+
+    /**
+     * 특정 이벤트 타입에 우선순위를 지정해 리스너를 등록합니다.
+     */
+    public void register(CombatEventType type, CombatEventPriority priority, CombatEventListener listener) {
+        register(type, priority, false, listener);
     }
 
     /**
-     * 특정 이벤트 타입에서 리스너를 제거합니다.
+     * 특정 이벤트 타입에 리스너를 등록합니다.
+     *
+     * @param type            이벤트 타입
+     * @param priority        우선순위
+     * @param ignoreCancelled true면 앞선 리스너가 이벤트를 취소한 경우 호출되지 않음
+     * @param listener        리스너
      */
-    public void unregister(CombatEventType type, CombatEventListener listener) {
-        List<CombatEventListener> list = listeners.get(type);
-        if (list != null) {
-            list.remove(listener);
+    public synchronized void register(CombatEventType type, CombatEventPriority priority, boolean ignoreCancelled,
+            CombatEventListener listener) {
+        Route route = routes[type.ordinal()];
+        RegisteredListener[] listeners = append(route.listeners,
+                new RegisteredListener(listener, priority, ignoreCancelled));
+        Arrays.sort(listeners, Comparator.comparing(registered -> registered.priority)); // 안정 정렬
+        setRoute(type, route.withListeners(listeners));
+        logger.fine("[CombatEventBus] 리스너 등록: " + type + " (" + priority + ")");
+    }
+
+    /**
+     * 비동기 리스너를 등록합니다.
+     * 리스너는 워커 스레드에서 MONITOR 리스너까지 처리된 이벤트의 읽기 전용 사본({@link CombatEvent#snapshot()})을 받습니다.
+     * 이벤트를 수정하거나 취소할 수 없고, 호출 순서와 스레드는 보장되지 않으므로 스레드 안전해야 합니다.
+     * 로그/통계처럼 게임 진행에 영향을 주지 않는 리스너에 사용합니다.
+     *
+     * @param type     이벤트 타입
+     * @param listener 리스너
+     */
+    public synchronized void registerAsync(CombatEventType type, CombatEventListener listener) {
+        if (asyncExecutor == null) {
+            asyncExecutor = createAsyncExecutor();
         }
+        Route route = routes[type.ordinal()];
+        setRoute(type, route.withAsyncListeners(append(route.asyncListeners, listener)));
+        logger.fine("[CombatEventBus] 비동기 리스너 등록: " + type);
+    }
+
+    /**
+     * 병합 리스너를 등록합니다.
+     * 리스너는 원본 이벤트 대신, {@link #flushCoalesced(long)} 호출 시점(틱 끝)에 틱 단위 집계를 받습니다.
+     * 피해 이벤트는 (공격자, 대상)별로 하나의 {@link CoalescedDamageEvent}로 합쳐지고,
+     * 합칠 수 없는 다른 이벤트는 원본 그대로 틱 끝에 전달됩니다. 취소된 이벤트는 포함되지 않습니다.
+     * DoT/가시/다단히트의 틱당 합계만 필요한 UI, 동기화, 통계 리스너에 사용합니다.
+     *
+     * @param type     이벤트 타입
+     * @param listener 리스너
+     */
+    public synchronized void registerCoalesced(CombatEventType type, CombatEventListener listener) {
+        Route route = routes[type.ordinal()];
+        setRoute(type, route.withCoalescedListeners(append(route.coalescedListeners, listener)));
+        logger.fine("[CombatEventBus] 병합 리스너 등록: " + type);
+    }
+
+    /**
+     * 특정 이벤트 타입에서 리스너를 제거합니다. (비동기/병합 리스너 포함)
+     */
+    public synchronized void unregister(CombatEventType type, CombatEventListener listener) {
+        Route route = routes[type.ordinal()];
+        setRoute(type, route.withListeners(remove(route.listeners, registered -> registered.listener.equals(listener)))
+                .withAsyncListeners(remove(route.asyncListeners, l -> l.equals(listener)))
+                .withCoalescedListeners(remove(route.coalescedListeners, l -> l.equals(listener))));
     }
 
     /**
      * 모든 이벤트를 수신하는 전역 리스너를 등록합니다.
      */
-    public void registerGlobal(CombatEventListener listener) {
-        globalListeners.add(listener);
+    public synchronized void registerGlobal(CombatEventListener listener) {
+        globalListeners = append(globalListeners, listener);
     }
 
     /**
      * 전역 리스너를 제거합니다.
      */
-    public void unregisterGlobal(CombatEventListener listener) {
-        globalListeners.remove(listener);
+    public synchronized void unregisterGlobal(CombatEventListener listener) {
+        globalListeners = remove(globalListeners, l -> l.equals(listener));
     }
 
     // ===== Lua 훅 관리 =====
@@ -97,30 +330,70 @@ public class CombatEventBus {
     /**
      * Lua 훅을 등록합니다.
      * 해당 이벤트 발생 시 지정된 Lua 함수가 호출됩니다.
+     * 함수는 핸들로 한 번 조회되며, 스크립트 리로드 시 자동으로 다시 바인딩됩니다.
      * 
      * @param type            이벤트 타입
      * @param luaFunctionName Lua 전역 함수 이름
      */
     public void registerLuaHook(CombatEventType type, String luaFunctionName) {
-        luaHooks.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>()).add(luaFunctionName);
+        registerLuaHook(type, luaFunctionName, false);
+    }
+
+    /**
+     * Lua 훅을 등록합니다.
+     *
+     * @param type            이벤트 타입
+     * @param luaFunctionName Lua 전역 함수 이름
+     * @param ignoreCancelled true면 이벤트가 이미 취소된 경우 호출되지 않음
+     */
+    public synchronized void registerLuaHook(CombatEventType type, String luaFunctionName, boolean ignoreCancelled) {
+        if (scriptEngine == null) {
+            logger.fine("[CombatEventBus] 스크립트 엔진 없음, Lua 훅 무시: " + type + " -> " + luaFunctionName);
+            return;
+        }
+        Route route = routes[type.ordinal()];
+        LuaHook hook = new LuaHook(scriptEngine.function(luaFunctionName), ignoreCancelled);
+        setRoute(type, route.withHooks(append(route.hooks, hook)));
         logger.fine("[CombatEventBus] Lua 훅 등록: " + type + " -> " + luaFunctionName);
     }
 
     /**
-     * Lua 훅을 제거합니다.
+     * Lua 일괄 훅을 등록합니다.
+     * 함수는 이벤트 배열 하나를 인자로 받습니다. {@link #fireBatch(List)}로 발생한 이벤트는
+     * 타입별로 모아 한 번에 전달되고, {@link #fire(CombatEvent)}로 발생한 이벤트는 요소 1개짜리 배열로 전달됩니다.
+     *
+     * @param type            이벤트 타입
+     * @param luaFunctionName Lua 전역 함수 이름
      */
-    public void unregisterLuaHook(CombatEventType type, String luaFunctionName) {
-        List<String> hooks = luaHooks.get(type);
-        if (hooks != null) {
-            hooks.remove(luaFunctionName);
+    public synchronized void registerLuaBatchHook(CombatEventType type, String luaFunctionName) {
+        if (scriptEngine == null) {
+            logger.fine("[CombatEventBus] 스크립트 엔진 없음, Lua 일괄 훅 무시: " + type + " -> " + luaFunctionName);
+            return;
         }
+        Route route = routes[type.ordinal()];
+        setRoute(type, route.withBatchHooks(append(route.batchHooks, scriptEngine.function(luaFunctionName))));
+        logger.fine("[CombatEventBus] Lua 일괄 훅 등록: " + type + " -> " + luaFunctionName);
+    }
+
+    /**
+     * Lua 훅을 제거합니다. (일괄 훅 포함)
+     */
+    public synchronized void unregisterLuaHook(CombatEventType type, String luaFunctionName) {
+        Predicate<ScriptFunction> matches = hook -> hook.getName().equals(luaFunctionName);
+        Route route = routes[type.ordinal()];
+        setRoute(type, route.withHooks(remove(route.hooks, hook -> matches.test(hook.function)))
+                .withBatchHooks(remove(route.batchHooks, matches)));
     }
 
     /**
      * 모든 Lua 훅을 제거합니다.
      */
-    public void clearLuaHooks() {
-        luaHooks.clear();
+    public synchronized void clearLuaHooks() {
+        Route[] next = routes.clone();
+        for (int i = 0; i < next.length; i++) {
+            next[i] = next[i].withHooks(Route.EMPTY.hooks).withBatchHooks(Route.EMPTY.batchHooks);
+        }
+        routes = next;
         logger.info("[CombatEventBus] 모든 Lua 훅 제거됨");
     }
 
@@ -133,13 +406,94 @@ public class CombatEventBus {
      * @return 이벤트가 취소되었는지 여부
      */
     public boolean fire(CombatEvent event) {
-        CombatEventType type = event.getType();
+        Route route = routes[event.getType().ordinal()];
+        dispatch(event, route);
+
+        // 4. Lua 일괄 훅 호출 (요소 1개)
+        if (route.batchHooks.length > 0) {
+            callBatchHooks(route.batchHooks, List.of(LuaEventView.wrap(event)));
+        }
 
+        return event.isCancelled();
+    }
+
+    /**
+     * 여러 이벤트를 한 번에 발생시킵니다. (광역 타격 등)
+     * Java 리스너와 일반 Lua 훅은 이벤트마다 호출되고, Lua 일괄 훅은 이벤트 타입별로 한 번만 호출됩니다.
+     * 각 이벤트의 취소 여부는 {@link CombatEvent#isCancelled()}로 확인합니다.
+     *
+     * @param events 발생시킬 이벤트 (발생 순서)
+     */
+    public void fireBatch(List<? extends CombatEvent> events) {
+        Route[] table = routes;
+        List<LuaValue>[] batchViews = null;
+
+        for (CombatEvent event : events) {
+            int ordinal = event.getType().ordinal();
+            Route route = table[ordinal];
+            dispatch(event, route);
+
+            if (route.batchHooks.length > 0) {
+                if (batchViews == null) {
+                    batchViews = newViewTable();
+                }
+                if (batchViews[ordinal] == null) {
+                    batchViews[ordinal] = new ArrayList<>(events.size());
+                }
+                batchViews[ordinal].add(LuaEventView.wrap(event));
+            }
+        }
+
+        if (batchViews != null) {
+            for (int i = 0; i < batchViews.length; i++) {
+                if (batchViews[i] != null) {
+                    callBatchHooks(table[i].batchHooks, batchViews[i]);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<LuaValue>[] newViewTable() {
+        return (List<LuaValue>[]) new List[TYPES.length];
+    }
+
+    /**
+     * 이벤트 뷰 배열을 만들어 일괄 훅을 호출합니다.
+     */
+    private void callBatchHooks(ScriptFunction[] hooks, List<LuaValue> views) {
+        LuaTable eventList = LuaSchema.fillValues(EVENTS.acquire(), views);
+        try {
+            for (ScriptFunction hook : hooks) {
+                try {
+                    hook.call(eventList);
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "[CombatEventBus] Lua 일괄 훅 오류 (" + hook.getName() + "): " + e.getMessage(), e);
+                }
+            }
+        } finally {
+            EVENTS.release(eventList);
+        }
+    }
+
+    /**
+     * 이벤트 하나를 Java 리스너와 일반 Lua 훅에 전달합니다.
+     */
+    private void dispatch(CombatEvent event, Route route) {
         // 통계 업데이트
-        eventCounts.merge(type, 1L, Long::sum);
+        eventCounts[event.getType().ordinal()].increment();
+
+        CombatEventListener[] globals = globalListeners;
+        if (route.empty && globals.length == 0) {
+            CombatJournal recorder = journal;
+            if (recorder != null) {
+                recorder.record(event);
+            }
+            return;
+        }
 
         // 1. 전역 리스너 호출
-        for (CombatEventListener listener : globalListeners) {
+        for (CombatEventListener listener : globals) {
             try {
                 listener.onEvent(event);
             } catch (Exception e) {
@@ -147,32 +501,145 @@ public class CombatEventBus {
             }
         }
 
-        // 2. 타입별 Java 리스너 호출
-        List<CombatEventListener> typeListeners = listeners.get(type);
-        if (typeListeners != null) {
-            for (CombatEventListener listener : typeListeners) {
+        // 2. 우선순위 순 Java 리스너 호출 (MONITOR 제외)
+        RegisteredListener[] listeners = route.listeners;
+        callListeners(event, listeners, 0, route.monitorStart);
+
+        // 3. Lua 훅 호출
+        if (route.hooks.length > 0) {
+            // 필드는 훅이 읽을 때 변환되며, finalDamage/cancelled 쓰기는 이벤트에 바로 반영됨
+            LuaValue eventView = null;
+            for (LuaHook hook : route.hooks) {
+                if (hook.ignoreCancelled && event.isCancelled()) {
+                    continue;
+                }
+                if (eventView == null) {
+                    eventView = LuaEventView.wrap(event);
+                }
                 try {
-                    listener.onEvent(event);
+                    hook.function.call(eventView);
                 } catch (Exception e) {
-                    logger.log(Level.WARNING, "[CombatEventBus] 리스너 오류: " + e.getMessage(), e);
+                    logger.log(Level.WARNING, "[CombatEventBus] Lua 훅 오류 (" + hook.function.getName() + "): " + e.getMessage(), e);
                 }
             }
         }
 
-        // 3. Lua 훅 호출
-        List<String> hooks = luaHooks.get(type);
-        if (hooks != null && scriptEngine != null) {
-            LuaTable eventTable = eventToLuaTable(event);
-            for (String hookName : hooks) {
+        // 4. MONITOR 리스너 호출 (최종 결과 관찰)
+        callListeners(event, listeners, route.monitorStart, listeners.length);
+
+        // 저널 기록 (리스너가 수정한 최종 결과)
+        CombatJournal recorder = journal;
+        if (recorder != null) {
+            recorder.record(event);
+        }
+
+        // 5. 비동기 리스너에 사본 전달
+        if (route.asyncListeners.length > 0) {
+            submitAsync(event.snapshot(), route.asyncListeners);
+        }
+
+        // 6. 병합 대기열에 추가 (틱 끝에 전달)
+        if (route.coalescedListeners.length > 0 && !event.isCancelled()) {
+            enqueueCoalesced(event);
+        }
+    }
+
+    private void callListeners(CombatEvent event, RegisteredListener[] listeners, int from, int to) {
+        for (int i = from; i < to; i++) {
+            RegisteredListener registered = listeners[i];
+            if (registered.ignoreCancelled && event.isCancelled()) {
+                continue;
+            }
+            try {
+                registered.listener.onEvent(event);
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "[CombatEventBus] 리스너 오류: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    // ===== 병합 리스너 =====
+
+    private void enqueueCoalesced(CombatEvent event) {
+        synchronized (pendingLock) {
+            if (event instanceof DamageDealtEvent damage && !(event instanceof CoalescedDamageEvent)) {
+                CombatContext ctx = damage.getContext();
+                long key = ctx != null
+                        ? ((long) ctx.getAttackerHandle() << 32) | (ctx.getVictimHandle() & 0xFFFFFFFFL)
+                        : 0L;
+                pendingDamage.computeIfAbsent(key, k -> new DamageAggregate(damage)).add(damage);
+            } else {
+                pendingEvents.add(CombatEventPool.escape(event));
+            }
+        }
+    }
+
+    /**
+     * 이번 틱에 쌓인 병합 이벤트를 병합 리스너에 전달합니다. 틱마다 한 번 메인 스레드에서 호출합니다.
+     *
+     * @param tick 현재 스케줄러 틱
+     * @return 전달한 병합 이벤트 수
+     */
+    public int flushCoalesced(long tick) {
+        Map<Long, DamageAggregate> damage;
+        List<CombatEvent> events;
+        synchronized (pendingLock) {
+            if (pendingDamage.isEmpty() && pendingEvents.isEmpty()) {
+                return 0;
+            }
+            damage = pendingDamage;
+            events = pendingEvents;
+            pendingDamage = new LinkedHashMap<>();
+            pendingEvents = new ArrayList<>();
+        }
+
+        Route[] table = routes;
+        CombatEventListener[] damageListeners = table[CombatEventType.DAMAGE_DEALT.ordinal()].coalescedListeners;
+        for (DamageAggregate aggregate : damage.values()) {
+            callCoalesced(aggregate.toEvent(tick), damageListeners);
+        }
+        for (CombatEvent event : events) {
+            callCoalesced(event, table[event.getType().ordinal()].coalescedListeners);
+        }
+        return damage.size() + events.size();
+    }
+
+    private void callCoalesced(CombatEvent event, CombatEventListener[] listeners) {
+        for (CombatEventListener listener : listeners) {
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "[CombatEventBus] 병합 리스너 오류: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    // ===== 비동기 리스너 =====
+
+    private ThreadPoolExecutor createAsyncExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(ASYNC_THREADS, ASYNC_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(ASYNC_QUEUE_CAPACITY), task -> {
+                    Thread thread = new Thread(task, "Sanctuary-CombatEvent-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (task, pool) -> asyncDropped.increment());
+    }
+
+    private void submitAsync(CombatEvent snapshot, CombatEventListener[] listeners) {
+        ThreadPoolExecutor executor = asyncExecutor;
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            for (CombatEventListener listener : listeners) {
                 try {
-                    scriptEngine.callFunction(hookName, eventTable);
+                    listener.onEvent(snapshot);
                 } catch (Exception e) {
-                    logger.log(Level.WARNING, "[CombatEventBus] Lua 훅 오류 (" + hookName + "): " + e.getMessage(), e);
+                    logger.log(Level.WARNING, "[CombatEventBus] 비동기 리스너 오류: " + e.getMessage(), e);
                 }
             }
-        }
-
-        return event.isCancelled();
+        });
     }
 
     /**
@@ -188,79 +655,114 @@ public class CombatEventBus {
     // ===== 유틸리티 =====
 
     /**
-     * CombatEvent를 Lua 테이블로 변환합니다.
+     * 이벤트 통계를 반환합니다. (한 번 이상 발생한 타입만 포함)
      */
-    private LuaTable eventToLuaTable(CombatEvent event) {
-        LuaTable table = new LuaTable();
-
-        table.set("type", event.getType().name());
-        table.set("cancelled", LuaValue.valueOf(event.isCancelled()));
-
-        // 컨텍스트 정보
-        CombatContext ctx = event.getContext();
-        if (ctx != null) {
-            LuaTable ctxTable = new LuaTable();
-            if (ctx.getAttacker() != null) {
-                ctxTable.set("attackerId", ctx.getAttacker().getUuid().toString());
-            }
-            if (ctx.getVictim() != null) {
-                ctxTable.set("victimId", ctx.getVictim().getUuid().toString());
-            }
-            if (ctx.getSkillId() != null) {
-                ctxTable.set("skillId", ctx.getSkillId());
-            }
-            ctxTable.set("skillCoefficient", ctx.getSkillCoefficient());
-            ctxTable.set("distance", ctx.getDistance());
-
-            // 태그
-            LuaTable tags = new LuaTable();
-            int i = 1;
-            for (String tag : ctx.getTags()) {
-                tags.set(i++, tag);
+    public Map<CombatEventType, Long> getEventCounts() {
+        Map<CombatEventType, Long> counts = new EnumMap<>(CombatEventType.class);
+        for (CombatEventType type : TYPES) {
+            long count = eventCounts[type.ordinal()].sum();
+            if (count > 0) {
+                counts.put(type, count);
             }
-            ctxTable.set("tags", tags);
-
-            table.set("context", ctxTable);
         }
+        return counts;
+    }
 
-        // DamageDealtEvent 특수 처리
-        if (event instanceof DamageDealtEvent) {
-            DamageDealtEvent dde = (DamageDealtEvent) event;
-            table.set("baseDamage", dde.getBaseDamage());
-            table.set("finalDamage", dde.getFinalDamage());
-            table.set("damageType", dde.getDamageType());
-            table.set("isCrit", LuaValue.valueOf(dde.isCritical()));
-            table.set("isOverpower", LuaValue.valueOf(dde.isOverpower()));
-            table.set("isVuln", LuaValue.valueOf(dde.isVulnerable()));
-            table.set("isLuckyHit", LuaValue.valueOf(dde.isLuckyHit()));
-        }
+    /**
+     * 등록된 리스너 수를 반환합니다. (비동기/병합 리스너 포함)
+     */
+    public int getListenerCount(CombatEventType type) {
+        Route route = routes[type.ordinal()];
+        return route.listeners.length + route.asyncListeners.length + route.coalescedListeners.length;
+    }
 
-        return table;
+    /**
+     * 전투 저널을 설정합니다. 이후 발생하는 모든 이벤트가 MONITOR 리스너 처리 후의 상태로 기록됩니다.
+     *
+     * @param journal 저널 (null이면 기록 중지)
+     */
+    public void setJournal(CombatJournal journal) {
+        this.journal = journal;
+    }
+
+    public CombatJournal getJournal() {
+        return journal;
     }
 
     /**
-     * 이벤트 통계를 반환합니다.
+     * 큐가 가득 차 비동기 리스너에 전달되지 못한 이벤트 수를 반환합니다.
      */
-    public Map<CombatEventType, Long> getEventCounts() {
-        return new HashMap<>(eventCounts);
+    public long getAsyncDroppedCount() {
+        return asyncDropped.sum();
     }
 
     /**
-     * 등록된 리스너 수를 반환합니다.
+     * 비동기 리스너 워커를 종료합니다. 대기 중인 사본은 최대 1초 동안 처리됩니다.
      */
-    public int getListenerCount(CombatEventType type) {
-        List<CombatEventListener> list = listeners.get(type);
-        return list != null ? list.size() : 0;
+    public synchronized void shutdown() {
+        if (asyncExecutor == null) {
+            return;
+        }
+        asyncExecutor.shutdown();
+        try {
+            if (!asyncExecutor.awaitTermination(1, TimeUnit.SECONDS)) {
+                asyncExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            asyncExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        asyncExecutor = null;
     }
 
     /**
      * 모든 리스너와 훅을 제거합니다.
      */
-    public void clear() {
-        listeners.clear();
-        luaHooks.clear();
-        globalListeners.clear();
-        eventCounts.clear();
+    public synchronized void clear() {
+        routes = emptyRoutes();
+        globalListeners = new CombatEventListener[0];
+        for (LongAdder count : eventCounts) {
+            count.reset();
+        }
+        asyncDropped.reset();
+        synchronized (pendingLock) {
+            pendingDamage.clear();
+            pendingEvents.clear();
+        }
         logger.info("[CombatEventBus] 모든 리스너 및 훅 제거됨");
     }
+
+    // ===== 디스패치 테이블 =====
+
+    private static Route[] emptyRoutes() {
+        Route[] empty = new Route[TYPES.length];
+        Arrays.fill(empty, Route.EMPTY);
+        return empty;
+    }
+
+    /**
+     * 한 타입의 항목을 교체한 새 테이블을 게시합니다. (등록 메서드의 락 안에서만 호출)
+     */
+    private void setRoute(CombatEventType type, Route route) {
+        Route[] next = routes.clone();
+        next[type.ordinal()] = route;
+        routes = next;
+    }
+
+    private static <T> T[] append(T[] array, T element) {
+        T[] next = Arrays.copyOf(array, array.length + 1);
+        next[array.length] = element;
+        return next;
+    }
+
+    private static <T> T[] remove(T[] array, Predicate<? super T> filter) {
+        int kept = 0;
+        T[] next = Arrays.copyOf(array, array.length);
+        for (T element : array) {
+            if (!filter.test(element)) {
+                next[kept++] = element;
+            }
+        }
+        return kept == array.length ? array : Arrays.copyOf(next, kept);
+    }
 }
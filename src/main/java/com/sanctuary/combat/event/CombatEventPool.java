@@ -0,0 +1,193 @@
+package com.sanctuary.combat.event;
+
+import java.util.ArrayDeque;
+
+/**
+ * 전투 컨텍스트/이벤트 재사용 풀
+ *
+ * 타격마다 {@link CombatContext}와 {@link DamageDealtEvent}를 새로 만들지 않도록 사용이 끝난 객체를 보관했다가
+ * {@link CombatContext#reset()} / {@link DamageDealtEvent#reset(CombatContext, double)}으로 비워서 다시 사용합니다.
+ *
+ * 풀에서 가져온 객체는 동기 발생({@link CombatEventBus#fire}, {@link CombatEventBus#fireBatch})이 끝난 뒤
+ * 반환되어 다음 타격에서 다른 값으로 채워집니다. 따라서 리스너는 전달받은 이벤트/컨텍스트를 호출이 끝난 뒤까지
+ * 보관해서는 안 됩니다. (필요하면 {@link CombatEvent#snapshot()} 또는 {@link CombatContext#copy()}로 복사)
+ * 버스 자체의 비동기/병합 리스너는 풀링된 객체를 자동으로 복사해서 보관합니다.
+ *
+ * 풀링은 기본으로 켜져 있으며, {@code -Dsanctuary.combat.pooling=false} 또는 {@link #setEnabled(boolean)}로 끌 수 있습니다.
+ * 꺼져 있으면 acquire는 매번 새 객체를 만들고 release는 아무것도 하지 않습니다.
+ *
+ * 사용 예시:
+ *
+ * <pre>
+ * DamageDealtEvent event = CombatEventPool.acquireDamageEvent(
+ *         CombatEventPool.acquireContext().attacker(attacker), damage);
+ * try {
+ *     eventBus.fire(event);
+ *     damage = event.getFinalDamage();
+ * } finally {
+ *     CombatEventPool.release(event); // 컨텍스트도 함께 반환
+ * }
+ * </pre>
+ */
+public final class CombatEventPool {
+
+    private static final int MAX_POOLED = 64;
+
+    private static final ArrayDeque<CombatContext> CONTEXTS = new ArrayDeque<>();
+    private static final ArrayDeque<DamageDealtEvent> DAMAGE_EVENTS = new ArrayDeque<>();
+
+    private static volatile boolean enabled = !"false".equalsIgnoreCase(System.getProperty("sanctuary.combat.pooling"));
+
+    private CombatEventPool() {
+    }
+
+    /**
+     * 풀링 사용 여부를 반환합니다.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 풀링 사용 여부를 설정합니다. 끄면 대기 중인 객체를 모두 버립니다.
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+        if (!value) {
+            synchronized (CONTEXTS) {
+                CONTEXTS.clear();
+            }
+            synchronized (DAMAGE_EVENTS) {
+                DAMAGE_EVENTS.clear();
+            }
+        }
+    }
+
+    // ===== 컨텍스트 =====
+
+    /**
+     * 비어 있는 컨텍스트를 가져옵니다. 풀이 비어 있으면 새로 생성합니다.
+     *
+     * @return 초기화된 컨텍스트 (새 컨텍스트 ID)
+     */
+    public static CombatContext acquireContext() {
+        if (!enabled) {
+            return new CombatContext();
+        }
+        CombatContext context;
+        synchronized (CONTEXTS) {
+            context = CONTEXTS.pollFirst();
+        }
+        if (context == null) {
+            context = new CombatContext();
+            context.pooled = true;
+            return context;
+        }
+        context.free = false;
+        return context.reset();
+    }
+
+    /**
+     * 컨텍스트를 풀에 반환합니다. 풀에서 가져오지 않았거나 이미 반환된 컨텍스트는 무시합니다.
+     *
+     * @param context 반환할 컨텍스트 (null 허용)
+     */
+    public static void release(CombatContext context) {
+        if (context == null || !context.pooled || context.free) {
+            return;
+        }
+        context.free = true;
+        if (!enabled) {
+            return;
+        }
+        synchronized (CONTEXTS) {
+            if (CONTEXTS.size() < MAX_POOLED) {
+                CONTEXTS.addFirst(context);
+            }
+        }
+    }
+
+    // ===== 피해 이벤트 =====
+
+    /**
+     * 피해 이벤트를 가져와 컨텍스트와 기본 피해로 채웁니다. 풀이 비어 있으면 새로 생성합니다.
+     *
+     * @param context    컨텍스트 ({@link #acquireContext()}로 가져온 경우 이벤트와 함께 반환됨)
+     * @param baseDamage 기본 피해
+     * @return 초기화된 피해 이벤트
+     */
+    public static DamageDealtEvent acquireDamageEvent(CombatContext context, double baseDamage) {
+        if (!enabled) {
+            return new DamageDealtEvent(context, baseDamage);
+        }
+        DamageDealtEvent event;
+        synchronized (DAMAGE_EVENTS) {
+            event = DAMAGE_EVENTS.pollFirst();
+        }
+        if (event == null) {
+            event = new DamageDealtEvent(context, baseDamage);
+            event.pooled = true;
+            return event;
+        }
+        event.free = false;
+        return event.reset(context, baseDamage);
+    }
+
+    /**
+     * 피해 이벤트와 그 컨텍스트를 풀에 반환합니다. 풀에서 가져오지 않았거나 이미 반환된 이벤트는 무시합니다.
+     *
+     * @param event 반환할 이벤트 (null 허용)
+     */
+    public static void release(DamageDealtEvent event) {
+        if (event == null || !event.pooled || event.free) {
+            return;
+        }
+        event.free = true;
+        release(event.context);
+        event.context = null;
+        if (!enabled) {
+            return;
+        }
+        synchronized (DAMAGE_EVENTS) {
+            if (DAMAGE_EVENTS.size() < MAX_POOLED) {
+                DAMAGE_EVENTS.addFirst(event);
+            }
+        }
+    }
+
+    // ===== 통계 =====
+
+    /**
+     * 풀에 대기 중인 컨텍스트 수를 반환합니다.
+     */
+    public static int getPooledContextCount() {
+        synchronized (CONTEXTS) {
+            return CONTEXTS.size();
+        }
+    }
+
+    /**
+     * 풀에 대기 중인 피해 이벤트 수를 반환합니다.
+     */
+    public static int getPooledDamageEventCount() {
+        synchronized (DAMAGE_EVENTS) {
+            return DAMAGE_EVENTS.size();
+        }
+    }
+
+    // ===== 복사 (버스 내부용) =====
+
+    /**
+     * 발생이 끝난 뒤에도 보관할 이벤트를 반환합니다. 풀링된 이벤트는 읽기 전용 사본을 만듭니다.
+     */
+    static CombatEvent escape(CombatEvent event) {
+        return event instanceof AbstractCombatEvent base && base.pooled ? event.snapshot() : event;
+    }
+
+    /**
+     * 발생이 끝난 뒤에도 보관할 컨텍스트를 반환합니다. 풀링된 컨텍스트는 복사합니다.
+     */
+    static CombatContext escape(CombatContext context) {
+        return context != null && context.pooled ? context.copy() : context;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sanctuary.combat.event;
+
+/**
+ * 전투 이벤트 리스너 우선순위
+ * Bukkit의 EventPriority와 같은 순서로, 낮은 우선순위부터 호출됩니다.
+ *
+ * 같은 우선순위 안에서는 등록 순서대로 호출되며, Lua 훅은 HIGHEST 리스너 다음, MONITOR 리스너 전에 호출됩니다.
+ */
+public enum CombatEventPriority {
+
+    /** 가장 먼저 호출 (기본값 설정 등) */
+    LOWEST,
+
+    LOW,
+
+    /** 기본 우선순위 */
+    NORMAL,
+
+    HIGH,
+
+    /** 최종 결정권 (다른 리스너의 수정 결과를 덮어씀) */
+    HIGHEST,
+
+    /** 결과 관찰 전용 (이벤트를 수정하지 않아야 함) */
+    MONITOR
+}
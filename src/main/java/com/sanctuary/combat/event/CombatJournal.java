@@ -0,0 +1,422 @@
+package com.sanctuary.combat.event;
+
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import com.sanctuary.core.ecs.EntityHandle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.VarHandle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 전투 이벤트 저널 (고정 크기 링 버퍼)
+ *
+ * 발생한 모든 전투 이벤트를 평평한 원시값 레코드(타입, 공격자/피격자 핸들, 피해, 플래그, 틱)로 기록합니다.
+ * 버퍼는 생성 시 미리 할당된 열(column) 배열이며, 기록 경로에는 객체 할당과 락이 없습니다.
+ * 버퍼가 가득 차면 가장 오래된 레코드를 덮어씁니다.
+ *
+ * 피해 이벤트는 재현에 필요한 입력(공격자 스냅샷의 공격 스탯, 스킬 계수, 피해 태그)과
+ * 기본 피해를 계산한 경로(Lua 스크립트/Java 공식, {@link #FLAG_LUA_CALCULATED})도 함께 기록하므로
+ * {@link #dump(int, Path)}로 저장한 파일을 {@code CombatReplay}로 다시 계산할 수 있습니다.
+ *
+ * 동시성: 기록자는 원자적 커서로 슬롯을 확보하고, 기록을 마친 뒤 슬롯의 시퀀스 번호를 게시합니다.
+ * 읽기는 시퀀스 번호를 전후로 확인해 도중에 덮어쓰인 레코드를 건너뜁니다.
+ */
+public final class CombatJournal {
+
+    /** 덤프 파일 식별자 ("SCJ1") */
+    public static final int MAGIC = 0x53434A31;
+    public static final int VERSION = 2;
+
+    // ===== 플래그 =====
+    public static final int FLAG_CRITICAL = 1;
+    public static final int FLAG_OVERPOWER = 1 << 1;
+    public static final int FLAG_VULNERABLE = 1 << 2;
+    public static final int FLAG_LUCKY_HIT = 1 << 3;
+    public static final int FLAG_CANCELLED = 1 << 4;
+    public static final int FLAG_HAS_STATS = 1 << 5; // 공격자 스냅샷이 기록됨
+    public static final int FLAG_LUA_CALCULATED = 1 << 6; // 기본 피해를 Lua 스크립트가 계산함
+
+    /** 비트마스크로 기록하는 피해 태그 (순서 = 비트 위치) */
+    public static final String[] TAGS = { "PHYSICAL", "FIRE", "COLD", "LIGHTNING", "POISON", "SHADOW",
+            "MELEE", "RANGED" };
+
+    /** 레코드당 기록하는 공격자 스탯 수 (피해 공식이 참조할 수 있는 스냅샷 필드) */
+    public static final int STAT_COUNT = 14;
+
+    private static final CombatEventType[] TYPES = CombatEventType.values();
+    private static final long UNPUBLISHED = -1L;
+
+    private final int capacity;
+    private final int mask;
+    private final LongSupplier tickSource;
+
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicLongArray published;
+
+    // ===== 레코드 열 =====
+    private final long[] ticks;
+    private final int[] types;
+    private final int[] attackers;
+    private final int[] victims;
+    private final int[] flags;
+    private final int[] tags;
+    private final double[] baseDamage;
+    private final double[] finalDamage;
+    private final double[] skillCoefficients;
+    private final double[] stats; // capacity * STAT_COUNT
+
+    /**
+     * @param capacity   레코드 수 (2의 거듭제곱으로 올림)
+     * @param tickSource 현재 서버 틱 공급자
+     */
+    public CombatJournal(int capacity, LongSupplier tickSource) {
+        if (capacity <= 0 || capacity > (1 << 24)) {
+            throw new IllegalArgumentException("저널 크기가 올바르지 않습니다: " + capacity);
+        }
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.tickSource = tickSource;
+
+        this.published = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            published.set(i, UNPUBLISHED);
+        }
+        this.ticks = new long[this.capacity];
+        this.types = new int[this.capacity];
+        this.attackers = new int[this.capacity];
+        this.victims = new int[this.capacity];
+        this.flags = new int[this.capacity];
+        this.tags = new int[this.capacity];
+        this.baseDamage = new double[this.capacity];
+        this.finalDamage = new double[this.capacity];
+        this.skillCoefficients = new double[this.capacity];
+        this.stats = new double[this.capacity * STAT_COUNT];
+    }
+
+    // ===== 기록 =====
+
+    /**
+     * 이벤트를 기록합니다. 어느 스레드에서나 호출할 수 있으며 객체를 할당하지 않습니다.
+     *
+     * @param event 발생한 이벤트
+     */
+    public void record(CombatEvent event) {
+        long sequence = cursor.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        published.set(slot, UNPUBLISHED);
+        VarHandle.storeStoreFence(); // 필드 쓰기가 게시 해제보다 먼저 보이지 않도록
+
+        CombatContext ctx = event.getContext();
+        CombatStatSnapshot attackerStats = ctx != null ? ctx.getAttackerStats() : null;
+
+        ticks[slot] = tickSource.getAsLong();
+        types[slot] = event.getType().ordinal();
+        attackers[slot] = ctx != null ? ctx.getAttackerHandle() : EntityHandle.NONE;
+        victims[slot] = ctx != null ? ctx.getVictimHandle() : EntityHandle.NONE;
+        skillCoefficients[slot] = ctx != null ? ctx.getSkillCoefficient() : 1.0;
+
+        int flag = event.isCancelled() ? FLAG_CANCELLED : 0;
+        if (event instanceof DamageDealtEvent damage) {
+            baseDamage[slot] = damage.getBaseDamage();
+            finalDamage[slot] = damage.getFinalDamage();
+            flag |= damage.isCritical() ? FLAG_CRITICAL : 0;
+            flag |= damage.isOverpower() ? FLAG_OVERPOWER : 0;
+            flag |= damage.isVulnerable() ? FLAG_VULNERABLE : 0;
+            flag |= damage.isLuckyHit() ? FLAG_LUCKY_HIT : 0;
+            flag |= damage.isLuaCalculated() ? FLAG_LUA_CALCULATED : 0;
+        } else {
+            baseDamage[slot] = 0.0;
+            finalDamage[slot] = 0.0;
+        }
+
+        int tagMask = 0;
+        if (ctx != null) {
+            for (int i = 0; i < TAGS.length; i++) {
+                if (ctx.hasTag(TAGS[i])) {
+                    tagMask |= 1 << i;
+                }
+            }
+        }
+        tags[slot] = tagMask;
+
+        if (attackerStats != null) {
+            writeStats(slot * STAT_COUNT, attackerStats);
+            flag |= FLAG_HAS_STATS;
+        }
+        flags[slot] = flag;
+
+        published.set(slot, sequence);
+    }
+
+    private void writeStats(int offset, CombatStatSnapshot s) {
+        stats[offset] = s.weaponDamage();
+        stats[offset + 1] = s.strength();
+        stats[offset + 2] = s.critChance();
+        stats[offset + 3] = s.critDamage();
+        stats[offset + 4] = s.overpowerDamage();
+        stats[offset + 5] = s.vulnerableDamage();
+        stats[offset + 6] = s.physicalDamage();
+        stats[offset + 7] = s.fireDamage();
+        stats[offset + 8] = s.damageVsClose();
+        stats[offset + 9] = s.damageVsDistant();
+        stats[offset + 10] = s.damageVsCc();
+        stats[offset + 11] = s.globalDamageMulti();
+        stats[offset + 12] = s.maxHp();
+        stats[offset + 13] = s.armor();
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 특정 엔티티가 공격자 또는 피격자인 최근 레코드를 오래된 순서로 반환합니다.
+     *
+     * @param handle 엔티티 핸들 ({@link EntityHandle#NONE}이면 전체)
+     * @return 레코드 목록
+     */
+    public List<Entry> recent(int handle) {
+        long end = cursor.get();
+        long start = Math.max(0, end - capacity);
+        List<Entry> entries = new ArrayList<>();
+
+        for (long sequence = start; sequence < end; sequence++) {
+            int slot = (int) (sequence & mask);
+            if (published.get(slot) != sequence) {
+                continue; // 기록 중이거나 이미 덮어쓰임
+            }
+            if (handle != EntityHandle.NONE && attackers[slot] != handle && victims[slot] != handle) {
+                continue;
+            }
+
+            double[] recordStats = new double[STAT_COUNT];
+            System.arraycopy(stats, slot * STAT_COUNT, recordStats, 0, STAT_COUNT);
+            Entry entry = new Entry(sequence, ticks[slot], TYPES[types[slot]], attackers[slot], victims[slot],
+                    flags[slot], tags[slot], baseDamage[slot], finalDamage[slot], skillCoefficients[slot],
+                    recordStats);
+
+            VarHandle.acquireFence();
+            if (published.get(slot) == sequence) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 기록된 전체 이벤트 수를 반환합니다. (덮어쓰인 레코드 포함)
+     */
+    public long getRecordedCount() {
+        return cursor.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // ===== 덤프 =====
+
+    /**
+     * 특정 엔티티의 최근 레코드를 이진 파일로 저장합니다.
+     *
+     * @param handle 엔티티 핸들 ({@link EntityHandle#NONE}이면 전체)
+     * @param file   저장 경로
+     * @return 저장한 레코드 수
+     */
+    public int dump(int handle, Path file) throws IOException {
+        List<Entry> entries = recent(handle);
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(entries, out);
+        }
+        return entries.size();
+    }
+
+    /**
+     * 레코드 목록을 이진 형식으로 씁니다.
+     *
+     * 형식: 헤더(MAGIC, VERSION, 이벤트 타입 이름표, 태그 이름표, 스탯 수, 레코드 수) 뒤에
+     * 레코드마다 시퀀스, 틱, 타입 인덱스, 핸들, 플래그, 태그, 피해, 스킬 계수, (스냅샷이 있으면) 스탯이 이어집니다.
+     */
+    public static void write(List<Entry> entries, OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(TYPES.length);
+        for (CombatEventType type : TYPES) {
+            out.writeUTF(type.name());
+        }
+        out.writeByte(TAGS.length);
+        for (String tag : TAGS) {
+            out.writeUTF(tag);
+        }
+        out.writeByte(STAT_COUNT);
+        out.writeInt(entries.size());
+
+        for (Entry entry : entries) {
+            out.writeLong(entry.sequence());
+            out.writeLong(entry.tick());
+            out.writeShort(entry.type().ordinal());
+            out.writeInt(entry.attacker());
+            out.writeInt(entry.victim());
+            out.writeByte(entry.flags());
+            out.writeInt(entry.tags());
+            out.writeDouble(entry.baseDamage());
+            out.writeDouble(entry.finalDamage());
+            out.writeDouble(entry.skillCoefficient());
+            if ((entry.flags() & FLAG_HAS_STATS) != 0) {
+                for (double value : entry.stats()) {
+                    out.writeDouble(value);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * 덤프 파일을 읽습니다.
+     *
+     * @param file 덤프 경로
+     * @return 레코드 목록 (기록 순서)
+     * @throws IOException 파일 형식이 다르거나 읽을 수 없는 경우
+     */
+    public static List<Entry> read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * 이진 형식의 레코드 목록을 읽습니다. 이벤트 타입과 태그는 이름으로 대응시킵니다.
+     */
+    public static List<Entry> read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("전투 저널 파일이 아닙니다.");
+        }
+        int version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 전투 저널 버전입니다: " + version);
+        }
+
+        CombatEventType[] typeTable = new CombatEventType[in.readShort()];
+        for (int i = 0; i < typeTable.length; i++) {
+            String name = in.readUTF();
+            for (CombatEventType type : TYPES) {
+                if (type.name().equals(name)) {
+                    typeTable[i] = type;
+                }
+            }
+        }
+        int[] tagRemap = new int[in.readByte()];
+        for (int i = 0; i < tagRemap.length; i++) {
+            String name = in.readUTF();
+            tagRemap[i] = -1;
+            for (int j = 0; j < TAGS.length; j++) {
+                if (TAGS[j].equals(name)) {
+                    tagRemap[i] = j;
+                }
+            }
+        }
+        int statCount = in.readByte();
+        if (statCount != STAT_COUNT) {
+            throw new IOException("스탯 수가 다릅니다: " + statCount);
+        }
+
+        int count = in.readInt();
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long sequence = in.readLong();
+            long tick = in.readLong();
+            int typeIndex = in.readShort();
+            int attacker = in.readInt();
+            int victim = in.readInt();
+            int flag = in.readByte();
+            int storedTags = in.readInt();
+            double base = in.readDouble();
+            double damage = in.readDouble();
+            double coefficient = in.readDouble();
+            double[] recordStats = new double[STAT_COUNT];
+            if ((flag & FLAG_HAS_STATS) != 0) {
+                for (int j = 0; j < STAT_COUNT; j++) {
+                    recordStats[j] = in.readDouble();
+                }
+            }
+
+            int tagMask = 0;
+            for (int bit = 0; bit < tagRemap.length; bit++) {
+                if ((storedTags & (1 << bit)) != 0 && tagRemap[bit] >= 0) {
+                    tagMask |= 1 << tagRemap[bit];
+                }
+            }
+            CombatEventType type = typeIndex < typeTable.length ? typeTable[typeIndex] : null;
+            if (type == null) {
+                continue; // 현재 버전에 없는 이벤트 타입
+            }
+            entries.add(new Entry(sequence, tick, type, attacker, victim, flag, tagMask, base, damage,
+                    coefficient, recordStats));
+        }
+        return entries;
+    }
+
+    /**
+     * 저널 레코드 하나 (조회/덤프용 사본)
+     */
+    public record Entry(
+            long sequence,
+            long tick,
+            CombatEventType type,
+            int attacker,
+            int victim,
+            int flags,
+            int tags,
+            double baseDamage,
+            double finalDamage,
+            double skillCoefficient,
+            double[] stats) {
+
+        public boolean hasFlag(int flag) {
+            return (flags & flag) != 0;
+        }
+
+        public boolean hasTag(String tag) {
+            for (int i = 0; i < TAGS.length; i++) {
+                if (TAGS[i].equals(tag)) {
+                    return (tags & (1 << i)) != 0;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 기록된 공격자 스탯으로 스냅샷을 복원합니다. (방어 저항은 0)
+         *
+         * @return 스냅샷 또는 null (기록되지 않음)
+         */
+        public CombatStatSnapshot attackerSnapshot() {
+            if (!hasFlag(FLAG_HAS_STATS)) {
+                return null;
+            }
+            double[] s = stats;
+            return new CombatStatSnapshot(attacker, 0L, s[0], s[1], s[2], s[3], s[4], s[5], s[6], s[7], s[8],
+                    s[9], s[10], s[11], s[12], s[13], 0, 0, 0, 0, 0);
+        }
+    }
+}
@@ -17,6 +17,9 @@ public class DamageDealtEvent extends AbstractCombatEvent {
     private boolean vuln = false;
     private boolean luckyHit = false;
 
+    // ===== 계산 경로 =====
+    private boolean luaCalculated = false; // 기본 피해를 Lua 스크립트가 계산함 (false면 Java 공식)
+
     // ===== 추가 정보 =====
     private double critMultiplier = 1.5;
     private double vulnMultiplier = 1.2;
@@ -35,51 +38,67 @@ public class DamageDealtEvent extends AbstractCombatEvent {
     // ===== Fluent Setters =====
 
     public DamageDealtEvent baseDamage(double baseDamage) {
+        checkMutable();
         this.baseDamage = baseDamage;
         return this;
     }
 
     public DamageDealtEvent finalDamage(double finalDamage) {
+        checkMutable();
         this.finalDamage = finalDamage;
         return this;
     }
 
     public DamageDealtEvent damageType(String damageType) {
+        checkMutable();
         this.damageType = damageType.toUpperCase();
         return this;
     }
 
     public DamageDealtEvent critical(boolean critical) {
+        checkMutable();
         this.critical = critical;
         return this;
     }
 
     public DamageDealtEvent overpower(boolean overpower) {
+        checkMutable();
         this.overpower = overpower;
         return this;
     }
 
     public DamageDealtEvent vulnerable(boolean vuln) {
+        checkMutable();
         this.vuln = vuln;
         return this;
     }
 
     public DamageDealtEvent luckyHit(boolean luckyHit) {
+        checkMutable();
         this.luckyHit = luckyHit;
         return this;
     }
 
+    public DamageDealtEvent luaCalculated(boolean luaCalculated) {
+        checkMutable();
+        this.luaCalculated = luaCalculated;
+        return this;
+    }
+
     public DamageDealtEvent critMultiplier(double critMultiplier) {
+        checkMutable();
         this.critMultiplier = critMultiplier;
         return this;
     }
 
     public DamageDealtEvent vulnMultiplier(double vulnMultiplier) {
+        checkMutable();
         this.vulnMultiplier = vulnMultiplier;
         return this;
     }
 
     public DamageDealtEvent overpowerDamage(double overpowerDamage) {
+        checkMutable();
         this.overpowerDamage = overpowerDamage;
         return this;
     }
@@ -114,6 +133,13 @@ public class DamageDealtEvent extends AbstractCombatEvent {
         return luckyHit;
     }
 
+    /**
+     * 기본 피해를 Lua 스크립트가 계산했는지 확인합니다. (false면 Java {@code DamageFormula})
+     */
+    public boolean isLuaCalculated() {
+        return luaCalculated;
+    }
+
     public double getCritMultiplier() {
         return critMultiplier;
     }
@@ -132,6 +158,7 @@ public class DamageDealtEvent extends AbstractCombatEvent {
      * 최종 피해를 수정합니다. (리스너에서 피해량 조정용)
      */
     public void setFinalDamage(double finalDamage) {
+        checkMutable();
         this.finalDamage = finalDamage;
     }
 
@@ -139,6 +166,7 @@ public class DamageDealtEvent extends AbstractCombatEvent {
      * 최종 피해에 배율을 적용합니다.
      */
     public void multiplyFinalDamage(double multiplier) {
+        checkMutable();
         this.finalDamage *= multiplier;
     }
 
@@ -146,9 +174,71 @@ public class DamageDealtEvent extends AbstractCombatEvent {
      * 최종 피해에 추가 피해를 더합니다.
      */
     public void addFinalDamage(double amount) {
+        checkMutable();
         this.finalDamage += amount;
     }
 
+    // ===== Reset =====
+
+    /**
+     * 모든 필드를 기본값으로 되돌리고 새 컨텍스트와 기본 피해로 다시 채웁니다. (이벤트 풀 재사용용)
+     *
+     * @param context    새 컨텍스트
+     * @param baseDamage 기본 피해 (최종 피해도 같은 값으로 시작)
+     * @return this
+     * @throws IllegalStateException 읽기 전용 사본인 경우
+     */
+    public DamageDealtEvent reset(CombatContext context, double baseDamage) {
+        resetBase(context);
+        this.baseDamage = baseDamage;
+        this.finalDamage = baseDamage;
+        this.damageType = "PHYSICAL";
+        this.critical = false;
+        this.overpower = false;
+        this.vuln = false;
+        this.luckyHit = false;
+        this.luaCalculated = false;
+        this.critMultiplier = 1.5;
+        this.vulnMultiplier = 1.2;
+        this.overpowerDamage = 0.0;
+        return this;
+    }
+
+    // ===== Snapshot =====
+
+    @Override
+    public DamageDealtEvent snapshot() {
+        DamageDealtEvent copy = new DamageDealtEvent(copyContext());
+        copyStateTo(copy);
+        return copy;
+    }
+
+    /**
+     * 컨텍스트 사본을 반환합니다. (컨텍스트가 없으면 null)
+     */
+    protected CombatContext copyContext() {
+        return context != null ? context.copy() : null;
+    }
+
+    /**
+     * 피해 필드와 취소 상태를 사본에 복사하고 읽기 전용으로 표시합니다. (하위 클래스의 snapshot에서 호출)
+     */
+    protected void copyStateTo(DamageDealtEvent copy) {
+        copy.baseDamage = baseDamage;
+        copy.finalDamage = finalDamage;
+        copy.damageType = damageType;
+        copy.critical = critical;
+        copy.overpower = overpower;
+        copy.vuln = vuln;
+        copy.luckyHit = luckyHit;
+        copy.luaCalculated = luaCalculated;
+        copy.critMultiplier = critMultiplier;
+        copy.vulnMultiplier = vulnMultiplier;
+        copy.overpowerDamage = overpowerDamage;
+        copy.cancelled = cancelled;
+        copy.readOnly = true;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("DamageDealtEvent{");
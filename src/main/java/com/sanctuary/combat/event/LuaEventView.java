@@ -0,0 +1,251 @@
+package com.sanctuary.combat.event;
+
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import com.sanctuary.core.ecs.EntityHandle;
+import com.sanctuary.core.ecs.SanctuaryEntity;
+import com.sanctuary.core.script.LuaSchema;
+import org.luaj.vm2.LuaString;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaUserdata;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.ThreeArgFunction;
+import org.luaj.vm2.lib.TwoArgFunction;
+
+/**
+ * Lua 훅에 전달되는 전투 이벤트의 지연 뷰입니다.
+ *
+ * 이벤트를 테이블로 복사하지 않고 userdata로 감싸며, 메타테이블 {@code __index}가
+ * 필드를 읽을 때마다 Java 객체의 현재 값을 반환합니다. 훅이 읽지 않는 필드는 변환 비용이 없습니다.
+ *
+ * 필드:
+ * - event: type, cancelled, context
+ * - DamageDealtEvent: baseDamage, finalDamage, damageType, isCrit, isOverpower, isVuln, isLuckyHit,
+ * overpowerDamage, critMultiplier, vulnMultiplier
+ * - event.context: attackerId, victimId, attackerUuid, victimUuid, attackerStats, victimStats, skillId, itemId, skillCoefficient,
+ * distance, tags
+ *
+ * 쓰기는 {@code finalDamage}와 {@code cancelled}만 허용되며 Java 이벤트에 바로 반영됩니다.
+ * 그 외 필드에 쓰면 Lua 오류가 발생합니다. userdata이므로 {@code pairs()}로 순회할 수 없습니다.
+ */
+final class LuaEventView {
+
+    // ===== 이벤트 필드 코드 =====
+
+    private static final int TYPE = 1;
+    private static final int CANCELLED = 2;
+    private static final int CONTEXT = 3;
+    private static final int BASE_DAMAGE = 4;
+    private static final int FINAL_DAMAGE = 5;
+    private static final int DAMAGE_TYPE = 6;
+    private static final int IS_CRIT = 7;
+    private static final int IS_OVERPOWER = 8;
+    private static final int IS_VULN = 9;
+    private static final int IS_LUCKY_HIT = 10;
+    private static final int OVERPOWER_DAMAGE = 11;
+    private static final int CRIT_MULTIPLIER = 12;
+    private static final int VULN_MULTIPLIER = 13;
+
+    // ===== 컨텍스트 필드 코드 =====
+
+    private static final int ATTACKER_ID = 1;
+    private static final int VICTIM_ID = 2;
+    private static final int ATTACKER_STATS = 3;
+    private static final int VICTIM_STATS = 4;
+    private static final int SKILL_ID = 5;
+    private static final int ITEM_ID = 6;
+    private static final int SKILL_COEFFICIENT = 7;
+    private static final int DISTANCE = 8;
+    private static final int TAGS = 9;
+    private static final int ATTACKER_UUID = 10;
+    private static final int VICTIM_UUID = 11;
+
+    // 필드 이름(인턴된 LuaString) -> 필드 코드 (키 문자열 변환 없이 조회)
+    private static final LuaTable EVENT_FIELDS = new LuaTable();
+    private static final LuaTable CONTEXT_FIELDS = new LuaTable();
+
+    // CombatEventType ordinal -> 타입 이름
+    private static final LuaString[] TYPE_NAMES;
+
+    private static final LuaTable EVENT_META = new LuaTable();
+    private static final LuaTable CONTEXT_META = new LuaTable();
+
+    static {
+        field(EVENT_FIELDS, "type", TYPE);
+        field(EVENT_FIELDS, "cancelled", CANCELLED);
+        field(EVENT_FIELDS, "context", CONTEXT);
+        field(EVENT_FIELDS, "baseDamage", BASE_DAMAGE);
+        field(EVENT_FIELDS, "finalDamage", FINAL_DAMAGE);
+        field(EVENT_FIELDS, "damageType", DAMAGE_TYPE);
+        field(EVENT_FIELDS, "isCrit", IS_CRIT);
+        field(EVENT_FIELDS, "isOverpower", IS_OVERPOWER);
+        field(EVENT_FIELDS, "isVuln", IS_VULN);
+        field(EVENT_FIELDS, "isLuckyHit", IS_LUCKY_HIT);
+        field(EVENT_FIELDS, "overpowerDamage", OVERPOWER_DAMAGE);
+        field(EVENT_FIELDS, "critMultiplier", CRIT_MULTIPLIER);
+        field(EVENT_FIELDS, "vulnMultiplier", VULN_MULTIPLIER);
+
+        field(CONTEXT_FIELDS, "attackerId", ATTACKER_ID);
+        field(CONTEXT_FIELDS, "victimId", VICTIM_ID);
+        field(CONTEXT_FIELDS, "attackerUuid", ATTACKER_UUID);
+        field(CONTEXT_FIELDS, "victimUuid", VICTIM_UUID);
+        field(CONTEXT_FIELDS, "attackerStats", ATTACKER_STATS);
+        field(CONTEXT_FIELDS, "victimStats", VICTIM_STATS);
+        field(CONTEXT_FIELDS, "skillId", SKILL_ID);
+        field(CONTEXT_FIELDS, "itemId", ITEM_ID);
+        field(CONTEXT_FIELDS, "skillCoefficient", SKILL_COEFFICIENT);
+        field(CONTEXT_FIELDS, "distance", DISTANCE);
+        field(CONTEXT_FIELDS, "tags", TAGS);
+
+        CombatEventType[] types = CombatEventType.values();
+        TYPE_NAMES = new LuaString[types.length];
+        for (CombatEventType type : types) {
+            TYPE_NAMES[type.ordinal()] = LuaString.valueOf(type.name());
+        }
+
+        EVENT_META.rawset(LuaValue.valueOf("__index"), new TwoArgFunction() {
+            @Override
+            public LuaValue call(LuaValue self, LuaValue key) {
+                return getEventField((CombatEvent) self.touserdata(), EVENT_FIELDS.rawget(key).toint());
+            }
+        });
+        EVENT_META.rawset(LuaValue.valueOf("__newindex"), new ThreeArgFunction() {
+            @Override
+            public LuaValue call(LuaValue self, LuaValue key, LuaValue value) {
+                setEventField((CombatEvent) self.touserdata(), EVENT_FIELDS.rawget(key).toint(), key, value);
+                return NONE;
+            }
+        });
+        CONTEXT_META.rawset(LuaValue.valueOf("__index"), new TwoArgFunction() {
+            @Override
+            public LuaValue call(LuaValue self, LuaValue key) {
+                return getContextField((CombatContext) self.touserdata(), CONTEXT_FIELDS.rawget(key).toint());
+            }
+        });
+        CONTEXT_META.rawset(LuaValue.valueOf("__newindex"), new ThreeArgFunction() {
+            @Override
+            public LuaValue call(LuaValue self, LuaValue key, LuaValue value) {
+                return error("전투 컨텍스트는 읽기 전용입니다: " + key.tojstring());
+            }
+        });
+    }
+
+    private LuaEventView() {
+    }
+
+    private static void field(LuaTable fields, String name, int code) {
+        fields.rawset(LuaValue.valueOf(name), LuaValue.valueOf(code));
+    }
+
+    /**
+     * 이벤트를 Lua 뷰로 감쌉니다.
+     *
+     * @param event 전투 이벤트
+     * @return userdata 뷰
+     */
+    static LuaValue wrap(CombatEvent event) {
+        return new LuaUserdata(event, EVENT_META);
+    }
+
+    // ===== 이벤트 =====
+
+    private static LuaValue getEventField(CombatEvent event, int code) {
+        switch (code) {
+            case TYPE:
+                return TYPE_NAMES[event.getType().ordinal()];
+            case CANCELLED:
+                return LuaValue.valueOf(event.isCancelled());
+            case CONTEXT:
+                return event.getContext() != null
+                        ? new LuaUserdata(event.getContext(), CONTEXT_META)
+                        : LuaValue.NIL;
+            default:
+                break;
+        }
+        if (!(event instanceof DamageDealtEvent dde)) {
+            return LuaValue.NIL;
+        }
+        switch (code) {
+            case BASE_DAMAGE:
+                return LuaValue.valueOf(dde.getBaseDamage());
+            case FINAL_DAMAGE:
+                return LuaValue.valueOf(dde.getFinalDamage());
+            case DAMAGE_TYPE:
+                return LuaSchema.intern(dde.getDamageType());
+            case IS_CRIT:
+                return LuaValue.valueOf(dde.isCritical());
+            case IS_OVERPOWER:
+                return LuaValue.valueOf(dde.isOverpower());
+            case IS_VULN:
+                return LuaValue.valueOf(dde.isVulnerable());
+            case IS_LUCKY_HIT:
+                return LuaValue.valueOf(dde.isLuckyHit());
+            case OVERPOWER_DAMAGE:
+                return LuaValue.valueOf(dde.getOverpowerDamage());
+            case CRIT_MULTIPLIER:
+                return LuaValue.valueOf(dde.getCritMultiplier());
+            case VULN_MULTIPLIER:
+                return LuaValue.valueOf(dde.getVulnMultiplier());
+            default:
+                return LuaValue.NIL;
+        }
+    }
+
+    private static void setEventField(CombatEvent event, int code, LuaValue key, LuaValue value) {
+        if (code == CANCELLED) {
+            event.setCancelled(value.toboolean());
+        } else if (code == FINAL_DAMAGE && event instanceof DamageDealtEvent dde) {
+            dde.setFinalDamage(value.checkdouble());
+        } else {
+            LuaValue.error("쓸 수 없는 이벤트 필드입니다: " + key.tojstring());
+        }
+    }
+
+    // ===== 컨텍스트 =====
+
+    private static LuaValue getContextField(CombatContext ctx, int code) {
+        switch (code) {
+            case ATTACKER_ID:
+                return handleValue(ctx.getAttackerHandle());
+            case VICTIM_ID:
+                return handleValue(ctx.getVictimHandle());
+            case ATTACKER_UUID:
+                return uuidValue(ctx.getAttacker());
+            case VICTIM_UUID:
+                return uuidValue(ctx.getVictim());
+            case ATTACKER_STATS:
+                return statsTable(ctx.getAttackerStats());
+            case VICTIM_STATS:
+                return statsTable(ctx.getVictimStats());
+            case SKILL_ID:
+                return LuaSchema.intern(ctx.getSkillId());
+            case ITEM_ID:
+                return LuaSchema.intern(ctx.getItemId());
+            case SKILL_COEFFICIENT:
+                return LuaValue.valueOf(ctx.getSkillCoefficient());
+            case DISTANCE:
+                return LuaValue.valueOf(ctx.getDistance());
+            case TAGS:
+                return LuaSchema.fillList(new LuaTable(), ctx.getTags());
+            default:
+                return LuaValue.NIL;
+        }
+    }
+
+    /**
+     * 엔티티가 없는 컨텍스트(데미지 계산기가 만든 이벤트)는 스냅샷 핸들을 사용합니다.
+     */
+    private static LuaValue handleValue(int handle) {
+        return handle != EntityHandle.NONE ? LuaValue.valueOf(handle) : LuaValue.NIL;
+    }
+
+    /**
+     * 엔티티가 없는 컨텍스트는 UUID를 알 수 없으므로 nil을 반환합니다.
+     */
+    private static LuaValue uuidValue(SanctuaryEntity entity) {
+        return entity != null ? LuaValue.valueOf(entity.getUuid().toString()) : LuaValue.NIL;
+    }
+
+    private static LuaValue statsTable(CombatStatSnapshot snapshot) {
+        return snapshot != null ? snapshot.toLuaTable() : LuaValue.NIL;
+    }
+}
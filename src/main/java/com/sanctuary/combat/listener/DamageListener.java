@@ -4,13 +4,17 @@ import com.sanctuary.combat.calc.DamageCalculator;
 import com.sanctuary.combat.calc.DefenseCalculator;
 import com.sanctuary.combat.event.CombatContext;
 import com.sanctuary.combat.event.CombatEventBus;
+import com.sanctuary.combat.event.CombatEventPool;
 import com.sanctuary.combat.event.CombatEventType;
 import com.sanctuary.combat.event.DamageDealtEvent;
 import com.sanctuary.combat.model.DamageContext;
 import com.sanctuary.combat.stat.AttributeContainer;
 import com.sanctuary.combat.stat.StatManager;
 import com.sanctuary.combat.status.StatusEffectManager;
+import com.sanctuary.core.ecs.EntityManager;
 import com.sanctuary.core.ecs.SanctuaryEntity;
+import com.sanctuary.core.random.SanctuaryRandom;
+import com.sanctuary.core.script.LuaSchema;
 import com.sanctuary.core.script.ScriptEngine;
 import com.sanctuary.items.model.RpgItemData;
 import net.kyori.adventure.text.Component;
@@ -26,10 +30,12 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.luaj.vm2.LuaString;
 import org.luaj.vm2.LuaTable;
 import org.luaj.vm2.LuaValue;
 
 import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 /**
  * DamageListener
@@ -38,6 +44,26 @@ import java.util.function.Supplier;
  */
 public class DamageListener implements Listener {
 
+    // ===== onHit 스크립트 테이블 스키마 =====
+
+    private static final LuaSchema ON_HIT = LuaSchema.of("onHit", "player", "target", "damage", "isCrit", "isOverpower");
+    private static final LuaString K_PLAYER = ON_HIT.key("player");
+    private static final LuaString K_TARGET = ON_HIT.key("target");
+    private static final LuaString K_DAMAGE = ON_HIT.key("damage");
+    private static final LuaString K_IS_CRIT = ON_HIT.key("isCrit");
+    private static final LuaString K_IS_OVERPOWER = ON_HIT.key("isOverpower");
+
+    private static final LuaSchema ON_HIT_PLAYER = LuaSchema.of("onHit.player", "id", "uuid", "name");
+    private static final LuaString K_PLAYER_ID = ON_HIT_PLAYER.key("id");
+    private static final LuaString K_PLAYER_UUID = ON_HIT_PLAYER.key("uuid");
+    private static final LuaString K_PLAYER_NAME = ON_HIT_PLAYER.key("name");
+
+    private static final LuaSchema ON_HIT_TARGET = LuaSchema.of("onHit.target", "id", "uuid", "type", "health");
+    private static final LuaString K_TARGET_ID = ON_HIT_TARGET.key("id");
+    private static final LuaString K_TARGET_UUID = ON_HIT_TARGET.key("uuid");
+    private static final LuaString K_TARGET_TYPE = ON_HIT_TARGET.key("type");
+    private static final LuaString K_TARGET_HEALTH = ON_HIT_TARGET.key("health");
+
     private final StatManager statManager;
     private final DamageCalculator damageCalculator;
     private final DefenseCalculator defenseCalculator;
@@ -94,12 +120,20 @@ public class DamageListener implements Listener {
         event.setDamage(0);
 
         // 2. 스탯 데이터 가져오기
-        AttributeContainer attackerStats = statManager.getStats(attacker);
-        AttributeContainer victimStats = statManager.getStats(victim);
+        // UUID 조회는 Bukkit 경계인 여기서 한 번만 수행하고, 이후에는 핸들을 사용
+        EntityManager entityManager = statManager.getCore().getEntityManager();
+        SanctuaryEntity attackerEntity = entityManager.getOrCreate(attacker);
+        SanctuaryEntity victimEntity = entityManager.getOrCreate(victim);
+
+        // 엔티티에 묶인 캐시 뷰 (타격마다 새 컨테이너를 만들지 않음)
+        AttributeContainer attackerStats = statManager.getStats(attackerEntity);
+        AttributeContainer victimStats = statManager.getStats(victimEntity);
 
         // 3. 컨텍스트 생성
         DamageContext ctx = new DamageContext(attacker, victim, attackerStats, victimStats);
         ctx.addTag("PHYSICAL"); // 기본 물리 공격
+        ctx.setAttackerHandle(attackerEntity.getHandle());
+        ctx.setVictimHandle(victimEntity.getHandle());
 
         // 상태 이상 체크: 취약 적용
         if (statusEffectManager.isVulnerable(victim)) {
@@ -107,7 +141,8 @@ public class DamageListener implements Listener {
         }
 
         // 4. 공격 데미지 계산 (Attack Phase)
-        double rawDamage = damageCalculator.calculate(ctx);
+        // 피해 이벤트는 방어 계산 후 7단계에서 한 번만 발생 (원본/최종 피해를 모두 담음)
+        double rawDamage = damageCalculator.calculateRaw(ctx);
 
         // 5. 방어 계산 (Defense Phase)
         double mitigatedDamage = defenseCalculator.applyDefense(ctx, rawDamage);
@@ -119,13 +154,10 @@ public class DamageListener implements Listener {
         }
 
         // 5.2 보호막(Barrier) 적용
-        SanctuaryEntity victimEntity = statManager.getCore().getEntityManager().get(victim.getUniqueId());
-        if (victimEntity != null) {
-            com.sanctuary.core.ecs.component.StateComponent stateComp = victimEntity
-                    .getComponent(com.sanctuary.core.ecs.component.StateComponent.class);
-            if (stateComp != null && stateComp.hasBarrier()) {
-                mitigatedDamage = stateComp.damageBarrier(mitigatedDamage);
-            }
+        com.sanctuary.core.ecs.component.StateComponent stateComp = victimEntity
+                .getComponent(com.sanctuary.core.ecs.component.StateComponent.class);
+        if (stateComp != null && stateComp.hasBarrier()) {
+            mitigatedDamage = stateComp.damageBarrier(mitigatedDamage);
         }
 
         // 6. 유니크 아이템 onHit 스크립트 실행
@@ -135,24 +167,34 @@ public class DamageListener implements Listener {
 
         // 7. CombatEventBus로 이벤트 발생
         if (eventBus != null) {
-            CombatContext combatCtx = CombatContext.builder()
-                    .attacker(statManager.getCore().getEntityManager().get(attacker.getUniqueId()))
+            // 풀링된 컨텍스트/이벤트: 발생이 끝나면 반환되므로 리스너는 보관하지 않아야 함
+            CombatContext combatCtx = CombatEventPool.acquireContext()
+                    .attacker(attackerEntity)
                     .victim(victimEntity)
-                    .skillCoefficient(1.0)
-                    .build();
+                    .attackerStats(ctx.getAttackerSnapshot())
+                    .victimStats(ctx.getVictimSnapshot())
+                    .skillCoefficient(ctx.getSkillCoefficient());
+            for (String tag : ctx.getTags()) {
+                combatCtx.addTag(tag);
+            }
 
-            DamageDealtEvent damageEvent = new DamageDealtEvent(combatCtx, rawDamage)
+            DamageDealtEvent damageEvent = CombatEventPool.acquireDamageEvent(combatCtx, rawDamage)
                     .finalDamage(mitigatedDamage)
                     .damageType("PHYSICAL")
                     .critical(ctx.isCritical())
                     .overpower(ctx.isOverpower())
-                    .vulnerable(ctx.isVulnerable());
+                    .vulnerable(ctx.isVulnerable())
+                    .luaCalculated(ctx.isLuaCalculated());
 
-            boolean cancelled = eventBus.fire(damageEvent);
-            if (cancelled) {
-                return; // 이벤트가 취소됨
+            try {
+                boolean cancelled = eventBus.fire(damageEvent);
+                if (cancelled) {
+                    return; // 이벤트가 취소됨
+                }
+                mitigatedDamage = damageEvent.getFinalDamage();
+            } finally {
+                CombatEventPool.release(damageEvent);
             }
-            mitigatedDamage = damageEvent.getFinalDamage();
         }
 
         // 8. 최종 데미지 적용
@@ -208,28 +250,29 @@ public class DamageListener implements Listener {
             return damage;
         }
 
+        LuaTable context = ON_HIT.acquire();
+        LuaTable playerTable = ON_HIT_PLAYER.acquire();
+        LuaTable targetTable = ON_HIT_TARGET.acquire();
         try {
-            LuaTable context = new LuaTable();
-
             // 플레이어 정보
-            LuaTable playerTable = new LuaTable();
-            playerTable.set("uuid", attacker.getUniqueId().toString());
-            playerTable.set("name", attacker.getName());
-            context.set("player", playerTable);
+            playerTable.rawset(K_PLAYER_ID, LuaValue.valueOf(ctx.getAttackerHandle()));
+            playerTable.rawset(K_PLAYER_UUID, LuaValue.valueOf(attacker.getUniqueId().toString()));
+            playerTable.rawset(K_PLAYER_NAME, LuaValue.valueOf(attacker.getName()));
+            context.rawset(K_PLAYER, playerTable);
 
             // 대상 정보
-            LuaTable targetTable = new LuaTable();
-            targetTable.set("uuid", victim.getUniqueId().toString());
-            targetTable.set("type", victim.getType().name());
-            targetTable.set("health", victim.getHealth());
-            context.set("target", targetTable);
+            targetTable.rawset(K_TARGET_ID, LuaValue.valueOf(ctx.getVictimHandle()));
+            targetTable.rawset(K_TARGET_UUID, LuaValue.valueOf(victim.getUniqueId().toString()));
+            targetTable.rawset(K_TARGET_TYPE, LuaSchema.intern(victim.getType().name()));
+            targetTable.rawset(K_TARGET_HEALTH, LuaValue.valueOf(victim.getHealth()));
+            context.rawset(K_TARGET, targetTable);
 
             // 피해 정보
-            context.set("damage", damage);
-            context.set("isCrit", LuaValue.valueOf(ctx.isCritical()));
-            context.set("isOverpower", LuaValue.valueOf(ctx.isOverpower()));
+            context.rawset(K_DAMAGE, LuaValue.valueOf(damage));
+            context.rawset(K_IS_CRIT, LuaValue.valueOf(ctx.isCritical()));
+            context.rawset(K_IS_OVERPOWER, LuaValue.valueOf(ctx.isOverpower()));
 
-            LuaValue result = scriptEngine.callFunction(weapon.getOnHitScript(), context);
+            LuaValue result = scriptEngine.function(weapon.getOnHitScript()).call(context);
 
             // 반환값이 숫자면 피해량 수정
             if (result != null && result.isnumber()) {
@@ -237,6 +280,10 @@ public class DamageListener implements Listener {
             }
         } catch (Exception e) {
             // 스크립트 오류 무시
+        } finally {
+            ON_HIT.release(context);
+            ON_HIT_PLAYER.release(playerTable);
+            ON_HIT_TARGET.release(targetTable);
         }
 
         return damage;
@@ -256,21 +303,24 @@ public class DamageListener implements Listener {
         }
 
         try {
+            EntityManager entityManager = statManager.getCore().getEntityManager();
             LuaTable context = new LuaTable();
 
             // 플레이어 정보
             LuaTable playerTable = new LuaTable();
+            playerTable.set("id", entityManager.handleOf(killer));
             playerTable.set("uuid", killer.getUniqueId().toString());
             playerTable.set("name", killer.getName());
             context.set("player", playerTable);
 
             // 대상 정보
             LuaTable targetTable = new LuaTable();
+            targetTable.set("id", entityManager.handleOf(victim));
             targetTable.set("uuid", victim.getUniqueId().toString());
             targetTable.set("type", victim.getType().name());
             context.set("target", targetTable);
 
-            scriptEngine.callFunction(weapon.getOnKillScript(), context);
+            scriptEngine.function(weapon.getOnKillScript()).call(context);
         } catch (Exception e) {
             // 스크립트 오류 무시
         }
@@ -280,10 +330,11 @@ public class DamageListener implements Listener {
      * 데미지 인디케이터를 표시합니다.
      */
     private void showDamageIndicator(LivingEntity victim, double damage, DamageContext ctx) {
+        RandomGenerator random = SanctuaryRandom.current(SanctuaryRandom.Stream.COSMETIC);
         Location loc = victim.getLocation().add(
-                (Math.random() - 0.5) * 0.5,
-                victim.getHeight() + 0.5 + Math.random() * 0.3,
-                (Math.random() - 0.5) * 0.5);
+                (random.nextDouble() - 0.5) * 0.5,
+                victim.getHeight() + 0.5 + random.nextDouble() * 0.3,
+                (random.nextDouble() - 0.5) * 0.5);
 
         NamedTextColor color = NamedTextColor.WHITE;
         String suffix = "";
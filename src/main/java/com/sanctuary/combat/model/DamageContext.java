@@ -1,12 +1,17 @@
 package com.sanctuary.combat.model;
 
 import com.sanctuary.combat.stat.AttributeContainer;
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import com.sanctuary.core.ecs.EntityHandle;
+import com.sanctuary.core.random.SanctuaryRandom;
 import org.bukkit.entity.LivingEntity;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 
 /**
  * DamageContext
@@ -54,10 +59,18 @@ public class DamageContext {
     private final LivingEntity attacker;
     private final LivingEntity victim;
 
-    // 스냅샷된 스탯
+    // ECS 엔티티 핸들 (스크립트 전달용, 미등록 엔티티는 EntityHandle.NONE)
+    private int attackerHandle = 0;
+    private int victimHandle = 0;
+
+    // 라이브 스탯 (Lua 훅 등이 수정할 수 있음)
     private final AttributeContainer attackerStats;
     private final AttributeContainer victimStats;
 
+    // 타격 시작 시 캡처한 불변 스탯 스냅샷 (계산기/방어/스크립트/이벤트가 공유)
+    private final CombatStatSnapshot attackerSnapshot;
+    private final CombatStatSnapshot victimSnapshot;
+
     // 스킬 계수 (Skill Coefficient)
     private double skillCoefficient = 1.0;
 
@@ -67,6 +80,9 @@ public class DamageContext {
     private boolean isVulnerable = false;
     private boolean isLuckyHit = false;
 
+    // 공격 데미지를 Lua 스크립트가 계산했는지 여부 (false면 Java 공식)
+    private boolean luaCalculated = false;
+
     // 확률
     private double critChance = 0.05; // 기본 5%
     private double overpowerChance = 0.03; // 기본 3%
@@ -77,10 +93,11 @@ public class DamageContext {
     private double vulnerableMultiplier = 1.2; // 기본 120%
     private double overpowerBonus = 0.0; // 추가 제압 피해
 
-    // 피해 버킷 (가산)
-    private final Map<DamageBucket, Double> additiveBuckets = new EnumMap<>(DamageBucket.class);
-    // 피해 버킷 (곱셈)
-    private final Map<DamageBucket, Double> multiplicativeBuckets = new EnumMap<>(DamageBucket.class);
+    private static final DamageBucket[] BUCKETS = DamageBucket.values();
+
+    // 피해 버킷 (ordinal 인덱스, 가산 기본값 0 / 곱셈 기본값 1.0)
+    private final double[] additiveBuckets = new double[BUCKETS.length];
+    private final double[] multiplicativeBuckets = new double[BUCKETS.length];
 
     // 최종 계산 결과
     private double baseDamage = 0;
@@ -99,13 +116,27 @@ public class DamageContext {
         this.victim = victim;
         this.attackerStats = attackerStats;
         this.victimStats = victimStats;
+        this.attackerSnapshot = attackerStats != null ? attackerStats.snapshot() : null;
+        this.victimSnapshot = victimStats != null ? victimStats.snapshot() : null;
+        initMultiplicativeBuckets();
+    }
 
+    /**
+     * 이미 캡처된 스냅샷으로 컨텍스트를 만듭니다. (엔티티 없음, 전투 저널 리플레이용)
+     */
+    public DamageContext(CombatStatSnapshot attackerSnapshot, CombatStatSnapshot victimSnapshot) {
+        this.attacker = null;
+        this.victim = null;
+        this.attackerStats = null;
+        this.victimStats = null;
+        this.attackerSnapshot = attackerSnapshot;
+        this.victimSnapshot = victimSnapshot;
+        initMultiplicativeBuckets();
+    }
+
+    private void initMultiplicativeBuckets() {
         // 곱셈 버킷 기본값 1.0
-        for (DamageBucket bucket : DamageBucket.values()) {
-            if (bucket.ordinal() >= DamageBucket.CLOSE_DAMAGE.ordinal()) {
-                multiplicativeBuckets.put(bucket, 1.0);
-            }
-        }
+        Arrays.fill(multiplicativeBuckets, 1.0);
     }
 
     // ===== 피해 버킷 API =====
@@ -114,36 +145,60 @@ public class DamageContext {
      * 가산 피해 버킷에 값을 추가합니다.
      */
     public void addAdditiveBucket(DamageBucket bucket, double value) {
-        additiveBuckets.merge(bucket, value, Double::sum);
+        additiveBuckets[bucket.ordinal()] += value;
     }
 
     /**
      * 곱셈 피해 버킷에 배율을 적용합니다.
      */
     public void addMultiplicativeBucket(DamageBucket bucket, double multiplier) {
-        multiplicativeBuckets.merge(bucket, multiplier, (a, b) -> a * b);
+        multiplicativeBuckets[bucket.ordinal()] *= multiplier;
     }
 
     /**
      * 가산 버킷의 총합을 계산합니다.
      */
     public double getTotalAdditive() {
-        return additiveBuckets.values().stream().mapToDouble(Double::doubleValue).sum();
+        double total = 0.0;
+        for (double value : additiveBuckets) {
+            total += value;
+        }
+        return total;
     }
 
     /**
      * 곱셈 버킷의 총 배율을 계산합니다.
      */
     public double getTotalMultiplicative() {
-        return multiplicativeBuckets.values().stream()
-                .reduce(1.0, (a, b) -> a * b);
+        double total = 1.0;
+        for (double value : multiplicativeBuckets) {
+            total *= value;
+        }
+        return total;
+    }
+
+    /**
+     * 이 타격의 판정에 사용할 난수 생성기를 반환합니다.
+     * 공격자 핸들(없으면 스냅샷 핸들)별 스트림을 사용하므로, 같은 시드에서 공격자의 판정 순서는
+     * 다른 엔티티의 타격 순서나 스레드와 무관하게 재현됩니다. 핸들이 없으면 스레드 스트림을 사용합니다.
+     *
+     * @return 판정 한 번에 사용할 생성기
+     */
+    public RandomGenerator combatRandom() {
+        int handle = attackerHandle != EntityHandle.NONE || attackerSnapshot == null
+                ? attackerHandle
+                : attackerSnapshot.handle();
+        if (handle == EntityHandle.NONE) {
+            return SanctuaryRandom.current(SanctuaryRandom.Stream.COMBAT);
+        }
+        return SanctuaryRandom.global().next(SanctuaryRandom.Stream.COMBAT, handle);
     }
 
     /**
      * 치명타 판정을 수행합니다.
      */
     public boolean rollCritical() {
-        if (Math.random() < critChance) {
+        if (combatRandom().nextDouble() < critChance) {
             this.isCritical = true;
             return true;
         }
@@ -154,7 +209,7 @@ public class DamageContext {
      * 제압 판정을 수행합니다.
      */
     public boolean rollOverpower() {
-        if (Math.random() < overpowerChance) {
+        if (combatRandom().nextDouble() < overpowerChance) {
             this.isOverpower = true;
             return true;
         }
@@ -165,7 +220,7 @@ public class DamageContext {
      * 행운의 적중 판정을 수행합니다.
      */
     public boolean rollLuckyHit() {
-        if (luckyHitChance > 0 && Math.random() < luckyHitChance) {
+        if (luckyHitChance > 0 && combatRandom().nextDouble() < luckyHitChance) {
             this.isLuckyHit = true;
             return true;
         }
@@ -182,6 +237,22 @@ public class DamageContext {
         return victim;
     }
 
+    public int getAttackerHandle() {
+        return attackerHandle;
+    }
+
+    public void setAttackerHandle(int attackerHandle) {
+        this.attackerHandle = attackerHandle;
+    }
+
+    public int getVictimHandle() {
+        return victimHandle;
+    }
+
+    public void setVictimHandle(int victimHandle) {
+        this.victimHandle = victimHandle;
+    }
+
     public AttributeContainer getAttackerStats() {
         return attackerStats;
     }
@@ -190,6 +261,14 @@ public class DamageContext {
         return victimStats;
     }
 
+    public CombatStatSnapshot getAttackerSnapshot() {
+        return attackerSnapshot;
+    }
+
+    public CombatStatSnapshot getVictimSnapshot() {
+        return victimSnapshot;
+    }
+
     public double getSkillCoefficient() {
         return skillCoefficient;
     }
@@ -230,6 +309,14 @@ public class DamageContext {
         isLuckyHit = luckyHit;
     }
 
+    public boolean isLuaCalculated() {
+        return luaCalculated;
+    }
+
+    public void setLuaCalculated(boolean luaCalculated) {
+        this.luaCalculated = luaCalculated;
+    }
+
     public double getCritChance() {
         return critChance;
     }
@@ -322,11 +409,30 @@ public class DamageContext {
         return this.tags.contains(tag);
     }
 
+    /**
+     * 값이 있는 가산 버킷의 사본을 반환합니다.
+     */
     public Map<DamageBucket, Double> getAdditiveBuckets() {
-        return additiveBuckets;
+        Map<DamageBucket, Double> result = new EnumMap<>(DamageBucket.class);
+        for (DamageBucket bucket : BUCKETS) {
+            if (additiveBuckets[bucket.ordinal()] != 0.0) {
+                result.put(bucket, additiveBuckets[bucket.ordinal()]);
+            }
+        }
+        return result;
     }
 
+    /**
+     * 곱셈 버킷(기본값 1.0 포함)과 배율이 적용된 다른 버킷의 사본을 반환합니다.
+     */
     public Map<DamageBucket, Double> getMultiplicativeBuckets() {
-        return multiplicativeBuckets;
+        Map<DamageBucket, Double> result = new EnumMap<>(DamageBucket.class);
+        for (DamageBucket bucket : BUCKETS) {
+            double value = multiplicativeBuckets[bucket.ordinal()];
+            if (bucket.ordinal() >= DamageBucket.CLOSE_DAMAGE.ordinal() || value != 1.0) {
+                result.put(bucket, value);
+            }
+        }
+        return result;
     }
 }
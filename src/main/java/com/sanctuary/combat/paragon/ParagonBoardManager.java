@@ -3,6 +3,7 @@ package com.sanctuary.combat.paragon;
 import com.sanctuary.core.ecs.EntityManager;
 import com.sanctuary.core.ecs.SanctuaryEntity;
 import com.sanctuary.core.ecs.component.AttributeComponent;
+import com.sanctuary.core.ecs.component.ModifierType;
 
 import java.util.*;
 import java.util.logging.Logger;
@@ -132,7 +133,7 @@ public class ParagonBoardManager {
         }
 
         // 스탯 부여
-        applyNodeStats(player, node);
+        applyNodeStats(player, boardId, node);
 
         logger.fine("[ParagonBoard] 노드 활성화: " + nodeId + " by " + player.getUuid());
         return ActivateResult.SUCCESS;
@@ -141,7 +142,7 @@ public class ParagonBoardManager {
     /**
      * 노드 스탯을 적용합니다.
      */
-    private void applyNodeStats(SanctuaryEntity player, ParagonNode node) {
+    private void applyNodeStats(SanctuaryEntity player, String boardId, ParagonNode node) {
         if (node.getStat() == null || node.getStat().equals("NONE") || node.getStat().equals("GLYPH")) {
             return;
         }
@@ -151,9 +152,15 @@ public class ParagonBoardManager {
             return;
         }
 
-        // 스탯 이름을 Stat enum으로 변환하여 적용
-        // TODO: StatValue에 추가하는 로직
-        // attr.addFlat(Stat.valueOf(node.getStat()), node.getValue());
+        // 노드 단위 출처로 등록하여 보드 초기화 시 노드별로 되돌릴 수 있게 함
+        attr.addModifier(nodeSource(boardId, node.getId()), node.getStat(), node.getValue(), ModifierType.BASE);
+    }
+
+    /**
+     * 정복자 노드의 스탯 수정자 출처 키를 반환합니다.
+     */
+    public static String nodeSource(String boardId, String nodeId) {
+        return "paragon:" + boardId + ":" + nodeId;
     }
 
     /**
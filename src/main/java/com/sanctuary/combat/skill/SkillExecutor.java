@@ -1,18 +1,36 @@
 package com.sanctuary.combat.skill;
 
+import com.sanctuary.combat.calc.DamageCalculator;
+import com.sanctuary.combat.model.DamageContext;
+import com.sanctuary.combat.stat.AttributeContainer;
+import com.sanctuary.combat.stat.StatManager;
 import com.sanctuary.core.ecs.EntityManager;
 import com.sanctuary.core.ecs.SanctuaryEntity;
 import com.sanctuary.core.ecs.component.classmech.ClassMechanic;
 import com.sanctuary.core.script.ScriptEngine;
+import com.sanctuary.core.script.ScriptFunction;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.luaj.vm2.LuaTable;
 import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.Varargs;
+import org.luaj.vm2.lib.VarArgFunction;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
  * 스킬 실행기
  * 스킬 사용 요청을 처리하고, 조건 검증 후 Lua 스크립트를 호출합니다.
+ *
+ * 광역 스킬 스크립트는 {@code ctx.dealAreaDamage(x, y, z, radius[, scale])}로 범위 안의 적 전체에 피해를 줍니다.
+ * 대상별 피해는 {@link DamageCalculator#calculateBatch(List)}로 한 번에 계산되므로
+ * 대상 수와 관계없이 Lua 데미지 계산 호출은 1회입니다.
  */
 public class SkillExecutor {
 
@@ -21,12 +39,33 @@ public class SkillExecutor {
     private final EntityManager entityManager;
     private final ScriptEngine scriptEngine;
 
+    // 광역 피해 계산 (없으면 dealAreaDamage가 피해를 주지 않음)
+    private final StatManager statManager;
+    private final DamageCalculator damageCalculator;
+
+    // 스킬 ID -> skill_<id> 함수 핸들
+    private final Map<String, ScriptFunction> skillFunctions = new ConcurrentHashMap<>();
+
+    /**
+     * 레거시 생성자 (광역 피해 계산 없이)
+     */
     public SkillExecutor(Logger logger, SkillTreeManager skillTreeManager,
             EntityManager entityManager, ScriptEngine scriptEngine) {
+        this(logger, skillTreeManager, entityManager, scriptEngine, null, null);
+    }
+
+    /**
+     * 새 생성자 (광역 피해 계산 포함)
+     */
+    public SkillExecutor(Logger logger, SkillTreeManager skillTreeManager,
+            EntityManager entityManager, ScriptEngine scriptEngine,
+            StatManager statManager, DamageCalculator damageCalculator) {
         this.logger = logger;
         this.skillTreeManager = skillTreeManager;
         this.entityManager = entityManager;
         this.scriptEngine = scriptEngine;
+        this.statManager = statManager;
+        this.damageCalculator = damageCalculator;
     }
 
     /**
@@ -113,6 +152,7 @@ public class SkillExecutor {
 
             // 플레이어 정보
             LuaTable playerTable = new LuaTable();
+            playerTable.set("id", entity.getHandle());
             playerTable.set("uuid", player.getUniqueId().toString());
             playerTable.set("name", player.getName());
             playerTable.set("x", player.getLocation().getX());
@@ -120,15 +160,75 @@ public class SkillExecutor {
             playerTable.set("z", player.getLocation().getZ());
             context.set("player", playerTable);
 
+            // 광역 피해: ctx.dealAreaDamage(x, y, z, radius[, scale]) -> 피해를 입은 대상 수
+            context.set("dealAreaDamage", new VarArgFunction() {
+                @Override
+                public Varargs invoke(Varargs args) {
+                    Location center = new Location(player.getWorld(),
+                            args.checkdouble(1), args.checkdouble(2), args.checkdouble(3));
+                    double coefficient = skill.getDamageAtRank(rank) * args.optdouble(5, 1.0);
+                    return valueOf(dealAreaDamage(player, entity, center, args.checkdouble(4), coefficient));
+                }
+            });
+
             // 스킬 실행 함수 호출
-            String functionName = "skill_" + skill.getId().toLowerCase();
-            scriptEngine.callFunction(functionName, context);
+            skillFunctions.computeIfAbsent(skill.getId(),
+                    id -> scriptEngine.function("skill_" + id.toLowerCase())).call(context);
 
         } catch (Exception e) {
             logger.warning("[SkillExecutor] 스킬 스크립트 오류: " + e.getMessage());
         }
     }
 
+    /**
+     * 중심 주변의 적 전체에게 스킬 피해를 줍니다.
+     * 대상별 컨텍스트는 시전자의 같은 스탯 스냅샷과 스킬 계수를 공유하며, 피해는 일괄 계산 1회로 구합니다.
+     * 피해 이벤트는 일괄 계산에서 대상별로 한 번씩 발생합니다.
+     *
+     * @param caster       시전자
+     * @param casterEntity 시전자 엔티티
+     * @param center       범위 중심
+     * @param radius       반경
+     * @param coefficient  스킬 피해 계수
+     * @return 피해를 입은 대상 수
+     */
+    public int dealAreaDamage(LivingEntity caster, SanctuaryEntity casterEntity, Location center,
+            double radius, double coefficient) {
+        World world = center.getWorld();
+        if (damageCalculator == null || statManager == null || world == null) {
+            return 0;
+        }
+
+        List<LivingEntity> targets = new ArrayList<>();
+        for (LivingEntity target : world.getNearbyLivingEntities(center, radius)) {
+            if (target != caster && !(target instanceof Player) && !target.isDead()) {
+                targets.add(target);
+            }
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // 시전자 스냅샷은 한 번만 캡처해 모든 대상이 공유 (DamageContext가 캐시된 스냅샷을 재사용)
+        AttributeContainer casterStats = statManager.getStats(casterEntity);
+        List<DamageContext> contexts = new ArrayList<>(targets.size());
+        for (LivingEntity target : targets) {
+            SanctuaryEntity targetEntity = entityManager.getOrCreate(target);
+            DamageContext ctx = new DamageContext(caster, target, casterStats, statManager.getStats(targetEntity));
+            ctx.setAttackerHandle(casterEntity.getHandle());
+            ctx.setVictimHandle(targetEntity.getHandle());
+            ctx.setSkillCoefficient(coefficient);
+            contexts.add(ctx);
+        }
+
+        double[] damage = damageCalculator.calculateBatch(contexts);
+        for (int i = 0; i < damage.length; i++) {
+            LivingEntity target = targets.get(i);
+            target.setHealth(Math.max(0, target.getHealth() - damage[i]));
+        }
+        return damage.length;
+    }
+
     /**
      * 스킬 쿨타임을 초기화합니다.
      */
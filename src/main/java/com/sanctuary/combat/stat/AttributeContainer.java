@@ -4,40 +4,105 @@ package com.sanctuary.combat.stat;
  * 각 엔티티(플레이어/몬스터)가 가지는 스탯 컨테이너.
  * Base(기본), Additive(합연산), Multiplicative(곱연산) 레이어를 분리하여 관리합니다.
  * SanctuaryCore의 AttributeComponent를 래핑합니다.
+ *
+ * {@link StatManager}가 반환하는 컨테이너는 엔티티 핸들에 묶여 캐시되는 뷰이므로,
+ * 호출자가 보관하거나 반복 조회해도 추가 할당이 없습니다.
  */
 public class AttributeContainer {
 
     private final com.sanctuary.core.ecs.component.AttributeComponent component;
+    private final int handle; // 묶인 엔티티 핸들 (없으면 EntityHandle.NONE)
+
+    // 마지막으로 캡처한 전투 스냅샷 (스탯 버전이 같으면 재사용)
+    private CombatStatSnapshot snapshot;
 
     public AttributeContainer() {
         this(new com.sanctuary.core.ecs.component.AttributeComponent());
     }
 
     public AttributeContainer(com.sanctuary.core.ecs.component.AttributeComponent component) {
+        this(component, com.sanctuary.core.ecs.EntityHandle.NONE);
+    }
+
+    AttributeContainer(com.sanctuary.core.ecs.component.AttributeComponent component, int handle) {
         this.component = component;
+        this.handle = handle;
     }
 
     /**
      * 특정 스탯의 최종 값을 조회합니다.
      */
     public double getValue(Stat stat) {
-        return component.getValue(stat.name());
+        return component.getValue(stat);
     }
 
     public void setBase(Stat stat, double value) {
-        component.setBase(stat.name(), value);
+        component.setBase(stat, value);
     }
 
     public void addBase(Stat stat, double value) {
-        component.addModifier(stat.name(), value, com.sanctuary.core.ecs.component.ModifierType.BASE);
+        component.addModifier(stat, value, com.sanctuary.core.ecs.component.ModifierType.BASE);
     }
 
     public void addAdditive(Stat stat, double value) {
-        component.addModifier(stat.name(), value, com.sanctuary.core.ecs.component.ModifierType.ADDITIVE);
+        component.addModifier(stat, value, com.sanctuary.core.ecs.component.ModifierType.ADDITIVE);
     }
 
     public void addMultiplicative(Stat stat, double value) {
-        component.addModifier(stat.name(), value, com.sanctuary.core.ecs.component.ModifierType.MULTIPLICATIVE);
+        component.addModifier(stat, value, com.sanctuary.core.ecs.component.ModifierType.MULTIPLICATIVE);
+    }
+
+    // ===== 출처 추적 수정자 =====
+
+    /**
+     * 출처와 함께 수정자를 추가합니다. (예: "item:UUID", "paragon:보드:노드")
+     */
+    public void addModifier(String source, Stat stat, double value,
+            com.sanctuary.core.ecs.component.ModifierType type) {
+        component.addModifier(source, stat, value, type);
+    }
+
+    /**
+     * 출처와 함께 문자열 키 스탯에 수정자를 추가합니다. (어픽스/스크립트 스탯용)
+     */
+    public void addModifier(String source, String statKey, double value,
+            com.sanctuary.core.ecs.component.ModifierType type) {
+        component.addModifier(source, statKey, value, type);
+    }
+
+    /**
+     * 출처가 적용한 모든 수정자를 되돌립니다.
+     */
+    public boolean removeSource(String source) {
+        return component.removeSource(source);
+    }
+
+    public boolean hasSource(String source) {
+        return component.hasSource(source);
+    }
+
+    /**
+     * 스탯 버전을 반환합니다. 스탯이 바뀔 때마다 증가하므로 캐시 무효화 비교에 사용합니다.
+     */
+    public long getVersion() {
+        return component.getVersion();
+    }
+
+    /**
+     * 현재 스탯의 전투 스냅샷을 반환합니다.
+     * 마지막 캡처 이후 스탯 버전이 바뀌지 않았으면 같은 인스턴스를 반환합니다.
+     *
+     * 대기 중인 스탯 재계산을 이 지점에서 캐시에 반영하므로 엔티티를 소유한 메인 스레드에서 호출해야 합니다.
+     * 워커 스레드와 비동기 리스너는 여기서 만든 불변 스냅샷을 읽습니다.
+     */
+    public CombatStatSnapshot snapshot() {
+        component.recalculate();
+        CombatStatSnapshot current = snapshot;
+        if (current == null || current.version() != component.getVersion()) {
+            current = CombatStatSnapshot.capture(this);
+            snapshot = current;
+        }
+        return current;
     }
 
     /**
@@ -47,6 +112,13 @@ public class AttributeContainer {
         component.clear();
     }
 
+    /**
+     * 뷰가 묶인 엔티티 핸들을 반환합니다. (독립 컨테이너면 EntityHandle.NONE)
+     */
+    public int getHandle() {
+        return handle;
+    }
+
     public com.sanctuary.core.ecs.component.AttributeComponent getComponent() {
         return component;
     }
@@ -0,0 +1,151 @@
+package com.sanctuary.combat.stat;
+
+import com.sanctuary.core.script.LuaSchema;
+import org.luaj.vm2.LuaString;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+
+/**
+ * 타격 한 번에 사용하는 전투 스탯의 불변 스냅샷입니다.
+ *
+ * 공격자/피격자마다 타격 시작 시 한 번 캡처되어 데미지 계산기, 방어 계산기, Lua 테이블,
+ * 이벤트 페이로드가 모두 같은 값을 읽습니다. 타격 도중 Lua 훅이 버프를 적용해도
+ * 이미 캡처된 스냅샷은 바뀌지 않습니다.
+ *
+ * {@link AttributeContainer#snapshot()}은 스탯 버전이 같으면 캐시된 스냅샷을 반환하므로,
+ * 광역 공격에서 공격자 스냅샷은 모든 피격자에 대해 재사용됩니다.
+ */
+public record CombatStatSnapshot(
+        int handle,
+        long version,
+        // 공격
+        double weaponDamage,
+        double strength,
+        double critChance,
+        double critDamage,
+        double overpowerDamage,
+        double vulnerableDamage,
+        double physicalDamage,
+        double fireDamage,
+        double damageVsClose,
+        double damageVsDistant,
+        double damageVsCc,
+        double globalDamageMulti,
+        // 방어
+        double maxHp,
+        double armor,
+        double resistanceFire,
+        double resistanceCold,
+        double resistanceLightning,
+        double resistancePoison,
+        double resistanceShadow) {
+
+    /** Lua 스탯 테이블 스키마 (damage_calculator.lua가 사용하는 스탯 키, uuid는 엔티티를 아는 호출자가 채움) */
+    public static final LuaSchema LUA_SCHEMA = LuaSchema.of("stats",
+            "id", "uuid", "WEAPON_DAMAGE", "STRENGTH", "CRIT_CHANCE", "CRIT_DAMAGE", "OVERPOWER_DAMAGE", "MAX_HP",
+            "DAMAGE_TO_CLOSE", "DAMAGE_TO_DISTANT", "DAMAGE_TO_CC", "VULNERABLE_DAMAGE", "ARMOR");
+
+    private static final LuaString K_ID = LUA_SCHEMA.key("id");
+    private static final LuaString K_WEAPON_DAMAGE = LUA_SCHEMA.key("WEAPON_DAMAGE");
+    private static final LuaString K_STRENGTH = LUA_SCHEMA.key("STRENGTH");
+    private static final LuaString K_CRIT_CHANCE = LUA_SCHEMA.key("CRIT_CHANCE");
+    private static final LuaString K_CRIT_DAMAGE = LUA_SCHEMA.key("CRIT_DAMAGE");
+    private static final LuaString K_OVERPOWER_DAMAGE = LUA_SCHEMA.key("OVERPOWER_DAMAGE");
+    private static final LuaString K_MAX_HP = LUA_SCHEMA.key("MAX_HP");
+    private static final LuaString K_DAMAGE_TO_CLOSE = LUA_SCHEMA.key("DAMAGE_TO_CLOSE");
+    private static final LuaString K_DAMAGE_TO_DISTANT = LUA_SCHEMA.key("DAMAGE_TO_DISTANT");
+    private static final LuaString K_DAMAGE_TO_CC = LUA_SCHEMA.key("DAMAGE_TO_CC");
+    private static final LuaString K_VULNERABLE_DAMAGE = LUA_SCHEMA.key("VULNERABLE_DAMAGE");
+    private static final LuaString K_ARMOR = LUA_SCHEMA.key("ARMOR");
+
+    /**
+     * 컨테이너의 현재 값을 캡처합니다.
+     * 캐시가 필요하면 {@link AttributeContainer#snapshot()}을 사용하십시오.
+     *
+     * @param stats 스탯 컨테이너
+     * @return 새 스냅샷
+     */
+    public static CombatStatSnapshot capture(AttributeContainer stats) {
+        return new CombatStatSnapshot(
+                stats.getHandle(),
+                stats.getVersion(),
+                stats.getValue(Stat.WEAPON_DAMAGE),
+                stats.getValue(Stat.STRENGTH),
+                stats.getValue(Stat.CRIT_CHANCE),
+                stats.getValue(Stat.CRIT_DAMAGE),
+                stats.getValue(Stat.OVERPOWER_DAMAGE),
+                stats.getValue(Stat.VULNERABLE_DAMAGE),
+                stats.getValue(Stat.PHYSICAL_DAMAGE),
+                stats.getValue(Stat.FIRE_DAMAGE),
+                stats.getValue(Stat.DAMAGE_VS_CLOSE),
+                stats.getValue(Stat.DAMAGE_VS_DISTANT),
+                stats.getValue(Stat.DAMAGE_VS_CC),
+                stats.getValue(Stat.GLOBAL_DAMAGE_MULTI),
+                stats.getValue(Stat.MAX_HP),
+                stats.getValue(Stat.ARMOR),
+                stats.getValue(Stat.RESISTANCE_FIRE),
+                stats.getValue(Stat.RESISTANCE_COLD),
+                stats.getValue(Stat.RESISTANCE_LIGHTNING),
+                stats.getValue(Stat.RESISTANCE_POISON),
+                stats.getValue(Stat.RESISTANCE_SHADOW));
+    }
+
+    /**
+     * 원소 태그에 해당하는 저항을 반환합니다.
+     *
+     * @param element 원소 태그 (FIRE, COLD, LIGHTNING, POISON, SHADOW)
+     * @return 저항 값 (해당 없으면 0)
+     */
+    public double resistance(String element) {
+        switch (element) {
+            case "FIRE":
+                return resistanceFire;
+            case "COLD":
+                return resistanceCold;
+            case "LIGHTNING":
+                return resistanceLightning;
+            case "POISON":
+                return resistancePoison;
+            case "SHADOW":
+                return resistanceShadow;
+            default:
+                return 0.0;
+        }
+    }
+
+    /**
+     * 스냅샷을 Lua 스크립트용 테이블로 변환합니다.
+     * 키는 damage_calculator.lua가 사용하는 스탯 키를 따릅니다.
+     *
+     * @return 새 LuaTable
+     */
+    public LuaTable toLuaTable() {
+        return writeTo(new LuaTable());
+    }
+
+    /**
+     * 스냅샷 값을 테이블에 씁니다. {@link #LUA_SCHEMA}에서 가져온 풀 테이블을 채울 때 사용합니다.
+     *
+     * @param table 대상 테이블
+     * @return table
+     */
+    public LuaTable writeTo(LuaTable table) {
+        table.rawset(K_ID, LuaValue.valueOf(handle));
+        table.rawset(K_WEAPON_DAMAGE, LuaValue.valueOf(weaponDamage));
+        table.rawset(K_STRENGTH, LuaValue.valueOf(strength));
+        table.rawset(K_CRIT_CHANCE, LuaValue.valueOf(critChance));
+        table.rawset(K_CRIT_DAMAGE, LuaValue.valueOf(critDamage));
+        table.rawset(K_OVERPOWER_DAMAGE, LuaValue.valueOf(overpowerDamage));
+        table.rawset(K_MAX_HP, LuaValue.valueOf(maxHp));
+
+        // 조건부 피해
+        table.rawset(K_DAMAGE_TO_CLOSE, LuaValue.valueOf(damageVsClose));
+        table.rawset(K_DAMAGE_TO_DISTANT, LuaValue.valueOf(damageVsDistant));
+        table.rawset(K_DAMAGE_TO_CC, LuaValue.valueOf(damageVsCc));
+        table.rawset(K_VULNERABLE_DAMAGE, LuaValue.valueOf(vulnerableDamage));
+
+        // 방어
+        table.rawset(K_ARMOR, LuaValue.valueOf(armor));
+        return table;
+    }
+}
@@ -1,8 +1,13 @@
 package com.sanctuary.combat.stat;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * 디아블로 4 스타일의 스탯 정의 (Season 6 기준)
  * stats.json과 동기화됨
+ *
+ * {@link #ordinal()}은 AttributeComponent의 기본 배열 인덱스로 사용됩니다.
  */
 public enum Stat {
 
@@ -116,5 +121,37 @@ public enum Stat {
     /** 행운의 적중: 체력 회복 */
     LUCKY_HIT_HEAL,
     /** 행운의 적중: 자원 회복 */
-    LUCKY_HIT_RESOURCE
+    LUCKY_HIT_RESOURCE;
+
+    /** 전체 스탯 수 (배열 크기) */
+    public static final int COUNT = values().length;
+
+    private static final Stat[] VALUES = values();
+    private static final Map<String, Stat> BY_KEY = new HashMap<>();
+
+    static {
+        for (Stat stat : VALUES) {
+            BY_KEY.put(stat.name(), stat);
+        }
+    }
+
+    /**
+     * 스탯 키로 Stat을 조회합니다. 예외를 던지는 {@link #valueOf(String)}와 달리 없으면 null을 반환합니다.
+     *
+     * @param key 스탯 키 (예: "STRENGTH")
+     * @return Stat 또는 null (스크립트 정의 스탯)
+     */
+    public static Stat byKey(String key) {
+        return key != null ? BY_KEY.get(key) : null;
+    }
+
+    /**
+     * 인덱스로 Stat을 조회합니다. ({@code values()}와 달리 배열을 복사하지 않음)
+     *
+     * @param ordinal 인덱스
+     * @return Stat
+     */
+    public static Stat byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
 }
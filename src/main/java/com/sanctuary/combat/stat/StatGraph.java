@@ -0,0 +1,315 @@
+package com.sanctuary.combat.stat;
+
+import com.sanctuary.core.model.StatData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * 파생 스탯 의존성 그래프입니다.
+ * stats.json의 {@code scaling} 항목(입력 스탯 -> 대상 스탯별 계수)으로부터 구성됩니다.
+ *
+ * 예시 (stats.json):
+ *
+ * <pre>
+ * { "id": "INTELLIGENCE", "scaling": { "all_resistance": 0.0005 } },
+ * { "id": "ALL_RESISTANCE", "scaling": { "resistance_fire": 1.0, ... } }
+ * </pre>
+ *
+ * 파생 값 규칙:
+ * - 대상 스탯의 최종 값 = base * (1 + additive) * multiplicative + Σ(입력 최종 값 * 계수)
+ * - 파생 값은 입력의 최종 값으로부터 계산되므로 입력 스탯의 모든 수정자가 반영됩니다.
+ * - 순환 의존성은 허용되지 않습니다. (구성 시 {@link IllegalArgumentException})
+ *
+ * AttributeComponent는 입력 스탯이 바뀌면 {@link #dependentMask(int)}로 전이적 의존 스탯만
+ * 재계산 대상으로 표시하고, {@link #topologicalOrder()} 순서로 재계산합니다.
+ *
+ * 그래프는 불변이며, 데이터 리로드 시 새 그래프를 {@link #install(StatGraph)}로 교체합니다.
+ */
+public final class StatGraph {
+
+    /** 의존성이 없는 그래프 */
+    public static final StatGraph EMPTY = builder().build();
+
+    private static volatile StatGraph active = EMPTY;
+
+    // 대상 스탯 ordinal -> 입력 스탯 ordinal / 계수
+    private final int[][] inputs;
+    private final double[][] coefficients;
+
+    // 입력 스탯 ordinal -> 전이적 의존 스탯 비트 마스크 (AttributeComponent dirty 비트와 같은 레이아웃)
+    private final long[][] dependentMasks;
+
+    // 입력이 출력보다 먼저 오는 전체 스탯 순서
+    private final int[] order;
+
+    private final int edgeCount;
+
+    private StatGraph(int[][] inputs, double[][] coefficients, long[][] dependentMasks, int[] order, int edgeCount) {
+        this.inputs = inputs;
+        this.coefficients = coefficients;
+        this.dependentMasks = dependentMasks;
+        this.order = order;
+        this.edgeCount = edgeCount;
+    }
+
+    // ===== 활성 그래프 =====
+
+    /**
+     * 현재 적용 중인 그래프를 반환합니다.
+     *
+     * @return 활성 그래프 (설치 전에는 {@link #EMPTY})
+     */
+    public static StatGraph active() {
+        return active;
+    }
+
+    /**
+     * 그래프를 활성화합니다.
+     * 기존 AttributeComponent는 다음 조회 시 새 그래프로 파생 값을 다시 계산합니다.
+     *
+     * @param graph 새 그래프 (null이면 {@link #EMPTY})
+     */
+    public static void install(StatGraph graph) {
+        active = graph != null ? graph : EMPTY;
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 대상 스탯의 입력 스탯 ordinal 배열을 반환합니다. (내부 배열이므로 수정 금지)
+     *
+     * @param ordinal 대상 스탯 ordinal
+     * @return 입력 스탯 ordinal 배열 (없으면 빈 배열)
+     */
+    public int[] inputsOf(int ordinal) {
+        return inputs[ordinal];
+    }
+
+    /**
+     * {@link #inputsOf(int)}와 같은 순서의 계수 배열을 반환합니다. (내부 배열이므로 수정 금지)
+     *
+     * @param ordinal 대상 스탯 ordinal
+     * @return 계수 배열
+     */
+    public double[] coefficientsOf(int ordinal) {
+        return coefficients[ordinal];
+    }
+
+    /**
+     * 입력 스탯이 바뀌었을 때 다시 계산해야 하는 전이적 의존 스탯 마스크를 반환합니다.
+     * (내부 배열이므로 수정 금지)
+     *
+     * @param ordinal 입력 스탯 ordinal
+     * @return 64비트 워드 단위 비트 마스크 (의존 스탯이 없으면 null)
+     */
+    public long[] dependentMask(int ordinal) {
+        return dependentMasks[ordinal];
+    }
+
+    /**
+     * 입력 스탯이 항상 출력 스탯보다 앞에 오는 전체 스탯 순서를 반환합니다. (내부 배열이므로 수정 금지)
+     *
+     * @return 위상 정렬된 ordinal 배열
+     */
+    public int[] topologicalOrder() {
+        return order;
+    }
+
+    /**
+     * 간선(입력 -> 대상) 수를 반환합니다.
+     *
+     * @return 간선 수
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * 의존성이 하나도 없는지 확인합니다.
+     *
+     * @return 비어 있으면 true
+     */
+    public boolean isEmpty() {
+        return edgeCount == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "StatGraph{edges=" + edgeCount + "}";
+    }
+
+    // ===== 구성 =====
+
+    /**
+     * stats.json 데이터로부터 그래프를 구성합니다.
+     * Stat에 없는 스탯(스크립트 정의 스탯)으로의 계수는 건너뜁니다.
+     *
+     * @param stats  스탯 데이터 목록
+     * @param logger 건너뛴 항목을 기록할 로거 (null 허용)
+     * @return 그래프
+     * @throws IllegalArgumentException 순환 의존성이 있는 경우
+     */
+    public static StatGraph fromStatData(Collection<StatData> stats, Logger logger) {
+        Builder builder = builder();
+        for (StatData data : stats) {
+            Map<String, Double> scaling = data.getScaling();
+            if (scaling == null || scaling.isEmpty()) {
+                continue;
+            }
+            Stat from = Stat.byKey(normalize(data.getId()));
+            if (from == null) {
+                if (logger != null) {
+                    logger.fine("[StatGraph] Stat에 없는 입력 스탯 건너뜀: " + data.getId());
+                }
+                continue;
+            }
+            for (Map.Entry<String, Double> entry : scaling.entrySet()) {
+                Stat to = Stat.byKey(normalize(entry.getKey()));
+                if (to == null || entry.getValue() == null) {
+                    if (logger != null) {
+                        logger.fine("[StatGraph] Stat에 없는 대상 스탯 건너뜀: " + data.getId() + " -> " + entry.getKey());
+                    }
+                    continue;
+                }
+                builder.scale(from, to, entry.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    private static String normalize(String key) {
+        return key != null ? key.toUpperCase(Locale.ROOT) : null;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 그래프 빌더입니다.
+     */
+    public static final class Builder {
+        private final List<List<Integer>> inputs = new ArrayList<>(Stat.COUNT);
+        private final List<List<Double>> coefficients = new ArrayList<>(Stat.COUNT);
+
+        private Builder() {
+            for (int i = 0; i < Stat.COUNT; i++) {
+                inputs.add(new ArrayList<>(2));
+                coefficients.add(new ArrayList<>(2));
+            }
+        }
+
+        /**
+         * 입력 스탯의 최종 값 1당 대상 스탯에 더해질 계수를 지정합니다.
+         * 같은 간선을 다시 지정하면 계수가 합산됩니다.
+         *
+         * @param from        입력 스탯
+         * @param to          대상 스탯
+         * @param coefficient 계수
+         * @return this
+         */
+        public Builder scale(Stat from, Stat to, double coefficient) {
+            if (from == to) {
+                throw new IllegalArgumentException("스탯은 자기 자신에 의존할 수 없습니다: " + from);
+            }
+            List<Integer> targetInputs = inputs.get(to.ordinal());
+            int existing = targetInputs.indexOf(from.ordinal());
+            if (existing >= 0) {
+                List<Double> targetCoefficients = coefficients.get(to.ordinal());
+                targetCoefficients.set(existing, targetCoefficients.get(existing) + coefficient);
+            } else {
+                targetInputs.add(from.ordinal());
+                coefficients.get(to.ordinal()).add(coefficient);
+            }
+            return this;
+        }
+
+        /**
+         * 그래프를 생성합니다.
+         *
+         * @return 불변 그래프
+         * @throws IllegalArgumentException 순환 의존성이 있는 경우
+         */
+        public StatGraph build() {
+            int n = Stat.COUNT;
+            int[][] inputArray = new int[n][];
+            double[][] coefficientArray = new double[n][];
+            int edges = 0;
+            for (int i = 0; i < n; i++) {
+                List<Integer> in = inputs.get(i);
+                List<Double> co = coefficients.get(i);
+                inputArray[i] = new int[in.size()];
+                coefficientArray[i] = new double[co.size()];
+                for (int k = 0; k < in.size(); k++) {
+                    inputArray[i][k] = in.get(k);
+                    coefficientArray[i][k] = co.get(k);
+                }
+                edges += in.size();
+            }
+
+            int[] order = sort(inputArray);
+
+            // 위상 순서의 역순으로 전이적 의존 마스크 누적 (출력의 마스크가 먼저 완성됨)
+            int words = (n + 63) >>> 6;
+            long[][] masks = new long[n][];
+            long[][] outputs = new long[n][words];
+            for (int i = 0; i < n; i++) {
+                for (int input : inputArray[i]) {
+                    outputs[input][i >>> 6] |= 1L << i;
+                }
+            }
+            for (int k = n - 1; k >= 0; k--) {
+                int i = order[k];
+                long[] direct = outputs[i];
+                long[] closure = direct.clone();
+                boolean any = false;
+                for (int w = 0; w < words; w++) {
+                    long word = direct[w];
+                    while (word != 0) {
+                        int dependent = (w << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                        any = true;
+                        if (masks[dependent] != null) {
+                            for (int x = 0; x < words; x++) {
+                                closure[x] |= masks[dependent][x];
+                            }
+                        }
+                    }
+                }
+                masks[i] = any ? closure : null;
+            }
+
+            return new StatGraph(inputArray, coefficientArray, masks, order, edges);
+        }
+
+        private static int[] sort(int[][] inputArray) {
+            int n = inputArray.length;
+            int[] order = new int[n];
+            int[] state = new int[n]; // 0: 미방문, 1: 방문 중, 2: 완료
+            int[] size = {0};
+            for (int i = 0; i < n; i++) {
+                visit(i, inputArray, state, order, size);
+            }
+            return order;
+        }
+
+        private static void visit(int i, int[][] inputArray, int[] state, int[] order, int[] size) {
+            if (state[i] == 2) {
+                return;
+            }
+            if (state[i] == 1) {
+                throw new IllegalArgumentException("스탯 의존성 순환: " + Stat.byOrdinal(i));
+            }
+            state[i] = 1;
+            for (int input : inputArray[i]) {
+                visit(input, inputArray, state, order, size);
+            }
+            state[i] = 2;
+            order[size[0]++] = i;
+        }
+    }
+}
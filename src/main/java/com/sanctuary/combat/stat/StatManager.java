@@ -1,5 +1,9 @@
 package com.sanctuary.combat.stat;
 
+import com.sanctuary.core.ecs.EntityHandle;
+import com.sanctuary.core.ecs.SanctuaryEntity;
+import com.sanctuary.core.ecs.component.AttributeComponent;
+import java.util.Arrays;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
@@ -7,11 +11,19 @@ import org.bukkit.entity.Player;
  * StatManager
  * 엔티티별 AttributeContainer를 관리하고 제공하는 서비스입니다.
  * SanctuaryCore의 ECS 시스템과 연동합니다.
+ *
+ * AttributeContainer는 엔티티 핸들 인덱스로 캐시되는 엔티티 전용 뷰입니다.
+ * 같은 엔티티에 대한 반복 조회는 새 객체를 만들지 않고 같은 뷰를 반환하며,
+ * 엔티티가 제거되어 핸들 세대가 바뀌거나 AttributeComponent가 교체되면 뷰를 다시 만듭니다.
  */
 public class StatManager {
 
     private final com.sanctuary.core.SanctuaryCore core;
 
+    // 핸들 인덱스 -> 스탯 뷰 (쓰기는 viewLock, 읽기는 volatile 배열 스냅샷)
+    private final Object viewLock = new Object();
+    private volatile AttributeContainer[] views = new AttributeContainer[256];
+
     public StatManager(com.sanctuary.core.SanctuaryCore core) {
         this.core = core;
     }
@@ -25,24 +37,81 @@ public class StatManager {
      * SanctuaryCore의 ECS 시스템과 연동합니다.
      */
     public AttributeContainer getStats(LivingEntity entity) {
-        com.sanctuary.core.ecs.SanctuaryEntity sEntity = core.getEntityManager().getOrCreate(entity);
+        return getStats(core.getEntityManager().getOrCreate(entity));
+    }
+
+    /**
+     * 이미 조회한 SanctuaryEntity의 스탯 컨테이너를 가져옵니다.
+     * UUID 조회 없이 핸들 인덱스로 캐시된 뷰를 반환합니다.
+     *
+     * @param entity SanctuaryEntity
+     * @return 엔티티에 묶인 스탯 뷰
+     */
+    public AttributeContainer getStats(SanctuaryEntity entity) {
+        int handle = entity.getHandle();
+        AttributeComponent attrComp = entity.getComponent(AttributeComponent.class);
+
+        if (handle != EntityHandle.NONE && attrComp != null) {
+            AttributeContainer[] current = views;
+            int index = EntityHandle.indexOf(handle);
+            if (index < current.length) {
+                AttributeContainer view = current[index];
+                if (view != null && view.getHandle() == handle && view.getComponent() == attrComp) {
+                    return view;
+                }
+            }
+        }
 
-        com.sanctuary.core.ecs.component.AttributeComponent attrComp = sEntity
-                .getComponent(com.sanctuary.core.ecs.component.AttributeComponent.class);
         if (attrComp == null) {
-            attrComp = new com.sanctuary.core.ecs.component.AttributeComponent();
-            sEntity.attach(attrComp);
-            initializeDefaultStats(entity, new AttributeContainer(attrComp));
+            attrComp = new AttributeComponent();
+            entity.attach(attrComp);
+            if (entity.getBukkitEntity() instanceof LivingEntity living) {
+                initializeDefaultStats(living, new AttributeContainer(attrComp));
+            }
+        }
+
+        AttributeContainer view = new AttributeContainer(attrComp, handle);
+        if (handle != EntityHandle.NONE) {
+            cacheView(EntityHandle.indexOf(handle), view);
         }
+        return view;
+    }
+
+    /**
+     * 핸들로 스탯 컨테이너를 가져옵니다.
+     *
+     * @param handle 엔티티 핸들
+     * @return 스탯 뷰 또는 null (제거된 엔티티)
+     */
+    public AttributeContainer getStats(int handle) {
+        SanctuaryEntity entity = core.getEntityManager().get(handle);
+        return entity != null ? getStats(entity) : null;
+    }
 
-        return new AttributeContainer(attrComp);
+    private void cacheView(int index, AttributeContainer view) {
+        synchronized (viewLock) {
+            AttributeContainer[] current = views;
+            if (index >= current.length) {
+                current = Arrays.copyOf(current, Math.max(current.length * 2, index + 1));
+            }
+            current[index] = view;
+            views = current;
+        }
     }
 
     /**
      * 엔티티 제거 시 ECS에서도 정리 (필요시)
      */
     public void removeStats(LivingEntity entity) {
-        core.getEntityManager().remove(entity.getUniqueId());
+        SanctuaryEntity removed = core.getEntityManager().remove(entity.getUniqueId());
+        if (removed != null && removed.getHandle() != EntityHandle.NONE) {
+            synchronized (viewLock) {
+                int index = EntityHandle.indexOf(removed.getHandle());
+                if (index < views.length) {
+                    views[index] = null;
+                }
+            }
+        }
     }
 
     /**
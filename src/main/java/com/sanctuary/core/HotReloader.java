@@ -0,0 +1,217 @@
+package com.sanctuary.core;
+
+import com.sanctuary.combat.calc.DamageFormula;
+import com.sanctuary.combat.stat.StatGraph;
+import com.sanctuary.core.data.DataSnapshot;
+import com.sanctuary.core.data.JsonDataLoader;
+import com.sanctuary.core.script.ScriptEngine;
+import org.bukkit.Bukkit;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+/**
+ * 스크립트/데이터 파일 변경을 감시하여 바뀐 파일만 다시 로드합니다.
+ *
+ * 처리 흐름:
+ * - 감시 스레드가 scripts/, data/ 폴더의 변경을 수집합니다. (편집기의 연속 저장은 짧게 모아서 처리)
+ * - Lua 파일은 감시 스레드에서 다시 컴파일하고, 메인 스레드에서는 {@link ScriptEngine#swap}으로 정의만 교체합니다.
+ * - JSON 파일은 감시 스레드에서 파싱(stats.json이면 파생 스탯 그래프, damage_formula.json이면 피해 공식까지 구성)하고,
+ * 메인 스레드에서는 새 {@link DataSnapshot}과 그래프/공식의 참조만 교체합니다.
+ *
+ * 아직 한 번도 로드되지 않은 스크립트는 건너뜁니다. (다음 호출 시 최신 파일이 로드됨)
+ * 컴파일/파싱에 실패하면 이전 버전을 유지합니다.
+ */
+public class HotReloader {
+
+    // 연속 이벤트를 모으는 시간
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    private final JsonDataLoader dataLoader;
+    private final ScriptEngine scriptEngine;
+    private final Logger logger;
+    private final Executor mainThread;
+    private final Path scriptFolder;
+    private final Path dataFolder;
+
+    private WatchService watchService;
+    private Thread thread;
+    private volatile boolean running;
+
+    public HotReloader(SanctuaryCore core, JsonDataLoader dataLoader) {
+        this(dataLoader, core.getScriptEngine(), core.getPlugin().getLogger(),
+                task -> Bukkit.getScheduler().runTask(core.getPlugin(), task));
+    }
+
+    /**
+     * 교체 작업을 실행할 메인 스레드 실행기를 지정해 생성합니다.
+     *
+     * @param dataLoader   데이터 로더
+     * @param scriptEngine 스크립트 엔진
+     * @param logger       로거
+     * @param mainThread   교체 작업을 제출 순서대로 실행하는 실행기
+     */
+    HotReloader(JsonDataLoader dataLoader, ScriptEngine scriptEngine, Logger logger, Executor mainThread) {
+        this.dataLoader = dataLoader;
+        this.scriptEngine = scriptEngine;
+        this.logger = logger;
+        this.mainThread = mainThread;
+        this.scriptFolder = scriptEngine.getScriptFolder().toPath().toAbsolutePath();
+        this.dataFolder = dataLoader.getDataFolder().toPath().toAbsolutePath();
+    }
+
+    /**
+     * 감시를 시작합니다.
+     */
+    public void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            register(scriptFolder);
+            register(dataFolder);
+        } catch (IOException e) {
+            logger.warning("[HotReloader] 파일 감시를 시작할 수 없습니다: " + e.getMessage());
+            return;
+        }
+
+        running = true;
+        thread = new Thread(this::run, "Sanctuary-HotReload");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("[HotReloader] 파일 감시 시작: " + scriptFolder + ", " + dataFolder);
+    }
+
+    private void register(Path folder) throws IOException {
+        folder.toFile().mkdirs();
+        folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * 감시를 중지합니다.
+     */
+    public void stop() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+                // 종료 중
+            }
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ===== 감시 스레드 =====
+
+    private void run() {
+        while (running) {
+            try {
+                WatchKey key = watchService.take();
+                Set<Path> changed = new LinkedHashSet<>();
+                collect(key, changed);
+
+                // 짧은 시간 안에 이어지는 이벤트를 함께 처리
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(next, changed);
+                }
+
+                for (Path path : changed) {
+                    try {
+                        process(path);
+                    } catch (RuntimeException e) {
+                        logger.warning("[HotReloader] 리로드 처리 오류 (" + path.getFileName() + "): " + e.getMessage());
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path folder = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+            changed.add(folder.resolve((Path) event.context()));
+        }
+        key.reset();
+    }
+
+    /**
+     * 바뀐 파일 하나를 감시 스레드에서 준비하고, 교체 작업을 메인 스레드에 제출합니다.
+     *
+     * @param path 바뀐 파일의 절대 경로
+     */
+    void process(Path path) {
+        String fileName = path.getFileName().toString();
+        Path folder = path.getParent();
+
+        if (folder.equals(scriptFolder) && fileName.endsWith(".lua")) {
+            reloadScript(fileName);
+        } else if (folder.equals(dataFolder) && fileName.endsWith(".json")) {
+            reloadData(fileName);
+        }
+    }
+
+    private void reloadScript(String scriptName) {
+        if (!scriptEngine.isLoaded(scriptName)) {
+            return;
+        }
+        ScriptEngine.PreparedScript prepared = scriptEngine.prepareReload(scriptName);
+        if (prepared == null) {
+            return;
+        }
+        mainThread.execute(() -> scriptEngine.swap(prepared));
+    }
+
+    private void reloadData(String fileName) {
+        UnaryOperator<DataSnapshot> update = dataLoader.prepareReload(fileName);
+        if (update == null) {
+            return;
+        }
+
+        // 파생 스탯 그래프도 감시 스레드에서 구성 (실패하면 기존 그래프 유지)
+        StatGraph graph = null;
+        if (fileName.equals("stats.json")) {
+            graph = SanctuaryCore.buildStatGraph(update.apply(dataLoader.getSnapshot()).getAllStats(), logger);
+        }
+
+        // 피해 공식도 감시 스레드에서 컴파일 (실패하면 기존 공식 유지)
+        DamageFormula formula = null;
+        if (fileName.equals("damage_formula.json")) {
+            formula = SanctuaryCore.buildDamageFormula(update.apply(dataLoader.getSnapshot()).getAllDamageBuckets(), logger);
+        }
+
+        StatGraph preparedGraph = graph;
+        DamageFormula preparedFormula = formula;
+        mainThread.execute(() -> {
+            DataSnapshot snapshot = dataLoader.apply(update);
+            if (preparedGraph != null) {
+                StatGraph.install(preparedGraph);
+            }
+            if (preparedFormula != null) {
+                DamageFormula.install(preparedFormula);
+            }
+            logger.info("[HotReloader] 데이터 리로드됨: " + fileName + " " + snapshot);
+        });
+    }
+}
@@ -1,12 +1,21 @@
 package com.sanctuary.core;
 
 import com.sanctuary.DiabloPlugin;
+import com.sanctuary.combat.calc.DamageFormula;
+import com.sanctuary.combat.stat.StatGraph;
 import com.sanctuary.core.command.SanctuaryCommand;
 import com.sanctuary.core.data.DataRepository;
 import com.sanctuary.core.data.JsonDataLoader;
 import com.sanctuary.core.ecs.EntityManager;
+import com.sanctuary.core.ecs.SystemScheduler;
+import com.sanctuary.core.model.DamageBucketData;
+import com.sanctuary.core.model.StatData;
+import com.sanctuary.core.random.SanctuaryRandom;
 import com.sanctuary.core.script.ScriptEngine;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.scheduler.BukkitRunnable;
+import java.util.Collection;
+import java.util.logging.Logger;
 
 /**
  * SanctuaryCore (시스템의 두뇌)
@@ -18,6 +27,11 @@ public class SanctuaryCore {
     private DataRepository dataRepository;
     private ScriptEngine scriptEngine;
     private EntityManager entityManager;
+    private SystemScheduler systemScheduler;
+    private HotReloader hotReloader;
+
+    // ECS 시스템 틱 태스크 (모든 모듈의 주기 로직을 구동)
+    private BukkitRunnable systemTickTask;
 
     public SanctuaryCore(DiabloPlugin plugin) {
         this.plugin = plugin;
@@ -25,24 +39,114 @@ public class SanctuaryCore {
 
     public void initialize() {
         plugin.getLogger().info("SanctuaryCore 초기화 중...");
+        installRandom();
 
         // 1. 데이터 로더 초기화
-        this.dataRepository = new JsonDataLoader(plugin.getDataFolder(), plugin.getLogger());
+        JsonDataLoader dataLoader = new JsonDataLoader(plugin.getDataFolder(), plugin.getLogger());
+        this.dataRepository = dataLoader;
         this.dataRepository.reload();
+        installStatGraph();
+        installDamageFormula();
 
-        // 2. 스크립트 엔진 초기화
-        this.scriptEngine = new ScriptEngine(plugin.getDataFolder(), plugin.getLogger());
-
-        // 3. ECS 엔티티 매니저 초기화
+        // 2. ECS 엔티티 매니저 초기화
         this.entityManager = new EntityManager(plugin.getLogger());
+        entityManager.addReleaseListener(handle -> SanctuaryRandom.global().forget(handle)); // 핸들별 판정 상태 정리
+
+        // 3. 스크립트 엔진 초기화 (Lua API가 엔티티 핸들을 조회할 수 있도록 매니저 연결)
+        this.scriptEngine = new ScriptEngine(plugin.getDataFolder(), plugin.getLogger(), entityManager);
+
+        // 스크립트/데이터 파일 변경 감시 (바뀐 파일만 비동기로 다시 로드)
+        this.hotReloader = new HotReloader(this, dataLoader);
+        hotReloader.start();
+
+        // 4. ECS 시스템 스케줄러 시작
+        this.systemScheduler = new SystemScheduler(plugin.getLogger());
+        startSystemTickTask();
 
-        // 4. 리스너 등록
+        // 5. 리스너 등록
         registerListeners();
 
-        // 5. 명령어 등록
+        // 6. 명령어 등록
         registerCommands();
     }
 
+    /**
+     * 난수 시드를 고정합니다. (-Dsanctuary.seed=값 으로 실행하면 전투/룻 판정 순서가 재현됨)
+     */
+    private void installRandom() {
+        Long seed = Long.getLong("sanctuary.seed");
+        if (seed != null) {
+            SanctuaryRandom.install(new SanctuaryRandom(seed));
+            plugin.getLogger().info("[SanctuaryCore] 난수 시드 고정: " + seed);
+        }
+    }
+
+    /**
+     * 매 틱 시스템 스케줄러를 구동하는 태스크를 시작합니다.
+     */
+    private void startSystemTickTask() {
+        systemTickTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                systemScheduler.tick();
+            }
+        };
+        systemTickTask.runTaskTimer(plugin, 1L, 1L); // 매 틱
+    }
+
+    /**
+     * stats.json의 scaling 항목으로 파생 스탯 의존성 그래프를 구성해 활성화합니다.
+     * 순환 의존성이 있으면 기존 그래프를 유지합니다.
+     */
+    private void installStatGraph() {
+        StatGraph graph = buildStatGraph(dataRepository.getAllStats(), plugin.getLogger());
+        if (graph != null) {
+            StatGraph.install(graph);
+        }
+    }
+
+    /**
+     * 스탯 데이터로 파생 스탯 그래프를 구성합니다. 메인 스레드가 아니어도 호출할 수 있습니다.
+     *
+     * @return 그래프 또는 null (순환 의존성)
+     */
+    static StatGraph buildStatGraph(Collection<StatData> stats, Logger logger) {
+        try {
+            StatGraph graph = StatGraph.fromStatData(stats, logger);
+            logger.info("[SanctuaryCore] 파생 스탯 그래프 구성: 의존성 " + graph.getEdgeCount() + "개");
+            return graph;
+        } catch (IllegalArgumentException e) {
+            logger.severe("[SanctuaryCore] 파생 스탯 그래프 구성 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void installDamageFormula() {
+        DamageFormula formula = buildDamageFormula(dataRepository.getAllDamageBuckets(), plugin.getLogger());
+        if (formula != null) {
+            DamageFormula.install(formula);
+        }
+    }
+
+    /**
+     * 피해 공식 데이터를 Java 평가기로 컴파일합니다. 메인 스레드가 아니어도 호출할 수 있습니다.
+     *
+     * @return 공식 또는 null (데이터 없음/잘못된 스펙, 기존 공식 유지)
+     */
+    static DamageFormula buildDamageFormula(Collection<DamageBucketData> buckets, Logger logger) {
+        if (buckets.isEmpty()) {
+            return null;
+        }
+        try {
+            DamageFormula formula = DamageFormula.fromBucketData(buckets);
+            logger.info("[SanctuaryCore] 피해 공식 컴파일: 버킷 " + formula.getBucketCount() + "개");
+            return formula;
+        } catch (IllegalArgumentException e) {
+            logger.severe("[SanctuaryCore] 피해 공식 컴파일 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
     private void registerListeners() {
         plugin.getServer().getPluginManager().registerEvents(
                 new com.sanctuary.core.listener.EntityListener(this), plugin);
@@ -67,6 +171,8 @@ public class SanctuaryCore {
 
         // 데이터 리로드
         dataRepository.reload();
+        installStatGraph();
+        installDamageFormula();
 
         // 스크립트 캐시 초기화
         scriptEngine.reloadAll();
@@ -75,6 +181,19 @@ public class SanctuaryCore {
     }
 
     public void shutdown() {
+        // 파일 감시 중지
+        if (hotReloader != null) {
+            hotReloader.stop();
+        }
+
+        // 시스템 스케줄러 정지
+        if (systemTickTask != null) {
+            systemTickTask.cancel();
+        }
+        if (systemScheduler != null) {
+            systemScheduler.shutdown();
+        }
+
         // 엔티티 매니저 정리
         if (entityManager != null) {
             entityManager.clear();
@@ -96,6 +215,10 @@ public class SanctuaryCore {
         return entityManager;
     }
 
+    public SystemScheduler getSystemScheduler() {
+        return systemScheduler;
+    }
+
     public DiabloPlugin getPlugin() {
         return plugin;
     }
@@ -2,6 +2,9 @@ package com.sanctuary.core.command;
 
 import com.sanctuary.DiabloPlugin;
 import com.sanctuary.core.SanctuaryCore;
+import com.sanctuary.core.script.ScriptBudget;
+import com.sanctuary.core.script.ScriptEngine;
+import com.sanctuary.core.script.ScriptProfile;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.command.Command;
@@ -18,6 +21,8 @@ import java.util.List;
  * 사용법:
  * - /sanctuary reload - 데이터 및 스크립트 리로드
  * - /sanctuary status - 시스템 상태 확인
+ * - /sanctuary scripts [reset] - Lua 함수별 호출 통계 (호출 수, 누적 시간, p99)
+ * - /sanctuary scripts budget &lt;함수&gt; &lt;명령어 수&gt; &lt;ms&gt;|default - 함수별 실행 예산 지정
  */
 public class SanctuaryCommand implements CommandExecutor, TabCompleter {
 
@@ -52,6 +57,9 @@ public class SanctuaryCommand implements CommandExecutor, TabCompleter {
             case "status":
                 handleStatus(sender);
                 break;
+            case "scripts":
+                handleScripts(sender, args);
+                break;
             default:
                 sendHelp(sender);
                 break;
@@ -92,6 +100,11 @@ public class SanctuaryCommand implements CommandExecutor, TabCompleter {
                 .append(Component.text(dataRepo.getAllStats().size() + "개", NamedTextColor.WHITE)));
 
         // ECS 상태
+        var scheduler = core.getSystemScheduler();
+        sender.sendMessage(Component.text("  ├ ECS 시스템: ", NamedTextColor.GRAY)
+                .append(Component.text(scheduler.getSystemCount() + "개 (스테이지 " + scheduler.getStageCount() + "개)",
+                        NamedTextColor.WHITE)));
+
         var entityManager = core.getEntityManager();
         sender.sendMessage(Component.text("  └ 관리 중인 엔티티: ", NamedTextColor.GRAY)
                 .append(Component.text(entityManager.size() + "개", NamedTextColor.WHITE)));
@@ -108,12 +121,86 @@ public class SanctuaryCommand implements CommandExecutor, TabCompleter {
                 .append(Component.text(usedMemory + "MB / " + maxMemory + "MB", NamedTextColor.WHITE)));
     }
 
+    private void handleScripts(CommandSender sender, String[] args) {
+        ScriptEngine scriptEngine = core.getScriptEngine();
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            scriptEngine.resetProfiles();
+            sender.sendMessage(PREFIX.append(Component.text("스크립트 통계 초기화됨", NamedTextColor.GREEN)));
+            return;
+        }
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("budget")) {
+            handleScriptBudget(sender, scriptEngine, args);
+            return;
+        }
+
+        List<ScriptProfile> profiles = scriptEngine.getProfiles();
+        sender.sendMessage(PREFIX.append(Component.text("=== Lua 함수 통계 (누적 시간순) ===", NamedTextColor.AQUA)));
+        if (profiles.isEmpty()) {
+            sender.sendMessage(Component.text("  호출 기록 없음", NamedTextColor.GRAY));
+            return;
+        }
+
+        int shown = Math.min(profiles.size(), 10);
+        for (int i = 0; i < shown; i++) {
+            ScriptProfile profile = profiles.get(i);
+            String line = String.format("%d회, 누적 %.1fms, 평균 %dus, p99 %dus, 최대 %dus",
+                    profile.getCalls(),
+                    profile.getTotalNanos() / 1_000_000.0,
+                    profile.getAverageNanos() / 1_000,
+                    profile.getP99Nanos() / 1_000,
+                    profile.getMaxNanos() / 1_000);
+            Component entry = Component.text("  " + profile.getName() + ": ", NamedTextColor.GRAY)
+                    .append(Component.text(line, NamedTextColor.WHITE));
+            if (profile.getBudgetExceeded() > 0 || profile.getErrors() > 0) {
+                entry = entry.append(Component.text(" (오류 " + profile.getErrors()
+                        + ", 예산 초과 " + profile.getBudgetExceeded() + ")", NamedTextColor.RED));
+            }
+            sender.sendMessage(entry);
+        }
+        if (profiles.size() > shown) {
+            sender.sendMessage(Component.text("  ... 외 " + (profiles.size() - shown) + "개", NamedTextColor.GRAY));
+        }
+        sender.sendMessage(Component.text("  기본 예산: ", NamedTextColor.GRAY)
+                .append(Component.text(scriptEngine.getDefaultBudget().toString(), NamedTextColor.WHITE)));
+    }
+
+    private void handleScriptBudget(CommandSender sender, ScriptEngine scriptEngine, String[] args) {
+        if (args.length == 3) {
+            sender.sendMessage(PREFIX.append(Component.text(args[2] + " 예산: "
+                    + scriptEngine.getBudget(args[2]), NamedTextColor.WHITE)));
+            return;
+        }
+        if (args.length == 4 && args[3].equalsIgnoreCase("default")) {
+            scriptEngine.setBudget(args[2], null);
+            sender.sendMessage(PREFIX.append(Component.text(args[2] + " 예산을 기본값으로 되돌림", NamedTextColor.GREEN)));
+            return;
+        }
+        if (args.length != 5) {
+            sender.sendMessage(PREFIX.append(Component.text(
+                    "사용법: /sanctuary scripts budget <함수> <명령어 수> <ms>|default", NamedTextColor.RED)));
+            return;
+        }
+        try {
+            ScriptBudget budget = new ScriptBudget(Long.parseLong(args[3]), Long.parseLong(args[4]));
+            scriptEngine.setBudget(args[2], budget);
+            sender.sendMessage(PREFIX.append(Component.text(args[2] + " 예산 설정: " + budget, NamedTextColor.GREEN)));
+        } catch (NumberFormatException e) {
+            sender.sendMessage(PREFIX.append(Component.text("숫자가 올바르지 않습니다.", NamedTextColor.RED)));
+        }
+    }
+
     private void sendHelp(CommandSender sender) {
         sender.sendMessage(PREFIX.append(Component.text("=== Sanctuary 명령어 ===", NamedTextColor.AQUA)));
         sender.sendMessage(Component.text("/sanctuary reload", NamedTextColor.GRAY)
                 .append(Component.text(" - 데이터 및 스크립트 리로드", NamedTextColor.WHITE)));
         sender.sendMessage(Component.text("/sanctuary status", NamedTextColor.GRAY)
                 .append(Component.text(" - 시스템 상태 확인", NamedTextColor.WHITE)));
+        sender.sendMessage(Component.text("/sanctuary scripts [reset]", NamedTextColor.GRAY)
+                .append(Component.text(" - Lua 함수별 호출 통계", NamedTextColor.WHITE)));
+        sender.sendMessage(Component.text("/sanctuary scripts budget <함수> <명령어 수> <ms>", NamedTextColor.GRAY)
+                .append(Component.text(" - 함수별 실행 예산 설정", NamedTextColor.WHITE)));
     }
 
     @Override
@@ -122,13 +209,22 @@ public class SanctuaryCommand implements CommandExecutor, TabCompleter {
             List<String> completions = new ArrayList<>();
             String input = args[0].toLowerCase();
 
-            for (String sub : Arrays.asList("reload", "status")) {
+            for (String sub : Arrays.asList("reload", "status", "scripts")) {
                 if (sub.startsWith(input)) {
                     completions.add(sub);
                 }
             }
             return completions;
         }
+        if (args.length == 2 && args[0].equalsIgnoreCase("scripts")) {
+            List<String> completions = new ArrayList<>();
+            for (String sub : Arrays.asList("reset", "budget")) {
+                if (sub.startsWith(args[1].toLowerCase())) {
+                    completions.add(sub);
+                }
+            }
+            return completions;
+        }
         return new ArrayList<>();
     }
 }
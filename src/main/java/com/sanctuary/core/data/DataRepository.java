@@ -2,6 +2,7 @@ package com.sanctuary.core.data;
 
 import com.sanctuary.core.model.AffixData;
 import com.sanctuary.core.model.AspectData;
+import com.sanctuary.core.model.DamageBucketData;
 import com.sanctuary.core.model.ItemBaseData;
 import com.sanctuary.core.model.StatData;
 import java.util.Collection;
@@ -17,6 +18,12 @@ public interface DataRepository {
      */
     void reload();
 
+    /**
+     * 현재 데이터의 불변 스냅샷을 반환합니다.
+     * 여러 항목을 함께 읽을 때 리로드와 섞이지 않도록 스냅샷을 받아 사용합니다.
+     */
+    DataSnapshot getSnapshot();
+
     /**
      * ID로 스탯 데이터를 조회합니다.
      */
@@ -56,4 +63,9 @@ public interface DataRepository {
      * 모든 위상 데이터를 반환합니다.
      */
     Collection<AspectData> getAllAspects();
+
+    /**
+     * 피해 공식 버킷 데이터를 반환합니다. (damage_formula.json)
+     */
+    Collection<DamageBucketData> getAllDamageBuckets();
 }
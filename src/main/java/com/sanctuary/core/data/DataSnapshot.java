@@ -0,0 +1,129 @@
+package com.sanctuary.core.data;
+
+import com.sanctuary.core.model.AffixData;
+import com.sanctuary.core.model.AspectData;
+import com.sanctuary.core.model.DamageBucketData;
+import com.sanctuary.core.model.ItemBaseData;
+import com.sanctuary.core.model.StatData;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 한 시점의 게임 데이터 전체를 담는 불변 스냅샷입니다.
+ *
+ * {@link JsonDataLoader}는 항상 하나의 스냅샷을 공개하며, 리로드는 새 스냅샷을 만든 뒤
+ * 참조만 교체합니다. 스냅샷을 받아 둔 코드는 리로드 도중에도 일관된 데이터를 읽습니다.
+ * 파일 하나만 바뀌면 해당 항목의 맵만 교체한 새 스냅샷을 만들고 나머지 맵은 공유합니다.
+ *
+ * 전달받은 정의는 항목마다 복사해 보관하므로 로더나 호출자가 원본을 수정해도 스냅샷은 바뀌지 않습니다.
+ * 복사된 정의의 중첩 컬렉션(스탯 수정치, 태그, 효과 정의 등)은 수정할 수 없으며,
+ * 스냅샷이 반환한 정의의 setter를 호출해서도 안 됩니다.
+ */
+public final class DataSnapshot {
+
+    public static final DataSnapshot EMPTY = new DataSnapshot(Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    private final Map<String, StatData> stats;
+    private final Map<String, AffixData> affixes;
+    private final Map<String, ItemBaseData> itemBases;
+    private final Map<String, AspectData> aspects;
+    private final Map<String, DamageBucketData> damageBuckets;
+
+    public DataSnapshot(Map<String, StatData> stats, Map<String, AffixData> affixes,
+            Map<String, ItemBaseData> itemBases, Map<String, AspectData> aspects,
+            Map<String, DamageBucketData> damageBuckets) {
+        this(copyOf(stats, StatData::copy), copyOf(affixes, AffixData::copy), copyOf(itemBases, ItemBaseData::copy),
+                copyOf(aspects, AspectData::copy), copyOf(damageBuckets, DamageBucketData::copy), true);
+    }
+
+    // 이미 복사된 맵으로 만듭니다. (부분 교체에서 나머지 맵 공유)
+    private DataSnapshot(Map<String, StatData> stats, Map<String, AffixData> affixes,
+            Map<String, ItemBaseData> itemBases, Map<String, AspectData> aspects,
+            Map<String, DamageBucketData> damageBuckets, boolean copied) {
+        this.stats = stats;
+        this.affixes = affixes;
+        this.itemBases = itemBases;
+        this.aspects = aspects;
+        this.damageBuckets = damageBuckets;
+    }
+
+    /**
+     * 항목마다 정의를 복사한 불변 맵을 만듭니다.
+     */
+    private static <T> Map<String, T> copyOf(Map<String, T> source, UnaryOperator<T> copier) {
+        Map<String, T> copy = new HashMap<>();
+        for (Map.Entry<String, T> entry : source.entrySet()) {
+            copy.put(entry.getKey(), copier.apply(entry.getValue()));
+        }
+        return Map.copyOf(copy);
+    }
+
+    // ===== 부분 교체 =====
+
+    public DataSnapshot withStats(Map<String, StatData> stats) {
+        return new DataSnapshot(copyOf(stats, StatData::copy), affixes, itemBases, aspects, damageBuckets, true);
+    }
+
+    public DataSnapshot withAffixes(Map<String, AffixData> affixes) {
+        return new DataSnapshot(stats, copyOf(affixes, AffixData::copy), itemBases, aspects, damageBuckets, true);
+    }
+
+    public DataSnapshot withItemBases(Map<String, ItemBaseData> itemBases) {
+        return new DataSnapshot(stats, affixes, copyOf(itemBases, ItemBaseData::copy), aspects, damageBuckets, true);
+    }
+
+    public DataSnapshot withAspects(Map<String, AspectData> aspects) {
+        return new DataSnapshot(stats, affixes, itemBases, copyOf(aspects, AspectData::copy), damageBuckets, true);
+    }
+
+    public DataSnapshot withDamageBuckets(Map<String, DamageBucketData> damageBuckets) {
+        return new DataSnapshot(stats, affixes, itemBases, aspects, copyOf(damageBuckets, DamageBucketData::copy),
+                true);
+    }
+
+    // ===== 조회 =====
+
+    public StatData getStat(String id) {
+        return stats.get(id);
+    }
+
+    public Collection<StatData> getAllStats() {
+        return stats.values();
+    }
+
+    public AffixData getAffix(String id) {
+        return affixes.get(id);
+    }
+
+    public Collection<AffixData> getAllAffixes() {
+        return affixes.values();
+    }
+
+    public ItemBaseData getItemBase(String id) {
+        return itemBases.get(id);
+    }
+
+    public Collection<ItemBaseData> getAllItemBases() {
+        return itemBases.values();
+    }
+
+    public AspectData getAspect(String id) {
+        return aspects.get(id);
+    }
+
+    public Collection<AspectData> getAllAspects() {
+        return aspects.values();
+    }
+
+    public Collection<DamageBucketData> getAllDamageBuckets() {
+        return damageBuckets.values();
+    }
+
+    @Override
+    public String toString() {
+        return "DataSnapshot{stats=" + stats.size() + ", affixes=" + affixes.size()
+                + ", items=" + itemBases.size() + ", aspects=" + aspects.size() + ", damageBuckets=" + damageBuckets.size() + "}";
+    }
+}
@@ -2,9 +2,12 @@ package com.sanctuary.core.data;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import com.sanctuary.core.model.AffixData;
+import com.sanctuary.combat.calc.DamageFormula;
 import com.sanctuary.core.model.AspectData;
+import com.sanctuary.core.model.DamageBucketData;
 import com.sanctuary.core.model.ItemBaseData;
 import com.sanctuary.core.model.StatData;
 import java.io.File;
@@ -16,22 +19,31 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 /**
  * JSON 파일로부터 데이터를 로드하는 DataRepository 구현체입니다.
  * plugins/Sanctuary/data 디렉토리를 스캔합니다.
+ *
+ * 로드된 데이터는 불변 {@link DataSnapshot}으로 공개됩니다.
+ * - {@link #reload()}는 모든 파일을 읽어 새 스냅샷을 만든 뒤 참조를 교체합니다.
+ * - {@link #prepareReload(String)}는 파일 하나만 파싱하여 교체 함수를 반환하며 (비동기 스레드에서 호출 가능),
+ * {@link #apply(UnaryOperator)}는 메인 스레드에서 참조만 교체합니다.
+ * - 파일 파싱에 실패하면 해당 항목은 이전 데이터를 유지합니다.
  */
 public class JsonDataLoader implements DataRepository {
 
+    // 데이터 파일 이름 (prepareReload 대상)
+    public static final List<String> DATA_FILES = List.of("stats.json", "affixes.json", "items.json", "aspects.json",
+            "damage_formula.json");
+
     private final File dataFolder;
     private final Logger logger;
     private final Gson gson;
 
-    private final Map<String, StatData> statMap = new HashMap<>();
-    private final Map<String, AffixData> affixMap = new HashMap<>();
-    private final Map<String, ItemBaseData> itemBaseMap = new HashMap<>();
-    private final Map<String, AspectData> aspectMap = new HashMap<>();
+    private volatile DataSnapshot snapshot = DataSnapshot.EMPTY;
 
     public JsonDataLoader(File pluginFolder, Logger logger) {
         this.dataFolder = new File(pluginFolder, "data");
@@ -41,44 +53,119 @@ public class JsonDataLoader implements DataRepository {
 
     @Override
     public void reload() {
-        statMap.clear();
-        affixMap.clear();
-        itemBaseMap.clear();
-        aspectMap.clear();
-
         if (!dataFolder.exists()) {
             dataFolder.mkdirs();
         }
 
-        loadStats();
-        loadAffixes();
-        loadItemBases();
-        loadAspects();
+        // 실패한 항목은 이전 데이터 유지
+        DataSnapshot next = snapshot;
+        for (String fileName : DATA_FILES) {
+            UnaryOperator<DataSnapshot> update = prepareReload(fileName);
+            if (update != null) {
+                next = update.apply(next);
+            }
+        }
+        snapshot = next;
 
-        logger.info("[SanctuaryCore] 데이터 로드 완료. Stats: " + statMap.size() +
-                ", Affixes: " + affixMap.size() +
-                ", Items: " + itemBaseMap.size() +
-                ", Aspects: " + aspectMap.size());
+        logger.info("[SanctuaryCore] 데이터 로드 완료. Stats: " + next.getAllStats().size() +
+                ", Affixes: " + next.getAllAffixes().size() +
+                ", Items: " + next.getAllItemBases().size() +
+                ", Aspects: " + next.getAllAspects().size() +
+                ", DamageBuckets: " + next.getAllDamageBuckets().size());
     }
 
-    private void loadStats() {
-        File file = new File(dataFolder, "stats.json");
-        if (!file.exists()) {
-            createExampleStats(file);
+    // ===== 부분 리로드 =====
+
+    /**
+     * 데이터 파일 하나를 다시 파싱하고, 현재 스냅샷에서 해당 항목만 교체하는 함수를 반환합니다.
+     * 파일 I/O와 파싱은 호출 스레드에서 수행되므로 비동기 스레드에서 호출할 수 있습니다.
+     *
+     * @param fileName data 폴더 기준 파일 이름 (예: "stats.json")
+     * @return 스냅샷 교체 함수 또는 null (데이터 파일이 아니거나 파싱 실패)
+     */
+    public UnaryOperator<DataSnapshot> prepareReload(String fileName) {
+        switch (fileName) {
+            case "stats.json": {
+                Map<String, StatData> stats = loadStats();
+                return stats != null ? current -> current.withStats(stats) : null;
+            }
+            case "affixes.json": {
+                Map<String, AffixData> affixes = loadAffixes();
+                return affixes != null ? current -> current.withAffixes(affixes) : null;
+            }
+            case "items.json": {
+                Map<String, ItemBaseData> itemBases = loadItemBases();
+                return itemBases != null ? current -> current.withItemBases(itemBases) : null;
+            }
+            case "aspects.json": {
+                Map<String, AspectData> aspects = loadAspects();
+                return aspects != null ? current -> current.withAspects(aspects) : null;
+            }
+            case "damage_formula.json": {
+                Map<String, DamageBucketData> buckets = loadDamageBuckets();
+                return buckets != null ? current -> current.withDamageBuckets(buckets) : null;
+            }
+            default:
+                return null;
         }
+    }
 
+    /**
+     * 준비된 교체 함수를 현재 스냅샷에 적용하여 새 스냅샷을 공개합니다. (메인 스레드)
+     *
+     * @param update {@link #prepareReload(String)}가 반환한 함수
+     * @return 새 스냅샷
+     */
+    public DataSnapshot apply(UnaryOperator<DataSnapshot> update) {
+        DataSnapshot next = update.apply(snapshot);
+        snapshot = next;
+        return next;
+    }
+
+    @Override
+    public DataSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 데이터 폴더를 반환합니다.
+     */
+    public File getDataFolder() {
+        return dataFolder;
+    }
+
+    // ===== 파일 로드 (실패 시 null) =====
+
+    private <T> Map<String, T> loadList(File file, Type type, Function<T, String> idOf, String label) {
         try (Reader reader = new FileReader(file)) {
-            Type type = new TypeToken<List<StatData>>() {
-            }.getType();
-            List<StatData> stats = gson.fromJson(reader, type);
-            if (stats != null) {
-                for (StatData stat : stats) {
-                    statMap.put(stat.getId(), stat);
+            List<T> entries = gson.fromJson(reader, type);
+            Map<String, T> map = new HashMap<>();
+            if (entries != null) {
+                for (T entry : entries) {
+                    String id = entry != null ? idOf.apply(entry) : null;
+                    if (id == null) {
+                        logger.warning("[SanctuaryCore] ID 없는 " + label + " 항목 건너뜀: " + file.getName());
+                        continue;
+                    }
+                    map.put(id, entry);
                 }
             }
-        } catch (IOException e) {
-            logger.severe("[SanctuaryCore] 스탯 데이터 로드 실패: " + e.getMessage());
+            return map;
+        } catch (IOException | JsonParseException e) {
+            logger.severe("[SanctuaryCore] " + label + " 데이터 로드 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<String, StatData> loadStats() {
+        File file = new File(dataFolder, "stats.json");
+        if (!file.exists()) {
+            createExampleStats(file);
         }
+
+        Type type = new TypeToken<List<StatData>>() {
+        }.getType();
+        return loadList(file, type, StatData::getId, "스탯");
     }
 
     private void createExampleStats(File file) {
@@ -97,24 +184,15 @@ public class JsonDataLoader implements DataRepository {
         }
     }
 
-    private void loadAffixes() {
+    private Map<String, AffixData> loadAffixes() {
         File file = new File(dataFolder, "affixes.json");
         if (!file.exists()) {
             createExampleAffixes(file);
         }
 
-        try (Reader reader = new FileReader(file)) {
-            Type type = new TypeToken<List<AffixData>>() {
-            }.getType();
-            List<AffixData> affixes = gson.fromJson(reader, type);
-            if (affixes != null) {
-                for (AffixData affix : affixes) {
-                    affixMap.put(affix.getId(), affix);
-                }
-            }
-        } catch (IOException e) {
-            logger.severe("[SanctuaryCore] 어픽스 데이터 로드 실패: " + e.getMessage());
-        }
+        Type type = new TypeToken<List<AffixData>>() {
+        }.getType();
+        return loadList(file, type, AffixData::getId, "어픽스");
     }
 
     private void createExampleAffixes(File file) {
@@ -132,24 +210,15 @@ public class JsonDataLoader implements DataRepository {
         }
     }
 
-    private void loadItemBases() {
+    private Map<String, ItemBaseData> loadItemBases() {
         File file = new File(dataFolder, "items.json");
         if (!file.exists()) {
             createExampleItems(file);
         }
 
-        try (Reader reader = new FileReader(file)) {
-            Type type = new TypeToken<List<ItemBaseData>>() {
-            }.getType();
-            List<ItemBaseData> items = gson.fromJson(reader, type);
-            if (items != null) {
-                for (ItemBaseData item : items) {
-                    itemBaseMap.put(item.getId(), item);
-                }
-            }
-        } catch (IOException e) {
-            logger.severe("[SanctuaryCore] 아이템 데이터 로드 실패: " + e.getMessage());
-        }
+        Type type = new TypeToken<List<ItemBaseData>>() {
+        }.getType();
+        return loadList(file, type, ItemBaseData::getId, "아이템");
     }
 
     private void createExampleItems(File file) {
@@ -168,64 +237,82 @@ public class JsonDataLoader implements DataRepository {
         }
     }
 
-    private void loadAspects() {
+    private Map<String, AspectData> loadAspects() {
         File file = new File(dataFolder, "aspects.json");
         if (!file.exists()) {
             logger.info("[SanctuaryCore] aspects.json 파일이 없습니다. 위상 데이터는 비어있습니다.");
-            return;
+            return new HashMap<>();
         }
 
-        try (Reader reader = new FileReader(file)) {
-            Type type = new TypeToken<List<AspectData>>() {
-            }.getType();
-            List<AspectData> aspects = gson.fromJson(reader, type);
-            if (aspects != null) {
-                for (AspectData aspect : aspects) {
-                    aspectMap.put(aspect.getId(), aspect);
-                }
+        Type type = new TypeToken<List<AspectData>>() {
+        }.getType();
+        return loadList(file, type, AspectData::getId, "위상");
+    }
+
+    private Map<String, DamageBucketData> loadDamageBuckets() {
+        File file = new File(dataFolder, "damage_formula.json");
+        if (!file.exists()) {
+            createExampleDamageFormula(file);
+        }
+
+        Type type = new TypeToken<List<DamageBucketData>>() {
+        }.getType();
+        return loadList(file, type, DamageBucketData::getId, "피해 공식");
+    }
+
+    private void createExampleDamageFormula(File file) {
+        try {
+            try (java.io.FileWriter writer = new java.io.FileWriter(file)) {
+                gson.toJson(DamageFormula.defaultBuckets(), writer);
             }
+            logger.info("[SanctuaryCore] 기본 damage_formula.json 파일이 생성되었습니다.");
         } catch (IOException e) {
-            logger.severe("[SanctuaryCore] 위상 데이터 로드 실패: " + e.getMessage());
+            logger.severe("[SanctuaryCore] 기본 damage_formula.json 생성 실패: " + e.getMessage());
         }
     }
 
     @Override
     public StatData getStat(String id) {
-        return statMap.get(id);
+        return snapshot.getStat(id);
     }
 
     @Override
     public Collection<StatData> getAllStats() {
-        return statMap.values();
+        return snapshot.getAllStats();
     }
 
     @Override
     public AffixData getAffix(String id) {
-        return affixMap.get(id);
+        return snapshot.getAffix(id);
     }
 
     @Override
     public Collection<AffixData> getAllAffixes() {
-        return affixMap.values();
+        return snapshot.getAllAffixes();
     }
 
     @Override
     public ItemBaseData getItemBase(String id) {
-        return itemBaseMap.get(id);
+        return snapshot.getItemBase(id);
     }
 
     @Override
     public Collection<ItemBaseData> getAllItemBases() {
-        return itemBaseMap.values();
+        return snapshot.getAllItemBases();
     }
 
     @Override
     public AspectData getAspect(String id) {
-        return aspectMap.get(id);
+        return snapshot.getAspect(id);
     }
 
     @Override
     public Collection<AspectData> getAllAspects() {
-        return aspectMap.values();
+        return snapshot.getAllAspects();
+    }
+
+    @Override
+    public Collection<DamageBucketData> getAllDamageBuckets() {
+        return snapshot.getAllDamageBuckets();
     }
 }
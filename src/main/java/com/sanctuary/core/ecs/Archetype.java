@@ -0,0 +1,215 @@
+package com.sanctuary.core.ecs;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 동일한 컴포넌트 구성을 가진 엔티티들을 한 테이블에 모아 저장하는 아키타입입니다.
+ *
+ * 각 컴포넌트 타입은 하나의 열(column) 배열을 가지며,
+ * 엔티티는 모든 열에서 같은 행(row) 인덱스를 공유합니다.
+ * 엔티티가 빠지면 마지막 행을 빈 자리로 옮겨(swap-remove) 테이블을 조밀하게 유지합니다.
+ *
+ * 구조 변경(행 추가/제거)은 {@link ArchetypeStorage}를 통해서만 이루어집니다.
+ */
+public final class Archetype {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BitSet mask;
+    private final int[] componentIds;
+    private final int[] columnIndexById;
+    private final Component[][] columns;
+
+    private ComponentContainer[] owners = new ComponentContainer[INITIAL_CAPACITY];
+    private int size = 0;
+
+    // 컴포넌트 추가/제거 시 이동할 아키타입 캐시 (컴포넌트 ID -> 아키타입)
+    private Archetype[] addEdges = new Archetype[0];
+    private Archetype[] removeEdges = new Archetype[0];
+
+    Archetype(BitSet mask) {
+        this.mask = (BitSet) mask.clone();
+        this.componentIds = mask.stream().toArray();
+        this.columnIndexById = new int[mask.length()];
+        Arrays.fill(columnIndexById, -1);
+        this.columns = new Component[componentIds.length][];
+        for (int i = 0; i < componentIds.length; i++) {
+            columnIndexById[componentIds[i]] = i;
+            columns[i] = new Component[INITIAL_CAPACITY];
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 컴포넌트 ID에 해당하는 열 인덱스를 반환합니다.
+     *
+     * @param componentId 컴포넌트 ID
+     * @return 열 인덱스 또는 -1
+     */
+    public int columnOf(int componentId) {
+        return componentId < columnIndexById.length ? columnIndexById[componentId] : -1;
+    }
+
+    /**
+     * 이 아키타입이 지정된 컴포넌트를 포함하는지 확인합니다.
+     *
+     * @param componentId 컴포넌트 ID
+     * @return 포함 여부
+     */
+    public boolean has(int componentId) {
+        return columnOf(componentId) >= 0;
+    }
+
+    /**
+     * 이 아키타입이 주어진 마스크의 컴포넌트를 모두 포함하는지 확인합니다.
+     *
+     * @param required 필요한 컴포넌트 마스크
+     * @return 모두 포함하면 true
+     */
+    public boolean containsAll(BitSet required) {
+        BitSet missing = (BitSet) required.clone();
+        missing.andNot(mask);
+        return missing.isEmpty();
+    }
+
+    /**
+     * 지정된 행/열의 컴포넌트를 반환합니다.
+     *
+     * @param column 열 인덱스 ({@link #columnOf(int)})
+     * @param row    행 인덱스
+     * @return 컴포넌트
+     */
+    public Component get(int column, int row) {
+        return columns[column][row];
+    }
+
+    /**
+     * 지정된 행의 컨테이너를 반환합니다.
+     *
+     * @param row 행 인덱스
+     * @return 컴포넌트 컨테이너
+     */
+    public ComponentContainer getContainer(int row) {
+        return owners[row];
+    }
+
+    /**
+     * 지정된 행의 엔티티를 반환합니다.
+     *
+     * @param row 행 인덱스
+     * @return SanctuaryEntity 또는 null (엔티티에 속하지 않은 컨테이너)
+     */
+    public SanctuaryEntity getEntity(int row) {
+        return owners[row].getOwner();
+    }
+
+    /**
+     * 이 아키타입에 저장된 엔티티 수를 반환합니다.
+     *
+     * @return 행 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 컴포넌트 마스크의 복사본을 반환합니다.
+     *
+     * @return 컴포넌트 마스크
+     */
+    public BitSet getMask() {
+        return (BitSet) mask.clone();
+    }
+
+    /**
+     * 포함된 컴포넌트 ID 목록을 반환합니다. (오름차순)
+     *
+     * @return 컴포넌트 ID 배열
+     */
+    public int[] getComponentIds() {
+        return componentIds.clone();
+    }
+
+    // ===== 구조 변경 (ArchetypeStorage 전용) =====
+
+    int componentCount() {
+        return componentIds.length;
+    }
+
+    int componentIdAt(int column) {
+        return componentIds[column];
+    }
+
+    void set(int column, int row, Component component) {
+        columns[column][row] = component;
+    }
+
+    /**
+     * 빈 행을 하나 추가하고 인덱스를 반환합니다.
+     */
+    int addRow(ComponentContainer owner) {
+        if (size == owners.length) {
+            int capacity = size * 2;
+            owners = Arrays.copyOf(owners, capacity);
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = Arrays.copyOf(columns[i], capacity);
+            }
+        }
+        owners[size] = owner;
+        return size++;
+    }
+
+    /**
+     * 행을 제거합니다. 마지막 행이 빈 자리로 이동하며, 이동한 컨테이너의 행 인덱스도 갱신됩니다.
+     */
+    void removeRow(int row) {
+        int last = --size;
+        if (row != last) {
+            owners[row] = owners[last];
+            owners[row].setRow(row);
+            for (Component[] column : columns) {
+                column[row] = column[last];
+            }
+        }
+        owners[last] = null;
+        for (Component[] column : columns) {
+            column[last] = null;
+        }
+    }
+
+    Archetype getAddEdge(int componentId) {
+        return componentId < addEdges.length ? addEdges[componentId] : null;
+    }
+
+    void setAddEdge(int componentId, Archetype target) {
+        if (componentId >= addEdges.length) {
+            addEdges = Arrays.copyOf(addEdges, componentId + 1);
+        }
+        addEdges[componentId] = target;
+    }
+
+    Archetype getRemoveEdge(int componentId) {
+        return componentId < removeEdges.length ? removeEdges[componentId] : null;
+    }
+
+    void setRemoveEdge(int componentId, Archetype target) {
+        if (componentId >= removeEdges.length) {
+            removeEdges = Arrays.copyOf(removeEdges, componentId + 1);
+        }
+        removeEdges[componentId] = target;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Archetype{");
+        for (int i = 0; i < componentIds.length; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(ComponentRegistry.typeOf(componentIds[i]).getSimpleName());
+        }
+        sb.append("; size=").append(size).append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,191 @@
+package com.sanctuary.core.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아키타입(테이블) 기반 컴포넌트 저장소입니다.
+ * 같은 컴포넌트 구성을 가진 엔티티들을 하나의 {@link Archetype}에 모아 저장합니다.
+ *
+ * 컴포넌트를 부착/제거하면 엔티티는 새 구성에 해당하는 아키타입으로 이동하며,
+ * 이동 경로는 아키타입 간 간선(edge)으로 캐시되어 다음 이동 시 해시 조회가 생략됩니다.
+ *
+ * 등록된 {@link EntityQuery} 뷰는 새 아키타입이 생성될 때마다 통지를 받아 증분 갱신됩니다.
+ *
+ * 구조 변경(부착/제거)은 메인 스레드에서 수행해야 합니다.
+ * 구조가 바뀌지 않는 동안의 조회는 여러 스레드에서 동시에 수행해도 안전합니다.
+ */
+public class ArchetypeStorage {
+
+    private final Map<BitSet, Archetype> archetypes = new HashMap<>();
+    private final List<Archetype> archetypeList = new ArrayList<>();
+
+    // 캐시된 쿼리 뷰 (조회 타입 집합 -> 뷰)
+    private final Map<Set<Class<? extends Component>>, EntityQuery> queries = new HashMap<>();
+
+    /**
+     * 지정된 마스크의 아키타입을 조회하거나 생성합니다.
+     *
+     * @param mask 컴포넌트 마스크
+     * @return 아키타입
+     */
+    public synchronized Archetype getOrCreate(BitSet mask) {
+        Archetype archetype = archetypes.get(mask);
+        if (archetype == null) {
+            archetype = new Archetype(mask);
+            archetypes.put(archetype.getMask(), archetype);
+            archetypeList.add(archetype);
+            for (EntityQuery query : queries.values()) {
+                query.offer(archetype);
+            }
+        }
+        return archetype;
+    }
+
+    /**
+     * 지정된 컴포넌트를 모두 가진 엔티티의 라이브 뷰를 반환합니다.
+     * 같은 타입 조합에 대해서는 캐시된 뷰를 재사용합니다.
+     *
+     * @param types 필요한 컴포넌트 타입들
+     * @return 쿼리 뷰
+     */
+    @SafeVarargs
+    public final synchronized EntityQuery query(Class<? extends Component>... types) {
+        Set<Class<? extends Component>> key = new LinkedHashSet<>(Arrays.asList(types));
+        EntityQuery query = queries.get(key);
+        if (query == null) {
+            @SuppressWarnings("unchecked")
+            Class<? extends Component>[] distinct = key.toArray(new Class[0]);
+            query = new EntityQuery(distinct);
+            for (Archetype archetype : archetypeList) {
+                query.offer(archetype);
+            }
+            queries.put(key, query);
+        }
+        return query;
+    }
+
+    /**
+     * 생성된 모든 아키타입을 반환합니다.
+     *
+     * @return 읽기 전용 아키타입 목록
+     */
+    public List<Archetype> getArchetypes() {
+        return Collections.unmodifiableList(archetypeList);
+    }
+
+    /**
+     * 생성된 아키타입 수를 반환합니다.
+     *
+     * @return 아키타입 수
+     */
+    public int getArchetypeCount() {
+        return archetypeList.size();
+    }
+
+    // ===== 엔티티 이동 (ComponentContainer 전용) =====
+
+    /**
+     * 컨테이너에 컴포넌트를 추가하여 새 아키타입으로 이동시킵니다.
+     * 이미 같은 타입이 있으면 제자리에서 교체합니다.
+     */
+    void add(ComponentContainer container, int componentId, Component component) {
+        Archetype from = container.getArchetype();
+
+        if (from != null) {
+            int column = from.columnOf(componentId);
+            if (column >= 0) {
+                from.set(column, container.getRow(), component);
+                return;
+            }
+        }
+
+        Archetype to = from != null ? from.getAddEdge(componentId) : null;
+        if (to == null) {
+            BitSet mask = from != null ? from.getMask() : new BitSet();
+            mask.set(componentId);
+            to = getOrCreate(mask);
+            if (from != null) {
+                from.setAddEdge(componentId, to);
+                to.setRemoveEdge(componentId, from);
+            }
+        }
+
+        int newRow = move(container, from, to);
+        to.set(to.columnOf(componentId), newRow, component);
+    }
+
+    /**
+     * 컨테이너에서 컴포넌트를 제거하여 새 아키타입으로 이동시킵니다.
+     *
+     * @return 제거된 컴포넌트 또는 null
+     */
+    Component remove(ComponentContainer container, int componentId) {
+        Archetype from = container.getArchetype();
+        if (from == null) {
+            return null;
+        }
+        int column = from.columnOf(componentId);
+        if (column < 0) {
+            return null;
+        }
+        Component removed = from.get(column, container.getRow());
+
+        if (from.componentCount() == 1) {
+            // 마지막 컴포넌트 제거: 어떤 아키타입에도 속하지 않음
+            detachAll(container);
+            return removed;
+        }
+
+        Archetype to = from.getRemoveEdge(componentId);
+        if (to == null) {
+            BitSet mask = from.getMask();
+            mask.clear(componentId);
+            to = getOrCreate(mask);
+            from.setRemoveEdge(componentId, to);
+            to.setAddEdge(componentId, from);
+        }
+
+        move(container, from, to);
+        return removed;
+    }
+
+    /**
+     * 컨테이너를 현재 아키타입에서 완전히 제거합니다.
+     */
+    void detachAll(ComponentContainer container) {
+        Archetype from = container.getArchetype();
+        if (from != null) {
+            from.removeRow(container.getRow());
+            container.setLocation(null, -1);
+        }
+    }
+
+    /**
+     * 공통 컴포넌트를 복사하며 컨테이너를 다른 아키타입으로 옮깁니다.
+     *
+     * @return 새 아키타입에서의 행 인덱스
+     */
+    private int move(ComponentContainer container, Archetype from, Archetype to) {
+        int newRow = to.addRow(container);
+        if (from != null) {
+            int oldRow = container.getRow();
+            for (int column = 0; column < from.componentCount(); column++) {
+                int target = to.columnOf(from.componentIdAt(column));
+                if (target >= 0) {
+                    to.set(target, newRow, from.get(column, oldRow));
+                }
+            }
+            from.removeRow(oldRow);
+        }
+        container.setLocation(to, newRow);
+        return newRow;
+    }
+}
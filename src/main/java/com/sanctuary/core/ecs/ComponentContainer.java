@@ -1,22 +1,49 @@
 package com.sanctuary.core.ecs;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 엔티티에 부착된 컴포넌트들을 관리하는 컨테이너입니다.
  * 각 컴포넌트 타입은 엔티티당 하나만 존재할 수 있습니다.
+ *
+ * 실제 컴포넌트는 {@link ArchetypeStorage}의 아키타입 테이블에 저장되며,
+ * 이 컨테이너는 해당 테이블의 (아키타입, 행) 위치를 가리키는 핸들입니다.
+ * 컴포넌트가 하나도 없으면 어떤 아키타입에도 속하지 않습니다.
  */
 public class ComponentContainer {
 
-    private final Map<Class<? extends Component>, Component> components = new HashMap<>();
+    private final ArchetypeStorage storage;
+    private final SanctuaryEntity owner;
+
+    private Archetype archetype;
+    private int row = -1;
+
+    /**
+     * 독립 저장소를 사용하는 컨테이너를 생성합니다.
+     */
+    public ComponentContainer() {
+        this(new ArchetypeStorage(), null);
+    }
+
+    /**
+     * 공유 저장소를 사용하는 컨테이너를 생성합니다.
+     *
+     * @param storage 아키타입 저장소
+     * @param owner   소유 엔티티 (없으면 null)
+     */
+    ComponentContainer(ArchetypeStorage storage, SanctuaryEntity owner) {
+        this.storage = storage;
+        this.owner = owner;
+    }
 
     /**
      * 컴포넌트를 컨테이너에 부착합니다.
      * 같은 타입의 컴포넌트가 이미 존재하면 교체됩니다.
-     * 
+     *
      * @param component 부착할 컴포넌트
      * @param <T>       컴포넌트 타입
      * @return 이 컨테이너 (체이닝용)
@@ -25,78 +52,130 @@ public class ComponentContainer {
         if (component == null) {
             throw new IllegalArgumentException("컴포넌트는 null일 수 없습니다.");
         }
-        components.put(component.getClass(), component);
+        storage.add(this, ComponentRegistry.idOf(component.getClass()), component);
         return this;
     }
 
     /**
      * 지정된 타입의 컴포넌트를 조회합니다.
-     * 
+     *
      * @param type 조회할 컴포넌트 클래스
      * @param <T>  컴포넌트 타입
      * @return 컴포넌트 또는 null
      */
     @SuppressWarnings("unchecked")
     public <T extends Component> T get(Class<T> type) {
-        return (T) components.get(type);
+        Archetype current = archetype;
+        if (current == null) {
+            return null;
+        }
+        int column = current.columnOf(ComponentRegistry.idOf(type));
+        return column >= 0 ? (T) current.get(column, row) : null;
     }
 
     /**
      * 지정된 타입의 컴포넌트를 Optional로 조회합니다.
-     * 
+     *
      * @param type 조회할 컴포넌트 클래스
      * @param <T>  컴포넌트 타입
      * @return 컴포넌트를 포함한 Optional
      */
-    @SuppressWarnings("unchecked")
     public <T extends Component> Optional<T> getOptional(Class<T> type) {
-        return Optional.ofNullable((T) components.get(type));
+        return Optional.ofNullable(get(type));
     }
 
     /**
      * 지정된 타입의 컴포넌트가 존재하는지 확인합니다.
-     * 
+     *
      * @param type 확인할 컴포넌트 클래스
      * @return 존재 여부
      */
     public boolean has(Class<? extends Component> type) {
-        return components.containsKey(type);
+        Archetype current = archetype;
+        return current != null && current.has(ComponentRegistry.idOf(type));
     }
 
     /**
      * 지정된 타입의 컴포넌트를 제거합니다.
-     * 
+     *
      * @param type 제거할 컴포넌트 클래스
      * @param <T>  컴포넌트 타입
      * @return 제거된 컴포넌트 또는 null
      */
     @SuppressWarnings("unchecked")
     public <T extends Component> T detach(Class<T> type) {
-        return (T) components.remove(type);
+        return (T) storage.remove(this, ComponentRegistry.idOf(type));
     }
 
     /**
      * 모든 컴포넌트를 반환합니다.
-     * 
+     *
      * @return 컴포넌트 컬렉션
      */
     public Collection<Component> getAll() {
-        return components.values();
+        Archetype current = archetype;
+        if (current == null) {
+            return Collections.emptyList();
+        }
+        List<Component> all = new ArrayList<>(current.componentCount());
+        for (int column = 0; column < current.componentCount(); column++) {
+            all.add(current.get(column, row));
+        }
+        return all;
     }
 
     /**
      * 컨테이너를 비웁니다.
      */
     public void clear() {
-        components.clear();
+        storage.detachAll(this);
     }
 
     /**
      * 부착된 컴포넌트 개수를 반환합니다.
-     * 
+     *
      * @return 컴포넌트 개수
      */
     public int size() {
-        return components.size();
+        Archetype current = archetype;
+        return current != null ? current.componentCount() : 0;
+    }
+
+    // ===== 저장소 위치 =====
+
+    /**
+     * 현재 속한 아키타입을 반환합니다.
+     *
+     * @return 아키타입 또는 null (컴포넌트 없음)
+     */
+    public Archetype getArchetype() {
+        return archetype;
+    }
+
+    /**
+     * 아키타입 내 행 인덱스를 반환합니다.
+     *
+     * @return 행 인덱스 또는 -1
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * 이 컨테이너를 소유한 엔티티를 반환합니다.
+     *
+     * @return SanctuaryEntity 또는 null
+     */
+    public SanctuaryEntity getOwner() {
+        return owner;
+    }
+
+    void setLocation(Archetype archetype, int row) {
+        this.archetype = archetype;
+        this.row = row;
+    }
+
+    void setRow(int row) {
+        this.row = row;
     }
 }
@@ -0,0 +1,69 @@
+package com.sanctuary.core.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 컴포넌트 클래스마다 조밀한(dense) 정수 ID를 부여하는 레지스트리입니다.
+ * 아키타입 저장소는 이 ID를 배열 인덱스로 사용하여 해시 조회 없이 컴포넌트에 접근합니다.
+ *
+ * ID는 JVM 단위로 처음 조회되는 순서대로 0부터 할당되며, 한 번 할당되면 바뀌지 않습니다.
+ */
+public final class ComponentRegistry {
+
+    private static final List<Class<? extends Component>> types = new ArrayList<>();
+
+    private static final ClassValue<Integer> ids = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            synchronized (types) {
+                // ClassValue는 경합 시 computeValue를 중복 호출할 수 있으므로 기존 할당을 재사용
+                int existing = types.indexOf(type);
+                if (existing >= 0) {
+                    return existing;
+                }
+                @SuppressWarnings("unchecked")
+                Class<? extends Component> componentType = (Class<? extends Component>) type;
+                types.add(componentType);
+                return types.size() - 1;
+            }
+        }
+    };
+
+    private ComponentRegistry() {
+    }
+
+    /**
+     * 컴포넌트 클래스의 ID를 반환합니다.
+     * 처음 조회되는 클래스라면 새 ID를 할당합니다.
+     *
+     * @param type 컴포넌트 클래스
+     * @return 조밀한 컴포넌트 ID
+     */
+    public static int idOf(Class<? extends Component> type) {
+        return ids.get(type);
+    }
+
+    /**
+     * ID에 해당하는 컴포넌트 클래스를 반환합니다.
+     *
+     * @param id 컴포넌트 ID
+     * @return 컴포넌트 클래스
+     */
+    public static Class<? extends Component> typeOf(int id) {
+        synchronized (types) {
+            return types.get(id);
+        }
+    }
+
+    /**
+     * 지금까지 할당된 컴포넌트 타입 수를 반환합니다.
+     *
+     * @return 등록된 타입 수
+     */
+    public static int size() {
+        synchronized (types) {
+            return types.size();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.sanctuary.core.ecs;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link SystemScheduler}가 매 틱 실행하는 ECS 시스템입니다.
+ *
+ * 시스템은 읽고 쓰는 컴포넌트(또는 매니저 같은 공유 리소스) 타입을 선언합니다.
+ * 쓰기 집합이 겹치거나 한쪽의 쓰기가 다른 쪽의 읽기와 겹치면 충돌로 간주하여 순서대로 실행하고,
+ * 충돌하지 않는 순수 데이터 시스템은 워커 스레드에서 병렬로 실행합니다.
+ *
+ * Bukkit API를 호출하는 시스템은 {@link #isMainThread()}가 true여야 합니다.
+ *
+ * 사용 예시:
+ *
+ * <pre>
+ * scheduler.register(EcsSystem.builder("stagger_decay")
+ *         .writes(StateComponent.class)
+ *         .run(tick -> stateQuery.forEach(StateComponent.class, StateComponent::updateStagger))
+ *         .build());
+ * </pre>
+ */
+public interface EcsSystem {
+
+    /**
+     * 시스템 이름을 반환합니다. (스케줄러 내에서 고유해야 함)
+     */
+    String getName();
+
+    /**
+     * 시스템이 읽는 컴포넌트/리소스 타입을 반환합니다.
+     */
+    default Set<Class<?>> getReads() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * 시스템이 쓰는 컴포넌트/리소스 타입을 반환합니다.
+     */
+    default Set<Class<?>> getWrites() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * 반드시 먼저 실행되어야 하는 시스템 이름들을 반환합니다.
+     */
+    default Set<String> getRunsAfter() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * 메인 스레드에서 실행해야 하는지 여부를 반환합니다. (Bukkit API 사용 시 true)
+     */
+    default boolean isMainThread() {
+        return false;
+    }
+
+    /**
+     * 실행 주기(틱)를 반환합니다. 1이면 매 틱 실행됩니다.
+     */
+    default int getInterval() {
+        return 1;
+    }
+
+    /**
+     * 시스템 로직을 실행합니다.
+     *
+     * @param tick 스케줄러 틱 번호
+     */
+    void update(long tick);
+
+    /**
+     * 다른 시스템과 동시에 실행하면 안 되는지 확인합니다.
+     *
+     * @param other 비교할 시스템
+     * @return 충돌 여부
+     */
+    default boolean conflictsWith(EcsSystem other) {
+        for (Class<?> type : getWrites()) {
+            if (other.getWrites().contains(type) || other.getReads().contains(type)) {
+                return true;
+            }
+        }
+        for (Class<?> type : other.getWrites()) {
+            if (getReads().contains(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ===== Builder =====
+
+    static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * 람다 기반 시스템 빌더입니다.
+     */
+    final class Builder {
+        private final String name;
+        private final Set<Class<?>> reads = new LinkedHashSet<>();
+        private final Set<Class<?>> writes = new LinkedHashSet<>();
+        private final Set<String> runsAfter = new HashSet<>();
+        private boolean mainThread = false;
+        private int interval = 1;
+        private LongConsumer action;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder reads(Class<?>... types) {
+            Collections.addAll(reads, types);
+            return this;
+        }
+
+        public Builder writes(Class<?>... types) {
+            Collections.addAll(writes, types);
+            return this;
+        }
+
+        public Builder after(String... systemNames) {
+            Collections.addAll(runsAfter, systemNames);
+            return this;
+        }
+
+        public Builder mainThread() {
+            this.mainThread = true;
+            return this;
+        }
+
+        public Builder interval(int ticks) {
+            this.interval = Math.max(1, ticks);
+            return this;
+        }
+
+        public Builder run(LongConsumer action) {
+            this.action = action;
+            return this;
+        }
+
+        public EcsSystem build() {
+            if (action == null) {
+                throw new IllegalStateException("시스템 동작이 지정되지 않았습니다: " + name);
+            }
+            Set<Class<?>> readSet = Collections.unmodifiableSet(new LinkedHashSet<>(reads));
+            Set<Class<?>> writeSet = Collections.unmodifiableSet(new LinkedHashSet<>(writes));
+            Set<String> afterSet = Collections.unmodifiableSet(new HashSet<>(runsAfter));
+            boolean main = mainThread;
+            int every = interval;
+            LongConsumer body = action;
+
+            return new EcsSystem() {
+                @Override
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public Set<Class<?>> getReads() {
+                    return readSet;
+                }
+
+                @Override
+                public Set<Class<?>> getWrites() {
+                    return writeSet;
+                }
+
+                @Override
+                public Set<String> getRunsAfter() {
+                    return afterSet;
+                }
+
+                @Override
+                public boolean isMainThread() {
+                    return main;
+                }
+
+                @Override
+                public int getInterval() {
+                    return every;
+                }
+
+                @Override
+                public void update(long tick) {
+                    body.accept(tick);
+                }
+
+                @Override
+                public String toString() {
+                    return "EcsSystem{" + name + "}";
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.sanctuary.core.ecs;
+
+/**
+ * {@link EntityManager}가 발급하는 정수 엔티티 핸들 유틸리티입니다.
+ *
+ * 핸들은 하위 20비트의 슬롯 인덱스와 그 위 11비트의 세대(generation)로 구성됩니다.
+ * 슬롯이 재사용될 때마다 세대가 증가하므로, 이미 제거된 엔티티의 핸들은 새 엔티티와 구분됩니다.
+ * 세대는 1부터 시작하므로 유효한 핸들은 항상 0보다 크며, {@link #NONE}(0)은 "엔티티 없음"을 뜻합니다.
+ *
+ * UUID는 Bukkit 경계에서만 사용하고, 내부 조회와 Lua 스크립트에는 이 핸들을 전달합니다.
+ */
+public final class EntityHandle {
+
+    /** 엔티티 없음 */
+    public static final int NONE = 0;
+
+    static final int INDEX_BITS = 20;
+    static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    static final int GENERATION_MASK = (1 << (31 - INDEX_BITS)) - 1;
+
+    /** 최대 동시 엔티티 수 */
+    public static final int MAX_ENTITIES = INDEX_MASK + 1;
+
+    private EntityHandle() {
+    }
+
+    /**
+     * 슬롯 인덱스와 세대로 핸들을 만듭니다.
+     *
+     * @param index      슬롯 인덱스
+     * @param generation 세대 (1 이상)
+     * @return 핸들
+     */
+    static int pack(int index, int generation) {
+        return (generation << INDEX_BITS) | index;
+    }
+
+    /**
+     * 다음 세대를 반환합니다. 최대값을 넘으면 1로 돌아갑니다.
+     */
+    static int nextGeneration(int generation) {
+        int next = (generation + 1) & GENERATION_MASK;
+        return next == 0 ? 1 : next;
+    }
+
+    /**
+     * 핸들의 슬롯 인덱스를 반환합니다.
+     *
+     * @param handle 핸들
+     * @return 슬롯 인덱스
+     */
+    public static int indexOf(int handle) {
+        return handle & INDEX_MASK;
+    }
+
+    /**
+     * 핸들의 세대를 반환합니다.
+     *
+     * @param handle 핸들
+     * @return 세대
+     */
+    public static int generationOf(int handle) {
+        return (handle >>> INDEX_BITS) & GENERATION_MASK;
+    }
+
+    /**
+     * 핸들을 디버그용 문자열로 변환합니다.
+     *
+     * @param handle 핸들
+     * @return "인덱스v세대" 형식 문자열
+     */
+    public static String toString(int handle) {
+        return handle == NONE ? "none" : indexOf(handle) + "v" + generationOf(handle);
+    }
+}
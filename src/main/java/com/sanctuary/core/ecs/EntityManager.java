@@ -1,24 +1,48 @@
 package com.sanctuary.core.ecs;
 
 import org.bukkit.entity.Entity;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
 import java.util.logging.Logger;
 
 /**
  * 모든 SanctuaryEntity의 생명주기를 관리하는 매니저입니다.
  * UUID를 키로 하여 엔티티를 추적하고 관리합니다.
  * 
+ * 엔티티마다 세대 카운터가 포함된 정수 핸들({@link EntityHandle})을 발급합니다.
+ * UUID는 Bukkit 이벤트 경계에서만 사용하고, 내부 조회와 Lua 스크립트에는 핸들을 사용합니다.
+ * 핸들 조회는 배열 인덱싱 한 번으로 끝나며 문자열 파싱이나 해싱이 없습니다.
+ * 핸들별 상태를 가진 서비스는 {@link #addReleaseListener(IntConsumer)}로 핸들 해제를 통지받아 정리합니다.
+ * 
+ * 컴포넌트는 {@link ArchetypeStorage}에 아키타입 단위로 모여 저장되므로,
+ * 같은 컴포넌트 구성을 가진 엔티티들을 테이블 단위로 순회할 수 있습니다.
+ * 
  * 스레드 안전성을 위해 ConcurrentHashMap을 사용합니다.
  */
 public class EntityManager {
 
     private final Map<UUID, SanctuaryEntity> entityMap = new ConcurrentHashMap<>();
+    private final ArchetypeStorage storage = new ArchetypeStorage();
     private final Logger logger;
 
+    // 핸들 슬롯 (인덱스 -> 엔티티), 슬롯별 현재 세대, 재사용 대기 슬롯 스택
+    private final Object slotLock = new Object();
+    private volatile SanctuaryEntity[] slots = new SanctuaryEntity[256];
+    private int[] generations = new int[256];
+    private int[] freeSlots = new int[64];
+    private int freeCount = 0;
+    private int nextSlot = 0;
+
+    // 핸들 해제 통지 대상 (슬롯 잠금 밖에서 호출)
+    private final List<IntConsumer> releaseListeners = new CopyOnWriteArrayList<>();
+
     public EntityManager(Logger logger) {
         this.logger = logger;
     }
@@ -33,8 +57,42 @@ public class EntityManager {
         if (entity == null) {
             throw new IllegalArgumentException("엔티티는 null일 수 없습니다.");
         }
-        return entityMap.computeIfAbsent(entity.getUniqueId(),
-                uuid -> new SanctuaryEntity(entity));
+        UUID uuid = entity.getUniqueId();
+        SanctuaryEntity existing = entityMap.get(uuid);
+        if (existing != null) {
+            return existing; // 조회 경로: 람다 캡처 할당 없음
+        }
+        return entityMap.computeIfAbsent(uuid, key -> allocate(entity));
+    }
+
+    /**
+     * 핸들로 SanctuaryEntity를 조회합니다.
+     * 이미 제거된 엔티티의 핸들(세대 불일치)이면 null을 반환합니다.
+     * 
+     * @param handle 엔티티 핸들
+     * @return SanctuaryEntity 또는 null
+     */
+    public SanctuaryEntity get(int handle) {
+        if (handle <= EntityHandle.NONE) {
+            return null;
+        }
+        SanctuaryEntity[] current = slots;
+        int index = EntityHandle.indexOf(handle);
+        if (index >= current.length) {
+            return null;
+        }
+        SanctuaryEntity entity = current[index];
+        return entity != null && entity.getHandle() == handle ? entity : null;
+    }
+
+    /**
+     * 핸들이 현재 살아 있는 엔티티를 가리키는지 확인합니다.
+     * 
+     * @param handle 엔티티 핸들
+     * @return 유효 여부
+     */
+    public boolean isAlive(int handle) {
+        return get(handle) != null;
     }
 
     /**
@@ -69,6 +127,17 @@ public class EntityManager {
         return entityMap.get(entity.getUniqueId());
     }
 
+    /**
+     * Bukkit 엔티티의 핸들을 반환합니다. (스크립트 테이블의 id 필드용)
+     * 
+     * @param entity Bukkit 엔티티
+     * @return 핸들 또는 등록되지 않은 엔티티면 {@link EntityHandle#NONE}
+     */
+    public int handleOf(Entity entity) {
+        SanctuaryEntity sanctuaryEntity = get(entity);
+        return sanctuaryEntity != null ? sanctuaryEntity.getHandle() : EntityHandle.NONE;
+    }
+
     /**
      * 엔티티가 관리되고 있는지 확인합니다.
      * 
@@ -89,6 +158,7 @@ public class EntityManager {
         SanctuaryEntity removed = entityMap.remove(uuid);
         if (removed != null) {
             removed.getComponents().clear();
+            release(removed);
         }
         return removed;
     }
@@ -118,6 +188,7 @@ public class EntityManager {
             var entry = iterator.next();
             if (!entry.getValue().isValid()) {
                 entry.getValue().getComponents().clear();
+                release(entry.getValue());
                 iterator.remove();
                 removed++;
             }
@@ -137,6 +208,27 @@ public class EntityManager {
         return entityMap.values();
     }
 
+    /**
+     * 지정된 컴포넌트를 모두 가진 엔티티들의 라이브 뷰를 반환합니다.
+     * 뷰는 캐시되며 컴포넌트 부착/제거가 즉시 반영되므로, 틱마다 다시 조회할 필요가 없습니다.
+     * 
+     * @param types 필요한 컴포넌트 타입들
+     * @return EntityQuery 뷰
+     */
+    @SafeVarargs
+    public final EntityQuery query(Class<? extends Component>... types) {
+        return storage.query(types);
+    }
+
+    /**
+     * 컴포넌트 아키타입 저장소를 반환합니다.
+     * 
+     * @return ArchetypeStorage
+     */
+    public ArchetypeStorage getStorage() {
+        return storage;
+    }
+
     /**
      * 관리 중인 엔티티 수를 반환합니다.
      * 
@@ -152,8 +244,68 @@ public class EntityManager {
     public void clear() {
         for (SanctuaryEntity entity : entityMap.values()) {
             entity.getComponents().clear();
+            release(entity);
         }
         entityMap.clear();
         logger.info("[EntityManager] 모든 엔티티 정리됨.");
     }
+
+    /**
+     * 엔티티가 제거되어 핸들이 해제될 때 호출할 리스너를 등록합니다.
+     * 리스너는 제거를 수행한 스레드에서 슬롯 잠금 밖에서 호출되며, 해제된 핸들을 받습니다.
+     * 
+     * @param listener 해제된 핸들을 받는 리스너
+     */
+    public void addReleaseListener(IntConsumer listener) {
+        releaseListeners.add(listener);
+    }
+
+    // ===== 핸들 할당 =====
+
+    private SanctuaryEntity allocate(Entity entity) {
+        synchronized (slotLock) {
+            int index;
+            if (freeCount > 0) {
+                index = freeSlots[--freeCount];
+            } else {
+                if (nextSlot >= EntityHandle.MAX_ENTITIES) {
+                    throw new IllegalStateException("엔티티 핸들 슬롯이 모두 사용 중입니다: " + EntityHandle.MAX_ENTITIES);
+                }
+                index = nextSlot++;
+                if (index >= slots.length) {
+                    int capacity = Math.min(slots.length * 2, EntityHandle.MAX_ENTITIES);
+                    generations = Arrays.copyOf(generations, capacity);
+                    slots = Arrays.copyOf(slots, capacity);
+                }
+                generations[index] = 1;
+            }
+
+            int handle = EntityHandle.pack(index, generations[index]);
+            SanctuaryEntity created = new SanctuaryEntity(entity, storage, handle);
+            slots[index] = created;
+            return created;
+        }
+    }
+
+    private void release(SanctuaryEntity entity) {
+        int handle = entity.getHandle();
+        if (handle == EntityHandle.NONE) {
+            return;
+        }
+        synchronized (slotLock) {
+            int index = EntityHandle.indexOf(handle);
+            if (slots[index] != entity) {
+                return;
+            }
+            slots[index] = null;
+            generations[index] = EntityHandle.nextGeneration(generations[index]);
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = index;
+        }
+        for (IntConsumer listener : releaseListeners) {
+            listener.accept(handle);
+        }
+    }
 }
@@ -0,0 +1,240 @@
+package com.sanctuary.core.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 지정된 컴포넌트를 모두 가진 엔티티들에 대한 라이브 뷰입니다.
+ *
+ * 뷰는 조건에 맞는 아키타입 목록만 캐시하며, 새 아키타입이 생성될 때만 갱신됩니다.
+ * 엔티티의 부착/제거는 아키타입 테이블에 바로 반영되므로 뷰를 다시 계산할 필요가 없습니다.
+ *
+ * 조회 타입으로 인터페이스(예: ClassMechanic)를 지정하면
+ * 해당 인터페이스를 구현한 컴포넌트를 가진 엔티티가 모두 포함됩니다.
+ *
+ * 사용 예시:
+ *
+ * <pre>
+ * EntityQuery query = entityManager.query(AttributeComponent.class, StateComponent.class);
+ * query.forEach(StateComponent.class, StateComponent::updateStagger);
+ * </pre>
+ *
+ * 순회 중에는 컴포넌트를 부착/제거하지 마십시오. (행 이동으로 일부 엔티티를 건너뛸 수 있음)
+ */
+public class EntityQuery implements Iterable<SanctuaryEntity> {
+
+    private final Class<? extends Component>[] types;
+
+    // 조건에 맞는 아키타입과, 조회 타입별 열 인덱스 ([아키타입][조회 타입])
+    private Archetype[] archetypes = new Archetype[0];
+    private int[][] columns = new int[0][];
+
+    @SafeVarargs
+    EntityQuery(Class<? extends Component>... types) {
+        if (types.length == 0) {
+            throw new IllegalArgumentException("쿼리에는 최소 하나의 컴포넌트 타입이 필요합니다.");
+        }
+        this.types = types.clone();
+    }
+
+    /**
+     * 아키타입이 조건에 맞으면 뷰에 추가합니다.
+     * 새 아키타입이 생성될 때 {@link ArchetypeStorage}가 호출합니다.
+     */
+    void offer(Archetype archetype) {
+        int[] typeColumns = new int[types.length];
+        for (int i = 0; i < types.length; i++) {
+            typeColumns[i] = findColumn(archetype, types[i]);
+            if (typeColumns[i] < 0) {
+                return;
+            }
+        }
+        int count = archetypes.length;
+        archetypes = Arrays.copyOf(archetypes, count + 1);
+        columns = Arrays.copyOf(columns, count + 1);
+        archetypes[count] = archetype;
+        columns[count] = typeColumns;
+    }
+
+    private static int findColumn(Archetype archetype, Class<? extends Component> type) {
+        int exact = archetype.columnOf(ComponentRegistry.idOf(type));
+        if (exact >= 0) {
+            return exact;
+        }
+        for (int column = 0; column < archetype.componentCount(); column++) {
+            if (type.isAssignableFrom(ComponentRegistry.typeOf(archetype.componentIdAt(column)))) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    private int typeIndex(Class<? extends Component> type) {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("쿼리에 포함되지 않은 컴포넌트 타입입니다: " + type.getSimpleName());
+    }
+
+    // ===== 순회 =====
+
+    /**
+     * 조건에 맞는 모든 엔티티에 대해 동작을 수행합니다.
+     *
+     * @param action 수행할 동작
+     */
+    @Override
+    public void forEach(Consumer<? super SanctuaryEntity> action) {
+        Archetype[] snapshot = archetypes;
+        for (Archetype archetype : snapshot) {
+            for (int row = 0; row < archetype.size(); row++) {
+                SanctuaryEntity entity = archetype.getEntity(row);
+                if (entity != null) {
+                    action.accept(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 모든 엔티티의 컴포넌트를 열 단위로 순회합니다.
+     * 엔티티 래퍼나 타입 조회를 거치지 않으므로 틱 단위 시스템에 적합합니다.
+     *
+     * @param type   쿼리에 포함된 컴포넌트 타입
+     * @param action 수행할 동작
+     * @param <A>    컴포넌트 타입
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Component> void forEach(Class<A> type, Consumer<? super A> action) {
+        int index = typeIndex(type);
+        Archetype[] snapshot = archetypes;
+        int[][] columnSnapshot = columns;
+        for (int i = 0; i < snapshot.length; i++) {
+            Archetype archetype = snapshot[i];
+            int column = columnSnapshot[i][index];
+            for (int row = 0; row < archetype.size(); row++) {
+                action.accept((A) archetype.get(column, row));
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 모든 엔티티의 두 컴포넌트를 함께 순회합니다.
+     *
+     * @param typeA  첫 번째 컴포넌트 타입
+     * @param typeB  두 번째 컴포넌트 타입
+     * @param action 수행할 동작
+     * @param <A>    첫 번째 컴포넌트 타입
+     * @param <B>    두 번째 컴포넌트 타입
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Component, B extends Component> void forEach(Class<A> typeA, Class<B> typeB,
+            BiConsumer<? super A, ? super B> action) {
+        int indexA = typeIndex(typeA);
+        int indexB = typeIndex(typeB);
+        Archetype[] snapshot = archetypes;
+        int[][] columnSnapshot = columns;
+        for (int i = 0; i < snapshot.length; i++) {
+            Archetype archetype = snapshot[i];
+            int columnA = columnSnapshot[i][indexA];
+            int columnB = columnSnapshot[i][indexB];
+            for (int row = 0; row < archetype.size(); row++) {
+                action.accept((A) archetype.get(columnA, row), (B) archetype.get(columnB, row));
+            }
+        }
+    }
+
+    @Override
+    public Iterator<SanctuaryEntity> iterator() {
+        Archetype[] snapshot = archetypes;
+        return new Iterator<>() {
+            private int archetypeIndex = 0;
+            private int row = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (archetypeIndex < snapshot.length) {
+                    if (row < snapshot[archetypeIndex].size()) {
+                        return true;
+                    }
+                    archetypeIndex++;
+                    row = 0;
+                }
+                return false;
+            }
+
+            @Override
+            public SanctuaryEntity next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return snapshot[archetypeIndex].getEntity(row++);
+            }
+        };
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 조건에 맞는 엔티티 수를 반환합니다.
+     *
+     * @return 엔티티 수
+     */
+    public int size() {
+        int total = 0;
+        for (Archetype archetype : archetypes) {
+            total += archetype.size();
+        }
+        return total;
+    }
+
+    /**
+     * 조건에 맞는 엔티티가 없는지 확인합니다.
+     *
+     * @return 비어 있으면 true
+     */
+    public boolean isEmpty() {
+        for (Archetype archetype : archetypes) {
+            if (archetype.size() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 조건에 맞는 엔티티 목록의 복사본을 반환합니다.
+     *
+     * @return 엔티티 리스트
+     */
+    public List<SanctuaryEntity> toList() {
+        List<SanctuaryEntity> result = new ArrayList<>(size());
+        forEach(result::add);
+        return result;
+    }
+
+    /**
+     * 조건에 맞는 아키타입 수를 반환합니다.
+     *
+     * @return 아키타입 수
+     */
+    public int getArchetypeCount() {
+        return archetypes.length;
+    }
+
+    /**
+     * 쿼리 조건 컴포넌트 타입들을 반환합니다.
+     *
+     * @return 컴포넌트 타입 배열
+     */
+    public Class<? extends Component>[] getTypes() {
+        return types.clone();
+    }
+}
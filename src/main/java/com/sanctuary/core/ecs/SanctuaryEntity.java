@@ -11,6 +11,7 @@ import java.util.UUID;
 public class SanctuaryEntity {
 
     private final UUID uuid;
+    private final int handle;
     private final Entity bukkitEntity;
     private final ComponentContainer components;
 
@@ -20,12 +21,34 @@ public class SanctuaryEntity {
      * @param bukkitEntity 래핑할 Bukkit 엔티티
      */
     public SanctuaryEntity(Entity bukkitEntity) {
+        this(bukkitEntity, new ArchetypeStorage());
+    }
+
+    /**
+     * 공유 아키타입 저장소를 사용하는 SanctuaryEntity를 생성합니다.
+     * 
+     * @param bukkitEntity 래핑할 Bukkit 엔티티
+     * @param storage      컴포넌트를 저장할 아키타입 저장소
+     */
+    public SanctuaryEntity(Entity bukkitEntity, ArchetypeStorage storage) {
+        this(bukkitEntity, storage, EntityHandle.NONE);
+    }
+
+    /**
+     * EntityManager가 핸들을 발급하여 SanctuaryEntity를 생성합니다.
+     * 
+     * @param bukkitEntity 래핑할 Bukkit 엔티티
+     * @param storage      컴포넌트를 저장할 아키타입 저장소
+     * @param handle       발급된 정수 핸들
+     */
+    SanctuaryEntity(Entity bukkitEntity, ArchetypeStorage storage, int handle) {
         if (bukkitEntity == null) {
             throw new IllegalArgumentException("Bukkit 엔티티는 null일 수 없습니다.");
         }
         this.bukkitEntity = bukkitEntity;
         this.uuid = bukkitEntity.getUniqueId();
-        this.components = new ComponentContainer();
+        this.handle = handle;
+        this.components = new ComponentContainer(storage, this);
     }
 
     /**
@@ -37,6 +60,16 @@ public class SanctuaryEntity {
         return uuid;
     }
 
+    /**
+     * EntityManager가 발급한 정수 핸들을 반환합니다.
+     * 매니저 밖에서 생성된 엔티티는 {@link EntityHandle#NONE}을 반환합니다.
+     * 
+     * @return 엔티티 핸들
+     */
+    public int getHandle() {
+        return handle;
+    }
+
     /**
      * 래핑된 Bukkit 엔티티를 반환합니다.
      * 
@@ -138,6 +171,6 @@ public class SanctuaryEntity {
 
     @Override
     public String toString() {
-        return "SanctuaryEntity{uuid=" + uuid + ", type=" + bukkitEntity.getType() + "}";
+        return "SanctuaryEntity{uuid=" + uuid + ", handle=" + EntityHandle.toString(handle) + ", type=" + bukkitEntity.getType() + "}";
     }
 }
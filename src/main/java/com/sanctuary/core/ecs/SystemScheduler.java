@@ -0,0 +1,341 @@
+package com.sanctuary.core.ecs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * ECS 시스템 스케줄러입니다.
+ * 등록된 {@link EcsSystem}들을 의존성과 읽기/쓰기 충돌을 고려해 스테이지로 나누고 매 틱 실행합니다.
+ *
+ * 실행 규칙:
+ * - 충돌하는 시스템은 등록 순서대로, 서로 다른 스테이지에서 실행됩니다.
+ * - {@link EcsSystem#getRunsAfter()}로 지정된 시스템은 항상 먼저 실행됩니다.
+ * - 충돌하지 않는 순수 데이터 시스템은 같은 스테이지에서 ForkJoin 풀로 병렬 실행됩니다.
+ * - 메인 스레드 시스템은 단독 스테이지(배리어)로 실행되어 앞뒤 스테이지와 겹치지 않습니다.
+ *
+ * {@link #tick()}은 메인 스레드에서 호출해야 하며, 병렬 스테이지가 모두 끝날 때까지 반환하지 않습니다.
+ */
+public class SystemScheduler {
+
+    private final Logger logger;
+    private final ForkJoinPool pool;
+
+    private final Map<String, EcsSystem> systems = new LinkedHashMap<>();
+    private final Map<String, SystemStats> stats = new ConcurrentHashMap<>();
+
+    private List<Stage> stages = Collections.emptyList();
+    private boolean planDirty = false;
+
+    private long tick = 0;
+    private long tickBudgetNanos = 10_000_000L; // 10ms (틱의 1/5)
+
+    public SystemScheduler(Logger logger) {
+        this(logger, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    public SystemScheduler(Logger logger, int parallelism) {
+        this.logger = logger;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    // ===== 시스템 등록 =====
+
+    /**
+     * 시스템을 등록합니다.
+     *
+     * @param system 등록할 시스템
+     */
+    public synchronized void register(EcsSystem system) {
+        if (systems.containsKey(system.getName())) {
+            throw new IllegalArgumentException("이미 등록된 시스템입니다: " + system.getName());
+        }
+        systems.put(system.getName(), system);
+        stats.put(system.getName(), new SystemStats());
+        planDirty = true;
+        logger.fine("[SystemScheduler] 시스템 등록: " + system.getName()
+                + (system.isMainThread() ? " (메인 스레드)" : ""));
+    }
+
+    /**
+     * 시스템을 제거합니다.
+     *
+     * @param name 시스템 이름
+     */
+    public synchronized void unregister(String name) {
+        if (systems.remove(name) != null) {
+            stats.remove(name);
+            planDirty = true;
+        }
+    }
+
+    // ===== 실행 =====
+
+    /**
+     * 한 틱을 실행합니다.
+     */
+    public void tick() {
+        List<Stage> plan;
+        synchronized (this) {
+            if (planDirty) {
+                stages = buildStages();
+                planDirty = false;
+            }
+            plan = stages;
+        }
+
+        long current = ++tick;
+        long start = System.nanoTime();
+
+        for (Stage stage : plan) {
+            List<EcsSystem> due = new ArrayList<>(stage.systems.size());
+            for (EcsSystem system : stage.systems) {
+                if (current % system.getInterval() == 0) {
+                    due.add(system);
+                }
+            }
+
+            if (due.isEmpty()) {
+                continue;
+            }
+            if (stage.mainThread || due.size() == 1) {
+                for (EcsSystem system : due) {
+                    runSystem(system, current);
+                }
+            } else {
+                runParallel(due, current);
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (elapsed > tickBudgetNanos) {
+            logger.fine("[SystemScheduler] 틱 예산 초과: " + (elapsed / 1_000) + "µs (예산 "
+                    + (tickBudgetNanos / 1_000) + "µs)");
+        }
+    }
+
+    private void runParallel(List<EcsSystem> due, long current) {
+        List<Callable<Void>> tasks = new ArrayList<>(due.size());
+        for (EcsSystem system : due) {
+            tasks.add(() -> {
+                runSystem(system, current);
+                return null;
+            });
+        }
+
+        for (Future<Void> future : pool.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                logger.log(Level.WARNING, "[SystemScheduler] 병렬 스테이지 오류: " + e.getCause(), e.getCause());
+            }
+        }
+    }
+
+    private void runSystem(EcsSystem system, long current) {
+        long start = System.nanoTime();
+        try {
+            system.update(current);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "[SystemScheduler] 시스템 오류 (" + system.getName() + "): " + e.getMessage(), e);
+        }
+        SystemStats systemStats = stats.get(system.getName());
+        if (systemStats != null) {
+            systemStats.record(System.nanoTime() - start);
+        }
+    }
+
+    // ===== 실행 계획 =====
+
+    /**
+     * 의존성 순서로 정렬한 뒤, 충돌하지 않는 시스템끼리 스테이지로 묶습니다.
+     */
+    private List<Stage> buildStages() {
+        List<EcsSystem> ordered = sortByDependencies();
+        List<Stage> result = new ArrayList<>();
+        int lastBarrier = -1;
+
+        for (EcsSystem system : ordered) {
+            if (system.isMainThread()) {
+                Stage stage = new Stage(true);
+                stage.systems.add(system);
+                result.add(stage);
+                lastBarrier = result.size() - 1;
+                continue;
+            }
+
+            int minStage = lastBarrier + 1;
+            for (int i = 0; i < result.size(); i++) {
+                for (EcsSystem placed : result.get(i).systems) {
+                    if (system.getRunsAfter().contains(placed.getName()) || system.conflictsWith(placed)) {
+                        minStage = Math.max(minStage, i + 1);
+                    }
+                }
+            }
+
+            int target = -1;
+            for (int i = minStage; i < result.size(); i++) {
+                if (!result.get(i).mainThread) {
+                    target = i;
+                    break;
+                }
+            }
+            if (target < 0) {
+                result.add(new Stage(false));
+                target = result.size() - 1;
+            }
+            result.get(target).systems.add(system);
+        }
+
+        logger.fine("[SystemScheduler] 실행 계획 갱신: 시스템 " + ordered.size() + "개, 스테이지 " + result.size() + "개");
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * runsAfter 의존성을 만족하도록 등록 순서를 유지하며 위상 정렬합니다.
+     */
+    private List<EcsSystem> sortByDependencies() {
+        List<EcsSystem> ordered = new ArrayList<>(systems.size());
+        Set<String> visited = new HashSet<>();
+        Set<String> visiting = new HashSet<>();
+        for (EcsSystem system : systems.values()) {
+            visit(system, ordered, visited, visiting);
+        }
+        return ordered;
+    }
+
+    private void visit(EcsSystem system, List<EcsSystem> ordered, Set<String> visited, Set<String> visiting) {
+        if (visited.contains(system.getName())) {
+            return;
+        }
+        if (!visiting.add(system.getName())) {
+            throw new IllegalStateException("시스템 의존성 순환: " + system.getName());
+        }
+        for (String dependency : system.getRunsAfter()) {
+            EcsSystem before = systems.get(dependency);
+            if (before != null) {
+                visit(before, ordered, visited, visiting);
+            }
+        }
+        visiting.remove(system.getName());
+        visited.add(system.getName());
+        ordered.add(system);
+    }
+
+    // ===== 조회/설정 =====
+
+    /**
+     * 시스템별 실행 통계를 반환합니다.
+     *
+     * @return 시스템 이름 -> 통계
+     */
+    public synchronized Map<String, SystemStats> getStats() {
+        return new LinkedHashMap<>(stats);
+    }
+
+    /**
+     * 현재 실행 계획의 스테이지 수를 반환합니다.
+     */
+    public synchronized int getStageCount() {
+        if (planDirty) {
+            stages = buildStages();
+            planDirty = false;
+        }
+        return stages.size();
+    }
+
+    /**
+     * 등록된 시스템 수를 반환합니다.
+     */
+    public synchronized int getSystemCount() {
+        return systems.size();
+    }
+
+    /**
+     * 현재 틱 번호를 반환합니다.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * 틱 예산(나노초)을 설정합니다. 초과 시 FINE 로그를 남깁니다.
+     */
+    public void setTickBudgetNanos(long tickBudgetNanos) {
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+
+    /**
+     * 워커 풀을 종료합니다.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // ===== 내부 타입 =====
+
+    private static final class Stage {
+        private final boolean mainThread;
+        private final List<EcsSystem> systems = new ArrayList<>();
+
+        private Stage(boolean mainThread) {
+            this.mainThread = mainThread;
+        }
+    }
+
+    /**
+     * 시스템 실행 시간 통계입니다.
+     * 여러 워커 스레드가 동시에 기록해도 누락이 없도록 누적값은 LongAdder, 최대값은 AtomicLong으로 갱신합니다.
+     */
+    public static final class SystemStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile long lastNanos;
+
+        private void record(long nanos) {
+            calls.increment();
+            totalNanos.add(nanos);
+            lastNanos = nanos;
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getLastNanos() {
+            return lastNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public double getAverageNanos() {
+            long count = calls.sum();
+            return count > 0 ? (double) totalNanos.sum() / count : 0.0;
+        }
+    }
+}
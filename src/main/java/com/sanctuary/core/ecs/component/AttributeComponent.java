@@ -1,167 +1,761 @@
 package com.sanctuary.core.ecs.component;
 
+import com.sanctuary.combat.stat.Stat;
+import com.sanctuary.combat.stat.StatGraph;
 import com.sanctuary.core.ecs.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * 엔티티의 모든 스탯을 관리하는 속성 컨테이너 컴포넌트입니다.
  * 디아블로 IV의 데미지 버킷 시스템을 지원합니다.
- * 
+ *
  * 주요 스탯 키:
  * - Core: STRENGTH, INTELLIGENCE, WILLPOWER, DEXTERITY
  * - Offensive: WEAPON_DAMAGE, CRIT_CHANCE, ATTACK_SPEED, OVERPOWER_DAMAGE
  * - Defensive: ARMOR, RESISTANCE_FIRE, MAX_HP, BARRIER_MAX
  * - Utility: RESOURCE_MAX, RESOURCE_REGEN, COOLDOWN_REDUCTION
+ *
+ * 저장 구조:
+ * - {@link Stat}에 정의된 스탯은 {@link Stat#ordinal()}로 인덱싱되는 기본형 배열
+ * (base/additive/multiplicative/final)에 저장됩니다. 조회는 배열 로드 한 번이며 할당이 없습니다.
+ * - Stat에 없는 스크립트 정의 스탯은 오버플로 맵({@link StatValue})에 저장됩니다.
+ *
+ * 최종 값 캐시:
+ * - 쓰기(장착/정복자/버프 변경)는 해당 스탯의 dirty 비트만 세우고 버전을 올립니다.
+ * - 캐시는 소유 스레드가 {@link #recalculate()}를 호출할 때만 갱신됩니다.
+ * (전투 스냅샷을 만들 때 {@link com.sanctuary.combat.stat.AttributeContainer#snapshot()}이 호출)
+ * - 읽기는 부작용이 없습니다. dirty 비트가 선 스탯은 캐시에 쓰지 않고 그 자리에서 계산해 반환하므로,
+ * 워커 스레드나 비동기 리스너가 읽어도 캐시/dirty 비트와 경쟁하지 않습니다.
+ * - {@link #getVersion()}은 값이 바뀔 때마다 증가하므로, 하위 캐시(스냅샷, 동기화 등)는
+ * 버전 비교만으로 무효화 여부를 판단할 수 있습니다.
+ *
+ * 출처 추적 수정자:
+ * - {@link #addModifier(String, Stat, double, ModifierType)}로 출처 키와 함께 등록한 수정자는
+ * {@link #removeSource(String)}로 해당 출처만 되돌릴 수 있습니다. (전체 재구성 불필요)
+ * - 출처 수정자는 직접 설정한 값(setBase, 출처 없는 addModifier)과 분리된 누적값에 더해집니다.
+ * - 출처를 제거하면 그 출처가 건드린 스탯의 출처 누적값만 남은 출처들의 수정자로 다시 쌓습니다.
+ * (빼기/나누기로 되돌리지 않으므로 장착/해제를 반복해도 부동소수점 오차가 쌓이지 않음)
+ * - 스탯에 직접 설정한 값도, 남은 출처 수정자도 없으면 {@link #has(Stat)}가 false가 됩니다.
+ * - 출처 키 규칙: "item:아이템UUID", "paragon:보드ID:노드ID", "status:효과ID", "aspect:위상ID"
+ *
+ * 파생 스탯:
+ * - {@link StatGraph}에 선언된 의존성(예: INTELLIGENCE -> ALL_RESISTANCE -> RESISTANCE_FIRE)에 따라
+ * 입력 스탯의 최종 값에 계수를 곱한 값이 대상 스탯의 최종 값에 더해집니다.
+ * - 입력 스탯이 바뀌면 전이적 의존 스탯만 dirty로 표시되며, 재계산은 위상 순서를 따릅니다.
  */
 public class AttributeComponent implements Component {
 
-    private final Map<String, StatValue> attributes = new HashMap<>();
-    private boolean dirty = true; // 재계산 필요 여부
+    // Stat.ordinal() 인덱스 기본형 저장소 (직접 설정한 값)
+    private final double[] base = new double[Stat.COUNT];
+    private final double[] additive = new double[Stat.COUNT];
+    private final double[] multiplicative = new double[Stat.COUNT];
+    private final int[] zeroFactors = new int[Stat.COUNT]; // 곱해진 0 배율 수 (곱 누적값과 분리)
+    private final boolean[] explicit = new boolean[Stat.COUNT]; // 직접 설정한 값이 있음
+
+    // 출처 수정자 누적값 (출처 제거 시 남은 출처로 다시 쌓음)
+    private final double[] sourcedBase = new double[Stat.COUNT];
+    private final double[] sourcedAdditive = new double[Stat.COUNT];
+    private final double[] sourcedMultiplicative = new double[Stat.COUNT];
+    private final int[] sourcedZeroFactors = new int[Stat.COUNT];
+    private final int[] sourcedCount = new int[Stat.COUNT]; // 스탯에 적용된 출처 수정자 수
+
+    private final double[] finalValues = new double[Stat.COUNT];
+    private final double[] derived = new double[Stat.COUNT]; // 의존성 그래프로부터 더해진 값
+    private final boolean[] present = new boolean[Stat.COUNT];
+
+    // 스탯별 재계산 필요 비트 (ordinal 기준 64비트 워드)
+    private final long[] dirtyBits = new long[(Stat.COUNT + 63) >>> 6];
+
+    // 스크립트 정의 스탯 (지연 생성, 직접 설정한 값과 출처 수정자 누적값)
+    private Map<String, StatValue> overflow;
+    private Map<String, StatValue> overflowSourced;
+
+    // 출처별 수정자 (출처 키 -> 적용된 수정자 목록, 지연 생성)
+    private Map<String, List<SourcedModifier>> sources;
+
+    // 값이 바뀔 때마다 증가하는 버전
+    private long version = 0;
+
+    // 파생 값 계산에 사용 중인 의존성 그래프 (활성 그래프가 교체되면 전체 재계산)
+    private StatGraph graph = StatGraph.active();
+
+    public AttributeComponent() {
+        Arrays.fill(multiplicative, 1.0);
+        Arrays.fill(sourcedMultiplicative, 1.0);
+    }
+
+    // ===== Stat 인덱스 API =====
+
+    /**
+     * 지정된 스탯의 최종 값을 반환합니다.
+     * 캐시가 최신이 아니면 캐시를 갱신하지 않고 계산한 값을 반환합니다.
+     *
+     * @param stat 스탯
+     * @return 최종 계산된 값 (설정되지 않았으면 0)
+     */
+    public double getValue(Stat stat) {
+        int i = stat.ordinal();
+        StatGraph active = StatGraph.active();
+        if (active != graph) {
+            return evaluate(active, i, true); // 그래프 교체 후 아직 recalculate() 전
+        }
+        if ((dirtyBits[i >>> 6] & (1L << i)) != 0) {
+            return evaluate(graph, i, false);
+        }
+        return finalValues[i];
+    }
+
+    /**
+     * 지정된 스탯의 기본값을 반환합니다. (출처 수정자의 기본값 포함)
+     */
+    public double getBase(Stat stat) {
+        int i = stat.ordinal();
+        return base[i] + sourcedBase[i];
+    }
+
+    /**
+     * 의존성 그래프로부터 더해진 파생 값을 반환합니다.
+     */
+    public double getDerived(Stat stat) {
+        getValue(stat);
+        return derived[stat.ordinal()];
+    }
+
+    /**
+     * 지정된 스탯의 합연산 합계를 반환합니다.
+     */
+    public double getAdditive(Stat stat) {
+        int i = stat.ordinal();
+        return additive[i] + sourcedAdditive[i];
+    }
+
+    /**
+     * 지정된 스탯의 곱연산 배율을 반환합니다.
+     */
+    public double getMultiplicative(Stat stat) {
+        return multiplierOf(stat.ordinal());
+    }
+
+    private double multiplierOf(int i) {
+        return zeroFactors[i] > 0 || sourcedZeroFactors[i] > 0 ? 0.0 : multiplicative[i] * sourcedMultiplicative[i];
+    }
+
+    /**
+     * 스탯에 수정자를 추가합니다.
+     *
+     * @param stat  스탯
+     * @param value 수정값
+     * @param type  수정자 타입
+     */
+    public void addModifier(Stat stat, double value, ModifierType type) {
+        int i = stat.ordinal();
+        switch (type) {
+            case BASE:
+                base[i] += value;
+                break;
+            case ADDITIVE:
+                additive[i] += value;
+                break;
+            case MULTIPLICATIVE:
+                if (value == 0.0) {
+                    zeroFactors[i]++;
+                } else {
+                    multiplicative[i] *= value;
+                }
+                break;
+        }
+        explicit[i] = true;
+        markDirty(i);
+    }
+
+    /**
+     * 출처 수정자 하나를 출처 누적값에 더합니다. (dirty 표시는 호출자가 담당)
+     */
+    private void accumulateSourced(int i, double value, ModifierType type) {
+        switch (type) {
+            case BASE:
+                sourcedBase[i] += value;
+                break;
+            case ADDITIVE:
+                sourcedAdditive[i] += value;
+                break;
+            case MULTIPLICATIVE:
+                if (value == 0.0) {
+                    sourcedZeroFactors[i]++;
+                } else {
+                    sourcedMultiplicative[i] *= value;
+                }
+                break;
+        }
+        sourcedCount[i]++;
+    }
+
+    /**
+     * 스탯의 기본값을 설정합니다.
+     *
+     * @param stat 스탯
+     * @param value 기본값
+     */
+    public void setBase(Stat stat, double value) {
+        int i = stat.ordinal();
+        base[i] = value;
+        explicit[i] = true;
+        markDirty(i);
+    }
+
+    /**
+     * 스탯이 설정되어 있는지 확인합니다.
+     *
+     * @param stat 스탯
+     * @return 존재 여부
+     */
+    public boolean has(Stat stat) {
+        return present[stat.ordinal()];
+    }
+
+    private void markDirty(int i) {
+        present[i] = true;
+        invalidate(i);
+    }
+
+    /**
+     * 스탯과 그 의존 스탯을 재계산 대상으로 표시하고 버전을 올립니다.
+     */
+    private void invalidate(int i) {
+        dirtyBits[i >>> 6] |= 1L << i;
+        long[] dependents = graph.dependentMask(i);
+        if (dependents != null) {
+            for (int w = 0; w < dependents.length; w++) {
+                dirtyBits[w] |= dependents[w];
+            }
+        }
+        version++;
+    }
+
+    /**
+     * 캐시에 쓰지 않고 스탯의 최종 값을 계산합니다.
+     *
+     * @param stale true면 모든 캐시 값을 무시 (다른 그래프 기준으로 계산할 때)
+     */
+    private double evaluate(StatGraph g, int i, boolean stale) {
+        int[] inputs = g.inputsOf(i);
+        double sum = 0.0;
+        if (inputs.length > 0) {
+            double[] coefficients = g.coefficientsOf(i);
+            for (int k = 0; k < inputs.length; k++) {
+                int input = inputs[k];
+                double value = !stale && (dirtyBits[input >>> 6] & (1L << input)) == 0
+                        ? finalValues[input]
+                        : evaluate(g, input, stale);
+                sum += value * coefficients[k];
+            }
+        }
+        return ownValue(i) + sum;
+    }
+
+    private double ownValue(int i) {
+        return (base[i] + sourcedBase[i]) * (1.0 + additive[i] + sourcedAdditive[i]) * multiplierOf(i);
+    }
+
+    private void recompute(int i) {
+        int[] inputs = graph.inputsOf(i);
+        if (inputs.length > 0) {
+            double[] coefficients = graph.coefficientsOf(i);
+            double sum = 0.0;
+            for (int k = 0; k < inputs.length; k++) {
+                int input = inputs[k];
+                if ((dirtyBits[input >>> 6] & (1L << input)) != 0) {
+                    recompute(input);
+                }
+                sum += finalValues[input] * coefficients[k];
+            }
+            derived[i] = sum;
+            if (sum != 0.0) {
+                present[i] = true;
+            }
+        } else {
+            derived[i] = 0.0;
+        }
+        finalValues[i] = ownValue(i) + derived[i];
+        dirtyBits[i >>> 6] &= ~(1L << i);
+    }
+
+    private void adoptGraph() {
+        graph = StatGraph.active();
+        markAllDirty();
+    }
+
+    // ===== 문자열 키 API (스크립트/데이터 연동) =====
 
     /**
      * 지정된 키의 최종 스탯 값을 반환합니다.
-     * 
+     *
      * @param key 스탯 키
      * @return 최종 계산된 값 (존재하지 않으면 0)
      */
     public double getValue(String key) {
-        StatValue stat = attributes.get(key);
-        return stat != null ? stat.getFinalValue() : 0.0;
+        Stat stat = Stat.byKey(key);
+        if (stat != null) {
+            return getValue(stat);
+        }
+        StatValue value = overflowValue(key);
+        return value != null ? value.getFinalValue() : 0.0;
     }
 
     /**
-     * 지정된 키의 StatValue 객체를 반환합니다.
-     * 존재하지 않으면 새로 생성합니다.
-     * 
-     * @param key 스탯 키
-     * @return StatValue 객체
+     * 오버플로 스탯의 직접 설정한 값과 출처 누적값을 합친 값을 반환합니다.
+     * 출처 수정자가 없으면 저장된 인스턴스를, 있으면 합친 복사본을 반환합니다.
      */
-    public StatValue getOrCreate(String key) {
-        return attributes.computeIfAbsent(key, k -> new StatValue());
+    private StatValue overflowValue(String key) {
+        StatValue own = overflow != null ? overflow.get(key) : null;
+        StatValue sourced = overflowSourced != null ? overflowSourced.get(key) : null;
+        if (sourced == null) {
+            return own;
+        }
+        StatValue combined = own != null ? own.copy() : new StatValue();
+        combined.merge(sourced);
+        return combined;
     }
 
     /**
-     * 지정된 키의 StatValue 객체를 반환합니다.
-     * 
+     * 지정된 키의 현재 값을 StatValue 복사본으로 반환합니다.
+     * 반환된 객체를 수정해도 컴포넌트에는 반영되지 않습니다.
+     * 파생 값은 포함되지 않으므로 최종 값은 {@link #getValue(String)}로 조회하십시오.
+     *
      * @param key 스탯 키
-     * @return StatValue 또는 null
+     * @return StatValue 복사본 또는 null
      */
     public StatValue get(String key) {
-        return attributes.get(key);
+        Stat stat = Stat.byKey(key);
+        if (stat != null) {
+            int i = stat.ordinal();
+            if (!present[i]) {
+                return null;
+            }
+            StatValue copy = new StatValue(getBase(stat));
+            copy.setAdditive(getAdditive(stat));
+            copy.setMultiplicative(getMultiplicative(stat));
+            return copy;
+        }
+        StatValue value = overflowValue(key);
+        return value != null ? value.copy() : null;
     }
 
     /**
      * 스탯에 수정자를 추가합니다.
-     * 
+     *
      * @param key   스탯 키
      * @param value 수정값
      * @param type  수정자 타입
      */
     public void addModifier(String key, double value, ModifierType type) {
-        StatValue stat = getOrCreate(key);
+        Stat stat = Stat.byKey(key);
+        if (stat != null) {
+            addModifier(stat, value, type);
+            return;
+        }
+        applyOverflow(getOrCreateOverflow(key), value, type);
+        version++;
+    }
+
+    private static void applyOverflow(StatValue target, double value, ModifierType type) {
         switch (type) {
             case BASE:
-                stat.addBase(value);
+                target.addBase(value);
                 break;
             case ADDITIVE:
-                stat.addAdditive(value);
+                target.addAdditive(value);
                 break;
             case MULTIPLICATIVE:
-                stat.multiplyMultiplicative(value);
+                target.multiplyMultiplicative(value);
                 break;
         }
-        dirty = true;
     }
 
     /**
      * 스탯의 기본값을 설정합니다.
-     * 
+     *
      * @param key  스탯 키
      * @param base 기본값
      */
     public void setBase(String key, double base) {
-        getOrCreate(key).setBase(base);
-        dirty = true;
+        Stat stat = Stat.byKey(key);
+        if (stat != null) {
+            setBase(stat, base);
+            return;
+        }
+        getOrCreateOverflow(key).setBase(base);
+        version++;
     }
 
     /**
      * 스탯이 존재하는지 확인합니다.
-     * 
+     *
      * @param key 스탯 키
      * @return 존재 여부
      */
     public boolean has(String key) {
-        return attributes.containsKey(key);
+        Stat stat = Stat.byKey(key);
+        if (stat != null) {
+            return present[stat.ordinal()];
+        }
+        return (overflow != null && overflow.containsKey(key))
+                || (overflowSourced != null && overflowSourced.containsKey(key));
     }
 
     /**
-     * 모든 스탯 키를 반환합니다.
-     * 
-     * @return 스탯 키 Set
+     * 설정된 모든 스탯 키를 반환합니다.
+     *
+     * @return 스탯 키 Set (복사본)
      */
     public Set<String> getKeys() {
-        return attributes.keySet();
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < present.length; i++) {
+            if (present[i]) {
+                keys.add(Stat.byOrdinal(i).name());
+            }
+        }
+        if (overflow != null) {
+            keys.addAll(overflow.keySet());
+        }
+        if (overflowSourced != null) {
+            keys.addAll(overflowSourced.keySet());
+        }
+        return keys;
+    }
+
+    private StatValue getOrCreateOverflow(String key) {
+        if (overflow == null) {
+            overflow = new HashMap<>();
+        }
+        return overflow.computeIfAbsent(key, k -> new StatValue());
+    }
+
+    // ===== 출처 추적 수정자 =====
+
+    /**
+     * 출처와 함께 수정자를 추가합니다.
+     * 같은 출처의 수정자는 {@link #removeSource(String)}로 한 번에 되돌릴 수 있습니다.
+     *
+     * @param source 출처 키 (예: "item:UUID")
+     * @param stat   스탯
+     * @param value  수정값
+     * @param type   수정자 타입
+     */
+    public void addModifier(String source, Stat stat, double value, ModifierType type) {
+        List<SourcedModifier> modifiers = sourceList(source);
+        int i = stat.ordinal();
+        accumulateSourced(i, value, type);
+        markDirty(i);
+        modifiers.add(new SourcedModifier(i, null, value, type));
+    }
+
+    /**
+     * 출처와 함께 문자열 키 스탯에 수정자를 추가합니다.
+     *
+     * @param source 출처 키
+     * @param key    스탯 키 (Stat에 없으면 오버플로 스탯)
+     * @param value  수정값
+     * @param type   수정자 타입
+     */
+    public void addModifier(String source, String key, double value, ModifierType type) {
+        Stat stat = Stat.byKey(key);
+        if (stat != null) {
+            addModifier(source, stat, value, type);
+            return;
+        }
+        List<SourcedModifier> modifiers = sourceList(source);
+        applyOverflow(getOrCreateOverflowSourced(key), value, type);
+        version++;
+        modifiers.add(new SourcedModifier(-1, key, value, type));
+    }
+
+    /**
+     * 출처가 적용한 모든 수정자를 제거합니다.
+     * 해당 출처가 건드린 스탯만 남은 출처들의 수정자로 출처 누적값을 다시 쌓고 재계산 대상으로 표시합니다.
+     *
+     * @param source 출처 키
+     * @return 제거된 출처가 있었으면 true
+     */
+    public boolean removeSource(String source) {
+        List<SourcedModifier> modifiers = sources != null ? sources.remove(source) : null;
+        if (modifiers == null) {
+            return false;
+        }
+
+        // 1. 제거된 출처가 건드린 스탯의 출처 누적값 초기화
+        long[] touched = new long[dirtyBits.length];
+        Set<String> touchedKeys = null;
+        for (SourcedModifier modifier : modifiers) {
+            int i = modifier.index;
+            if (i >= 0) {
+                touched[i >>> 6] |= 1L << i;
+                sourcedBase[i] = 0.0;
+                sourcedAdditive[i] = 0.0;
+                sourcedMultiplicative[i] = 1.0;
+                sourcedZeroFactors[i] = 0;
+                sourcedCount[i] = 0;
+            } else {
+                if (touchedKeys == null) {
+                    touchedKeys = new HashSet<>();
+                }
+                touchedKeys.add(modifier.key);
+                overflowSourced.remove(modifier.key);
+            }
+        }
+
+        // 2. 남은 출처의 수정자로 해당 스탯만 다시 누적
+        for (List<SourcedModifier> remaining : sources.values()) {
+            for (SourcedModifier modifier : remaining) {
+                int i = modifier.index;
+                if (i >= 0) {
+                    if ((touched[i >>> 6] & (1L << i)) != 0) {
+                        accumulateSourced(i, modifier.value, modifier.type);
+                    }
+                } else if (touchedKeys != null && touchedKeys.contains(modifier.key)) {
+                    applyOverflow(getOrCreateOverflowSourced(modifier.key), modifier.value, modifier.type);
+                }
+            }
+        }
+
+        // 3. 값이 남지 않은 스탯은 존재하지 않는 것으로 표시
+        for (int w = 0; w < touched.length; w++) {
+            long word = touched[w];
+            while (word != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                present[i] = explicit[i] || sourcedCount[i] > 0 || derived[i] != 0.0;
+                invalidate(i);
+            }
+        }
+        version++;
+        return true;
+    }
+
+    /**
+     * 출처가 등록되어 있는지 확인합니다.
+     *
+     * @param source 출처 키
+     * @return 등록 여부
+     */
+    public boolean hasSource(String source) {
+        return sources != null && sources.containsKey(source);
+    }
+
+    /**
+     * 등록된 출처 키 목록을 반환합니다.
+     *
+     * @return 읽기 전용 출처 키 Set
+     */
+    public Set<String> getSources() {
+        return sources != null ? Collections.unmodifiableSet(sources.keySet()) : Collections.emptySet();
+    }
+
+    private List<SourcedModifier> sourceList(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("수정자 출처는 null일 수 없습니다.");
+        }
+        if (sources == null) {
+            sources = new HashMap<>();
+        }
+        return sources.computeIfAbsent(source, k -> new ArrayList<>(4));
+    }
+
+    private StatValue getOrCreateOverflowSourced(String key) {
+        if (overflowSourced == null) {
+            overflowSourced = new HashMap<>();
+        }
+        return overflowSourced.computeIfAbsent(key, k -> new StatValue());
+    }
+
+    private void clearSourced() {
+        Arrays.fill(sourcedBase, 0.0);
+        Arrays.fill(sourcedAdditive, 0.0);
+        Arrays.fill(sourcedMultiplicative, 1.0);
+        Arrays.fill(sourcedZeroFactors, 0);
+        Arrays.fill(sourcedCount, 0);
+        sources = null;
+        overflowSourced = null;
     }
 
+    // ===== 일괄 처리 =====
+
     /**
      * 모든 스탯의 수정자를 초기화합니다.
-     * 기본값은 유지됩니다.
+     * 직접 설정한 기본값은 유지되며, 출처 수정자는 모두 제거됩니다.
      */
     public void resetAllModifiers() {
-        for (StatValue stat : attributes.values()) {
-            stat.resetModifiers();
+        clearSourced();
+        Arrays.fill(additive, 0.0);
+        Arrays.fill(multiplicative, 1.0);
+        Arrays.fill(zeroFactors, 0);
+        for (int i = 0; i < Stat.COUNT; i++) {
+            present[i] = explicit[i] || derived[i] != 0.0;
+        }
+        markAllDirty();
+        if (overflow != null) {
+            for (StatValue stat : overflow.values()) {
+                stat.resetModifiers();
+            }
         }
-        dirty = true;
     }
 
     /**
      * 모든 스탯을 제거합니다.
      */
     public void clear() {
-        attributes.clear();
-        dirty = true;
+        Arrays.fill(base, 0.0);
+        Arrays.fill(additive, 0.0);
+        Arrays.fill(multiplicative, 1.0);
+        Arrays.fill(finalValues, 0.0);
+        Arrays.fill(derived, 0.0);
+        Arrays.fill(present, false);
+        Arrays.fill(explicit, false);
+        Arrays.fill(zeroFactors, 0);
+        Arrays.fill(dirtyBits, 0L);
+        clearSourced();
+        overflow = null;
+        version++;
     }
 
+    private void markAllDirty() {
+        for (int i = 0; i < Stat.COUNT; i++) {
+            dirtyBits[i >>> 6] |= 1L << i;
+        }
+        version++;
+    }
+
+    // ===== 캐시 상태 =====
+
     /**
-     * 재계산이 필요한지 여부를 반환합니다.
-     * 
-     * @return dirty 플래그
+     * 재계산을 기다리는 스탯이 있는지 여부를 반환합니다.
+     *
+     * @return dirty 여부
      */
     public boolean isDirty() {
-        return dirty;
+        for (long word : dirtyBits) {
+            if (word != 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * dirty 플래그를 설정합니다.
-     * 
+     * dirty 상태를 설정합니다.
+     * true면 모든 스탯을 재계산 대상으로 표시하고, false면 대기 중인 스탯을 즉시 재계산합니다.
+     *
      * @param dirty 새 값
      */
     public void setDirty(boolean dirty) {
-        this.dirty = dirty;
+        if (dirty) {
+            markAllDirty();
+        } else {
+            recalculate();
+        }
+    }
+
+    /**
+     * 재계산을 기다리는 모든 스탯의 최종 값을 지금 계산해 캐시합니다.
+     * 캐시를 쓰는 유일한 지점이므로 컴포넌트를 소유한 스레드(메인 스레드)에서만 호출해야 합니다.
+     */
+    public void recalculate() {
+        if (graph != StatGraph.active()) {
+            adoptGraph();
+        }
+        if (graph.isEmpty()) {
+            for (int w = 0; w < dirtyBits.length; w++) {
+                long word = dirtyBits[w];
+                while (word != 0) {
+                    int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    recompute(i);
+                }
+            }
+            return;
+        }
+        // 입력이 먼저 계산되도록 위상 순서로 순회
+        for (int i : graph.topologicalOrder()) {
+            if ((dirtyBits[i >>> 6] & (1L << i)) != 0) {
+                recompute(i);
+            }
+        }
+    }
+
+    /**
+     * 스탯 버전을 반환합니다. 어떤 스탯이든 바뀌면 증가합니다.
+     * 활성 의존성 그래프가 교체된 경우에는 다음 {@link #recalculate()}에서 증가합니다.
+     *
+     * @return 버전
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
      * 다른 AttributeComponent의 값을 병합합니다.
-     * 
+     * 다른 컴포넌트의 출처 수정자는 출처 없이 직접 설정한 값으로 합쳐집니다.
+     *
      * @param other 병합할 컴포넌트
      */
     public void merge(AttributeComponent other) {
-        for (Map.Entry<String, StatValue> entry : other.attributes.entrySet()) {
-            getOrCreate(entry.getKey()).merge(entry.getValue());
+        for (int i = 0; i < Stat.COUNT; i++) {
+            if (!other.present[i]) {
+                continue;
+            }
+            base[i] += other.base[i] + other.sourcedBase[i];
+            additive[i] += other.additive[i] + other.sourcedAdditive[i];
+            multiplicative[i] *= other.multiplicative[i] * other.sourcedMultiplicative[i];
+            zeroFactors[i] += other.zeroFactors[i] + other.sourcedZeroFactors[i];
+            explicit[i] = true;
+            markDirty(i);
+        }
+        Set<String> otherKeys = new LinkedHashSet<>();
+        if (other.overflow != null) {
+            otherKeys.addAll(other.overflow.keySet());
+        }
+        if (other.overflowSourced != null) {
+            otherKeys.addAll(other.overflowSourced.keySet());
         }
-        dirty = true;
+        for (String key : otherKeys) {
+            getOrCreateOverflow(key).merge(other.overflowValue(key));
+        }
+        version++;
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("AttributeComponent{\n");
-        for (Map.Entry<String, StatValue> entry : attributes.entrySet()) {
-            sb.append("  ").append(entry.getKey()).append(": ")
-                    .append(entry.getValue()).append("\n");
+        for (String key : getKeys()) {
+            sb.append("  ").append(key).append(": ")
+                    .append(get(key)).append("\n");
         }
         sb.append("}");
         return sb.toString();
     }
+
+    /**
+     * 출처와 함께 등록된 단일 수정자입니다.
+     */
+    private static final class SourcedModifier {
+        private final int index; // Stat ordinal (오버플로 스탯이면 -1)
+        private final String key; // 오버플로 스탯 키
+        private final double value;
+        private final ModifierType type;
+
+        private SourcedModifier(int index, String key, double value, ModifierType type) {
+            this.index = index;
+            this.key = key;
+            this.value = value;
+            this.type = type;
+        }
+    }
 }
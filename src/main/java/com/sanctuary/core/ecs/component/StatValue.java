@@ -11,12 +11,15 @@ package com.sanctuary.core.ecs.component;
  * - additive = 0.35 (+20% + +15% 합연산 보너스)
  * - multiplicative = 1.38 (1.15 * 1.20 곱연산 보너스)
  * - 최종 값 = 100 * (1 + 0.35) * 1.38 = 186.3
+ *
+ * 최종 값은 조회할 때마다 계산합니다. (읽기는 상태를 바꾸지 않음)
  */
 public class StatValue {
 
     private double base;
     private double additive;
     private double multiplicative;
+    private int zeroFactors; // 곱해진 0 배율 수 (되돌릴 수 있도록 multiplicative와 분리)
 
     /**
      * 기본값 0으로 StatValue를 생성합니다.
@@ -43,7 +46,7 @@ public class StatValue {
      * @return 최종 계산된 값
      */
     public double getFinalValue() {
-        return base * (1.0 + additive) * multiplicative;
+        return base * (1.0 + additive) * getMultiplicative();
     }
 
     // ===== 기본값 관련 =====
@@ -83,7 +86,7 @@ public class StatValue {
     // ===== 곱연산 관련 =====
 
     public double getMultiplicative() {
-        return multiplicative;
+        return zeroFactors > 0 ? 0.0 : multiplicative;
     }
 
     /**
@@ -93,11 +96,29 @@ public class StatValue {
      * @param factor 곱할 배율 (1.15 = 15% 증가)
      */
     public void multiplyMultiplicative(double factor) {
-        this.multiplicative *= factor;
+        if (factor == 0.0) {
+            this.zeroFactors++;
+        } else {
+            this.multiplicative *= factor;
+        }
+    }
+
+    /**
+     * {@link #multiplyMultiplicative(double)}로 적용한 배율을 되돌립니다.
+     *
+     * @param factor 되돌릴 배율
+     */
+    public void divideMultiplicative(double factor) {
+        if (factor == 0.0) {
+            this.zeroFactors = Math.max(0, zeroFactors - 1);
+        } else {
+            this.multiplicative /= factor;
+        }
     }
 
     public void setMultiplicative(double multiplicative) {
         this.multiplicative = multiplicative;
+        this.zeroFactors = 0;
     }
 
     // ===== 유틸리티 =====
@@ -109,6 +130,7 @@ public class StatValue {
     public void resetModifiers() {
         this.additive = 0.0;
         this.multiplicative = 1.0;
+        this.zeroFactors = 0;
     }
 
     /**
@@ -118,6 +140,7 @@ public class StatValue {
         this.base = 0.0;
         this.additive = 0.0;
         this.multiplicative = 1.0;
+        this.zeroFactors = 0;
     }
 
     /**
@@ -129,6 +152,7 @@ public class StatValue {
         this.base += other.base;
         this.additive += other.additive;
         this.multiplicative *= other.multiplicative;
+        this.zeroFactors += other.zeroFactors;
     }
 
     /**
@@ -140,12 +164,13 @@ public class StatValue {
         StatValue copy = new StatValue(this.base);
         copy.additive = this.additive;
         copy.multiplicative = this.multiplicative;
+        copy.zeroFactors = this.zeroFactors;
         return copy;
     }
 
     @Override
     public String toString() {
         return String.format("StatValue{base=%.2f, add=%.2f%%, mult=%.2fx, final=%.2f}",
-                base, additive * 100, multiplicative, getFinalValue());
+                base, additive * 100, getMultiplicative(), getFinalValue());
     }
 }
@@ -1,5 +1,8 @@
 package com.sanctuary.core.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -65,4 +68,22 @@ public class AffixData {
     public void setTags(List<String> tags) {
         this.tags = tags;
     }
+
+    /**
+     * 중첩 컬렉션까지 복사한 사본을 반환합니다. 사본의 목록과 맵은 수정할 수 없습니다.
+     */
+    public AffixData copy() {
+        AffixData copy = new AffixData();
+        copy.id = id;
+        copy.name = name;
+        copy.category = category;
+        copy.tags = tags != null ? Collections.unmodifiableList(new ArrayList<>(tags)) : null;
+        copy.allowedItemTypes = allowedItemTypes != null
+                ? Collections.unmodifiableList(new ArrayList<>(allowedItemTypes))
+                : null;
+        copy.statModifiers = statModifiers != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(statModifiers))
+                : null;
+        return copy;
+    }
 }
@@ -1,5 +1,9 @@
 package com.sanctuary.core.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -83,4 +87,41 @@ public class AspectData {
     public void setSource(String source) {
         this.source = source;
     }
+
+    /**
+     * 효과 정의까지 복사한 사본을 반환합니다.
+     * 사본의 효과 맵(중첩된 맵/목록 포함)은 수정할 수 없고, 슬롯 배열은 별도 배열입니다.
+     */
+    @SuppressWarnings("unchecked")
+    public AspectData copy() {
+        AspectData copy = new AspectData();
+        copy.id = id;
+        copy.name = name;
+        copy.category = category;
+        copy.description = description;
+        copy.allowedSlots = allowedSlots != null ? allowedSlots.clone() : null;
+        copy.classRestriction = classRestriction;
+        copy.effect = effect != null ? (Map<String, Object>) freeze(effect) : null;
+        copy.source = source;
+        return copy;
+    }
+
+    // JSON에서 읽은 맵/목록을 재귀적으로 복사해 수정 불가로 만듭니다.
+    private static Object freeze(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(entry.getKey(), freeze(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(freeze(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
 }
@@ -0,0 +1,107 @@
+package com.sanctuary.core.model;
+
+/**
+ * 피해 공식의 버킷 하나를 담는 DTO 클래스입니다.
+ * damage_formula.json으로부터 로드되며, 로드 시 {@code DamageFormula}로 컴파일됩니다.
+ *
+ * 버킷 타입별 필드 사용:
+ * - BASE: stat x 스킬 계수
+ * - SCALING: 1 + stat x value (주 스탯 배율)
+ * - ADDITIVE: stat x value를 합연산 버킷에 더함 (조건 충족 시)
+ * - MULTIPLICATIVE: (1 + stat x value)를 곱함 (stat이 없으면 value를 그대로 곱함)
+ * - FACTOR: stat 값을 그대로 곱함 (0이면 1로 취급)
+ * - CRIT: stat = 치명타 확률, value = 치명타 배율
+ * - VULNERABLE: value = 취약 배율
+ * - OVERPOWER: chance = 발동 확률, stat x value x (1 + bonusStat)을 더함
+ */
+public class DamageBucketData {
+    private String id;
+    private String type;
+    private String stat; // 값을 읽을 스탯 키 (예: PHYSICAL_DAMAGE)
+    private String bonusStat; // 추가 배율 스탯 키 (OVERPOWER)
+    private Double value; // 계수 또는 배율 (없으면 1.0)
+    private Double chance; // 발동 확률 (OVERPOWER)
+    private String condition; // 적용 조건 (예: "tag:PHYSICAL", "vulnerable", "crit", "!tag:FIRE")
+
+    public DamageBucketData() {
+    }
+
+    public DamageBucketData(String id, String type, String stat, Double value, String condition) {
+        this.id = id;
+        this.type = type;
+        this.stat = stat;
+        this.value = value;
+        this.condition = condition;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getStat() {
+        return stat;
+    }
+
+    public void setStat(String stat) {
+        this.stat = stat;
+    }
+
+    public String getBonusStat() {
+        return bonusStat;
+    }
+
+    public void setBonusStat(String bonusStat) {
+        this.bonusStat = bonusStat;
+    }
+
+    public Double getValue() {
+        return value;
+    }
+
+    public void setValue(Double value) {
+        this.value = value;
+    }
+
+    public Double getChance() {
+        return chance;
+    }
+
+    public void setChance(Double chance) {
+        this.chance = chance;
+    }
+
+    public String getCondition() {
+        return condition;
+    }
+
+    public void setCondition(String condition) {
+        this.condition = condition;
+    }
+
+    /**
+     * 사본을 반환합니다. (모든 필드가 불변 값)
+     */
+    public DamageBucketData copy() {
+        DamageBucketData copy = new DamageBucketData(id, type, stat, value, condition);
+        copy.bonusStat = bonusStat;
+        copy.chance = chance;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "DamageBucketData{id='" + id + "', type='" + type + "', stat='" + stat + "'}";
+    }
+}
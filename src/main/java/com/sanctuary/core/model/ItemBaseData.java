@@ -1,5 +1,7 @@
 package com.sanctuary.core.model;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -46,4 +48,16 @@ public class ItemBaseData {
     public void setBaseStats(Map<String, Double> baseStats) {
         this.baseStats = baseStats;
     }
+
+    /**
+     * 중첩 맵까지 복사한 사본을 반환합니다. 사본의 baseStats 맵은 수정할 수 없습니다.
+     */
+    public ItemBaseData copy() {
+        ItemBaseData copy = new ItemBaseData();
+        copy.id = id;
+        copy.material = material;
+        copy.itemType = itemType;
+        copy.baseStats = baseStats != null ? Collections.unmodifiableMap(new LinkedHashMap<>(baseStats)) : null;
+        return copy;
+    }
 }
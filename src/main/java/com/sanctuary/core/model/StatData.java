@@ -1,5 +1,9 @@
 package com.sanctuary.core.model;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * 스탯 데이터를 담는 DTO 클래스입니다.
  * 외부 JSON 파일로부터 로드됩니다.
@@ -8,6 +12,7 @@ public class StatData {
     private String id;
     private String name;
     private String type; // 예: CORE, OFFENSIVE, DEFENSIVE, UTILITY
+    private Map<String, Double> scaling; // 대상 스탯 키 -> 이 스탯 1당 더해지는 값 (파생 스탯 그래프)
 
     public StatData() {
     }
@@ -42,6 +47,23 @@ public class StatData {
         this.type = type;
     }
 
+    public Map<String, Double> getScaling() {
+        return scaling;
+    }
+
+    public void setScaling(Map<String, Double> scaling) {
+        this.scaling = scaling;
+    }
+
+    /**
+     * 중첩 맵까지 복사한 사본을 반환합니다. 사본의 scaling 맵은 수정할 수 없습니다.
+     */
+    public StatData copy() {
+        StatData copy = new StatData(id, name, type);
+        copy.scaling = scaling != null ? Collections.unmodifiableMap(new LinkedHashMap<>(scaling)) : null;
+        return copy;
+    }
+
     @Override
     public String toString() {
         return "StatData{id='" + id + "', name='" + name + "', type='" + type + "'}";
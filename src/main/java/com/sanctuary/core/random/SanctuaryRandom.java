@@ -0,0 +1,233 @@
+package com.sanctuary.core.random;
+
+import com.sanctuary.core.ecs.EntityHandle;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * 시드 기반 난수 스트림 서비스입니다.
+ *
+ * 전투/룻/제작 등 시스템마다 독립된 스트림을 사용하므로, 한 시스템의 난수 소비가 다른 시스템의 결과를 바꾸지 않습니다.
+ * (예: 피격 파티클 위치를 뽑아도 치명타 판정 순서는 그대로)
+ *
+ * 스트림 종류:
+ * - {@link #stream(Stream)}: 호출 스레드 전용 스트림. 스레드 간 공유 상태가 없어 경합이 없습니다.
+ * 스레드별 시드는 스레드가 처음 요청한 순서로 정해지므로 재현이 보장되지 않습니다. (연출 등 결과에 남지 않는 판정용)
+ * - {@link #stream(Stream, long)}: 키(엔티티 핸들 등)별 스트림. 시드/시스템/키만으로 결정되어
+ * 호출 순서나 스레드와 무관하게 재현되므로 병렬 시뮬레이션과 리플레이에 사용합니다. 호출마다 새 생성기를 반환합니다.
+ * - {@link #next(Stream, int)}: 엔티티 핸들별 스트림. 핸들마다 생성기 하나를 계속 이어 쓰므로,
+ * 한 엔티티의 판정 순서는 다른 엔티티의 판정이나 스레드와 무관하게 재현됩니다. (치명타/드롭 판정)
+ * 생성기는 핸들 슬롯마다 한 번만 만들어 재사용하므로 판정마다 객체를 할당하지 않습니다.
+ *
+ * 생성기는 {@link SplittableRandom}(SplitMix64)을 사용하며, 스트림 시드는 루트 시드에서 해시 혼합으로 파생합니다.
+ * 재현이 필요하면 시작 시 {@link #install(SanctuaryRandom)}으로 고정 시드 인스턴스를 설치합니다.
+ */
+public final class SanctuaryRandom {
+
+    /**
+     * 난수를 소비하는 시스템
+     */
+    public enum Stream {
+        COMBAT, // 치명타/제압/행운의 적중 판정
+        LOOT, // 드롭 수, 템플릿, 희귀도
+        ITEM, // 아이템 생성 (어픽스 값, 아이템 파워)
+        CRAFTING, // 담금질, 명품화
+        WORLD, // 월드 이벤트 드롭
+        COSMETIC // 파티클/연출 (게임 결과에 영향 없음)
+    }
+
+    private static final Stream[] STREAMS = Stream.values();
+
+    private static volatile SanctuaryRandom global = new SanctuaryRandom(System.nanoTime());
+
+    private final long seed;
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private final ThreadLocal<RandomGenerator[]> threadStreams = ThreadLocal.withInitial(this::createThreadStreams);
+
+    // 시스템별 핸들 생성기 ([시스템][핸들 슬롯 인덱스], 커질 때만 잠금 안에서 복사 후 교체)
+    private final Object keyedLock = new Object();
+    private volatile KeyedGenerator[][] keyed = new KeyedGenerator[STREAMS.length][0];
+
+    public SanctuaryRandom(long seed) {
+        this.seed = seed;
+    }
+
+    // ===== 전역 인스턴스 =====
+
+    /**
+     * 전역 인스턴스를 반환합니다.
+     *
+     * @return 전역 인스턴스 (설치 전에는 시작 시각 시드)
+     */
+    public static SanctuaryRandom global() {
+        return global;
+    }
+
+    /**
+     * 전역 인스턴스를 교체합니다. 이미 만들어진 스레드/키 스트림에는 영향이 없습니다.
+     *
+     * @param random 새 인스턴스
+     */
+    public static void install(SanctuaryRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 서비스는 null일 수 없습니다.");
+        }
+        global = random;
+    }
+
+    /**
+     * 전역 인스턴스의 호출 스레드 전용 스트림을 반환합니다. ({@code global().stream(system)}과 같음)
+     *
+     * @param system 시스템
+     * @return 스트림 (다른 스레드에 넘기지 말 것)
+     */
+    public static RandomGenerator current(Stream system) {
+        return global.stream(system);
+    }
+
+    // ===== 스트림 =====
+
+    /**
+     * 호출 스레드 전용 스트림을 반환합니다. 같은 스레드에서는 항상 같은 생성기를 반환합니다.
+     *
+     * @param system 시스템
+     * @return 스트림 (다른 스레드에 넘기지 말 것)
+     */
+    public RandomGenerator stream(Stream system) {
+        return threadStreams.get()[system.ordinal()];
+    }
+
+    /**
+     * 키별 독립 스트림을 생성합니다. 같은 시드/시스템/키에서는 항상 같은 순서를 생성합니다.
+     *
+     * @param system 시스템
+     * @param key    엔티티 핸들, 시뮬레이션 번호 등
+     * @return 새 스트림
+     */
+    public RandomGenerator stream(Stream system, long key) {
+        return new SplittableRandom(keySeed(system, key));
+    }
+
+    /**
+     * 엔티티 핸들의 스트림을 반환합니다. 같은 시드/시스템/핸들에서는 항상 같은 순서를 이어서 생성합니다.
+     * 핸들 슬롯이 다른 세대의 핸들에 재사용되면 새 핸들의 시드로 처음부터 다시 시작합니다.
+     *
+     * 한 핸들의 판정은 한 스레드(전투는 메인 스레드)에서 수행해야 순서가 재현됩니다.
+     *
+     * @param system 시스템
+     * @param handle 엔티티 핸들 ({@link EntityHandle#NONE}이 아닌 값)
+     * @return 핸들의 스트림 (판정이 끝나면 보관하지 말 것)
+     * @throws IllegalArgumentException 핸들이 NONE인 경우
+     */
+    public RandomGenerator next(Stream system, int handle) {
+        if (handle == EntityHandle.NONE) {
+            throw new IllegalArgumentException("엔티티 핸들이 필요합니다.");
+        }
+        KeyedGenerator generator = keyedSlot(system.ordinal(), EntityHandle.indexOf(handle));
+        generator.bind(handle, keySeed(system, handle));
+        return generator;
+    }
+
+    /**
+     * 핸들의 스트림을 모든 시스템에서 지웁니다. 엔티티 제거 시 호출하며, 이후 같은 핸들은 처음부터 다시 시작합니다.
+     *
+     * @param handle 엔티티 핸들
+     */
+    public void forget(int handle) {
+        int index = EntityHandle.indexOf(handle);
+        for (KeyedGenerator[] generators : keyed) {
+            if (index < generators.length) {
+                generators[index].unbind(handle);
+            }
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    private long keySeed(Stream system, long key) {
+        return mix(mix(seed, system.ordinal() + 1L) ^ key, 0x2545F4914F6CDD1DL);
+    }
+
+    private KeyedGenerator keyedSlot(int system, int index) {
+        KeyedGenerator[] generators = keyed[system];
+        if (index < generators.length) {
+            return generators[index];
+        }
+        synchronized (keyedLock) {
+            generators = keyed[system];
+            if (index >= generators.length) {
+                // 모든 슬롯을 채운 새 배열을 volatile 필드로 게시하므로, 잠금 없이 읽어도 빈 슬롯을 보지 않음
+                int capacity = Math.max(index + 1, Math.max(generators.length * 2, 64));
+                KeyedGenerator[] grown = Arrays.copyOf(generators, Math.min(capacity, EntityHandle.MAX_ENTITIES));
+                for (int i = generators.length; i < grown.length; i++) {
+                    grown[i] = new KeyedGenerator();
+                }
+                KeyedGenerator[][] replaced = keyed.clone();
+                replaced[system] = grown;
+                keyed = replaced;
+                generators = grown;
+            }
+            return generators[index];
+        }
+    }
+
+    private RandomGenerator[] createThreadStreams() {
+        int threadIndex = threadCounter.getAndIncrement();
+        RandomGenerator[] streams = new RandomGenerator[STREAMS.length];
+        for (Stream system : STREAMS) {
+            streams[system.ordinal()] = new SplittableRandom(
+                    mix(mix(seed, system.ordinal() + 1L), ~(long) threadIndex));
+        }
+        return streams;
+    }
+
+    /**
+     * 두 값을 섞어 통계적으로 독립적인 시드를 만듭니다. (SplitMix64 최종화 함수)
+     */
+    private static long mix(long a, long b) {
+        long z = a + b * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public String toString() {
+        return "SanctuaryRandom{seed=" + seed + "}";
+    }
+
+    /**
+     * 핸들 슬롯 하나의 SplitMix64 생성기입니다. 슬롯이 다른 핸들에 재사용되면 상태를 새 시드로 초기화합니다.
+     */
+    private static final class KeyedGenerator implements RandomGenerator {
+
+        private int handle = EntityHandle.NONE;
+        private long state;
+
+        synchronized void bind(int handle, long seed) {
+            if (this.handle != handle) {
+                this.handle = handle;
+                this.state = seed;
+            }
+        }
+
+        synchronized void unbind(int handle) {
+            if (this.handle == handle) {
+                this.handle = EntityHandle.NONE;
+            }
+        }
+
+        @Override
+        public synchronized long nextLong() {
+            state += 0x9E3779B97F4A7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.sanctuary.core.script;
+
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaFunction;
+import org.luaj.vm2.luajc.LuaJC;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * LuaJ luajc로 Lua 스크립트를 JVM 바이트코드로 컴파일하고 디스크에 캐시합니다.
+ *
+ * 캐시 구조: plugins/&lt;플러그인&gt;/script-cache/&lt;클래스명&gt;/*.class
+ * - 클래스명은 스크립트 이름과 소스 내용 해시로 구성되므로, 내용이 같으면 재시작 후에도 컴파일을 건너뜁니다.
+ * - 스크립트 내용이 바뀌면 새 디렉토리에 컴파일하고 같은 스크립트의 이전 캐시는 삭제합니다.
+ * - 새 캐시는 고유한 임시 디렉토리에 쓴 뒤 원자적으로 이동하며, 이동과 이전 캐시 정리는 스크립트별로 직렬화됩니다.
+ *
+ * 인터프리터와 마찬가지로 컴파일 전에 {@link ScriptCheckpoints}로
+ * 실행 예산 체크포인트를 삽입합니다. (디스크의 원본 스크립트는 바뀌지 않음)
+ *
+ * 컴파일이나 로드에 실패하면 null을 반환하며, 호출자({@link ScriptEngine})는 인터프리터로 폴백합니다.
+ * BCEL이 클래스패스에 없으면 한 번 경고한 뒤 이후 시도를 모두 건너뜁니다.
+ */
+class CompiledScriptCache {
+
+    // 캐시 형식/LuaJ 버전이 바뀌면 기존 캐시가 무효화되도록 해시에 포함
+    private static final String CACHE_FORMAT = "luajc-3.0.1:3";
+
+    private final File cacheFolder;
+    private final Logger logger;
+    private volatile boolean available = true;
+
+    // 스크립트별 캐시 교체/정리 잠금 (메인 스레드, 핫 리로드 감시 스레드, 워커가 같은 스크립트를 동시에 저장할 수 있음)
+    private final Map<String, Object> scriptLocks = new ConcurrentHashMap<>();
+
+    CompiledScriptCache(File cacheFolder, Logger logger) {
+        this.cacheFolder = cacheFolder;
+        this.logger = logger;
+    }
+
+    /**
+     * 스크립트를 컴파일된 청크로 로드합니다.
+     *
+     * @param script  스크립트 파일
+     * @param globals 청크 환경
+     * @return 컴파일된 청크 (실행 전) 또는 null (인터프리터 폴백 필요)
+     */
+    LuaFunction load(File script, Globals globals) {
+        if (!available) {
+            return null;
+        }
+        try {
+            byte[] source = Files.readAllBytes(script.toPath());
+            String className = classNameOf(script.getName(), source);
+            File classDir = new File(cacheFolder, className);
+
+            Map<String, byte[]> classes = readCache(classDir);
+            if (classes == null) {
+                classes = compile(source, className, script.getName(), globals);
+                writeCache(classDir, classes, script.getName());
+                logger.info("[ScriptEngine] 스크립트 컴파일됨: " + script.getName() + " (" + classes.size() + " 클래스)");
+            }
+
+            BytecodeLoader loader = new BytecodeLoader(CompiledScriptCache.class.getClassLoader(), classes);
+            LuaFunction chunk = (LuaFunction) loader.loadClass(className).getDeclaredConstructor().newInstance();
+            chunk.initupvalue1(globals);
+            return chunk;
+        } catch (NoClassDefFoundError e) {
+            available = false;
+            logger.warning("[ScriptEngine] luajc를 사용할 수 없어 인터프리터로 실행합니다 (BCEL 없음): " + e.getMessage());
+            return null;
+        } catch (Exception | LinkageError e) {
+            logger.warning("[ScriptEngine] 스크립트 컴파일 실패, 인터프리터 사용 (" + script.getName() + "): " + e);
+            return null;
+        }
+    }
+
+    /**
+     * 컴파일 모드를 사용할 수 있는지 여부를 반환합니다.
+     */
+    boolean isAvailable() {
+        return available;
+    }
+
+    // ===== 컴파일 =====
+
+    private Map<String, byte[]> compile(byte[] source, String className, String fileName, Globals globals)
+            throws IOException {
+        byte[] instrumented = ScriptCheckpoints.instrument(source);
+        Hashtable<?, ?> generated = LuaJC.instance.compileAll(new ByteArrayInputStream(instrumented), className,
+                fileName, globals, false);
+        Map<String, byte[]> classes = new HashMap<>();
+        for (Map.Entry<?, ?> entry : generated.entrySet()) {
+            classes.put((String) entry.getKey(), (byte[]) entry.getValue());
+        }
+        if (!classes.containsKey(className)) {
+            throw new IOException("메인 청크 클래스가 생성되지 않았습니다: " + className);
+        }
+        return classes;
+    }
+
+    /**
+     * 스크립트 이름과 내용 해시로 Java 식별자 형태의 클래스명을 만듭니다.
+     * (luajc가 청크 이름을 그대로 클래스명으로 사용하도록 유효한 식별자로 구성)
+     */
+    static String classNameOf(String scriptName, byte[] source) {
+        return prefixOf(scriptName) + hash(source);
+    }
+
+    private static String prefixOf(String scriptName) {
+        String stem = scriptName.endsWith(".lua") ? scriptName.substring(0, scriptName.length() - 4) : scriptName;
+        StringBuilder sb = new StringBuilder("lua_");
+        for (int i = 0; i < stem.length(); i++) {
+            char c = stem.charAt(i);
+            sb.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return sb.append('_').toString();
+    }
+
+    private static String hash(byte[] source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(CACHE_FORMAT.getBytes(StandardCharsets.UTF_8));
+            digest.update(source);
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // ===== 디스크 캐시 =====
+
+    private Map<String, byte[]> readCache(File classDir) throws IOException {
+        File[] files = classDir.listFiles((dir, name) -> name.endsWith(".class"));
+        if (files == null || files.length == 0) {
+            return null;
+        }
+        Map<String, byte[]> classes = new HashMap<>();
+        for (File file : files) {
+            String name = file.getName();
+            classes.put(name.substring(0, name.length() - ".class".length()), Files.readAllBytes(file.toPath()));
+        }
+        return classes;
+    }
+
+    private void writeCache(File classDir, Map<String, byte[]> classes, String scriptName) {
+        Path temp = null;
+        try {
+            // 고유한 임시 디렉토리에 쓴 뒤 원자적으로 이동하여, 동시에 쓰는 스레드가 있거나 중간에 실패해도
+            // 불완전한 캐시가 보이지 않도록 함 ('.'으로 시작하므로 캐시 디렉토리로 취급되지 않음)
+            Files.createDirectories(cacheFolder.toPath());
+            temp = Files.createTempDirectory(cacheFolder.toPath(), "." + classDir.getName() + "-");
+            for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                Files.write(temp.resolve(entry.getKey() + ".class"), entry.getValue());
+            }
+
+            String prefix = prefixOf(scriptName);
+            synchronized (scriptLocks.computeIfAbsent(prefix, key -> new Object())) {
+                try {
+                    Files.move(temp, classDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                    temp = null;
+                } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                    // 다른 스레드가 같은 내용을 먼저 저장함 (내용 해시가 같으므로 그대로 사용)
+                }
+
+                // 같은 스크립트의 이전 버전 캐시 정리 (해시에는 '_'가 없으므로 마지막 '_'까지가 접두사)
+                File[] stale = cacheFolder.listFiles((dir, name) -> !name.startsWith(".")
+                        && !name.equals(classDir.getName())
+                        && name.substring(0, name.lastIndexOf('_') + 1).equals(prefix));
+                if (stale != null) {
+                    for (File dir : stale) {
+                        deleteRecursively(dir);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("[ScriptEngine] 컴파일 캐시 저장 실패 (" + scriptName + "): " + e.getMessage());
+        } finally {
+            if (temp != null) {
+                deleteRecursively(temp.toFile());
+            }
+        }
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    /**
+     * 컴파일된 바이트코드에서 클래스를 정의하는 클래스 로더입니다.
+     * 스크립트를 다시 로드할 때마다 새 로더를 사용하므로 이전 버전 클래스는 GC로 회수됩니다.
+     */
+    private static final class BytecodeLoader extends ClassLoader {
+        private final Map<String, byte[]> classes;
+
+        private BytecodeLoader(ClassLoader parent, Map<String, byte[]> classes) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -23,9 +23,16 @@ import java.util.logging.Logger;
  * local strength = sanctuary.getStat(entity, "STRENGTH")
  * sanctuary.playSound(entity, "ENTITY_GENERIC_EXPLODE")
  * </pre>
+ * 
+ * 엔티티 인자는 정수 핸들(또는 {@code { id = 핸들 }} 테이블)로 전달합니다.
+ * 스크립트에 전달되는 엔티티 테이블에는 {@code id}와 {@code uuid}가 함께 들어 있습니다.
+ * {@code { uuid = "..." }} 테이블과 UUID 문자열도 하위 호환을 위해 허용하지만 매 호출마다 문자열을 파싱합니다.
  */
 public class LuaBridge {
 
+    private static final LuaValue KEY_ID = LuaValue.valueOf("id");
+    private static final LuaValue KEY_UUID = LuaValue.valueOf("uuid");
+
     private final Logger logger;
     private final com.sanctuary.core.ecs.EntityManager entityManager;
 
@@ -135,27 +142,12 @@ public class LuaBridge {
         public LuaValue call(LuaValue entityArg, LuaValue statKey) {
             String key = statKey.tojstring();
 
-            // entityArg에서 UUID 추출
-            if (!entityArg.istable()) {
-                logger.warning("[Lua] getStat: 잘못된 엔티티 형식");
-                return LuaValue.valueOf(0.0);
-            }
-
-            String uuidStr = entityArg.get("uuid").tojstring();
-            if (uuidStr == null || entityManager == null) {
-                return LuaValue.valueOf(0.0);
-            }
-
-            try {
-                java.util.UUID uuid = java.util.UUID.fromString(uuidStr);
-                SanctuaryEntity entity = entityManager.get(uuid);
-                if (entity != null) {
-                    return entity.getComponentOptional(AttributeComponent.class)
-                            .map(attr -> LuaValue.valueOf(attr.getValue(key)))
-                            .orElse(LuaValue.valueOf(0.0));
+            SanctuaryEntity entity = getEntityFromArg(entityArg);
+            if (entity != null) {
+                AttributeComponent attr = entity.getComponent(AttributeComponent.class);
+                if (attr != null) {
+                    return LuaValue.valueOf(attr.getValue(key));
                 }
-            } catch (IllegalArgumentException e) {
-                logger.warning("[Lua] getStat: 잘못된 UUID 형식: " + uuidStr);
             }
 
             return LuaValue.valueOf(0.0);
@@ -171,25 +163,12 @@ public class LuaBridge {
         public LuaValue call(LuaValue entityArg, LuaValue tagArg) {
             String tag = tagArg.tojstring();
 
-            if (!entityArg.istable() || entityManager == null) {
-                return LuaValue.FALSE;
-            }
-
-            String uuidStr = entityArg.get("uuid").tojstring();
-            if (uuidStr == null) {
-                return LuaValue.FALSE;
-            }
-
-            try {
-                java.util.UUID uuid = java.util.UUID.fromString(uuidStr);
-                SanctuaryEntity entity = entityManager.get(uuid);
-                if (entity != null) {
-                    return entity.getComponentOptional(TagComponent.class)
-                            .map(tags -> LuaValue.valueOf(tags.has(tag)))
-                            .orElse(LuaValue.FALSE);
+            SanctuaryEntity entity = getEntityFromArg(entityArg);
+            if (entity != null) {
+                TagComponent tags = entity.getComponent(TagComponent.class);
+                if (tags != null) {
+                    return LuaValue.valueOf(tags.has(tag));
                 }
-            } catch (IllegalArgumentException e) {
-                logger.warning("[Lua] hasTag: 잘못된 UUID 형식: " + uuidStr);
             }
 
             return LuaValue.FALSE;
@@ -208,17 +187,10 @@ public class LuaBridge {
             try {
                 Sound sound = Sound.valueOf(soundName);
 
-                if (entityArg.istable() && entityManager != null) {
-                    String uuidStr = entityArg.get("uuid").tojstring();
-                    if (uuidStr != null) {
-                        java.util.UUID uuid = java.util.UUID.fromString(uuidStr);
-                        SanctuaryEntity entity = entityManager.get(uuid);
-                        if (entity != null && entity.getBukkitEntity() != null) {
-                            org.bukkit.Location loc = entity.getBukkitEntity().getLocation();
-                            loc.getWorld().playSound(loc, sound, 1.0f, 1.0f);
-                            return LuaValue.TRUE;
-                        }
-                    }
+                SanctuaryEntity entity = getEntityFromArg(entityArg);
+                if (entity != null && entity.getBukkitEntity() != null) {
+                    org.bukkit.Location loc = entity.getBukkitEntity().getLocation();
+                    loc.getWorld().playSound(loc, sound, 1.0f, 1.0f);
                 }
 
                 return LuaValue.TRUE;
@@ -530,21 +502,48 @@ public class LuaBridge {
     // ===== 헬퍼 메서드 =====
 
     /**
-     * Lua 테이블에서 SanctuaryEntity를 가져옵니다.
+     * Lua 인자에서 SanctuaryEntity를 가져옵니다.
+     *
+     * 허용 형식:
+     * - 정수 핸들 (권장, 배열 조회만 수행)
+     * - { id = 핸들 } 테이블
+     * - { uuid = "..." } 테이블 또는 UUID 문자열 (하위 호환, 문자열 파싱 필요)
      */
     private SanctuaryEntity getEntityFromArg(LuaValue entityArg) {
-        if (!entityArg.istable() || entityManager == null) {
+        if (entityManager == null) {
             return null;
         }
+        if (entityArg.isint()) {
+            return entityManager.get(entityArg.toint());
+        }
+        if (!entityArg.istable()) {
+            return getEntityFromUuid(entityArg);
+        }
 
-        String uuidStr = entityArg.get("uuid").tojstring();
-        if (uuidStr == null)
-            return null;
+        LuaValue id = entityArg.get(KEY_ID);
+        if (id.isint()) {
+            return entityManager.get(id.toint());
+        }
 
+        return getEntityFromUuid(entityArg.get(KEY_UUID));
+    }
+
+    /**
+     * uuid 값으로 엔티티를 조회합니다.
+     * 이벤트 컨텍스트의 정수 ID를 uuid 필드에 담아 넘기는 스크립트도 있으므로 정수는 핸들로 취급합니다.
+     */
+    private SanctuaryEntity getEntityFromUuid(LuaValue uuidArg) {
+        if (uuidArg.type() == LuaValue.TNUMBER) {
+            return uuidArg.isint() ? entityManager.get(uuidArg.toint()) : null;
+        }
+        if (uuidArg.type() != LuaValue.TSTRING) {
+            return null;
+        }
         try {
-            java.util.UUID uuid = java.util.UUID.fromString(uuidStr);
+            java.util.UUID uuid = java.util.UUID.fromString(uuidArg.tojstring());
             return entityManager.get(uuid);
         } catch (IllegalArgumentException e) {
+            logger.warning("[Lua] 잘못된 UUID 형식: " + uuidArg.tojstring());
             return null;
         }
     }
@@ -571,7 +570,8 @@ public class LuaBridge {
      */
     public LuaValue entityToLua(SanctuaryEntity entity) {
         LuaValue table = LuaValue.tableOf();
-        table.set("uuid", entity.getUuid().toString());
+        table.set(KEY_ID, LuaValue.valueOf(entity.getHandle()));
+        table.set(KEY_UUID, LuaValue.valueOf(entity.getUuid().toString()));
 
         // AttributeComponent가 있으면 스탯 추가
         entity.getComponentOptional(AttributeComponent.class).ifPresent(attr -> {
@@ -0,0 +1,242 @@
+package com.sanctuary.core.script;
+
+import org.luaj.vm2.LuaString;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.ThreeArgFunction;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 고정 필드를 가진 Lua 테이블의 스키마와 재사용 풀입니다.
+ *
+ * 매 타격마다 같은 모양의 테이블(caster, target, 이벤트 등)을 만드는 경로에서 사용합니다.
+ * - 키는 스키마 생성 시 한 번 {@link LuaString}으로 인턴되므로 호출마다 문자열을 변환하지 않습니다.
+ * - 테이블은 해시 부분을 키 수만큼 미리 잡아 생성하고, 호출이 끝나면 {@link #release(LuaTable)}로 풀에 반환합니다.
+ * - 값은 {@code rawset}으로 덮어쓰므로 기존 키의 슬롯이 그대로 재사용됩니다.
+ *
+ * Lua 스크립트가 스키마에 없는 키를 추가하면 해당 테이블은 오염된 것으로 보고 풀에 반환하지 않습니다.
+ * 반환된 테이블은 다음 호출에서 다른 값으로 채워지므로, 스크립트는 인자로 받은 테이블을
+ * 호출이 끝난 뒤까지 보관해서는 안 됩니다. (필요하면 값을 복사)
+ *
+ * 사용 예시:
+ *
+ * <pre>
+ * static final LuaSchema TARGET = LuaSchema.of("target", "id", "isVulnerable");
+ * static final LuaString ID = TARGET.key("id");
+ *
+ * LuaTable table = TARGET.acquire();
+ * try {
+ *     table.rawset(ID, LuaValue.valueOf(handle));
+ *     function.call(table);
+ * } finally {
+ *     TARGET.release(table);
+ * }
+ * </pre>
+ */
+public final class LuaSchema {
+
+    private static final int MAX_POOLED = 32;
+
+    // 태그 등 반복되는 문자열 값 인턴 캐시 (상한 초과 시 인턴하지 않음)
+    private static final int MAX_INTERNED = 4096;
+    private static final Map<String, LuaString> INTERNED = new ConcurrentHashMap<>();
+
+    // 스키마에 없는 키가 추가되면 테이블을 오염 표시 (rawset은 이 메타메서드를 거치지 않음)
+    private static final LuaTable TAINT_META = new LuaTable();
+
+    static {
+        TAINT_META.rawset(LuaValue.valueOf("__newindex"), new ThreeArgFunction() {
+            @Override
+            public LuaValue call(LuaValue table, LuaValue key, LuaValue value) {
+                if (table instanceof PooledTable pooled) {
+                    pooled.tainted = true;
+                }
+                table.rawset(key, value);
+                return NONE;
+            }
+        });
+    }
+
+    private final String name;
+    private final String[] names;
+    private final LuaString[] keys;
+    private final int arraySize;
+    private final ArrayDeque<PooledTable> pool = new ArrayDeque<>();
+
+    private LuaSchema(String name, String[] keys, int arraySize) {
+        this.name = name;
+        this.names = keys.clone();
+        this.keys = new LuaString[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            this.keys[i] = LuaString.valueOf(keys[i]);
+        }
+        this.arraySize = arraySize;
+    }
+
+    /**
+     * 이름 있는 필드로 구성된 레코드 스키마를 생성합니다.
+     *
+     * @param name 스키마 이름 (로그/디버그용)
+     * @param keys 필드 이름
+     * @return 스키마
+     */
+    public static LuaSchema of(String name, String... keys) {
+        return new LuaSchema(name, keys, 0);
+    }
+
+    /**
+     * 1부터 시작하는 배열 부분만 사용하는 리스트 스키마를 생성합니다. (태그 목록 등)
+     *
+     * @param name         스키마 이름
+     * @param expectedSize 미리 잡아 둘 배열 크기
+     * @return 스키마
+     */
+    public static LuaSchema list(String name, int expectedSize) {
+        return new LuaSchema(name, new String[0], expectedSize);
+    }
+
+    /**
+     * 인턴된 필드 키를 반환합니다. 호출자는 정적 상수로 보관해 사용합니다.
+     *
+     * @param key 필드 이름
+     * @return 인턴된 키
+     * @throws IllegalArgumentException 스키마에 없는 필드인 경우
+     */
+    public LuaString key(String key) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(key)) {
+                return keys[i];
+            }
+        }
+        throw new IllegalArgumentException("스키마 " + name + "에 없는 필드입니다: " + key);
+    }
+
+    // ===== 풀 =====
+
+    /**
+     * 풀에서 테이블을 가져옵니다. 풀이 비어 있으면 새로 생성합니다.
+     * 이전 호출의 값이 남아 있을 수 있으므로 모든 필드를 다시 채워야 합니다.
+     *
+     * @return 테이블
+     */
+    public LuaTable acquire() {
+        PooledTable table;
+        synchronized (pool) {
+            table = pool.pollFirst();
+        }
+        if (table == null) {
+            table = new PooledTable(arraySize, keys.length);
+            table.setmetatable(TAINT_META);
+        }
+        return table;
+    }
+
+    /**
+     * 테이블을 풀에 반환합니다. 오염된 테이블이나 다른 곳에서 만든 테이블은 무시합니다.
+     *
+     * @param table 반환할 테이블 (null 허용)
+     */
+    public void release(LuaTable table) {
+        if (!(table instanceof PooledTable pooled) || pooled.tainted) {
+            return;
+        }
+        synchronized (pool) {
+            if (pool.size() < MAX_POOLED) {
+                pool.addFirst(pooled);
+            }
+        }
+    }
+
+    /**
+     * 풀에 대기 중인 테이블 수를 반환합니다.
+     */
+    public int getPooledCount() {
+        synchronized (pool) {
+            return pool.size();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // ===== 리스트 채우기 =====
+
+    /**
+     * 리스트 테이블의 배열 부분을 문자열 값으로 채우고, 이전 호출에서 남은 뒤쪽 요소는 제거합니다.
+     *
+     * @param table  리스트 테이블
+     * @param values 값 (반복되는 값은 인턴됨)
+     * @return table
+     */
+    public static LuaTable fillList(LuaTable table, Collection<String> values) {
+        int previous = table.length();
+        int i = 0;
+        for (String value : values) {
+            table.rawset(++i, intern(value));
+        }
+        for (int k = previous; k > i; k--) {
+            table.rawset(k, LuaValue.NIL);
+        }
+        return table;
+    }
+
+    /**
+     * 리스트 테이블의 배열 부분을 Lua 값(대상 테이블, 이벤트 뷰 등)으로 채우고, 이전 호출에서 남은 뒤쪽 요소는 제거합니다.
+     *
+     * @param table  리스트 테이블
+     * @param values 값
+     * @return table
+     */
+    public static LuaTable fillValues(LuaTable table, List<? extends LuaValue> values) {
+        int previous = table.length();
+        int size = values.size();
+        for (int i = 0; i < size; i++) {
+            table.rawset(i + 1, values.get(i));
+        }
+        for (int k = previous; k > size; k--) {
+            table.rawset(k, LuaValue.NIL);
+        }
+        return table;
+    }
+
+    /**
+     * 반복되는 문자열 값을 인턴된 LuaString으로 변환합니다.
+     *
+     * @param value 문자열
+     * @return LuaString (null이면 NIL)
+     */
+    public static LuaValue intern(String value) {
+        if (value == null) {
+            return LuaValue.NIL;
+        }
+        LuaString interned = INTERNED.get(value);
+        if (interned == null) {
+            interned = LuaString.valueOf(value);
+            if (INTERNED.size() < MAX_INTERNED) {
+                INTERNED.putIfAbsent(value, interned);
+            }
+        }
+        return interned;
+    }
+
+    @Override
+    public String toString() {
+        return "LuaSchema{" + name + ", keys=" + keys.length + "}";
+    }
+
+    /**
+     * 풀에서 관리되는 테이블입니다.
+     */
+    private static final class PooledTable extends LuaTable {
+        private boolean tainted;
+
+        private PooledTable(int narray, int nhash) {
+            super(narray, nhash);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sanctuary.core.script;
+
+/**
+ * Lua 함수 호출 한 번의 실행 예산입니다.
+ * 명령어 수나 실행 시간 중 하나라도 초과하면 호출이 Lua 오류로 중단됩니다.
+ *
+ * @param maxInstructions 최대 Lua VM 명령어 수 (0 이하면 제한 없음)
+ * @param maxMillis       최대 실행 시간 (밀리초, 0 이하면 제한 없음)
+ */
+public record ScriptBudget(long maxInstructions, long maxMillis) {
+
+    /** 제한 없음 */
+    public static final ScriptBudget UNLIMITED = new ScriptBudget(0, 0);
+
+    /** 기본 예산 (훅/스킬 스크립트가 메인 스레드를 오래 점유하지 않도록) */
+    public static final ScriptBudget DEFAULT = new ScriptBudget(5_000_000, 50);
+
+    public boolean isUnlimited() {
+        return maxInstructions <= 0 && maxMillis <= 0;
+    }
+
+    @Override
+    public String toString() {
+        if (isUnlimited()) {
+            return "무제한";
+        }
+        return (maxInstructions > 0 ? maxInstructions + " 명령어" : "-") + " / "
+                + (maxMillis > 0 ? maxMillis + "ms" : "-");
+    }
+}
@@ -0,0 +1,183 @@
+package com.sanctuary.core.script;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로드할 Lua 소스에 실행 예산 체크포인트 호출을 삽입합니다.
+ *
+ * 인터프리터와 luajc 컴파일 모드 모두 같은 계측 소스를 사용하며, 디버그 훅 없이
+ * 무한 루프를 중단할 수 있도록 다음 위치에 {@link ScriptGuard}의 체크포인트 함수 호출을 넣습니다.
+ * - 모든 {@code do} 블록의 시작 (while/for 루프 본문 포함)
+ * - {@code repeat} 블록의 시작
+ * - 모든 함수 본문의 시작 (재귀 호출 대비)
+ * - {@code goto} 문 직전 (goto로 만든 루프 대비)
+ *
+ * 호출은 원래 소스와 같은 줄에 삽입하므로 오류 메시지의 줄 번호는 바뀌지 않습니다.
+ * 문자열(이스케이프 포함), 긴 문자열({@code [==[ ]==]}), 주석({@code --[==[ ]==]} 포함) 안의 키워드와
+ * 식별자 일부로 들어간 키워드({@code undo}, {@code do_it} 등)는 건너뜁니다.
+ */
+final class ScriptCheckpoints {
+
+    /** 체크포인트 함수가 등록되는 전역 이름 */
+    static final String GLOBAL_NAME = "__sanctuary_checkpoint";
+
+    // 청크 시작에서 전역 함수를 지역 변수로 캐시 (전역이 없으면 아무것도 하지 않는 함수)
+    private static final String LOCAL_NAME = "__sanctuary_cp";
+    private static final String PRELUDE = "local " + LOCAL_NAME + " = " + GLOBAL_NAME + " or function() end; ";
+    private static final String CALL = " " + LOCAL_NAME + "() ";
+
+    private ScriptCheckpoints() {
+    }
+
+    /**
+     * 소스 파일 내용에 체크포인트 호출을 삽입합니다.
+     * ISO-8859-1은 모든 바이트를 그대로 보존하므로 UTF-8 문자열 리터럴도 바뀌지 않습니다.
+     *
+     * @param source Lua 소스 바이트
+     * @return 체크포인트가 삽입된 소스 바이트
+     */
+    static byte[] instrument(byte[] source) {
+        return instrument(new String(source, StandardCharsets.ISO_8859_1)).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 소스에 체크포인트 호출을 삽입합니다.
+     *
+     * @param source Lua 소스
+     * @return 체크포인트가 삽입된 소스
+     */
+    static String instrument(String source) {
+        StringBuilder out = new StringBuilder(source.length() + 256);
+        int i = 0;
+        int n = source.length();
+
+        // #! 첫 줄은 로더가 건너뛰므로 그 다음 줄에 선언을 넣음
+        if (source.startsWith("#")) {
+            int eol = source.indexOf('\n');
+            i = eol < 0 ? n : eol + 1;
+            out.append(source, 0, i);
+        }
+        out.append(PRELUDE);
+
+        while (i < n) {
+            char c = source.charAt(i);
+
+            if (c == '-' && i + 1 < n && source.charAt(i + 1) == '-') {
+                int end = skipComment(source, i);
+                out.append(source, i, end);
+                i = end;
+            } else if (c == '"' || c == '\'') {
+                int end = skipQuoted(source, i);
+                out.append(source, i, end);
+                i = end;
+            } else if (c == '[' && longBracketLevel(source, i) >= 0) {
+                int end = skipLongBracket(source, i);
+                out.append(source, i, end);
+                i = end;
+            } else if (c >= '0' && c <= '9') {
+                int end = i;
+                while (end < n && (isNamePart(source.charAt(end)) || source.charAt(end) == '.')) {
+                    end++;
+                }
+                out.append(source, i, end);
+                i = end;
+            } else if (isNameStart(c)) {
+                int end = i;
+                while (end < n && isNamePart(source.charAt(end))) {
+                    end++;
+                }
+                String word = source.substring(i, end);
+                boolean field = i > 0 && source.charAt(i - 1) == '.'
+                        && !(i > 1 && source.charAt(i - 2) == '.'); // t.do 같은 필드가 아닌 키워드만
+                if (!field && word.equals("goto")) {
+                    out.append(CALL);
+                }
+                out.append(word);
+                i = end;
+                if (field) {
+                    continue;
+                }
+                if (word.equals("do") || word.equals("repeat")) {
+                    out.append(CALL);
+                } else if (word.equals("function")) {
+                    i = copyParameterList(source, i, out);
+                }
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * function 키워드 뒤의 이름과 매개변수 목록을 복사하고 본문 시작에 체크포인트를 넣습니다.
+     * (매개변수 목록에는 괄호나 문자열이 올 수 없고, 주석만 건너뜀)
+     */
+    private static int copyParameterList(String source, int from, StringBuilder out) {
+        int j = from;
+        while (j < source.length()) {
+            char c = source.charAt(j);
+            if (c == '-' && j + 1 < source.length() && source.charAt(j + 1) == '-') {
+                j = skipComment(source, j);
+            } else if (c == ')') {
+                out.append(source, from, j + 1).append(CALL);
+                return j + 1;
+            } else {
+                j++;
+            }
+        }
+        return from; // 문법 오류: 컴파일러가 보고하도록 그대로 둠
+    }
+
+    private static int skipComment(String source, int i) {
+        int start = i + 2;
+        if (start < source.length() && source.charAt(start) == '[' && longBracketLevel(source, start) >= 0) {
+            return skipLongBracket(source, start);
+        }
+        int eol = source.indexOf('\n', start);
+        return eol < 0 ? source.length() : eol;
+    }
+
+    private static int skipQuoted(String source, int i) {
+        char quote = source.charAt(i);
+        int j = i + 1;
+        while (j < source.length()) {
+            char c = source.charAt(j);
+            if (c == '\\') {
+                j += 2;
+            } else if (c == quote || c == '\n') {
+                return j + 1;
+            } else {
+                j++;
+            }
+        }
+        return source.length();
+    }
+
+    /**
+     * [[, [=[, [==[ ... 형태의 긴 괄호 레벨을 반환합니다. 긴 괄호가 아니면 -1.
+     */
+    private static int longBracketLevel(String source, int i) {
+        int j = i + 1;
+        while (j < source.length() && source.charAt(j) == '=') {
+            j++;
+        }
+        return j < source.length() && source.charAt(j) == '[' ? j - i - 1 : -1;
+    }
+
+    private static int skipLongBracket(String source, int i) {
+        int level = longBracketLevel(source, i);
+        String close = "]" + "=".repeat(level) + "]";
+        int end = source.indexOf(close, i + level + 2);
+        return end < 0 ? source.length() : end + close.length();
+    }
+
+    private static boolean isNameStart(char c) {
+        return c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isNamePart(char c) {
+        return isNameStart(c) || (c >= '0' && c <= '9');
+    }
+}
@@ -1,39 +1,102 @@
 package com.sanctuary.core.script;
 
+import com.sanctuary.core.ecs.EntityManager;
 import org.luaj.vm2.Globals;
 import org.luaj.vm2.LuaError;
 import org.luaj.vm2.LuaValue;
-import org.luaj.vm2.Varargs;
 import org.luaj.vm2.lib.jse.JsePlatform;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.util.HashMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
  * Lua 스크립트를 실행하는 엔진입니다.
  * LuaJ 라이브러리를 사용하며, 샌드박싱과 API 바인딩을 지원합니다.
+ *
+ * 컴파일 모드:
+ * - 매 타격마다 호출되는 핫 스크립트(damage_calculator.lua 등)는 luajc로 JVM 바이트코드로 컴파일하여 실행합니다.
+ * - 컴파일 결과는 plugins/&lt;플러그인&gt;/script-cache에 내용 해시 기준으로 캐시되어 재시작 시 재컴파일하지 않습니다.
+ * - 컴파일에 실패하거나 luajc를 사용할 수 없으면 인터프리터로 폴백합니다.
+ *
+ * 함수 핸들:
+ * - 반복 호출되는 함수는 {@link #function(String)}으로 {@link ScriptFunction} 핸들을 얻어 사용합니다.
+ * - 스크립트가 로드되거나 캐시가 무효화될 때마다 세대(epoch)가 증가하며, 핸들은 다음 호출 시 다시 바인딩됩니다.
+ *
+ * 실행 예산과 프로파일링:
+ * - 함수 호출마다 명령어 수/실행 시간 예산({@link ScriptBudget})을 적용하여 무한 루프가 메인 스레드를 멈추지 않도록 합니다.
+ * - 로드 시 삽입한 루프/함수 체크포인트({@link ScriptCheckpoints})와 호출 경계의 시간 확인으로 예산을 강제합니다.
+ * - 함수별 예산은 {@link #setBudget(String, ScriptBudget)}로 지정할 수 있습니다.
+ * - 함수별 호출 수, 누적 시간, p99 지연 시간은 {@link #getProfiles()}로 조회합니다. (/sanctuary scripts)
  */
 public class ScriptEngine {
 
+    // 컴파일 모드로 로드할 핫 스크립트
+    private static final Set<String> DEFAULT_COMPILED_SCRIPTS = Set.of(
+            "damage_calculator.lua", "skills.lua", "combat_effects.lua");
+
     private final File scriptFolder;
     private final Logger logger;
     private final Globals globals;
     private final LuaBridge bridge;
+    private final CompiledScriptCache compiledCache;
+
+    private final Set<String> compiledScripts = new HashSet<>(DEFAULT_COMPILED_SCRIPTS);
+    private final Set<String> loadedCompiled = new HashSet<>();
+    private boolean compileEnabled = true;
+
+    // 로드된 스크립트 캐시 (스크립트 이름 -> LuaValue, 핫 리로드 스레드에서도 조회)
+    private final Map<String, LuaValue> scriptCache = new ConcurrentHashMap<>();
+
+    // 함수 핸들 캐시 (함수 이름 또는 "스크립트:함수" -> 핸들)
+    private final Map<String, ScriptFunction> functions = new ConcurrentHashMap<>();
+
+    // 전역 함수 정의가 바뀔 수 있을 때마다 증가 (핸들 재바인딩 기준)
+    private volatile int epoch;
 
-    // 로드된 스크립트 캐시 (스크립트 이름 -> LuaValue)
-    private final Map<String, LuaValue> scriptCache = new HashMap<>();
+    // 실행 예산 (함수 이름 -> 예산, 없으면 기본 예산)
+    private final ScriptGuard guard = new ScriptGuard();
+    private final Map<String, ScriptBudget> budgets = new ConcurrentHashMap<>();
+    private volatile ScriptBudget defaultBudget = ScriptBudget.DEFAULT;
+
+    // 함수 이름 -> 호출 통계
+    private final Map<String, ScriptProfile> profiles = new ConcurrentHashMap<>();
 
     public ScriptEngine(File pluginFolder, Logger logger) {
+        this(pluginFolder, logger, null);
+    }
+
+    /**
+     * EntityManager와 연결된 스크립트 엔진을 생성합니다.
+     * Lua API의 엔티티 함수(getStat, hasTag 등)는 이 매니저에서 핸들로 엔티티를 조회합니다.
+     *
+     * @param pluginFolder  플러그인 데이터 폴더
+     * @param logger        로거
+     * @param entityManager 엔티티 매니저 (없으면 null)
+     */
+    public ScriptEngine(File pluginFolder, Logger logger, EntityManager entityManager) {
         this.scriptFolder = new File(pluginFolder, "scripts");
         this.logger = logger;
         this.globals = JsePlatform.standardGlobals();
-        this.bridge = new LuaBridge(logger);
+        this.bridge = new LuaBridge(logger, entityManager);
+        this.compiledCache = new CompiledScriptCache(new File(pluginFolder, "script-cache"), logger);
 
         if (!scriptFolder.exists()) {
             scriptFolder.mkdirs();
         }
 
+        // 예산 체크포인트 함수 설치
+        guard.install(globals);
+
         // 샌드박싱 및 API 등록
         bridge.applySandbox(globals);
         bridge.registerAPI(globals);
@@ -60,18 +123,133 @@ public class ScriptEngine {
             return null;
         }
 
+        if (compileEnabled && compiledScripts.contains(scriptName)) {
+            LuaValue compiled = compiledCache.load(file, globals);
+            if (compiled != null) {
+                try {
+                    compiled.call(); // 스크립트 실행하여 함수 정의 로드
+                    scriptCache.put(scriptName, compiled);
+                    loadedCompiled.add(scriptName);
+                    epoch++;
+                    logger.info("[ScriptEngine] 스크립트 로드됨: " + scriptName + " (컴파일)");
+                    return compiled;
+                } catch (LuaError e) {
+                    logger.warning("[ScriptEngine] 컴파일된 스크립트 실행 오류, 인터프리터로 재시도 ("
+                            + scriptName + "): " + e.getMessage());
+                }
+            }
+        }
+
         try {
-            LuaValue chunk = globals.loadfile(file.getAbsolutePath());
+            LuaValue chunk = loadInterpreted(file);
             chunk.call(); // 스크립트 실행하여 함수 정의 로드
             scriptCache.put(scriptName, chunk);
+            loadedCompiled.remove(scriptName);
+            epoch++;
             logger.info("[ScriptEngine] 스크립트 로드됨: " + scriptName);
             return chunk;
-        } catch (LuaError e) {
+        } catch (LuaError | IOException e) {
             logger.severe("[ScriptEngine] 스크립트 로드 오류 (" + scriptName + "): " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * 체크포인트를 삽입한 소스를 인터프리터용으로 로드합니다. (chunk 이름은 loadfile과 같이 "@경로")
+     */
+    private LuaValue loadInterpreted(File file) throws IOException {
+        byte[] source = ScriptCheckpoints.instrument(Files.readAllBytes(file.toPath()));
+        return globals.load(new ByteArrayInputStream(source), "@" + file.getAbsolutePath(), "t", globals);
+    }
+
+    // ===== 핫 리로드 =====
+
+    /**
+     * 스크립트를 다시 컴파일하여 실행 직전 상태로 준비합니다.
+     * 파일 읽기와 컴파일(luajc 포함)만 수행하고 Lua 코드는 실행하지 않으므로 비동기 스레드에서 호출할 수 있습니다.
+     *
+     * @param scriptName 스크립트 파일 이름
+     * @return 준비된 스크립트 또는 null (파일 없음/문법 오류)
+     */
+    public PreparedScript prepareReload(String scriptName) {
+        File file = new File(scriptFolder, scriptName);
+        if (!file.exists()) {
+            return null;
+        }
+
+        if (compileEnabled && compiledScripts.contains(scriptName)) {
+            LuaValue compiled = compiledCache.load(file, globals);
+            if (compiled != null) {
+                return new PreparedScript(scriptName, compiled, true);
+            }
+        }
+
+        try {
+            return new PreparedScript(scriptName, loadInterpreted(file), false);
+        } catch (LuaError | IOException e) {
+            logger.severe("[ScriptEngine] 스크립트 컴파일 오류, 이전 버전 유지 (" + scriptName + "): " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 준비된 스크립트를 실행하여 함수 정의를 교체합니다. (메인 스레드)
+     * 실행에 실패하면 캐시를 바꾸지 않으며, 함수 핸들은 성공한 경우에만 다시 바인딩됩니다.
+     *
+     * @param prepared {@link #prepareReload(String)}의 결과
+     * @return 교체되었으면 true
+     */
+    public boolean swap(PreparedScript prepared) {
+        try {
+            prepared.chunk.call(); // 스크립트 실행하여 함수 정의 로드
+        } catch (LuaError e) {
+            logger.severe("[ScriptEngine] 스크립트 리로드 실행 오류 (" + prepared.name + "): " + e.getMessage());
+            return false;
+        }
+        scriptCache.put(prepared.name, prepared.chunk);
+        if (prepared.compiled) {
+            loadedCompiled.add(prepared.name);
+        } else {
+            loadedCompiled.remove(prepared.name);
+        }
+        epoch++;
+        logger.info("[ScriptEngine] 스크립트 리로드됨: " + prepared.name + (prepared.compiled ? " (컴파일)" : ""));
+        return true;
+    }
+
+    /**
+     * 스크립트가 로드되어 있는지 확인합니다.
+     *
+     * @param scriptName 스크립트 파일 이름
+     * @return 로드되어 있으면 true
+     */
+    public boolean isLoaded(String scriptName) {
+        return scriptCache.containsKey(scriptName);
+    }
+
+    /**
+     * 컴파일만 끝나고 아직 실행되지 않은 스크립트입니다.
+     */
+    public static final class PreparedScript {
+        private final String name;
+        private final LuaValue chunk;
+        private final boolean compiled;
+
+        private PreparedScript(String name, LuaValue chunk, boolean compiled) {
+            this.name = name;
+            this.chunk = chunk;
+            this.compiled = compiled;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isCompiled() {
+            return compiled;
+        }
+    }
+
     /**
      * 스크립트를 실행합니다.
      * 
@@ -90,70 +268,148 @@ public class ScriptEngine {
      * @return 함수 반환값 또는 NIL
      */
     public LuaValue executeFunction(String scriptName, String functionName, LuaValue... args) {
-        // 스크립트 로드 (필요시)
-        loadScript(scriptName);
-
-        try {
-            LuaValue func = globals.get(functionName);
-            if (func.isnil()) {
-                logger.warning("[ScriptEngine] 함수를 찾을 수 없습니다: " + functionName + " in " + scriptName);
-                return LuaValue.NIL;
-            }
-
-            // 인자 개수에 따라 호출
-            switch (args.length) {
-                case 0:
-                    return func.call();
-                case 1:
-                    return func.call(args[0]);
-                case 2:
-                    return func.call(args[0], args[1]);
-                case 3:
-                    return func.call(args[0], args[1], args[2]);
-                default:
-                    // 4개 이상의 인자는 invoke 사용
-                    Varargs varargs = LuaValue.varargsOf(args);
-                    return func.invoke(varargs).arg1();
-            }
-        } catch (LuaError e) {
-            logger.severe("[ScriptEngine] 함수 실행 오류 (" + scriptName + "." + functionName + "): " + e.getMessage());
-            return LuaValue.NIL;
-        }
+        return function(scriptName, functionName).invoke(args);
     }
 
     /**
      * 전역 함수를 직접 호출합니다. (스크립트 로드 없이)
+     * 반복 호출되는 경로에서는 {@link #function(String)} 핸들을 보관해 사용하십시오.
      * 
      * @param functionName 호출할 함수 이름
      * @param args         함수에 전달할 인자들
      * @return 함수 반환값 또는 NIL
      */
     public LuaValue callFunction(String functionName, LuaValue... args) {
-        try {
-            LuaValue func = globals.get(functionName);
-            if (func.isnil()) {
-                logger.fine("[ScriptEngine] 함수를 찾을 수 없습니다: " + functionName);
-                return LuaValue.NIL;
+        return function(functionName).invoke(args);
+    }
+
+    // ===== 함수 핸들 =====
+
+    /**
+     * 전역 함수 핸들을 반환합니다. 같은 이름에는 같은 핸들을 반환합니다.
+     *
+     * @param functionName 함수 이름
+     * @return 함수 핸들
+     */
+    public ScriptFunction function(String functionName) {
+        return functions.computeIfAbsent(functionName, name -> new ScriptFunction(this, null, name));
+    }
+
+    /**
+     * 스크립트에 정의된 함수 핸들을 반환합니다.
+     * 핸들은 바인딩 전에 스크립트를 로드(필요시)합니다.
+     *
+     * @param scriptName   스크립트 파일 이름
+     * @param functionName 함수 이름
+     * @return 함수 핸들
+     */
+    public ScriptFunction function(String scriptName, String functionName) {
+        return functions.computeIfAbsent(scriptName + ":" + functionName,
+                key -> new ScriptFunction(this, scriptName, functionName));
+    }
+
+    // ===== 실행 예산 =====
+
+    /**
+     * 함수의 호출당 실행 예산을 지정합니다. 이미 만들어진 핸들에도 바로 적용됩니다.
+     *
+     * @param functionName 함수 이름
+     * @param budget       예산 (null이면 기본 예산으로 되돌림)
+     */
+    public void setBudget(String functionName, ScriptBudget budget) {
+        if (budget != null) {
+            budgets.put(functionName, budget);
+        } else {
+            budgets.remove(functionName);
+        }
+        ScriptBudget applied = getBudget(functionName);
+        for (ScriptFunction function : functions.values()) {
+            if (function.getName().equals(functionName)) {
+                function.setBudget(applied);
             }
+        }
+    }
+
+    /**
+     * 함수에 적용되는 실행 예산을 반환합니다.
+     *
+     * @param functionName 함수 이름
+     * @return 지정된 예산 또는 기본 예산
+     */
+    public ScriptBudget getBudget(String functionName) {
+        return budgets.getOrDefault(functionName, defaultBudget);
+    }
 
-            // 인자 개수에 따라 호출
-            switch (args.length) {
-                case 0:
-                    return func.call();
-                case 1:
-                    return func.call(args[0]);
-                case 2:
-                    return func.call(args[0], args[1]);
-                case 3:
-                    return func.call(args[0], args[1], args[2]);
-                default:
-                    Varargs varargs = LuaValue.varargsOf(args);
-                    return func.invoke(varargs).arg1();
+    /**
+     * 개별 예산이 없는 함수에 적용할 기본 예산을 지정합니다.
+     *
+     * @param budget 기본 예산
+     */
+    public void setDefaultBudget(ScriptBudget budget) {
+        this.defaultBudget = budget != null ? budget : ScriptBudget.DEFAULT;
+        for (ScriptFunction function : functions.values()) {
+            function.setBudget(getBudget(function.getName()));
+        }
+    }
+
+    public ScriptBudget getDefaultBudget() {
+        return defaultBudget;
+    }
+
+    // ===== 프로파일링 =====
+
+    /**
+     * 호출 기록이 있는 함수의 통계를 누적 시간 내림차순으로 반환합니다.
+     *
+     * @return 통계 목록
+     */
+    public List<ScriptProfile> getProfiles() {
+        List<ScriptProfile> result = new ArrayList<>();
+        for (ScriptProfile profile : profiles.values()) {
+            if (profile.getCalls() > 0) {
+                result.add(profile);
             }
-        } catch (LuaError e) {
-            logger.warning("[ScriptEngine] 함수 호출 오류 (" + functionName + "): " + e.getMessage());
-            return LuaValue.NIL;
         }
+        result.sort(Comparator.comparingLong(ScriptProfile::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * 함수의 호출 통계를 반환합니다.
+     *
+     * @param functionName 함수 이름
+     * @return 통계 또는 null (호출된 적 없음)
+     */
+    public ScriptProfile getProfile(String functionName) {
+        return profiles.get(functionName);
+    }
+
+    /**
+     * 모든 호출 통계를 초기화합니다.
+     */
+    public void resetProfiles() {
+        for (ScriptProfile profile : profiles.values()) {
+            profile.reset();
+        }
+    }
+
+    ScriptProfile profileOf(String functionName) {
+        return profiles.computeIfAbsent(functionName, ScriptProfile::new);
+    }
+
+    ScriptGuard getGuard() {
+        return guard;
+    }
+
+    /**
+     * 현재 세대를 반환합니다. 스크립트 로드/무효화 시 증가합니다.
+     */
+    int getEpoch() {
+        return epoch;
+    }
+
+    Logger getLogger() {
+        return logger;
     }
 
     /**
@@ -161,6 +417,8 @@ public class ScriptEngine {
      */
     public void reloadAll() {
         scriptCache.clear();
+        loadedCompiled.clear();
+        epoch++;
         logger.info("[ScriptEngine] 스크립트 캐시 초기화됨. 다음 호출 시 재로드됩니다.");
     }
 
@@ -171,6 +429,54 @@ public class ScriptEngine {
      */
     public void invalidate(String scriptName) {
         scriptCache.remove(scriptName);
+        loadedCompiled.remove(scriptName);
+        epoch++;
+    }
+
+    // ===== 컴파일 모드 =====
+
+    /**
+     * 컴파일 모드 사용 여부를 설정합니다. 이미 로드된 스크립트는 다음 리로드부터 적용됩니다.
+     *
+     * @param enabled true면 핫 스크립트를 luajc로 컴파일
+     */
+    public void setCompileEnabled(boolean enabled) {
+        this.compileEnabled = enabled;
+    }
+
+    /**
+     * 컴파일 모드 사용 여부를 반환합니다. (luajc를 사용할 수 없으면 false)
+     */
+    public boolean isCompileEnabled() {
+        return compileEnabled && compiledCache.isAvailable();
+    }
+
+    /**
+     * 컴파일 모드로 로드할 스크립트를 추가합니다.
+     *
+     * @param scriptName 스크립트 파일 이름
+     */
+    public void addCompiledScript(String scriptName) {
+        compiledScripts.add(scriptName);
+    }
+
+    /**
+     * 컴파일 모드 대상 스크립트 목록을 반환합니다.
+     *
+     * @return 읽기 전용 스크립트 이름 Set
+     */
+    public Set<String> getCompiledScripts() {
+        return Collections.unmodifiableSet(compiledScripts);
+    }
+
+    /**
+     * 스크립트가 컴파일된 바이트코드로 로드되어 있는지 확인합니다.
+     *
+     * @param scriptName 스크립트 파일 이름
+     * @return 컴파일 모드로 로드되었으면 true (인터프리터 폴백이면 false)
+     */
+    public boolean isCompiled(String scriptName) {
+        return loadedCompiled.contains(scriptName);
     }
 
     /**
@@ -0,0 +1,215 @@
+package com.sanctuary.core.script;
+
+import org.luaj.vm2.LuaError;
+import org.luaj.vm2.LuaValue;
+
+/**
+ * 한 번 조회해 두고 여러 번 호출하는 Lua 전역 함수 핸들입니다.
+ * {@link ScriptEngine#function(String)}으로 얻습니다.
+ *
+ * 호출 시 전역 테이블 조회 없이 바인딩된 함수를 바로 호출하며,
+ * 스크립트가 새로 로드되거나 {@link ScriptEngine#reloadAll()}/{@link ScriptEngine#invalidate(String)}이
+ * 호출되면 다음 호출에서 자동으로 다시 바인딩합니다.
+ *
+ * 인자 3개까지는 LuaJ의 고정 인자 호출을 사용하므로 Varargs 배열을 만들지 않습니다.
+ *
+ * 모든 호출에는 함수별 실행 예산({@link ScriptBudget})이 적용되고,
+ * 호출 수와 실행 시간이 {@link ScriptProfile}에 기록됩니다.
+ *
+ * 사용 예시:
+ *
+ * <pre>
+ * private final ScriptFunction calculate = scriptEngine.function("damage_calculator.lua", "calculateFinalDamage");
+ * LuaValue result = calculate.call(caster, target, skill);
+ * </pre>
+ */
+public final class ScriptFunction {
+
+    private final ScriptEngine engine;
+    private final String scriptName; // 바인딩 전에 로드할 스크립트 (없으면 null)
+    private final String name;
+    private final ScriptProfile profile;
+    private volatile ScriptBudget budget;
+
+    // 바인딩된 함수와 바인딩 시점의 엔진 세대 (Globals와 같은 스레드에서만 접근)
+    private LuaValue function = LuaValue.NIL;
+    private int boundEpoch = -1;
+
+    ScriptFunction(ScriptEngine engine, String scriptName, String name) {
+        this.engine = engine;
+        this.scriptName = scriptName;
+        this.name = name;
+        this.profile = engine.profileOf(name);
+        this.budget = engine.getBudget(name);
+    }
+
+    /**
+     * 바인딩된 함수를 반환합니다. 엔진 세대가 바뀌었을 때만 다시 조회합니다.
+     * 함수가 없거나 스크립트 로드에 실패한 결과(NIL)도 같은 세대 동안 그대로 사용하므로,
+     * 스크립트 로드와 로그는 세대마다 한 번만 발생합니다.
+     */
+    private LuaValue resolve() {
+        int epoch = engine.getEpoch();
+        if (boundEpoch != epoch) {
+            if (scriptName != null) {
+                engine.loadScript(scriptName);
+                epoch = engine.getEpoch(); // 로드로 세대가 바뀌었을 수 있음
+            }
+            function = engine.getGlobals().get(name);
+            boundEpoch = epoch;
+            if (function.isnil()) {
+                engine.getLogger().fine("[ScriptEngine] 함수를 찾을 수 없습니다: " + name
+                        + (scriptName != null ? " in " + scriptName : ""));
+            }
+        }
+        return function;
+    }
+
+    // ===== 호출 =====
+
+    public LuaValue call() {
+        return run(0, LuaValue.NIL, LuaValue.NIL, LuaValue.NIL, null);
+    }
+
+    public LuaValue call(LuaValue arg) {
+        return run(1, arg, LuaValue.NIL, LuaValue.NIL, null);
+    }
+
+    public LuaValue call(LuaValue arg1, LuaValue arg2) {
+        return run(2, arg1, arg2, LuaValue.NIL, null);
+    }
+
+    public LuaValue call(LuaValue arg1, LuaValue arg2, LuaValue arg3) {
+        return run(3, arg1, arg2, arg3, null);
+    }
+
+    /**
+     * 임의 개수 인자로 호출합니다. 3개 이하면 고정 인자 호출로 위임합니다.
+     *
+     * @param args 인자
+     * @return 첫 번째 반환값 또는 NIL
+     */
+    public LuaValue invoke(LuaValue... args) {
+        switch (args.length) {
+            case 0:
+                return call();
+            case 1:
+                return call(args[0]);
+            case 2:
+                return call(args[0], args[1]);
+            case 3:
+                return call(args[0], args[1], args[2]);
+            default:
+                return run(args.length, LuaValue.NIL, LuaValue.NIL, LuaValue.NIL, args);
+        }
+    }
+
+    /**
+     * 예산을 적용하고 호출 시간을 기록하면서 함수를 호출합니다.
+     */
+    private LuaValue run(int arity, LuaValue a, LuaValue b, LuaValue c, LuaValue[] varargs) {
+        LuaValue func = resolve();
+        if (func.isnil()) {
+            return LuaValue.NIL;
+        }
+
+        ScriptGuard guard = engine.getGuard();
+        ScriptBudget currentBudget = budget;
+        long start = System.nanoTime();
+        boolean entered = guard.enter(currentBudget);
+        try {
+            switch (arity) {
+                case 0:
+                    return func.call();
+                case 1:
+                    return func.call(a);
+                case 2:
+                    return func.call(a, b);
+                case 3:
+                    return func.call(a, b, c);
+                default:
+                    return func.invoke(LuaValue.varargsOf(varargs)).arg1();
+            }
+        } catch (LuaError e) {
+            profile.recordError();
+            if (entered && guard.isExceeded()) {
+                profile.recordBudgetExceeded();
+                engine.getLogger().warning("[ScriptEngine] 실행 예산 초과로 중단됨 (" + name + ", "
+                        + currentBudget + ")");
+            } else {
+                engine.getLogger().warning("[ScriptEngine] 함수 호출 오류 (" + name + "): " + e.getMessage());
+            }
+            return LuaValue.NIL;
+        } finally {
+            guard.exit(entered);
+            long elapsed = System.nanoTime() - start;
+            profile.record(elapsed);
+            checkOverrun(currentBudget, elapsed, entered && guard.isExceeded());
+        }
+    }
+
+    /**
+     * 중단되지 않고 끝난 호출의 시간 초과를 기록합니다. (체크포인트 사이의 Java API 호출에서 보낸 시간 등)
+     */
+    private void checkOverrun(ScriptBudget currentBudget, long elapsedNanos, boolean alreadyRecorded) {
+        if (alreadyRecorded || currentBudget.maxMillis() <= 0
+                || elapsedNanos <= currentBudget.maxMillis() * 1_000_000L) {
+            return;
+        }
+        long count = profile.recordBudgetExceeded();
+        if (count == 1 || count % 100 == 0) {
+            engine.getLogger().warning("[ScriptEngine] 실행 시간 예산 초과 (" + name + "): "
+                    + elapsedNanos / 1_000_000 + "ms > " + currentBudget.maxMillis() + "ms (누적 " + count + "회)");
+        }
+    }
+
+    // ===== 예산 =====
+
+    /**
+     * 이 함수의 호출당 실행 예산을 반환합니다.
+     */
+    public ScriptBudget getBudget() {
+        return budget;
+    }
+
+    void setBudget(ScriptBudget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * 이 함수의 호출 통계를 반환합니다.
+     */
+    public ScriptProfile getProfile() {
+        return profile;
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 함수가 현재 정의되어 있는지 확인합니다. (세대가 바뀌었으면 다시 바인딩)
+     *
+     * @return 정의되어 있으면 true
+     */
+    public boolean isDefined() {
+        return !resolve().isnil();
+    }
+
+    /**
+     * Lua 함수 이름을 반환합니다.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 바인딩 전에 로드하는 스크립트 이름을 반환합니다. (없으면 null)
+     */
+    public String getScriptName() {
+        return scriptName;
+    }
+
+    @Override
+    public String toString() {
+        return "ScriptFunction{" + (scriptName != null ? scriptName + ":" : "") + name + "}";
+    }
+}
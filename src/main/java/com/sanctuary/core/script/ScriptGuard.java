@@ -0,0 +1,94 @@
+package com.sanctuary.core.script;
+
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaError;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.ZeroArgFunction;
+
+/**
+ * Lua 실행 예산을 강제합니다.
+ *
+ * 디버그 훅은 인터프리터의 모든 명령어 디스패치를 느리게 하므로 사용하지 않습니다.
+ * 대신 스크립트를 로드할 때 {@link ScriptCheckpoints}가 루프 본문과 함수 본문 시작에
+ * 체크포인트 호출을 삽입하며(인터프리터/컴파일 모드 공통), 예산이 설정된 호출 중에만
+ * 체크포인트에서 명령어 수와 마감 시간을 확인합니다. 초과하면 {@link LuaError}를 던져 호출을 중단합니다.
+ * 스크립트가 pcall로 오류를 삼켜도 초과 상태가 유지되므로 다음 체크포인트에서 다시 중단됩니다.
+ *
+ * 체크포인트 하나는 {@value #CHECKPOINT_COST} 명령어로 계산하고, 마감 시간은
+ * {@value #TIME_CHECK_MASK}+1 체크포인트마다 확인합니다. Java API 호출 안에서 보낸 시간처럼
+ * 체크포인트 사이에서 초과한 시간은 {@link ScriptFunction}이 호출 경계에서 확인해 기록합니다.
+ *
+ * Globals와 같은 스레드에서만 사용됩니다.
+ */
+final class ScriptGuard {
+
+    // 체크포인트 하나(루프 1회 반복/함수 진입)에 해당하는 추정 명령어 수
+    static final int CHECKPOINT_COST = 10;
+    static final int TIME_CHECK_MASK = 63;
+
+    private boolean armed;
+    private long remainingInstructions;
+    private long deadline;
+    private boolean exceeded;
+    private int checkpoints;
+
+    /**
+     * Globals에 체크포인트 함수를 설치합니다.
+     *
+     * @param globals 대상 Globals (이 가드와 같은 스레드에서만 사용)
+     */
+    void install(Globals globals) {
+        globals.set(ScriptCheckpoints.GLOBAL_NAME, new ZeroArgFunction() {
+            @Override
+            public LuaValue call() {
+                checkpoint();
+                return NIL;
+            }
+        });
+    }
+
+    /**
+     * 예산을 적용합니다. 이미 바깥 호출의 예산이 적용 중이면 바깥 예산을 그대로 사용합니다.
+     *
+     * @param budget 예산
+     * @return 이 호출이 예산을 적용했으면 true ({@link #exit(boolean)}에 전달)
+     */
+    boolean enter(ScriptBudget budget) {
+        if (armed || budget.isUnlimited()) {
+            return false;
+        }
+        armed = true;
+        exceeded = false;
+        checkpoints = 0;
+        remainingInstructions = budget.maxInstructions() > 0 ? budget.maxInstructions() : Long.MAX_VALUE;
+        deadline = budget.maxMillis() > 0 ? System.nanoTime() + budget.maxMillis() * 1_000_000L : Long.MAX_VALUE;
+        return true;
+    }
+
+    void exit(boolean entered) {
+        if (entered) {
+            armed = false;
+        }
+    }
+
+    /**
+     * 마지막으로 적용한 예산이 초과되었는지 확인합니다.
+     */
+    boolean isExceeded() {
+        return exceeded;
+    }
+
+    /**
+     * 계측된 스크립트의 체크포인트에서 호출됩니다.
+     */
+    void checkpoint() {
+        if (armed) {
+            remainingInstructions -= CHECKPOINT_COST;
+            if (exceeded || remainingInstructions <= 0
+                    || ((++checkpoints & TIME_CHECK_MASK) == 0 && System.nanoTime() >= deadline)) {
+                exceeded = true;
+                throw new LuaError("스크립트 실행 예산 초과");
+            }
+        }
+    }
+}
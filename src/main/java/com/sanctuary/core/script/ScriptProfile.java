@@ -0,0 +1,137 @@
+package com.sanctuary.core.script;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lua 함수 하나의 호출 통계입니다.
+ * 호출 수, 누적 시간, 최대 시간, 예산 초과 횟수를 집계하고,
+ * 최근 {@value #WINDOW}회 호출 시간으로 p99 지연 시간을 계산합니다.
+ */
+public final class ScriptProfile {
+
+    private static final int WINDOW = 1024;
+
+    private final String name;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong budgetExceeded = new AtomicLong();
+
+    // 최근 호출 시간 링 버퍼 (p99 계산용)
+    private final long[] samples = new long[WINDOW];
+    private int sampleIndex;
+    private int sampleCount;
+
+    ScriptProfile(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos) {
+        calls.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        synchronized (samples) {
+            samples[sampleIndex] = nanos;
+            sampleIndex = (sampleIndex + 1) % WINDOW;
+            if (sampleCount < WINDOW) {
+                sampleCount++;
+            }
+        }
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    long recordBudgetExceeded() {
+        return budgetExceeded.incrementAndGet();
+    }
+
+    /**
+     * 통계를 초기화합니다.
+     */
+    public void reset() {
+        calls.set(0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+        errors.set(0);
+        budgetExceeded.set(0);
+        synchronized (samples) {
+            sampleIndex = 0;
+            sampleCount = 0;
+        }
+    }
+
+    // ===== 조회 =====
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * 오류로 끝난 호출 수를 반환합니다. (예산 초과 포함)
+     */
+    public long getErrors() {
+        return errors.get();
+    }
+
+    /**
+     * 실행 예산을 초과한 호출 수를 반환합니다.
+     */
+    public long getBudgetExceeded() {
+        return budgetExceeded.get();
+    }
+
+    /**
+     * 평균 호출 시간을 반환합니다.
+     *
+     * @return 평균 나노초 (호출이 없으면 0)
+     */
+    public long getAverageNanos() {
+        long count = calls.get();
+        return count > 0 ? totalNanos.get() / count : 0;
+    }
+
+    /**
+     * 최근 호출의 백분위 지연 시간을 반환합니다.
+     *
+     * @param percentile 백분위 (0~100)
+     * @return 나노초 (호출이 없으면 0)
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] copy;
+        synchronized (samples) {
+            if (sampleCount == 0) {
+                return 0;
+            }
+            copy = Arrays.copyOf(samples, sampleCount);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile / 100.0 * copy.length) - 1;
+        return copy[Math.max(0, Math.min(index, copy.length - 1))];
+    }
+
+    public long getP99Nanos() {
+        return getPercentileNanos(99.0);
+    }
+
+    @Override
+    public String toString() {
+        return "ScriptProfile{" + name + ", calls=" + getCalls() + ", total=" + getTotalNanos() / 1_000_000
+                + "ms, p99=" + getP99Nanos() / 1_000 + "us}";
+    }
+}
@@ -55,7 +55,7 @@ public class SanctuaryItems {
                 loreGenerator,
                 plugin.getLogger());
 
-        this.lootGenerator = new LootGenerator(itemFactory, plugin.getLogger());
+        this.lootGenerator = new LootGenerator(itemFactory, core.getEntityManager(), plugin.getLogger());
 
         // 3. Aspect 시스템 초기화
         this.aspectManager = new AspectManager(
@@ -2,13 +2,14 @@ package com.sanctuary.items.aspect;
 
 import com.sanctuary.core.data.DataRepository;
 import com.sanctuary.core.model.AspectData;
+import com.sanctuary.core.random.SanctuaryRandom;
 import com.sanctuary.items.model.ItemRarity;
 import com.sanctuary.items.model.RpgItemData;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 
 /**
  * Aspect(위상) 시스템을 관리합니다.
@@ -170,7 +171,7 @@ public class AspectManager {
      */
     @SuppressWarnings("unchecked")
     private void rollAspectValues(AspectInstance instance, Map<String, Object> effect) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomGenerator random = SanctuaryRandom.current(SanctuaryRandom.Stream.ITEM);
 
         for (Map.Entry<String, Object> entry : effect.entrySet()) {
             String key = entry.getKey();
@@ -2,6 +2,7 @@ package com.sanctuary.items.command;
 
 import com.sanctuary.DiabloPlugin;
 import com.sanctuary.core.model.AspectData;
+import com.sanctuary.core.random.SanctuaryRandom;
 import com.sanctuary.items.SanctuaryItems;
 import com.sanctuary.items.aspect.AspectInstance;
 import com.sanctuary.items.aspect.AspectManager;
@@ -129,7 +130,7 @@ public class AspectTestCommand implements CommandExecutor, TabCompleter {
                     if (range.containsKey("min") && range.containsKey("max")) {
                         double min = ((Number) range.get("min")).doubleValue();
                         double max = ((Number) range.get("max")).doubleValue();
-                        double rolled = min + Math.random() * (max - min);
+                        double rolled = min + SanctuaryRandom.current(SanctuaryRandom.Stream.ITEM).nextDouble() * (max - min);
                         instance.withValue(entry.getKey(), rolled);
                     }
                 }
@@ -1,6 +1,7 @@
 package com.sanctuary.items.command;
 
 import com.sanctuary.DiabloPlugin;
+import com.sanctuary.core.random.SanctuaryRandom;
 import com.sanctuary.items.SanctuaryItems;
 import com.sanctuary.items.model.*;
 import com.sanctuary.items.serializer.ItemSerializer;
@@ -154,7 +155,7 @@ public class ItemTestCommand implements CommandExecutor, TabCompleter {
 
         // 랜덤 담금질 어픽스 추가
         AffixInstance newAffix = new AffixInstance("TEMPERING_CRIT", "CRIT_DAMAGE",
-                Math.random() * 0.1 + 0.05);
+                SanctuaryRandom.current(SanctuaryRandom.Stream.ITEM).nextDouble() * 0.1 + 0.05);
 
         if (tempering.getSlot1() == null) {
             tempering.setSlot1(newAffix);
@@ -190,7 +191,7 @@ public class ItemTestCommand implements CommandExecutor, TabCompleter {
             // 랜덤 어픽스에 크리티컬 적용
             int affixCount = data.getExplicitAffixes().size();
             if (affixCount > 0) {
-                int critIndex = (int) (Math.random() * affixCount);
+                int critIndex = (int) (SanctuaryRandom.current(SanctuaryRandom.Stream.ITEM).nextDouble() * affixCount);
                 mw.addCritical(critIndex);
                 player.sendMessage(PREFIX + ChatColor.YELLOW + "★ 크리티컬! 어픽스 #" +
                         (critIndex + 1) + " 강화!");
@@ -1,12 +1,12 @@
 package com.sanctuary.items.crafting;
 
+import com.sanctuary.core.random.SanctuaryRandom;
 import com.sanctuary.items.model.AffixInstance;
 import com.sanctuary.items.model.ItemRarity;
 import com.sanctuary.items.model.MasterworkingData;
 import com.sanctuary.items.model.RpgItemData;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
 
 /**
@@ -85,7 +85,7 @@ public class MasterworkingManager {
         int criticalIndex = -1;
         if (willBeCritical) {
             // 크리티컬 단계: 랜덤 1개 어픽스 25% 증가
-            criticalIndex = ThreadLocalRandom.current().nextInt(allAffixes.size());
+            criticalIndex = SanctuaryRandom.current(SanctuaryRandom.Stream.CRAFTING).nextInt(allAffixes.size());
             AffixInstance critAffix = allAffixes.get(criticalIndex);
             double newValue = critAffix.getValue() * CRITICAL_BONUS;
             critAffix.setValue(newValue);
@@ -2,14 +2,15 @@ package com.sanctuary.items.crafting;
 
 import com.sanctuary.core.data.DataRepository;
 import com.sanctuary.core.model.AffixData;
+import com.sanctuary.core.random.SanctuaryRandom;
 import com.sanctuary.items.model.AffixInstance;
 import com.sanctuary.items.model.ItemRarity;
 import com.sanctuary.items.model.RpgItemData;
 import com.sanctuary.items.model.TemperingData;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 
 /**
  * 담금질(Tempering) 시스템을 관리합니다.
@@ -78,7 +79,7 @@ public class TemperingManager {
             return new TemperResult(false, "담금질 풀이 비어있습니다: " + category, null, 0);
         }
 
-        AffixData selectedAffix = pool.get(ThreadLocalRandom.current().nextInt(pool.size()));
+        AffixData selectedAffix = pool.get(SanctuaryRandom.current(SanctuaryRandom.Stream.CRAFTING).nextInt(pool.size()));
 
         // 3. 어픽스 인스턴스 생성
         AffixInstance newInstance = rollTemperAffix(selectedAffix, item.getItemPower());
@@ -136,7 +137,7 @@ public class TemperingManager {
      * 담금질 어픽스 인스턴스를 생성합니다.
      */
     private AffixInstance rollTemperAffix(AffixData affixData, int itemPower) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomGenerator random = SanctuaryRandom.current(SanctuaryRandom.Stream.CRAFTING);
 
         // 첫 번째 스탯 사용
         var entry = affixData.getStatModifiers().entrySet().iterator().next();
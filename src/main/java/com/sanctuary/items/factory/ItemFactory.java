@@ -3,6 +3,7 @@ package com.sanctuary.items.factory;
 import com.sanctuary.core.data.DataRepository;
 import com.sanctuary.core.model.AffixData;
 import com.sanctuary.core.model.ItemBaseData;
+import com.sanctuary.core.random.SanctuaryRandom;
 import com.sanctuary.items.model.*;
 import com.sanctuary.items.serializer.ItemSerializer;
 import com.sanctuary.items.serializer.LoreGenerator;
@@ -10,8 +11,8 @@ import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 
 /**
  * RPG 아이템을 생성하는 팩토리 클래스입니다.
@@ -101,7 +102,7 @@ public class ItemFactory {
 
         // 어픽스 선택 (중복 방지)
         Set<String> usedAffixes = new HashSet<>();
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomGenerator random = SanctuaryRandom.current(SanctuaryRandom.Stream.ITEM);
 
         for (int i = 0; i < affixCount && !availableAffixes.isEmpty(); i++) {
             AffixData affixData = availableAffixes.get(random.nextInt(availableAffixes.size()));
@@ -122,7 +123,7 @@ public class ItemFactory {
      * 단일 어픽스 인스턴스를 롤링합니다.
      */
     private AffixInstance rollAffixInstance(AffixData affixData, int itemPower, ItemRarity rarity) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomGenerator random = SanctuaryRandom.current(SanctuaryRandom.Stream.ITEM);
 
         // 스탯 모디파이어에서 첫 번째 스탯 사용
         Map.Entry<String, Double> statEntry = affixData.getStatModifiers().entrySet().iterator().next();
@@ -171,7 +172,7 @@ public class ItemFactory {
      * 희귀도를 랜덤으로 결정합니다.
      */
     private ItemRarity rollRarity() {
-        double roll = ThreadLocalRandom.current().nextDouble();
+        double roll = SanctuaryRandom.current(SanctuaryRandom.Stream.ITEM).nextDouble();
         if (roll < 0.01)
             return ItemRarity.LEGENDARY; // 1%
         if (roll < 0.10)
@@ -186,7 +187,7 @@ public class ItemFactory {
      */
     private int rollItemPower(int baseItemPower) {
         int variance = Math.max(5, baseItemPower / 10);
-        return baseItemPower + ThreadLocalRandom.current().nextInt(-variance, variance + 1);
+        return baseItemPower + SanctuaryRandom.current(SanctuaryRandom.Stream.ITEM).nextInt(-variance, variance + 1);
     }
 
     /**
@@ -1,28 +1,37 @@
 package com.sanctuary.items.factory;
 
+import com.sanctuary.core.ecs.EntityHandle;
+import com.sanctuary.core.ecs.EntityManager;
+import com.sanctuary.core.random.SanctuaryRandom;
 import com.sanctuary.items.model.ItemRarity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 
 /**
  * 몬스터 처치 시 룻을 생성하는 클래스입니다.
  * "스마트 룻" 시스템을 구현하여 플레이어 클래스에 맞는 아이템을 드롭합니다.
+ *
+ * 드롭 판정은 처치한 플레이어의 엔티티 핸들별 스트림({@link SanctuaryRandom#next})을 사용하므로,
+ * 같은 시드에서 한 플레이어의 드롭 결과는 다른 플레이어의 처치 순서와 무관하게 재현됩니다.
+ * 스트림은 플레이어가 접속을 종료해 엔티티가 제거될 때 함께 정리됩니다.
  */
 public class LootGenerator {
 
     private final ItemFactory itemFactory;
+    private final EntityManager entityManager;
     private final Logger logger;
 
     // 기본 드롭 테이블 (몬스터 타입별로 확장 가능)
     private final Map<String, LootTable> lootTables = new HashMap<>();
 
-    public LootGenerator(ItemFactory itemFactory, Logger logger) {
+    public LootGenerator(ItemFactory itemFactory, EntityManager entityManager, Logger logger) {
         this.itemFactory = itemFactory;
+        this.entityManager = entityManager;
         this.logger = logger;
         initializeDefaultTables();
     }
@@ -44,7 +53,7 @@ public class LootGenerator {
         if (table == null)
             return loot;
 
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+        RandomGenerator random = lootRandom(killer);
 
         // 드롭 수량 결정
         int dropCount = table.rollDropCount(random);
@@ -52,7 +61,7 @@ public class LootGenerator {
         for (int i = 0; i < dropCount; i++) {
             LootEntry entry = table.rollEntry(random);
             if (entry != null) {
-                int itemPower = calculateItemPower(monsterLevel);
+                int itemPower = calculateItemPower(monsterLevel, random);
                 ItemStack item = itemFactory.create(entry.templateId, entry.rarity, itemPower);
                 if (item != null) {
                     loot.add(item);
@@ -70,13 +79,13 @@ public class LootGenerator {
     public List<ItemStack> generateEliteLoot(LivingEntity victim, Player killer, int monsterLevel, boolean isBoss) {
         List<ItemStack> loot = new ArrayList<>();
 
-        int itemPower = calculateItemPower(monsterLevel) + (isBoss ? 50 : 20);
-        int dropCount = isBoss ? 3 + ThreadLocalRandom.current().nextInt(3)
-                : 1 + ThreadLocalRandom.current().nextInt(2);
+        RandomGenerator random = lootRandom(killer);
+        int itemPower = calculateItemPower(monsterLevel, random) + (isBoss ? 50 : 20);
+        int dropCount = isBoss ? 3 + random.nextInt(3) : 1 + random.nextInt(2);
 
         for (int i = 0; i < dropCount; i++) {
-            ItemRarity rarity = rollEliteRarity(isBoss);
-            String template = rollRandomTemplate();
+            ItemRarity rarity = rollEliteRarity(isBoss, random);
+            String template = rollRandomTemplate(random);
 
             ItemStack item = itemFactory.create(template, rarity, itemPower);
             if (item != null) {
@@ -89,6 +98,17 @@ public class LootGenerator {
 
     // ===== 내부 메서드 =====
 
+    /**
+     * 처치 한 번의 드롭 판정에 사용할 난수 생성기를 반환합니다. (처치자 엔티티가 없으면 스레드 스트림)
+     */
+    private RandomGenerator lootRandom(Player killer) {
+        int handle = entityManager.handleOf(killer);
+        if (handle == EntityHandle.NONE) {
+            return SanctuaryRandom.current(SanctuaryRandom.Stream.LOOT);
+        }
+        return SanctuaryRandom.global().next(SanctuaryRandom.Stream.LOOT, handle);
+    }
+
     private void initializeDefaultTables() {
         // 기본 드롭 테이블
         LootTable defaultTable = new LootTable();
@@ -108,15 +128,15 @@ public class LootGenerator {
         return entity.getType().name().toLowerCase();
     }
 
-    private int calculateItemPower(int monsterLevel) {
+    private int calculateItemPower(int monsterLevel, RandomGenerator random) {
         // 몬스터 레벨 * 10 기반 + 약간의 랜덤
         int base = monsterLevel * 10;
         int variance = Math.max(10, base / 5);
-        return base + ThreadLocalRandom.current().nextInt(-variance, variance + 1);
+        return base + random.nextInt(-variance, variance + 1);
     }
 
-    private ItemRarity rollEliteRarity(boolean isBoss) {
-        double roll = ThreadLocalRandom.current().nextDouble();
+    private ItemRarity rollEliteRarity(boolean isBoss, RandomGenerator random) {
+        double roll = random.nextDouble();
         if (isBoss) {
             if (roll < 0.10)
                 return ItemRarity.UNIQUE; // 10%
@@ -132,10 +152,10 @@ public class LootGenerator {
         }
     }
 
-    private String rollRandomTemplate() {
+    private String rollRandomTemplate(RandomGenerator random) {
         // 실제로는 DataRepository에서 랜덤 템플릿 선택
         String[] templates = { "iron_sword", "diamond_sword", "leather_helmet", "iron_chestplate" };
-        return templates[ThreadLocalRandom.current().nextInt(templates.length)];
+        return templates[random.nextInt(templates.length)];
     }
 
     // ===== 내부 클래스 =====
@@ -145,11 +165,11 @@ public class LootGenerator {
         int maxDrops = 1;
         final List<LootEntry> entries = new ArrayList<>();
 
-        int rollDropCount(ThreadLocalRandom random) {
+        int rollDropCount(RandomGenerator random) {
             return minDrops + random.nextInt(maxDrops - minDrops + 1);
         }
 
-        LootEntry rollEntry(ThreadLocalRandom random) {
+        LootEntry rollEntry(RandomGenerator random) {
             if (entries.isEmpty())
                 return null;
 
@@ -5,13 +5,13 @@ import com.sanctuary.core.ecs.EntityManager;
 import com.sanctuary.core.ecs.SanctuaryEntity;
 import com.sanctuary.core.ecs.component.IdentityComponent;
 import com.sanctuary.core.model.ItemBaseData;
+import com.sanctuary.core.random.SanctuaryRandom;
 import com.sanctuary.core.script.ScriptEngine;
 import org.bukkit.entity.Player;
 import org.luaj.vm2.LuaTable;
 import org.luaj.vm2.LuaValue;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
 
 /**
@@ -143,7 +143,7 @@ public class SmartLootManager {
         int basePower = BASE_ITEM_POWER + (level * ITEM_POWER_PER_LEVEL);
 
         // ±10% 랜덤 변동
-        double variance = 0.9 + (ThreadLocalRandom.current().nextDouble() * 0.2);
+        double variance = 0.9 + (SanctuaryRandom.current(SanctuaryRandom.Stream.LOOT).nextDouble() * 0.2);
 
         return (int) (basePower * tierMultiplier * variance);
     }
@@ -236,7 +236,7 @@ public class SmartLootManager {
 
         // 가중치 기반 선택
         int totalWeight = weighted.stream().mapToInt(w -> w.weight).sum();
-        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        int roll = SanctuaryRandom.current(SanctuaryRandom.Stream.LOOT).nextInt(totalWeight);
 
         int current = 0;
         for (WeightedTemplate wt : weighted) {
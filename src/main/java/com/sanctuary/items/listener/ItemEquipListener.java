@@ -1,8 +1,9 @@
 package com.sanctuary.items.listener;
 
+import com.sanctuary.combat.SanctuaryCombat;
 import com.sanctuary.combat.stat.AttributeContainer;
-import com.sanctuary.combat.stat.Stat;
 import com.sanctuary.core.SanctuaryCore;
+import com.sanctuary.core.ecs.component.ModifierType;
 import com.sanctuary.core.script.ScriptEngine;
 import com.sanctuary.items.SanctuaryItems;
 import com.sanctuary.items.model.AffixInstance;
@@ -12,26 +13,38 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 import org.luaj.vm2.LuaTable;
 import org.luaj.vm2.LuaValue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * 아이템 장착/해제 시 스탯을 적용하고 유니크 스크립트를 실행하는 리스너입니다.
+ *
+ * 아이템 스탯은 "item:아이템UUID" 출처로 등록되므로, 장착/해제 시 해당 아이템의 수정자만
+ * 추가하거나 되돌립니다. (전체 스탯 재구성 없음)
  */
 public class ItemEquipListener implements Listener {
 
     private final SanctuaryItems items;
     private final SanctuaryCore core;
 
+    private static final String ITEM_SOURCE_PREFIX = "item:";
+
     // 플레이어별 장착 중인 유니크 아이템 추적
     private final Map<UUID, RpgItemData> equippedUniqueWeapons = new HashMap<>();
 
+    // 플레이어별 스탯이 적용된 아이템 출처 키
+    private final Map<UUID, Set<String>> appliedItemSources = new HashMap<>();
+
     public ItemEquipListener(SanctuaryItems items, SanctuaryCore core) {
         this.items = items;
         this.core = core;
@@ -50,8 +63,11 @@ public class ItemEquipListener implements Listener {
         ItemStack oldItem = player.getInventory().getItem(event.getPreviousSlot());
         if (oldItem != null && !oldItem.getType().isAir()) {
             RpgItemData oldData = items.getSerializer().read(oldItem);
-            if (oldData != null && oldData.hasUniqueScript()) {
-                executeUnequipScript(player, oldData);
+            if (oldData != null) {
+                removeItemStats(player, oldData);
+                if (oldData.hasUniqueScript()) {
+                    executeUnequipScript(player, oldData);
+                }
             }
         }
         equippedUniqueWeapons.remove(playerId);
@@ -83,27 +99,77 @@ public class ItemEquipListener implements Listener {
         }
     }
 
+    /**
+     * 플레이어 퇴장 시 추적 정보를 정리합니다. (ECS 엔티티와 스탯은 퇴장 시 제거됨)
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        appliedItemSources.remove(playerId);
+        equippedUniqueWeapons.remove(playerId);
+    }
+
     /**
      * 아이템 스탯을 플레이어에게 적용합니다.
+     * 같은 아이템이 이미 적용되어 있으면 되돌린 뒤 다시 적용합니다.
      */
     private void applyItemStats(Player player, RpgItemData itemData) {
-        List<AffixInstance> affixes = itemData.getAllAffixes();
+        AttributeContainer stats = getStats(player);
+        String source = itemSource(itemData);
+        if (stats == null || source == null) {
+            return;
+        }
+
+        stats.removeSource(source);
 
+        // 명품화 보너스 (랭크당 5% 증가, 최대 60%)
+        double masterworkBonus = 1.0;
+        if (itemData.getMasterworking() != null) {
+            masterworkBonus += itemData.getMasterworking().getRank() * 0.05;
+        }
+
+        List<AffixInstance> affixes = itemData.getAllAffixes();
         for (AffixInstance affix : affixes) {
             String statKey = affix.getStatKey();
-            double value = affix.getValue();
-
-            // 명품화 보너스 적용
-            if (itemData.getMasterworking() != null) {
-                int rank = itemData.getMasterworking().getRank();
-                // 랭크당 5% 증가 (최대 60%)
-                value *= (1.0 + rank * 0.05);
+            if (statKey == null) {
+                continue;
             }
+            double value = affix.getValue() * masterworkBonus;
+            stats.addModifier(source, statKey, value, ModifierType.BASE);
 
             // 스탯 로그 (디버그)
             items.getPlugin().getLogger().fine(
                     "[ItemEquip] " + player.getName() + ": +" + value + " " + statKey);
         }
+
+        appliedItemSources.computeIfAbsent(player.getUniqueId(), k -> new HashSet<>()).add(source);
+    }
+
+    /**
+     * 아이템이 적용한 스탯을 되돌립니다.
+     */
+    private void removeItemStats(Player player, RpgItemData itemData) {
+        String source = itemSource(itemData);
+        if (source == null) {
+            return;
+        }
+        AttributeContainer stats = getStats(player);
+        if (stats != null) {
+            stats.removeSource(source);
+        }
+        Set<String> applied = appliedItemSources.get(player.getUniqueId());
+        if (applied != null) {
+            applied.remove(source);
+        }
+    }
+
+    private String itemSource(RpgItemData itemData) {
+        return itemData.getUuid() != null ? ITEM_SOURCE_PREFIX + itemData.getUuid() : null;
+    }
+
+    private AttributeContainer getStats(Player player) {
+        SanctuaryCombat combat = items.getPlugin().getCombatModule();
+        return combat != null ? combat.getStatManager().getStats(player) : null;
     }
 
     /**
@@ -124,7 +190,7 @@ public class ItemEquipListener implements Listener {
         try {
             ScriptEngine scriptEngine = core.getScriptEngine();
             LuaTable context = createContext(player, itemData, null, 0);
-            scriptEngine.callFunction(scriptName, context);
+            scriptEngine.function(scriptName).call(context);
 
             items.getPlugin().getLogger().fine(
                     "[Unique] " + player.getName() + " 장착: " + scriptName);
@@ -151,7 +217,7 @@ public class ItemEquipListener implements Listener {
         try {
             ScriptEngine scriptEngine = core.getScriptEngine();
             LuaTable context = createContext(player, itemData, null, 0);
-            scriptEngine.callFunction(scriptName, context);
+            scriptEngine.function(scriptName).call(context);
 
             items.getPlugin().getLogger().fine(
                     "[Unique] " + player.getName() + " 해제: " + scriptName);
@@ -170,6 +236,7 @@ public class ItemEquipListener implements Listener {
 
         // 플레이어 정보
         LuaTable playerTable = new LuaTable();
+        playerTable.set("id", core.getEntityManager().handleOf(player));
         playerTable.set("uuid", player.getUniqueId().toString());
         playerTable.set("name", player.getName());
         playerTable.set("health", player.getHealth());
@@ -192,6 +259,7 @@ public class ItemEquipListener implements Listener {
         // 대상 정보 (있을 경우)
         if (target != null) {
             LuaTable targetTable = new LuaTable();
+            targetTable.set("id", core.getEntityManager().handleOf(target));
             targetTable.set("uuid", target.getUniqueId().toString());
             targetTable.set("type", target.getType().name());
             if (target instanceof org.bukkit.entity.LivingEntity living) {
@@ -217,10 +285,46 @@ public class ItemEquipListener implements Listener {
     }
 
     /**
-     * 플레이어의 전체 장비를 기반으로 스탯을 재계산합니다.
+     * 플레이어의 전체 장비(주 무기 + 방어구)를 기반으로 스탯을 맞춥니다.
+     * 더 이상 장착하지 않은 아이템의 출처만 제거하고, 새로 장착한 아이템만 적용합니다.
      */
     public void recalculateAllStats(Player player) {
-        // TODO: 전체 장비 스캔 후 스탯 재계산
+        AttributeContainer stats = getStats(player);
+        if (stats == null) {
+            return;
+        }
+
+        Map<String, RpgItemData> equipped = new HashMap<>();
+        collectEquipped(player.getInventory().getItemInMainHand(), equipped);
+        for (ItemStack armor : player.getInventory().getArmorContents()) {
+            collectEquipped(armor, equipped);
+        }
+
+        Set<String> applied = appliedItemSources.computeIfAbsent(player.getUniqueId(), k -> new HashSet<>());
+        for (String source : new ArrayList<>(applied)) {
+            if (!equipped.containsKey(source)) {
+                stats.removeSource(source);
+                applied.remove(source);
+            }
+        }
+        for (Map.Entry<String, RpgItemData> entry : equipped.entrySet()) {
+            if (!applied.contains(entry.getKey()) || !stats.hasSource(entry.getKey())) {
+                applyItemStats(player, entry.getValue());
+            }
+        }
+    }
+
+    private void collectEquipped(ItemStack item, Map<String, RpgItemData> equipped) {
+        if (item == null || item.getType().isAir()) {
+            return;
+        }
+        RpgItemData data = items.getSerializer().read(item);
+        if (data != null) {
+            String source = itemSource(data);
+            if (source != null) {
+                equipped.put(source, data);
+            }
+        }
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.sanctuary.world.event;
 
 import com.sanctuary.DiabloPlugin;
+import com.sanctuary.core.random.SanctuaryRandom;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -232,7 +233,7 @@ public class HelltideManager implements WorldEventManager.WorldEventHandler {
 
         if (loc.getX() >= bounds[0] && loc.getX() <= bounds[2] &&
                 loc.getZ() >= bounds[1] && loc.getZ() <= bounds[3]) {
-            return Math.random() < cinderDropRate;
+            return SanctuaryRandom.current(SanctuaryRandom.Stream.WORLD).nextDouble() < cinderDropRate;
         }
 
         return false;
@@ -1,7 +1,8 @@
 package com.sanctuary.world.event;
 
 import com.sanctuary.DiabloPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.sanctuary.core.ecs.EcsSystem;
+import com.sanctuary.core.ecs.SystemScheduler;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,8 +23,8 @@ public class WorldEventManager {
     // 이벤트 핸들러
     private final Map<String, WorldEventHandler> handlers = new HashMap<>();
 
-    // 이벤트 틱 태스크
-    private BukkitRunnable tickTask;
+    // 이벤트 틱 시스템 이름
+    public static final String SYSTEM_WORLD_EVENT_TICK = "world:event_tick";
 
     public WorldEventManager(Logger logger, DiabloPlugin plugin) {
         this.logger = logger;
@@ -99,34 +100,38 @@ public class WorldEventManager {
     }
 
     /**
-     * 틱 태스크를 시작합니다.
+     * 틱 시스템을 등록합니다.
+     * 핸들러가 월드/엔티티를 다루므로 메인 스레드에서 실행됩니다.
      */
     public void startTickTask() {
-        tickTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (WorldEvent event : new ArrayList<>(activeEvents.values())) {
-                    WorldEventHandler handler = handlers.get(event.getEventType());
-                    if (handler != null) {
-                        handler.onTick(event);
+        plugin.getCoreModule().getSystemScheduler().register(EcsSystem.builder(SYSTEM_WORLD_EVENT_TICK)
+                .writes(WorldEventManager.class)
+                .mainThread()
+                .interval(20) // 매 초
+                .run(tick -> {
+                    for (WorldEvent event : new ArrayList<>(activeEvents.values())) {
+                        WorldEventHandler handler = handlers.get(event.getEventType());
+                        if (handler != null) {
+                            handler.onTick(event);
+                        }
+
+                        // 시간 초과 확인
+                        if (event.getDurationSeconds() > 0
+                                && event.getElapsedSeconds() >= event.getDurationSeconds()) {
+                            endEvent(event.getEventId());
+                        }
                     }
-
-                    // 시간 초과 확인
-                    if (event.getDurationSeconds() > 0 && event.getElapsedSeconds() >= event.getDurationSeconds()) {
-                        endEvent(event.getEventId());
-                    }
-                }
-            }
-        };
-        tickTask.runTaskTimer(plugin, 20L, 20L); // 매 초
+                })
+                .build());
     }
 
     /**
      * 종료합니다.
      */
     public void shutdown() {
-        if (tickTask != null) {
-            tickTask.cancel();
+        SystemScheduler scheduler = plugin.getCoreModule().getSystemScheduler();
+        if (scheduler != null) {
+            scheduler.unregister(SYSTEM_WORLD_EVENT_TICK);
         }
 
         for (String eventId : new ArrayList<>(activeEvents.keySet())) {
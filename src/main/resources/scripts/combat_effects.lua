@@ -9,6 +9,9 @@
 -- 보강: getFortify(entity), setFortify(entity, amount), addFortify(entity, amount), isFortified(entity)
 -- 보호막: getBarrier(entity), setBarrier(entity, amount), addBarrier(entity, amount), hasBarrier(entity)
 -- 이펙트: playSound(entity, soundName), spawnParticle(entity, particleName, count)
+--
+-- entity 인자: 정수 엔티티 핸들 (event.context.attackerId / victimId) 또는 { id = 핸들 } 테이블
+-- UUID 문자열이 필요하면 event.context.attackerUuid / victimUuid 를 사용
 --------------------------------------------------------------------------------
 
 -- 전역 설정
@@ -25,8 +28,8 @@ function onCriticalHit(event)
     local ctx = event.context
     if not ctx then return end
     
-    local attacker = { uuid = ctx.attackerId }
-    local target = { uuid = ctx.victimId }
+    local attacker = ctx.attackerId
+    local target = ctx.victimId
     
     -- 치명타 시 파티클 효과
     sanctuary.spawnParticle(target, "CRIT", 15)
@@ -40,7 +43,7 @@ function onOverpower(event)
     local ctx = event.context
     if not ctx then return end
     
-    local target = { uuid = ctx.victimId }
+    local target = ctx.victimId
     
     -- 제압 시 큰 파티클 효과
     sanctuary.spawnParticle(target, "EXPLOSION_LARGE", 1)
@@ -54,7 +57,7 @@ function onKill(event)
     local ctx = event.context
     if not ctx then return end
     
-    local attacker = { uuid = ctx.attackerId }
+    local attacker = ctx.attackerId
     
     -- 처치 시 보강 획득
     local currentFortify = sanctuary.getFortify(attacker)
@@ -66,7 +69,7 @@ end
 -- 피해 적용 직전 호출 (피해량 수정 가능)
 function onBeforeDamage(context)
     -- 예: 보호막이 있으면 피해 10% 감소
-    local target = { uuid = context.victimId }
+    local target = context.victimId
     
     if sanctuary.hasBarrier(target) then
         return { damageMultiplier = 0.9 }
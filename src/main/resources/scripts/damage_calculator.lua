@@ -176,6 +176,17 @@ function calculateFinalDamage(caster, target, skillData)
     }
 end
 
+-- 다중 대상 데미지 계산 (광역 스킬)
+-- targets: 대상 테이블 배열, 반환: 대상과 같은 순서의 결과 배열
+-- 인자 테이블은 호출 후 재사용되므로 보관하지 말 것
+function calculateFinalDamageBatch(caster, targets, skillData)
+    local results = {}
+    for i = 1, #targets do
+        results[i] = calculateFinalDamage(caster, targets[i], skillData)
+    end
+    return results
+end
+
 -- 피해 감소 계산 (피격 시)
 function calculateDamageReduction(target, incomingDamage, damageType)
     local armor = sanctuary.getStat(target, "ARMOR") or 0
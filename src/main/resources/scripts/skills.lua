@@ -34,18 +34,11 @@ end
 
 -- 회오리 (WHIRLWIND) - 핵심 스킬 (채널링)
 function skill_whirlwind(ctx)
-    local damage = ctx.baseDamage
     local radius = ctx.radius or 4.0
     local player = ctx.player
     
-    -- 주변 모든 적에게 피해
-    local targets = get_nearby_entities(player.x, player.y, player.z, radius)
-    
-    for _, target in ipairs(targets) do
-        if target.type ~= "PLAYER" then
-            deal_damage_to(target.uuid, damage, "PHYSICAL")
-        end
-    end
+    -- 주변 모든 적에게 피해 (플레이어 제외, 일괄 계산)
+    ctx.dealAreaDamage(player.x, player.y, player.z, radius)
     
     return true
 end
@@ -161,7 +154,6 @@ end
 
 -- 시체 폭발 (CORPSE_EXPLOSION) - 시체 스킬
 function skill_corpse_explosion(ctx)
-    local damage = ctx.baseDamage
     local radius = ctx.radius or 4.0
     local player = ctx.player
     
@@ -176,11 +168,8 @@ function skill_corpse_explosion(ctx)
     local corpse = corpses[1]
     consume_corpse(corpse.id)
     
-    -- 폭발 피해
-    local targets = get_nearby_entities(corpse.x, corpse.y, corpse.z, radius)
-    for _, target in ipairs(targets) do
-        deal_damage_to(target.uuid, damage, "PHYSICAL")
-    end
+    -- 폭발 피해 (일괄 계산)
+    ctx.dealAreaDamage(corpse.x, corpse.y, corpse.z, radius)
     
     -- 이펙트
     spawn_particles(corpse.x, corpse.y, corpse.z, "EXPLOSION_HUGE", 10)
@@ -214,18 +203,14 @@ end
 
 -- 분쇄 (PULVERIZE) - 핵심 스킬 (곰 변신)
 function skill_pulverize(ctx)
-    local damage = ctx.baseDamage
     local radius = ctx.radius or 4.0
     local player = ctx.player
     
     -- 곰으로 변신
     set_shapeform(player.uuid, "WEREBEAR", 100)
     
-    -- 광역 피해
-    local targets = get_nearby_entities(player.x, player.y, player.z, radius)
-    for _, target in ipairs(targets) do
-        deal_damage_to(target.uuid, damage, "PHYSICAL")
-    end
+    -- 광역 피해 (일괄 계산)
+    ctx.dealAreaDamage(player.x, player.y, player.z, radius)
     
     -- 제압 발동 확률 증가
     increase_overpower_chance(player.uuid, 0.20)
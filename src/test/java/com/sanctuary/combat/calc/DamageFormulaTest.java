@@ -0,0 +1,114 @@
+package com.sanctuary.combat.calc;
+
+import com.sanctuary.combat.model.DamageContext;
+import com.sanctuary.combat.stat.AttributeContainer;
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import com.sanctuary.combat.stat.Stat;
+import com.sanctuary.core.data.JsonDataLoader;
+import com.sanctuary.core.model.DamageBucketData;
+import org.junit.jupiter.api.Test;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DamageFormula 단위 테스트
+ */
+public class DamageFormulaTest {
+
+    // 치명타 확률 0/100%, 최대 생명력 0이면 판정 난수와 관계없이 결과가 정해짐
+    private static final double[][] SAMPLES = {
+            // weaponDamage, strength, critChance, critDamage, vulnerableDamage, physical, fire, vsClose, global
+            { 200, 0, 0, 0, 0, 0, 0, 0, 0 },
+            { 350, 1200, 1.0, 0.5, 0.25, 0.4, 0.6, 0.15, 1.3 },
+            { 75.5, 40, 1.0, 1.25, 0.1, 0, 0.9, 0, 0.75 },
+    };
+
+    @Test
+    void testDefaultMatchesLegacyFallback() {
+        for (double[] sample : SAMPLES) {
+            for (String tag : new String[] { "PHYSICAL", "FIRE", "COLD" }) {
+                for (boolean vulnerable : new boolean[] { false, true }) {
+                    DamageContext ctx = context(sample, tag, vulnerable);
+                    double expected = legacy(ctx);
+                    double actual = DamageFormula.DEFAULT.evaluate(ctx);
+
+                    assertEquals(expected, actual, Math.abs(expected) * 1e-12, tag + " vuln=" + vulnerable);
+                    assertEquals(sample[2] > 0, ctx.isCritical());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testBundledSpecMatchesDefault() throws IOException {
+        File folder = new File("target/test-damage-formula");
+        new File(folder, "data").mkdirs();
+        Files.copy(new File("src/main/resources/data/damage_formula.json").toPath(),
+                new File(folder, "data/damage_formula.json").toPath(), StandardCopyOption.REPLACE_EXISTING);
+        JsonDataLoader loader = new JsonDataLoader(folder, Logger.getLogger("DamageFormulaTest"));
+        loader.reload();
+
+        DamageFormula bundled = DamageFormula.fromBucketData(loader.getAllDamageBuckets());
+        assertEquals(DamageFormula.DEFAULT.getBucketCount(), bundled.getBucketCount());
+        for (double[] sample : SAMPLES) {
+            double expected = DamageFormula.DEFAULT.evaluate(context(sample, "FIRE", true));
+            assertEquals(expected, bundled.evaluate(context(sample, "FIRE", true)), Math.abs(expected) * 1e-12);
+        }
+    }
+
+    @Test
+    void testInvalidSpecsAreRejected() {
+        DamageBucketData base = new DamageBucketData("base", "BASE", "WEAPON_DAMAGE", null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> DamageFormula.fromBucketData(
+                List.of(new DamageBucketData("fire", "ADDITIVE", "FIRE_DAMAGE", null, null))));
+        assertThrows(IllegalArgumentException.class, () -> DamageFormula.fromBucketData(
+                List.of(base, new DamageBucketData("x", "UNKNOWN", "FIRE_DAMAGE", null, null))));
+        assertThrows(IllegalArgumentException.class, () -> DamageFormula.fromBucketData(
+                List.of(base, new DamageBucketData("x", "ADDITIVE", "NO_SUCH_STAT", null, null))));
+        assertThrows(IllegalArgumentException.class, () -> DamageFormula.fromBucketData(
+                List.of(base, new DamageBucketData("x", "ADDITIVE", "FIRE_DAMAGE", null, "weather:rain"))));
+    }
+
+    // 공식 데이터화 이전 DamageCalculator.calculateWithJava (치명타 판정은 확률 0/1만 사용)
+    private static double legacy(DamageContext ctx) {
+        CombatStatSnapshot stats = ctx.getAttackerSnapshot();
+
+        double additiveBonus = stats.damageVsClose() + stats.critDamage() + stats.vulnerableDamage();
+        if (ctx.hasTag("PHYSICAL"))
+            additiveBonus += stats.physicalDamage();
+        if (ctx.hasTag("FIRE"))
+            additiveBonus += stats.fireDamage();
+
+        double globalMultiplier = stats.globalDamageMulti() == 0 ? 1.0 : stats.globalDamageMulti();
+        double critMultiplier = stats.critChance() >= 1.0 ? 1.5 : 1.0;
+        double vulnMultiplier = ctx.isVulnerable() ? 1.2 : 1.0;
+
+        return stats.weaponDamage() * ctx.getSkillCoefficient() * (1.0 + stats.strength() * 0.001)
+                * (1.0 + additiveBonus) * globalMultiplier * critMultiplier * vulnMultiplier;
+    }
+
+    private static DamageContext context(double[] sample, String tag, boolean vulnerable) {
+        AttributeContainer stats = new AttributeContainer();
+        Stat[] order = { Stat.WEAPON_DAMAGE, Stat.STRENGTH, Stat.CRIT_CHANCE, Stat.CRIT_DAMAGE,
+                Stat.VULNERABLE_DAMAGE, Stat.PHYSICAL_DAMAGE, Stat.FIRE_DAMAGE, Stat.DAMAGE_VS_CLOSE,
+                Stat.GLOBAL_DAMAGE_MULTI };
+        for (int i = 0; i < order.length; i++) {
+            stats.setBase(order[i], sample[i]);
+        }
+        stats.setBase(Stat.OVERPOWER_DAMAGE, 0);
+        stats.setBase(Stat.MAX_HP, 0);
+
+        DamageContext ctx = new DamageContext(null, null, stats, null);
+        ctx.setSkillCoefficient(0.5);
+        ctx.setVulnerable(vulnerable);
+        ctx.addTag(tag);
+        return ctx;
+    }
+}
@@ -158,4 +158,265 @@ public class CombatEventBusTest {
         var counts = eventBus.getEventCounts();
         assertEquals(3L, counts.get(CombatEventType.DAMAGE_DEALT));
     }
+
+    @Test
+    void testFireBatch() {
+        int[] callCount = new int[1];
+        eventBus.register(CombatEventType.DAMAGE_DEALT, event -> {
+            callCount[0]++;
+            if (((DamageDealtEvent) event).getFinalDamage() > 60.0) {
+                event.setCancelled(true);
+            }
+        });
+
+        CombatContext ctx = CombatContext.builder().build();
+        DamageDealtEvent first = new DamageDealtEvent(ctx, 100.0).finalDamage(100.0);
+        DamageDealtEvent second = new DamageDealtEvent(ctx, 50.0).finalDamage(50.0);
+        eventBus.fireBatch(java.util.List.of(first, second));
+
+        // 리스너는 이벤트마다 호출되고 취소 여부는 이벤트별로 유지됨
+        assertEquals(2, callCount[0]);
+        assertTrue(first.isCancelled());
+        assertFalse(second.isCancelled());
+        assertEquals(2L, eventBus.getEventCounts().get(CombatEventType.DAMAGE_DEALT));
+    }
+
+    @Test
+    void testUnregister() {
+        int[] callCount = new int[1];
+        CombatEventListener listener = event -> callCount[0]++;
+        eventBus.register(CombatEventType.DAMAGE_DEALT, listener);
+        assertEquals(1, eventBus.getListenerCount(CombatEventType.DAMAGE_DEALT));
+
+        CombatContext ctx = CombatContext.builder().build();
+        eventBus.fire(new DamageDealtEvent(ctx, 100.0));
+        eventBus.unregister(CombatEventType.DAMAGE_DEALT, listener);
+        eventBus.fire(new DamageDealtEvent(ctx, 100.0));
+
+        // 제거 후에는 호출되지 않지만 통계는 계속 기록됨
+        assertEquals(1, callCount[0]);
+        assertEquals(0, eventBus.getListenerCount(CombatEventType.DAMAGE_DEALT));
+        assertEquals(2L, eventBus.getEventCounts().get(CombatEventType.DAMAGE_DEALT));
+    }
+
+    @Test
+    void testListenerPriorityAndIgnoreCancelled() {
+        StringBuilder order = new StringBuilder();
+        eventBus.register(CombatEventType.DAMAGE_DEALT, CombatEventPriority.MONITOR, event -> order.append("M"));
+        eventBus.register(CombatEventType.DAMAGE_DEALT, CombatEventPriority.HIGH, true, event -> order.append("H"));
+        eventBus.register(CombatEventType.DAMAGE_DEALT, event -> {
+            order.append("N");
+            event.setCancelled(true);
+        });
+        eventBus.register(CombatEventType.DAMAGE_DEALT, CombatEventPriority.LOWEST, event -> order.append("L"));
+
+        CombatContext ctx = CombatContext.builder().build();
+        boolean cancelled = eventBus.fire(new DamageDealtEvent(ctx, 100.0));
+
+        // 우선순위 순으로 호출되며, 취소 후에는 ignoreCancelled 리스너를 건너뜀
+        assertTrue(cancelled);
+        assertEquals("LNM", order.toString());
+    }
+
+    @Test
+    void testAsyncListener() throws InterruptedException {
+        java.util.concurrent.CountDownLatch latch = new java.util.concurrent.CountDownLatch(1);
+        CombatEvent[] received = new CombatEvent[1];
+        eventBus.registerAsync(CombatEventType.DAMAGE_DEALT, event -> {
+            received[0] = event;
+            latch.countDown();
+        });
+
+        CombatContext ctx = CombatContext.builder().build();
+        DamageDealtEvent event = new DamageDealtEvent(ctx, 100.0);
+        eventBus.fire(event);
+
+        assertTrue(latch.await(1, java.util.concurrent.TimeUnit.SECONDS));
+        eventBus.shutdown();
+
+        // 비동기 리스너는 읽기 전용 사본을 받음
+        assertNotSame(event, received[0]);
+        assertEquals(100.0, ((DamageDealtEvent) received[0]).getFinalDamage());
+        assertThrows(IllegalStateException.class, () -> received[0].setCancelled(true));
+    }
+
+    @Test
+    void testJournalDumpAndReplay() throws java.io.IOException {
+        CombatJournal journal = new CombatJournal(4, () -> 7L);
+        eventBus.setJournal(journal);
+
+        com.sanctuary.combat.stat.CombatStatSnapshot stats = new com.sanctuary.combat.stat.CombatStatSnapshot(
+                1, 0L, 100.0, 500.0, 0.5, 0.5, 0.0, 0.2, 0.1, 0.0, 0.0, 0.0, 0.0, 1.0, 1000.0, 0.0,
+                0, 0, 0, 0, 0);
+        for (int i = 0; i < 6; i++) {
+            com.sanctuary.combat.model.DamageContext hit = new com.sanctuary.combat.model.DamageContext(stats, null);
+            hit.addTag("PHYSICAL");
+            double damage = com.sanctuary.combat.calc.DamageFormula.DEFAULT.evaluate(hit);
+
+            CombatContext ctx = CombatContext.builder().attackerStats(stats).addTag("PHYSICAL").build();
+            eventBus.fire(new DamageDealtEvent(ctx, damage)
+                    .critical(hit.isCritical())
+                    .overpower(hit.isOverpower()));
+        }
+
+        // 용량(4)을 넘으면 오래된 레코드부터 덮어씀
+        var recent = journal.recent(com.sanctuary.core.ecs.EntityHandle.NONE);
+        assertEquals(4, recent.size());
+        assertEquals(2L, recent.get(0).sequence());
+        assertEquals(7L, recent.get(0).tick());
+
+        java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+        CombatJournal.write(recent, out);
+        var loaded = CombatJournal.read(new java.io.ByteArrayInputStream(out.toByteArray()));
+        assertEquals(4, loaded.size());
+        assertTrue(loaded.get(0).hasTag("PHYSICAL"));
+
+        // 기록된 판정 결과로 다시 계산하면 같은 피해가 나옴
+        var results = new com.sanctuary.combat.calc.CombatReplay(com.sanctuary.combat.calc.DamageFormula.DEFAULT)
+                .replay(loaded);
+        assertEquals(4, results.size());
+        for (var result : results) {
+            assertTrue(result.matches(), "리플레이 불일치: " + result);
+        }
+    }
+
+    @Test
+    void testReplaySkipsLuaCalculatedEntries() {
+        CombatJournal journal = new CombatJournal(8, () -> 3L);
+        eventBus.setJournal(journal);
+
+        com.sanctuary.combat.stat.CombatStatSnapshot stats = new com.sanctuary.combat.stat.CombatStatSnapshot(
+                1, 0L, 100.0, 500.0, 0.0, 0.5, 0.0, 0.2, 0.1, 0.0, 0.0, 0.0, 0.0, 1.0, 1000.0, 0.0,
+                0, 0, 0, 0, 0);
+        com.sanctuary.combat.model.DamageContext hit = new com.sanctuary.combat.model.DamageContext(stats, null);
+        double javaDamage = com.sanctuary.combat.calc.DamageFormula.DEFAULT.evaluate(hit);
+
+        // Java 공식 결과와 Lua 스크립트 결과(공식과 다른 값)를 하나씩 기록
+        eventBus.fire(new DamageDealtEvent(CombatContext.builder().attackerStats(stats).build(), javaDamage)
+                .critical(hit.isCritical())
+                .overpower(hit.isOverpower()));
+        eventBus.fire(new DamageDealtEvent(CombatContext.builder().attackerStats(stats).build(), javaDamage * 3)
+                .luaCalculated(true));
+
+        var entries = journal.recent(com.sanctuary.core.ecs.EntityHandle.NONE);
+        assertEquals(2, entries.size());
+        assertFalse(entries.get(0).hasFlag(CombatJournal.FLAG_LUA_CALCULATED));
+        assertTrue(entries.get(1).hasFlag(CombatJournal.FLAG_LUA_CALCULATED));
+
+        var results = new com.sanctuary.combat.calc.CombatReplay(com.sanctuary.combat.calc.DamageFormula.DEFAULT)
+                .replay(entries);
+        assertEquals(1, results.size());
+        assertSame(entries.get(0), results.get(0).entry());
+        assertTrue(results.get(0).matches());
+    }
+
+    @Test
+    void testCoalescedListener() {
+        int[] rawCount = new int[1];
+        java.util.List<CombatEvent> coalesced = new java.util.ArrayList<>();
+        eventBus.register(CombatEventType.DAMAGE_DEALT, event -> {
+            rawCount[0]++;
+            if (((DamageDealtEvent) event).getFinalDamage() < 0) {
+                event.setCancelled(true);
+            }
+        });
+        eventBus.registerCoalesced(CombatEventType.DAMAGE_DEALT, coalesced::add);
+
+        CombatContext first = CombatContext.builder().attackerStats(handleSnapshot(1)).victimStats(handleSnapshot(2)).build();
+        CombatContext other = CombatContext.builder().attackerStats(handleSnapshot(1)).victimStats(handleSnapshot(3)).build();
+        eventBus.fire(new DamageDealtEvent(first, 10.0));
+        eventBus.fire(new DamageDealtEvent(first, 20.0).critical(true));
+        eventBus.fire(new DamageDealtEvent(first, 30.0));
+        eventBus.fire(new DamageDealtEvent(first, -1.0)); // 취소됨
+        eventBus.fire(new DamageDealtEvent(other, 5.0));
+
+        // 일반 리스너는 원본을 모두 받고, 병합 리스너는 틱 끝에 (공격자, 대상)별 합계를 받음
+        assertEquals(5, rawCount[0]);
+        assertTrue(coalesced.isEmpty());
+        assertEquals(2, eventBus.flushCoalesced(100L));
+        assertEquals(2, coalesced.size());
+
+        CoalescedDamageEvent merged = (CoalescedDamageEvent) coalesced.get(0);
+        assertEquals(3, merged.getHitCount());
+        assertEquals(60.0, merged.getFinalDamage());
+        assertTrue(merged.isCritical());
+        assertEquals(100L, merged.getTick());
+        assertEquals(1, ((CoalescedDamageEvent) coalesced.get(1)).getHitCount());
+        assertEquals(0, eventBus.flushCoalesced(101L));
+    }
+
+    @Test
+    void testSnapshotWithoutContext() {
+        DamageDealtEvent event = new DamageDealtEvent(null, 42.0).critical(true);
+
+        DamageDealtEvent copy = event.snapshot();
+        assertNull(copy.getContext());
+        assertEquals(42.0, copy.getFinalDamage());
+        assertTrue(copy.isCritical());
+        assertThrows(IllegalStateException.class, () -> copy.setFinalDamage(1.0));
+    }
+
+    @Test
+    void testCoalescedSnapshotKeepsHitCountAndTick() {
+        CombatContext ctx = CombatContext.builder().attackerStats(handleSnapshot(1)).build();
+        CoalescedDamageEvent merged = new CoalescedDamageEvent(ctx, 3, 100L);
+        merged.baseDamage(60.0).finalDamage(45.0);
+
+        DamageDealtEvent copy = merged.snapshot();
+        assertInstanceOf(CoalescedDamageEvent.class, copy);
+        assertEquals(3, ((CoalescedDamageEvent) copy).getHitCount());
+        assertEquals(100L, ((CoalescedDamageEvent) copy).getTick());
+        assertEquals(45.0, copy.getFinalDamage());
+        assertNotSame(ctx, copy.getContext());
+        assertEquals(1, copy.getContext().getAttackerHandle());
+    }
+
+    @Test
+    void testPooledEventsAreReusedAndCopiedOnEscape() {
+        boolean wasEnabled = CombatEventPool.isEnabled();
+        CombatEventPool.setEnabled(true);
+        try {
+            java.util.List<CombatEvent> coalesced = new java.util.ArrayList<>();
+            eventBus.registerCoalesced(CombatEventType.DAMAGE_DEALT, coalesced::add);
+
+            CombatContext ctx = CombatEventPool.acquireContext()
+                    .attackerStats(handleSnapshot(1))
+                    .victimStats(handleSnapshot(2))
+                    .addTag("fire")
+                    .put("customKey", 42);
+            long firstId = ctx.getContextId();
+            DamageDealtEvent event = CombatEventPool.acquireDamageEvent(ctx, 10.0).critical(true);
+            eventBus.fire(event);
+            CombatEventPool.release(event);
+            CombatEventPool.release(event); // 중복 반환은 무시
+
+            // 반환된 객체는 초기화된 상태로 재사용됨
+            CombatContext reused = CombatEventPool.acquireContext();
+            assertSame(ctx, reused);
+            assertTrue(reused.getContextId() > firstId);
+            assertFalse(reused.hasTag("FIRE"));
+            assertNull(reused.get("customKey"));
+            assertNull(reused.getAttackerStats());
+            DamageDealtEvent second = CombatEventPool.acquireDamageEvent(reused.addTag("COLD"), 5.0);
+            assertSame(event, second);
+            assertFalse(second.isCritical());
+            assertEquals(5.0, second.getFinalDamage());
+
+            // 병합 리스너는 반환 전에 복사한 컨텍스트를 받음
+            assertEquals(1, eventBus.flushCoalesced(1L));
+            CombatContext merged = coalesced.get(0).getContext();
+            assertNotSame(ctx, merged);
+            assertTrue(merged.hasTag("FIRE"));
+            assertFalse(merged.hasTag("COLD"));
+            assertEquals(1, merged.getAttackerHandle());
+            CombatEventPool.release(second);
+        } finally {
+            CombatEventPool.setEnabled(wasEnabled);
+        }
+    }
+
+    private static com.sanctuary.combat.stat.CombatStatSnapshot handleSnapshot(int handle) {
+        return new com.sanctuary.combat.stat.CombatStatSnapshot(handle, 0L, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0);
+    }
 }
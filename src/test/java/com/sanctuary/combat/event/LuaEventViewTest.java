@@ -0,0 +1,84 @@
+package com.sanctuary.combat.event;
+
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaError;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.jse.JsePlatform;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LuaEventView 단위 테스트
+ */
+public class LuaEventViewTest {
+
+    private final Globals globals = JsePlatform.standardGlobals();
+
+    @Test
+    void testReadsReflectLiveEvent() {
+        DamageDealtEvent event = new DamageDealtEvent(CombatContext.builder().build(), 10.0);
+        LuaValue view = LuaEventView.wrap(event);
+
+        assertEquals("DAMAGE_DEALT", view.get("type").tojstring());
+        assertEquals(10.0, view.get("finalDamage").todouble());
+
+        // 뷰는 복사본이 아니므로 이후 Java 쪽 변경이 바로 보임
+        event.setFinalDamage(25.0);
+        assertEquals(25.0, view.get("finalDamage").todouble());
+    }
+
+    @Test
+    void testWhitelistedFieldsAreWritable() {
+        DamageDealtEvent event = new DamageDealtEvent(CombatContext.builder().build(), 10.0);
+
+        run("local e = ... e.finalDamage = e.finalDamage * 2 e.cancelled = true", event);
+
+        assertEquals(20.0, event.getFinalDamage());
+        assertTrue(event.isCancelled());
+    }
+
+    @Test
+    void testOtherFieldsRejectWrites() {
+        DamageDealtEvent event = new DamageDealtEvent(CombatContext.builder().build(), 10.0);
+
+        assertThrows(LuaError.class, () -> run("local e = ... e.baseDamage = 1", event));
+        assertThrows(LuaError.class, () -> run("local e = ... e.finalDamage = 'high'", event));
+        assertThrows(LuaError.class, () -> run("local e = ... e.context.skillId = 'x'", event));
+        assertEquals(10.0, event.getBaseDamage());
+        assertEquals(10.0, event.getFinalDamage());
+    }
+
+    @Test
+    void testIdsFallBackToSnapshotHandles() {
+        // 데미지 계산기가 만든 이벤트는 엔티티 없이 스냅샷만 가짐
+        CombatContext ctx = CombatContext.builder()
+                .attackerStats(handleSnapshot(7))
+                .victimStats(handleSnapshot(9))
+                .build();
+        LuaValue context = LuaEventView.wrap(new DamageDealtEvent(ctx, 10.0)).get("context");
+
+        assertEquals(7, context.get("attackerId").toint());
+        assertEquals(9, context.get("victimId").toint());
+    }
+
+    @Test
+    void testIdsAreNilWithoutEntityOrSnapshot() {
+        LuaValue context = LuaEventView.wrap(new DamageDealtEvent(CombatContext.builder().build(), 10.0))
+                .get("context");
+
+        assertTrue(context.get("attackerId").isnil());
+        assertTrue(context.get("victimId").isnil());
+        assertTrue(context.get("attackerUuid").isnil());
+        assertTrue(context.get("victimUuid").isnil());
+    }
+
+    private void run(String source, CombatEvent event) {
+        globals.load(source).call(LuaEventView.wrap(event));
+    }
+
+    private static CombatStatSnapshot handleSnapshot(int handle) {
+        return new CombatStatSnapshot(handle, 0L, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+}
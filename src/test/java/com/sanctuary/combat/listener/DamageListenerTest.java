@@ -0,0 +1,176 @@
+package com.sanctuary.combat.listener;
+
+import com.sanctuary.combat.calc.DamageCalculator;
+import com.sanctuary.combat.calc.DefenseCalculator;
+import com.sanctuary.combat.event.CoalescedDamageEvent;
+import com.sanctuary.combat.event.CombatEventBus;
+import com.sanctuary.combat.event.CombatEventType;
+import com.sanctuary.combat.event.DamageDealtEvent;
+import com.sanctuary.combat.stat.StatManager;
+import com.sanctuary.combat.status.StatusEffectManager;
+import com.sanctuary.core.SanctuaryCore;
+import com.sanctuary.core.ecs.EntityManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DamageListener 단위 테스트 (Bukkit 엔티티는 프록시 스텁 사용)
+ */
+public class DamageListenerTest {
+
+    private static final Logger LOGGER = Logger.getLogger("DamageListenerTest");
+
+    private EntityManager entityManager;
+    private CombatEventBus eventBus;
+    private DamageListener listener;
+
+    @BeforeAll
+    static void installServer() throws ReflectiveOperationException {
+        // 데미지 인디케이터 제거 태스크가 Bukkit 스케줄러를 사용하므로 스텁 서버를 설치
+        Field server = Bukkit.class.getDeclaredField("server");
+        server.setAccessible(true);
+        if (server.get(null) == null) {
+            BukkitScheduler scheduler = stub(BukkitScheduler.class,
+                    Map.of("runTaskLater", args -> stub(BukkitTask.class, Map.of())));
+            server.set(null, stub(Server.class, Map.of(
+                    "getScheduler", args -> scheduler,
+                    "getLogger", args -> LOGGER)));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManager = new EntityManager(LOGGER);
+        SanctuaryCore core = new SanctuaryCore(null) {
+            @Override
+            public EntityManager getEntityManager() {
+                return entityManager;
+            }
+        };
+        eventBus = new CombatEventBus(LOGGER, null);
+        listener = new DamageListener(new StatManager(core), new DamageCalculator(null, eventBus),
+                new DefenseCalculator(), new StatusEffectManager(LOGGER), eventBus);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testMeleeHitFiresSingleDamageEvent() {
+        double[] victimHealth = { 1000.0 };
+        LivingEntity attacker = livingEntity(new double[] { 100.0 });
+        LivingEntity victim = livingEntity(victimHealth);
+
+        List<double[]> raw = new ArrayList<>(); // 풀링된 이벤트는 발생 후 재사용되므로 값만 보관
+        eventBus.register(CombatEventType.DAMAGE_DEALT,
+                event -> raw.add(new double[] { ((DamageDealtEvent) event).getBaseDamage(),
+                        ((DamageDealtEvent) event).getFinalDamage() }));
+        List<CoalescedDamageEvent> coalesced = new ArrayList<>();
+        eventBus.registerCoalesced(CombatEventType.DAMAGE_DEALT, event -> coalesced.add((CoalescedDamageEvent) event));
+
+        for (int i = 0; i < 3; i++) {
+            listener.onEntityDamage(new EntityDamageByEntityEvent(attacker, victim,
+                    EntityDamageEvent.DamageCause.ENTITY_ATTACK, 4.0));
+        }
+
+        // 타격마다 방어 적용 후 피해 이벤트 하나
+        assertEquals(3, raw.size());
+        double dealt = 1000.0 - victimHealth[0];
+        assertEquals(dealt, raw.stream().mapToDouble(r -> r[1]).sum(), 1e-9);
+
+        assertEquals(1, eventBus.flushCoalesced(1L));
+        assertEquals(1, coalesced.size());
+        CoalescedDamageEvent merged = coalesced.get(0);
+        assertEquals(3, merged.getHitCount());
+        assertEquals(dealt, merged.getFinalDamage(), 1e-9);
+        assertEquals(raw.stream().mapToDouble(r -> r[0]).sum(), merged.getBaseDamage(), 1e-9);
+    }
+
+    // ===== Bukkit 스텁 =====
+
+    private static LivingEntity livingEntity(double[] health) {
+        UUID uuid = UUID.randomUUID();
+        World world = stub(World.class, Map.of("spawnEntity", args -> stub(ArmorStand.class, Map.of())));
+        Map<String, Function<Object[], Object>> values = new HashMap<>();
+        values.put("getUniqueId", args -> uuid);
+        values.put("getType", args -> EntityType.ZOMBIE);
+        values.put("getHealth", args -> health[0]);
+        values.put("setHealth", args -> {
+            health[0] = (Double) args[0];
+            return null;
+        });
+        values.put("getWorld", args -> world);
+        values.put("getLocation", args -> new Location(world, 0, 64, 0));
+        values.put("getHeight", args -> 1.8);
+        return stub(LivingEntity.class, values);
+    }
+
+    /**
+     * 지정한 메서드만 구현하고 나머지는 기본값(null/0/false)을 반환하는 인터페이스 스텁을 만듭니다.
+     */
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    Function<Object[], Object> implementation = methods.get(method.getName());
+                    if (implementation != null) {
+                        return implementation.apply(args);
+                    }
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return type.getSimpleName() + "Stub";
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                }));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        return type == short.class ? (Object) (short) 0 : (Object) (byte) 0;
+    }
+}
@@ -0,0 +1,199 @@
+package com.sanctuary.combat.skill;
+
+import com.sanctuary.combat.calc.DamageCalculator;
+import com.sanctuary.combat.event.CombatEventBus;
+import com.sanctuary.combat.event.CombatEventType;
+import com.sanctuary.combat.event.DamageDealtEvent;
+import com.sanctuary.combat.model.DamageContext;
+import com.sanctuary.combat.stat.Stat;
+import com.sanctuary.combat.stat.StatManager;
+import com.sanctuary.core.SanctuaryCore;
+import com.sanctuary.core.ecs.EntityManager;
+import com.sanctuary.core.ecs.SanctuaryEntity;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SkillExecutor 광역 피해 단위 테스트 (Bukkit 엔티티는 프록시 스텁 사용)
+ */
+public class SkillExecutorTest {
+
+    private static final Logger LOGGER = Logger.getLogger("SkillExecutorTest");
+
+    private EntityManager entityManager;
+    private StatManager statManager;
+    private CombatEventBus eventBus;
+    private DamageCalculator damageCalculator;
+    private SkillExecutor executor;
+
+    private final List<LivingEntity> nearby = new ArrayList<>();
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = new EntityManager(LOGGER);
+        SanctuaryCore core = new SanctuaryCore(null) {
+            @Override
+            public EntityManager getEntityManager() {
+                return entityManager;
+            }
+        };
+        statManager = new StatManager(core);
+        eventBus = new CombatEventBus(LOGGER, null);
+        damageCalculator = new DamageCalculator(null, eventBus);
+        executor = new SkillExecutor(LOGGER, null, entityManager, null, statManager, damageCalculator);
+
+        nearby.clear();
+        world = stub(World.class, Map.of("getNearbyLivingEntities", args -> new ArrayList<>(nearby)));
+    }
+
+    @Test
+    void testAreaDamageHitsEveryEnemyInOneBatch() {
+        LivingEntity caster = livingEntity(EntityType.PLAYER, new double[] { 100.0 });
+        SanctuaryEntity casterEntity = entityManager.getOrCreate(caster);
+        statManager.getStats(casterEntity).setBase(Stat.WEAPON_DAMAGE, 100.0);
+
+        double[][] health = { { 500.0 }, { 500.0 }, { 500.0 } };
+        double[] playerHealth = { 100.0 };
+        nearby.add(caster);
+        for (double[] h : health) {
+            nearby.add(livingEntity(EntityType.ZOMBIE, h));
+        }
+        nearby.add(player(playerHealth));
+
+        List<double[]> events = new ArrayList<>(); // 풀링된 이벤트는 재사용되므로 값만 보관
+        eventBus.register(CombatEventType.DAMAGE_DEALT, event -> events.add(new double[] {
+                event.getContext().getAttackerHandle(), ((DamageDealtEvent) event).getFinalDamage() }));
+
+        int hits = executor.dealAreaDamage(caster, casterEntity, new Location(world, 0, 64, 0), 4.0, 0.25);
+
+        // 시전자와 플레이어를 제외한 적 3명, 대상마다 피해 이벤트 하나
+        assertEquals(3, hits);
+        assertEquals(3, events.size());
+        for (int i = 0; i < health.length; i++) {
+            assertEquals(casterEntity.getHandle(), (int) events.get(i)[0]);
+            assertTrue(events.get(i)[1] > 0.0);
+            assertEquals(500.0 - events.get(i)[1], health[i][0], 1e-9);
+        }
+        assertEquals(100.0, playerHealth[0]);
+    }
+
+    @Test
+    void testAreaDamageWithoutTargets() {
+        LivingEntity caster = livingEntity(EntityType.PLAYER, new double[] { 100.0 });
+        nearby.add(caster);
+
+        assertEquals(0, executor.dealAreaDamage(caster, entityManager.getOrCreate(caster),
+                new Location(world, 0, 64, 0), 4.0, 0.25));
+    }
+
+    @Test
+    void testBatchRejectsMixedAttackers() {
+        LivingEntity first = livingEntity(EntityType.ZOMBIE, new double[] { 100.0 });
+        LivingEntity second = livingEntity(EntityType.ZOMBIE, new double[] { 100.0 });
+        LivingEntity victim = livingEntity(EntityType.ZOMBIE, new double[] { 100.0 });
+
+        List<DamageContext> contexts = List.of(context(first, victim, 0.25), context(second, victim, 0.25));
+        assertThrows(IllegalArgumentException.class, () -> damageCalculator.calculateBatch(contexts));
+
+        List<DamageContext> mixedSkills = List.of(context(first, victim, 0.25), context(first, victim, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> damageCalculator.calculateBatch(mixedSkills));
+    }
+
+    private DamageContext context(LivingEntity attacker, LivingEntity victim, double coefficient) {
+        SanctuaryEntity attackerEntity = entityManager.getOrCreate(attacker);
+        DamageContext ctx = new DamageContext(attacker, victim, statManager.getStats(attackerEntity),
+                statManager.getStats(entityManager.getOrCreate(victim)));
+        ctx.setAttackerHandle(attackerEntity.getHandle());
+        ctx.setSkillCoefficient(coefficient);
+        return ctx;
+    }
+
+    // ===== Bukkit 스텁 =====
+
+    private LivingEntity livingEntity(EntityType type, double[] health) {
+        return stub(LivingEntity.class, entityMethods(type, health));
+    }
+
+    private Player player(double[] health) {
+        return stub(Player.class, entityMethods(EntityType.PLAYER, health));
+    }
+
+    private Map<String, Function<Object[], Object>> entityMethods(EntityType type, double[] health) {
+        UUID uuid = UUID.randomUUID();
+        Map<String, Function<Object[], Object>> values = new HashMap<>();
+        values.put("getUniqueId", args -> uuid);
+        values.put("getType", args -> type);
+        values.put("getHealth", args -> health[0]);
+        values.put("setHealth", args -> {
+            health[0] = (Double) args[0];
+            return null;
+        });
+        values.put("getWorld", args -> world);
+        values.put("getLocation", args -> new Location(world, 0, 64, 0));
+        return values;
+    }
+
+    /**
+     * 지정한 메서드만 구현하고 나머지는 기본값(null/0/false)을 반환하는 인터페이스 스텁을 만듭니다.
+     */
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    Function<Object[], Object> implementation = methods.get(method.getName());
+                    if (implementation != null) {
+                        return implementation.apply(args);
+                    }
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return type.getSimpleName() + "Stub";
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                }));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        return type == short.class ? (Object) (short) 0 : (Object) (byte) 0;
+    }
+}
@@ -0,0 +1,124 @@
+package com.sanctuary.core;
+
+import com.sanctuary.combat.stat.StatGraph;
+import com.sanctuary.core.data.DataSnapshot;
+import com.sanctuary.core.data.JsonDataLoader;
+import com.sanctuary.core.script.ScriptEngine;
+import com.sanctuary.core.script.ScriptFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HotReloader 단위 테스트 (메인 스레드는 작업 큐로 대체)
+ */
+public class HotReloaderTest {
+
+    private static final Logger LOGGER = Logger.getLogger("HotReloaderTest");
+
+    private File tempFolder;
+    private ScriptEngine scriptEngine;
+    private JsonDataLoader dataLoader;
+    private final Queue<Runnable> mainThread = new ArrayDeque<>();
+    private HotReloader reloader;
+    private StatGraph previousGraph;
+
+    @BeforeEach
+    void setUp() {
+        tempFolder = new File("target/test-hot-reload");
+        deleteFolder(tempFolder);
+        new File(tempFolder, "scripts").mkdirs();
+        new File(tempFolder, "data").mkdirs();
+
+        scriptEngine = new ScriptEngine(tempFolder, LOGGER);
+        dataLoader = new JsonDataLoader(tempFolder, LOGGER);
+        dataLoader.reload();
+        mainThread.clear();
+        reloader = new HotReloader(dataLoader, scriptEngine, LOGGER, mainThread::add);
+        previousGraph = StatGraph.active();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatGraph.install(previousGraph);
+    }
+
+    @Test
+    void testScriptSwapWaitsForMainThread() throws IOException {
+        write("scripts/misc.lua", "function value() return 1 end");
+        scriptEngine.loadScript("misc.lua");
+        ScriptFunction value = scriptEngine.function("value");
+
+        write("scripts/misc.lua", "function value() return 2 end");
+        reloader.process(path("scripts/misc.lua"));
+
+        // 감시 스레드에서는 컴파일만 하고 정의는 메인 스레드에서 교체
+        assertEquals(1, value.call().toint());
+        runMainThread();
+        assertEquals(2, value.call().toint());
+    }
+
+    @Test
+    void testBrokenOrUnloadedScriptIsSkipped() throws IOException {
+        write("scripts/misc.lua", "function value() return 1 end");
+        reloader.process(path("scripts/misc.lua"));
+        assertFalse(scriptEngine.isLoaded("misc.lua"));
+
+        scriptEngine.loadScript("misc.lua");
+        write("scripts/misc.lua", "function value( return 2 end");
+        reloader.process(path("scripts/misc.lua"));
+
+        assertTrue(mainThread.isEmpty());
+        assertEquals(1, scriptEngine.function("value").call().toint());
+    }
+
+    @Test
+    void testDataUpdatesApplyInSubmissionOrder() throws IOException {
+        DataSnapshot before = dataLoader.getSnapshot();
+        write("data/stats.json", "[{\"id\": \"TEST_STR\", \"name\": \"테스트 힘\", \"type\": \"CORE\"}]");
+        write("data/affixes.json", "[]");
+
+        reloader.process(path("data/stats.json"));
+        reloader.process(path("data/affixes.json"));
+        assertSame(before, dataLoader.getSnapshot());
+
+        // 두 교체 함수가 차례로 최신 스냅샷에 적용되므로 앞선 변경이 유실되지 않음
+        runMainThread();
+        assertNotNull(dataLoader.getSnapshot().getStat("TEST_STR"));
+    }
+
+    private void runMainThread() {
+        Runnable task;
+        while ((task = mainThread.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private Path path(String name) {
+        return new File(tempFolder, name).toPath().toAbsolutePath();
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.write(path(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void deleteFolder(File folder) {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                deleteFolder(file);
+            }
+        }
+        folder.delete();
+    }
+}
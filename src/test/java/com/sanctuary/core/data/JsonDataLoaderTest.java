@@ -1,11 +1,17 @@
 package com.sanctuary.core.data;
 
+import com.sanctuary.core.model.AffixData;
+import com.sanctuary.core.model.AspectData;
 import com.sanctuary.core.model.StatData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,6 +61,47 @@ public class JsonDataLoaderTest {
         assertEquals("CORE", stat.getType());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSnapshotDoesNotShareNestedDefinitions() {
+        StatData stat = new StatData("INTELLIGENCE", "지능", "CORE");
+        stat.setScaling(new HashMap<>(Map.of("ALL_RESISTANCE", 0.001)));
+        AffixData affix = new AffixData();
+        affix.setId("fire_damage_plus");
+        affix.setTags(new ArrayList<>(List.of("TEMPERING")));
+        affix.setStatModifiers(new HashMap<>(Map.of("FIRE_DAMAGE", 10.0)));
+        AspectData aspect = new AspectData();
+        aspect.setId("aspect_of_fire");
+        Map<String, Object> effect = new HashMap<>();
+        effect.put("values", new ArrayList<>(List.of(1.0, 2.0)));
+        aspect.setEffect(effect);
+
+        Map<String, StatData> stats = new HashMap<>(Map.of(stat.getId(), stat));
+        DataSnapshot snapshot = new DataSnapshot(stats, Map.of(affix.getId(), affix), Map.of(),
+                Map.of(aspect.getId(), aspect), Map.of());
+
+        // 원본을 수정해도 스냅샷은 그대로
+        stat.getScaling().put("ALL_RESISTANCE", 1.0);
+        stat.setName("변경됨");
+        affix.getTags().add("UNIQUE");
+        ((List<Object>) effect.get("values")).add(3.0);
+        stats.clear();
+
+        StatData copied = snapshot.getStat("INTELLIGENCE");
+        assertNotSame(stat, copied);
+        assertEquals("지능", copied.getName());
+        assertEquals(0.001, copied.getScaling().get("ALL_RESISTANCE"));
+        assertEquals(List.of("TEMPERING"), snapshot.getAffix("fire_damage_plus").getTags());
+        assertEquals(List.of(1.0, 2.0), snapshot.getAspect("aspect_of_fire").getEffect().get("values"));
+
+        // 스냅샷의 중첩 컬렉션은 수정할 수 없음
+        assertThrows(UnsupportedOperationException.class, () -> copied.getScaling().put("ARMOR", 1.0));
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.getAffix("fire_damage_plus").getStatModifiers().clear());
+        assertThrows(UnsupportedOperationException.class,
+                () -> ((List<Object>) snapshot.getAspect("aspect_of_fire").getEffect().get("values")).add(4.0));
+    }
+
     private void deleteFolder(File folder) {
         File[] files = folder.listFiles();
         if (files != null) {
@@ -1,12 +1,24 @@
 package com.sanctuary.core.ecs;
 
+import com.sanctuary.combat.stat.AttributeContainer;
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import com.sanctuary.combat.stat.Stat;
+import com.sanctuary.combat.stat.StatGraph;
 import com.sanctuary.core.ecs.component.AttributeComponent;
 import com.sanctuary.core.ecs.component.ModifierType;
 import com.sanctuary.core.ecs.component.StatValue;
 import com.sanctuary.core.ecs.component.TagComponent;
 import com.sanctuary.core.ecs.component.IdentityComponent;
+import com.sanctuary.core.ecs.component.classmech.BarbarianComponent;
+import com.sanctuary.core.ecs.component.classmech.ClassMechanic;
+import com.sanctuary.core.ecs.component.classmech.RogueComponent;
+import org.bukkit.entity.Entity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -91,6 +103,228 @@ public class EcsTest {
         assertFalse(container.has(TagComponent.class));
     }
 
+    @Test
+    void testComponentReplaceKeepsArchetype() {
+        TagComponent first = new TagComponent();
+        TagComponent second = new TagComponent();
+
+        container.attach(first);
+        Archetype archetype = container.getArchetype();
+        container.attach(second);
+
+        assertSame(archetype, container.getArchetype());
+        assertSame(second, container.get(TagComponent.class));
+        assertEquals(1, container.size());
+    }
+
+    // ===== ArchetypeStorage 테스트 =====
+
+    @Test
+    void testSameComponentSetSharesArchetype() {
+        ArchetypeStorage storage = new ArchetypeStorage();
+        ComponentContainer a = new ComponentContainer(storage, null);
+        ComponentContainer b = new ComponentContainer(storage, null);
+
+        a.attach(new TagComponent()).attach(new AttributeComponent());
+        b.attach(new AttributeComponent()).attach(new TagComponent());
+
+        assertSame(a.getArchetype(), b.getArchetype());
+        assertEquals(2, a.getArchetype().size());
+    }
+
+    @Test
+    void testSwapRemoveKeepsOtherRowsValid() {
+        ArchetypeStorage storage = new ArchetypeStorage();
+        ComponentContainer a = new ComponentContainer(storage, null);
+        ComponentContainer b = new ComponentContainer(storage, null);
+        TagComponent bTags = new TagComponent();
+
+        a.attach(new TagComponent());
+        b.attach(bTags);
+
+        // a가 빠지면 b가 0번 행으로 이동
+        a.detach(TagComponent.class);
+
+        assertNull(a.getArchetype());
+        assertEquals(0, a.size());
+        assertEquals(0, b.getRow());
+        assertSame(bTags, b.get(TagComponent.class));
+    }
+
+    @Test
+    void testClearRemovesFromStorage() {
+        ArchetypeStorage storage = new ArchetypeStorage();
+        ComponentContainer a = new ComponentContainer(storage, null);
+        a.attach(new TagComponent()).attach(new AttributeComponent());
+        Archetype archetype = a.getArchetype();
+
+        a.clear();
+
+        assertEquals(0, archetype.size());
+        assertFalse(a.has(TagComponent.class));
+        assertTrue(a.getAll().isEmpty());
+    }
+
+    // ===== EntityQuery 테스트 =====
+
+    @Test
+    void testQueryTracksAttachAndDetach() {
+        ArchetypeStorage storage = new ArchetypeStorage();
+        EntityQuery query = storage.query(TagComponent.class, AttributeComponent.class);
+
+        ComponentContainer a = new ComponentContainer(storage, null);
+        ComponentContainer b = new ComponentContainer(storage, null);
+        a.attach(new TagComponent()).attach(new AttributeComponent());
+        b.attach(new TagComponent());
+
+        assertEquals(1, query.size());
+
+        b.attach(new AttributeComponent());
+        assertEquals(2, query.size());
+
+        a.detach(TagComponent.class);
+        assertEquals(1, query.size());
+    }
+
+    @Test
+    void testQueryIsCachedPerTypeSet() {
+        ArchetypeStorage storage = new ArchetypeStorage();
+
+        EntityQuery first = storage.query(TagComponent.class, AttributeComponent.class);
+        EntityQuery second = storage.query(AttributeComponent.class, TagComponent.class);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void testQueryMatchesInterfaceType() {
+        ArchetypeStorage storage = new ArchetypeStorage();
+        ComponentContainer barbarian = new ComponentContainer(storage, null);
+        ComponentContainer rogue = new ComponentContainer(storage, null);
+        barbarian.attach(new BarbarianComponent());
+        rogue.attach(new RogueComponent()).attach(new TagComponent());
+
+        EntityQuery query = storage.query(ClassMechanic.class);
+
+        int[] visited = new int[1];
+        query.forEach(ClassMechanic.class, mechanic -> visited[0]++);
+        assertEquals(2, visited[0]);
+    }
+
+    @Test
+    void testQueryColumnIteration() {
+        ArchetypeStorage storage = new ArchetypeStorage();
+        ComponentContainer a = new ComponentContainer(storage, null);
+        a.attach(new TagComponent().add("ELITE")).attach(new AttributeComponent());
+
+        EntityQuery query = storage.query(TagComponent.class, AttributeComponent.class);
+
+        int[] elites = new int[1];
+        query.forEach(TagComponent.class, AttributeComponent.class, (tags, attrs) -> {
+            if (tags.has("ELITE"))
+                elites[0]++;
+        });
+        assertEquals(1, elites[0]);
+    }
+
+    // ===== SystemScheduler 테스트 =====
+
+    @Test
+    void testSchedulerParallelizesNonConflictingSystems() {
+        SystemScheduler scheduler = new SystemScheduler(java.util.logging.Logger.getLogger("EcsTest"), 2);
+        int[] runs = new int[2];
+
+        scheduler.register(EcsSystem.builder("tags").writes(TagComponent.class).run(t -> runs[0]++).build());
+        scheduler.register(EcsSystem.builder("attrs").writes(AttributeComponent.class).run(t -> runs[1]++).build());
+        scheduler.tick();
+
+        assertEquals(1, scheduler.getStageCount());
+        assertEquals(1, runs[0]);
+        assertEquals(1, runs[1]);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testSchedulerOrdersConflictingAndMainThreadSystems() {
+        SystemScheduler scheduler = new SystemScheduler(java.util.logging.Logger.getLogger("EcsTest"), 2);
+        StringBuilder order = new StringBuilder();
+
+        scheduler.register(EcsSystem.builder("sync").reads(TagComponent.class).mainThread()
+                .run(t -> order.append("C")).build());
+        scheduler.register(EcsSystem.builder("decay").writes(TagComponent.class).after("regen")
+                .run(t -> order.append("B")).build());
+        scheduler.register(EcsSystem.builder("regen").writes(TagComponent.class)
+                .run(t -> order.append("A")).build());
+        scheduler.tick();
+
+        // sync(배리어) -> regen -> decay (의존성)
+        assertEquals("CAB", order.toString());
+        assertEquals(3, scheduler.getStageCount());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testSchedulerInterval() {
+        SystemScheduler scheduler = new SystemScheduler(java.util.logging.Logger.getLogger("EcsTest"), 1);
+        int[] runs = new int[1];
+        scheduler.register(EcsSystem.builder("slow").interval(20).run(t -> runs[0]++).build());
+
+        for (int i = 0; i < 40; i++) {
+            scheduler.tick();
+        }
+
+        assertEquals(2, runs[0]);
+        assertEquals(2, scheduler.getStats().get("slow").getCalls());
+        scheduler.shutdown();
+    }
+
+    // ===== EntityHandle 테스트 =====
+
+    @Test
+    void testEntityHandlePacking() {
+        int handle = EntityHandle.pack(1234, 7);
+
+        assertTrue(handle > EntityHandle.NONE);
+        assertEquals(1234, EntityHandle.indexOf(handle));
+        assertEquals(7, EntityHandle.generationOf(handle));
+        assertNotEquals(handle, EntityHandle.pack(1234, EntityHandle.nextGeneration(7)));
+    }
+
+    @Test
+    void testEntityHandleGenerationWrapsToOne() {
+        int max = EntityHandle.GENERATION_MASK;
+        int handle = EntityHandle.pack(EntityHandle.MAX_ENTITIES - 1, max);
+
+        assertTrue(handle > EntityHandle.NONE);
+        assertEquals(max, EntityHandle.generationOf(handle));
+        assertEquals(1, EntityHandle.nextGeneration(max));
+    }
+
+    @Test
+    void testEntityManagerRejectsStaleHandle() {
+        EntityManager manager = new EntityManager(java.util.logging.Logger.getLogger("EcsTest"));
+
+        assertNull(manager.get(EntityHandle.NONE));
+        assertNull(manager.get(EntityHandle.pack(0, 1)));
+        assertFalse(manager.isAlive(EntityHandle.pack(5, 3)));
+    }
+
+    @Test
+    void testReleaseListenerReceivesRemovedHandle() {
+        EntityManager manager = new EntityManager(java.util.logging.Logger.getLogger("EcsTest"));
+        List<Integer> released = new ArrayList<>();
+        manager.addReleaseListener(released::add);
+
+        UUID uuid = UUID.randomUUID();
+        Entity bukkit = (Entity) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Entity.class },
+                (proxy, method, args) -> method.getName().equals("getUniqueId") ? uuid : null);
+        int handle = manager.getOrCreate(bukkit).getHandle();
+
+        manager.remove(uuid);
+        manager.remove(uuid); // 이미 제거된 엔티티는 다시 통지하지 않음
+        assertEquals(List.of(handle), released);
+    }
+
     // ===== AttributeComponent 테스트 =====
 
     @Test
@@ -113,6 +347,192 @@ public class EcsTest {
         assertEquals(0.0, attrs.getValue("NON_EXISTENT"), 0.01);
     }
 
+    @Test
+    void testAttributeComponentIndexedAndStringKeysShareStorage() {
+        AttributeComponent attrs = new AttributeComponent();
+
+        attrs.setBase(Stat.STRENGTH, 100.0);
+        attrs.addModifier("STRENGTH", 0.5, ModifierType.ADDITIVE);
+
+        assertEquals(150.0, attrs.getValue(Stat.STRENGTH), 0.01);
+        assertEquals(150.0, attrs.getValue("STRENGTH"), 0.01);
+        assertTrue(attrs.has(Stat.STRENGTH));
+        assertFalse(attrs.has(Stat.DEXTERITY));
+    }
+
+    @Test
+    void testAttributeComponentOverflowStats() {
+        AttributeComponent attrs = new AttributeComponent();
+
+        attrs.setBase("SCRIPT_ONLY_STAT", 10.0);
+        attrs.addModifier("SCRIPT_ONLY_STAT", 2.0, ModifierType.MULTIPLICATIVE);
+
+        assertEquals(20.0, attrs.getValue("SCRIPT_ONLY_STAT"), 0.01);
+        assertTrue(attrs.getKeys().contains("SCRIPT_ONLY_STAT"));
+
+        attrs.resetAllModifiers();
+        assertEquals(10.0, attrs.getValue("SCRIPT_ONLY_STAT"), 0.01);
+    }
+
+    @Test
+    void testAttributeComponentVersionAndDirtyBits() {
+        AttributeComponent attrs = new AttributeComponent();
+        long initial = attrs.getVersion();
+
+        attrs.setBase(Stat.ARMOR, 200.0);
+        attrs.addModifier(Stat.ARMOR, 0.5, ModifierType.ADDITIVE);
+        assertTrue(attrs.getVersion() > initial);
+        assertTrue(attrs.isDirty());
+
+        // 읽기는 캐시, dirty 비트, 버전을 바꾸지 않음
+        long afterWrite = attrs.getVersion();
+        assertEquals(300.0, attrs.getValue(Stat.ARMOR), 0.01);
+        assertTrue(attrs.isDirty());
+        assertEquals(afterWrite, attrs.getVersion());
+
+        // 캐시는 recalculate()에서만 갱신
+        attrs.recalculate();
+        assertFalse(attrs.isDirty());
+        assertEquals(300.0, attrs.getValue(Stat.ARMOR), 0.01);
+        assertEquals(afterWrite, attrs.getVersion());
+
+        attrs.resetAllModifiers();
+        assertEquals(200.0, attrs.getValue(Stat.ARMOR), 0.01);
+    }
+
+    @Test
+    void testAttributeComponentRemoveSource() {
+        AttributeComponent attrs = new AttributeComponent();
+        attrs.setBase(Stat.STRENGTH, 100.0);
+
+        attrs.addModifier("item:sword", Stat.STRENGTH, 50.0, ModifierType.BASE);
+        attrs.addModifier("item:sword", Stat.STRENGTH, 0.2, ModifierType.ADDITIVE);
+        attrs.addModifier("status:frenzy", Stat.STRENGTH, 1.5, ModifierType.MULTIPLICATIVE);
+        attrs.addModifier("status:frenzy", "SCRIPT_ONLY_STAT", 0.0, ModifierType.MULTIPLICATIVE);
+        assertEquals(150.0 * 1.2 * 1.5, attrs.getValue(Stat.STRENGTH), 0.01);
+
+        assertTrue(attrs.removeSource("item:sword"));
+        assertEquals(150.0, attrs.getValue(Stat.STRENGTH), 0.01);
+        assertFalse(attrs.hasSource("item:sword"));
+
+        assertTrue(attrs.removeSource("status:frenzy"));
+        assertEquals(100.0, attrs.getValue(Stat.STRENGTH), 0.01);
+        assertFalse(attrs.removeSource("status:frenzy"));
+    }
+
+    @Test
+    void testAttributeComponentZeroMultiplierIsReversible() {
+        AttributeComponent attrs = new AttributeComponent();
+        attrs.setBase(Stat.MOVEMENT_SPEED, 1.0);
+
+        attrs.addModifier("status:frozen", Stat.MOVEMENT_SPEED, 0.0, ModifierType.MULTIPLICATIVE);
+        assertEquals(0.0, attrs.getValue(Stat.MOVEMENT_SPEED), 0.0001);
+
+        attrs.removeSource("status:frozen");
+        assertEquals(1.0, attrs.getValue(Stat.MOVEMENT_SPEED), 0.0001);
+    }
+
+    @Test
+    void testAttributeComponentRepeatedEquipDoesNotDrift() {
+        AttributeComponent attrs = new AttributeComponent();
+        attrs.setBase(Stat.STRENGTH, 100.0);
+        attrs.addModifier("status:frenzy", Stat.STRENGTH, 1.1, ModifierType.MULTIPLICATIVE);
+        double expected = attrs.getValue(Stat.STRENGTH);
+
+        for (int i = 0; i < 1000; i++) {
+            attrs.addModifier("item:ring", Stat.STRENGTH, 0.1, ModifierType.BASE);
+            attrs.addModifier("item:ring", Stat.STRENGTH, 0.07, ModifierType.ADDITIVE);
+            attrs.addModifier("item:ring", Stat.STRENGTH, 1.37, ModifierType.MULTIPLICATIVE);
+            attrs.removeSource("item:ring");
+        }
+
+        // 남은 출처로 다시 쌓으므로 오차 없이 원래 값
+        assertEquals(expected, attrs.getValue(Stat.STRENGTH), 0.0);
+        assertEquals(100.0, attrs.getBase(Stat.STRENGTH), 0.0);
+        assertEquals(0.0, attrs.getAdditive(Stat.STRENGTH), 0.0);
+        assertEquals(1.1, attrs.getMultiplicative(Stat.STRENGTH), 0.0);
+    }
+
+    @Test
+    void testAttributeComponentRemovingLastSourceClearsPresence() {
+        AttributeComponent attrs = new AttributeComponent();
+        attrs.addModifier("item:boots", Stat.MOVEMENT_SPEED, 0.1, ModifierType.BASE);
+        attrs.addModifier("aspect:speed", Stat.MOVEMENT_SPEED, 0.2, ModifierType.ADDITIVE);
+        attrs.addModifier("item:boots", "SCRIPT_ONLY_STAT", 5.0, ModifierType.BASE);
+        assertTrue(attrs.has(Stat.MOVEMENT_SPEED));
+        assertTrue(attrs.has("SCRIPT_ONLY_STAT"));
+
+        attrs.removeSource("item:boots");
+        assertTrue(attrs.has(Stat.MOVEMENT_SPEED), "다른 출처의 수정자가 남아 있습니다.");
+        assertFalse(attrs.has("SCRIPT_ONLY_STAT"));
+        assertEquals(0.0, attrs.getValue("SCRIPT_ONLY_STAT"), 0.0);
+
+        attrs.removeSource("aspect:speed");
+        assertFalse(attrs.has(Stat.MOVEMENT_SPEED));
+        assertNull(attrs.get(Stat.MOVEMENT_SPEED.name()));
+        assertFalse(attrs.getKeys().contains(Stat.MOVEMENT_SPEED.name()));
+
+        // 직접 설정한 값은 출처 제거와 무관하게 유지
+        attrs.setBase(Stat.ARMOR, 50.0);
+        attrs.addModifier("item:helm", Stat.ARMOR, 25.0, ModifierType.BASE);
+        attrs.removeSource("item:helm");
+        assertTrue(attrs.has(Stat.ARMOR));
+        assertEquals(50.0, attrs.getValue(Stat.ARMOR), 0.0);
+    }
+
+    @Test
+    void testDerivedStatsPropagateThroughGraph() {
+        StatGraph.install(StatGraph.builder()
+                .scale(Stat.INTELLIGENCE, Stat.ALL_RESISTANCE, 0.001)
+                .scale(Stat.ALL_RESISTANCE, Stat.RESISTANCE_FIRE, 1.0)
+                .build());
+        try {
+            AttributeComponent attrs = new AttributeComponent();
+            attrs.setBase(Stat.RESISTANCE_FIRE, 0.1);
+            attrs.setBase(Stat.INTELLIGENCE, 100.0);
+
+            // 0.1 + (100 * 0.001) * 1.0
+            assertEquals(0.2, attrs.getValue(Stat.RESISTANCE_FIRE), 0.0001);
+
+            attrs.addModifier("item:ring", Stat.INTELLIGENCE, 100.0, ModifierType.BASE);
+            attrs.recalculate();
+            assertFalse(attrs.isDirty());
+            assertEquals(0.2, attrs.getValue(Stat.ALL_RESISTANCE), 0.0001);
+            assertEquals(0.3, attrs.getValue(Stat.RESISTANCE_FIRE), 0.0001);
+
+            attrs.removeSource("item:ring");
+            assertEquals(0.2, attrs.getValue(Stat.RESISTANCE_FIRE), 0.0001);
+        } finally {
+            StatGraph.install(StatGraph.EMPTY);
+        }
+    }
+
+    @Test
+    void testCombatStatSnapshotIsCachedPerVersion() {
+        AttributeContainer stats = new AttributeContainer();
+        stats.setBase(Stat.WEAPON_DAMAGE, 10.0);
+
+        CombatStatSnapshot first = stats.snapshot();
+        assertSame(first, stats.snapshot()); // 같은 버전이면 재사용
+        assertEquals(10.0, first.weaponDamage(), 0.0001);
+
+        // 타격 도중 버프가 적용되어도 기존 스냅샷은 불변
+        stats.addAdditive(Stat.WEAPON_DAMAGE, 0.5);
+        assertEquals(10.0, first.weaponDamage(), 0.0001);
+
+        CombatStatSnapshot second = stats.snapshot();
+        assertNotSame(first, second);
+        assertEquals(15.0, second.weaponDamage(), 0.0001);
+    }
+
+    @Test
+    void testStatGraphRejectsCycles() {
+        StatGraph.Builder builder = StatGraph.builder()
+                .scale(Stat.STRENGTH, Stat.ARMOR, 0.001)
+                .scale(Stat.ARMOR, Stat.STRENGTH, 0.5);
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
     // ===== TagComponent 테스트 =====
 
     @Test
@@ -0,0 +1,153 @@
+package com.sanctuary.core.random;
+
+import com.sanctuary.combat.calc.DamageFormula;
+import com.sanctuary.combat.model.DamageContext;
+import com.sanctuary.combat.stat.CombatStatSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SanctuaryRandom 단위 테스트
+ */
+public class SanctuaryRandomTest {
+
+    private SanctuaryRandom previous;
+
+    @BeforeEach
+    void setUp() {
+        previous = SanctuaryRandom.global();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SanctuaryRandom.install(previous);
+    }
+
+    @Test
+    void testKeyedStreamIsReproducible() {
+        SanctuaryRandom first = new SanctuaryRandom(42L);
+        SanctuaryRandom second = new SanctuaryRandom(42L);
+
+        assertArrayEquals(draw(first.stream(SanctuaryRandom.Stream.LOOT, 7L), 8),
+                draw(second.stream(SanctuaryRandom.Stream.LOOT, 7L), 8));
+
+        // 키/시스템/시드가 다르면 다른 순서
+        double[] base = draw(first.stream(SanctuaryRandom.Stream.LOOT, 7L), 8);
+        assertFalse(Arrays.equals(base, draw(first.stream(SanctuaryRandom.Stream.LOOT, 8L), 8)));
+        assertFalse(Arrays.equals(base, draw(first.stream(SanctuaryRandom.Stream.COMBAT, 7L), 8)));
+        assertFalse(Arrays.equals(base, draw(new SanctuaryRandom(43L).stream(SanctuaryRandom.Stream.LOOT, 7L), 8)));
+    }
+
+    @Test
+    void testSequenceIndependentOfOtherKeysAndThreads() throws Exception {
+        // 메인 스레드에서 두 키를 번갈아 소비
+        SanctuaryRandom sequential = new SanctuaryRandom(42L);
+        List<Double> keyOne = new ArrayList<>();
+        List<Double> keyTwo = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            keyOne.add(sequential.next(SanctuaryRandom.Stream.COMBAT, 1).nextDouble());
+            keyTwo.add(sequential.next(SanctuaryRandom.Stream.COMBAT, 2).nextDouble());
+        }
+
+        // 같은 시드에서 키마다 다른 스레드, 역순으로 소비해도 키별 결과는 같음
+        SanctuaryRandom parallel = new SanctuaryRandom(42L);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Double>> two = executor.submit(() -> drawNext(parallel, 2, 16));
+            List<Double> twoResult = two.get();
+            Future<List<Double>> one = executor.submit(() -> drawNext(parallel, 1, 16));
+            assertEquals(keyOne, one.get());
+            assertEquals(keyTwo, twoResult);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testForgetRestartsSequence() {
+        SanctuaryRandom random = new SanctuaryRandom(42L);
+        double first = random.next(SanctuaryRandom.Stream.LOOT, 5).nextDouble();
+        double second = random.next(SanctuaryRandom.Stream.LOOT, 5).nextDouble();
+        assertNotEquals(first, second);
+
+        // 판정마다 새 생성기를 만들지 않음
+        assertSame(random.next(SanctuaryRandom.Stream.LOOT, 5), random.next(SanctuaryRandom.Stream.LOOT, 5));
+
+        random.forget(5);
+        assertEquals(first, random.next(SanctuaryRandom.Stream.LOOT, 5).nextDouble());
+        assertThrows(IllegalArgumentException.class, () -> random.next(SanctuaryRandom.Stream.LOOT, 0));
+    }
+
+    @Test
+    void testReusedSlotStartsFromNewHandleSeed() {
+        int oldHandle = (1 << 20) | 5; // 슬롯 5, 세대 1
+        int newHandle = (2 << 20) | 5; // 슬롯 5, 세대 2
+        double expected = new SanctuaryRandom(42L).next(SanctuaryRandom.Stream.COMBAT, newHandle).nextDouble();
+
+        // 같은 슬롯의 이전 세대 핸들이 소비한 상태는 새 핸들에 이어지지 않음
+        SanctuaryRandom random = new SanctuaryRandom(42L);
+        for (int i = 0; i < 4; i++) {
+            random.next(SanctuaryRandom.Stream.COMBAT, oldHandle).nextDouble();
+        }
+        assertEquals(expected, random.next(SanctuaryRandom.Stream.COMBAT, newHandle).nextDouble());
+    }
+
+    @Test
+    void testCritRollsReproducePerAttacker() {
+        // 공격자 1과 2가 번갈아 타격
+        SanctuaryRandom.install(new SanctuaryRandom(7L));
+        List<Boolean> interleaved = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            interleaved.add(crit(1));
+            crit(2);
+        }
+
+        // 같은 시드에서 공격자 1만 타격해도 치명타 순서가 같음
+        SanctuaryRandom.install(new SanctuaryRandom(7L));
+        List<Boolean> alone = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            alone.add(crit(1));
+        }
+
+        assertEquals(interleaved, alone);
+        assertTrue(alone.contains(true));
+        assertTrue(alone.contains(false));
+    }
+
+    private static boolean crit(int attackerHandle) {
+        DamageContext ctx = new DamageContext(snapshot(attackerHandle), snapshot(0));
+        ctx.setAttackerHandle(attackerHandle);
+        DamageFormula.DEFAULT.evaluate(ctx);
+        return ctx.isCritical();
+    }
+
+    private static CombatStatSnapshot snapshot(int handle) {
+        return new CombatStatSnapshot(handle, 0L, 100, 0, 0.5, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    private static List<Double> drawNext(SanctuaryRandom random, int handle, int count) {
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(random.next(SanctuaryRandom.Stream.COMBAT, handle).nextDouble());
+        }
+        return values;
+    }
+
+    private static double[] draw(RandomGenerator random, int count) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextDouble();
+        }
+        return values;
+    }
+}
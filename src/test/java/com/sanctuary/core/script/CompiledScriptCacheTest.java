@@ -0,0 +1,141 @@
+package com.sanctuary.core.script;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.LuaFunction;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompiledScriptCache 단위 테스트
+ */
+public class CompiledScriptCacheTest {
+
+    private static final Logger LOGGER = Logger.getLogger("CompiledScriptCacheTest");
+    private static final String SCRIPT = "damage_calculator.lua";
+    private static final String SOURCE = "function double(x) return x * 2 end";
+
+    private File tempFolder;
+    private File cacheFolder;
+
+    @BeforeEach
+    void setUp() {
+        tempFolder = new File("target/test-script-cache");
+        deleteFolder(tempFolder);
+        new File(tempFolder, "scripts").mkdirs();
+        cacheFolder = new File(tempFolder, "script-cache");
+    }
+
+    @Test
+    void testCompiledChunkIsReusedFromDisk() throws IOException {
+        writeScript(SOURCE);
+        ScriptEngine first = new ScriptEngine(tempFolder, LOGGER);
+        first.loadScript(SCRIPT);
+        assertTrue(first.isCompiled(SCRIPT));
+
+        File classFile = new File(cacheFolder, classNameOf(SOURCE) + "/" + classNameOf(SOURCE) + ".class");
+        assertTrue(classFile.exists());
+        long written = classFile.lastModified();
+
+        // 내용이 같으면 재시작 후에도 다시 컴파일하지 않음
+        ScriptEngine second = new ScriptEngine(tempFolder, LOGGER);
+        second.loadScript(SCRIPT);
+        assertTrue(second.isCompiled(SCRIPT));
+        assertEquals(written, classFile.lastModified());
+        assertEquals(42, second.callFunction("double", LuaValue.valueOf(21)).toint());
+    }
+
+    @Test
+    void testChangedSourceReplacesStaleCache() throws IOException {
+        writeScript(SOURCE);
+        new ScriptEngine(tempFolder, LOGGER).loadScript(SCRIPT);
+
+        String changed = "function double(x) return x + x end";
+        writeScript(changed);
+        new ScriptEngine(tempFolder, LOGGER).loadScript(SCRIPT);
+
+        // 같은 스크립트의 이전 캐시는 삭제됨
+        File[] dirs = cacheFolder.listFiles();
+        assertEquals(1, dirs.length);
+        assertEquals(classNameOf(changed), dirs[0].getName());
+    }
+
+    @Test
+    void testCorruptCacheFallsBackToInterpreter() throws IOException {
+        writeScript(SOURCE);
+        File classDir = new File(cacheFolder, classNameOf(SOURCE));
+        classDir.mkdirs();
+        Files.write(new File(classDir, classNameOf(SOURCE) + ".class").toPath(), new byte[] { 1, 2, 3 });
+
+        ScriptEngine engine = new ScriptEngine(tempFolder, LOGGER);
+        engine.loadScript(SCRIPT);
+
+        assertFalse(engine.isCompiled(SCRIPT));
+        assertEquals(42, engine.callFunction("double", LuaValue.valueOf(21)).toint());
+    }
+
+    @Test
+    void testCompileDisabledUsesInterpreter() throws IOException {
+        writeScript(SOURCE);
+        ScriptEngine engine = new ScriptEngine(tempFolder, LOGGER);
+        engine.setCompileEnabled(false);
+        engine.loadScript(SCRIPT);
+
+        assertFalse(engine.isCompiled(SCRIPT));
+        assertFalse(cacheFolder.exists());
+        assertEquals(42, engine.callFunction("double", LuaValue.valueOf(21)).toint());
+    }
+
+    @Test
+    void testConcurrentWritersLeaveOneCompleteCache() throws Exception {
+        writeScript(SOURCE);
+        CompiledScriptCache cache = new CompiledScriptCache(cacheFolder, LOGGER);
+        File script = new File(tempFolder, "scripts/" + SCRIPT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<LuaFunction>> loads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            loads.add(executor.submit(() -> cache.load(script, JsePlatform.standardGlobals())));
+        }
+        for (Future<LuaFunction> load : loads) {
+            assertNotNull(load.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // 임시 디렉토리는 남지 않고 완성된 캐시 하나만 남음
+        File[] dirs = cacheFolder.listFiles();
+        assertEquals(1, dirs.length);
+        assertEquals(classNameOf(SOURCE), dirs[0].getName());
+    }
+
+    private static String classNameOf(String source) {
+        return CompiledScriptCache.classNameOf(SCRIPT, source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeScript(String source) throws IOException {
+        Files.write(new File(tempFolder, "scripts/" + SCRIPT).toPath(), source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void deleteFolder(File folder) {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                deleteFolder(file);
+            }
+        }
+        folder.delete();
+    }
+}
@@ -0,0 +1,76 @@
+package com.sanctuary.core.script;
+
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LuaSchema 단위 테스트
+ */
+public class LuaSchemaTest {
+
+    private final Globals globals = JsePlatform.standardGlobals();
+
+    @Test
+    void testKeysAreInterned() {
+        LuaSchema schema = LuaSchema.of("test", "id", "health");
+
+        assertSame(schema.key("id"), schema.key("id"));
+        assertSame(LuaSchema.intern("PHYSICAL"), LuaSchema.intern("PHYSICAL"));
+        assertThrows(IllegalArgumentException.class, () -> schema.key("missing"));
+    }
+
+    @Test
+    void testReleasedTableIsReused() {
+        LuaSchema schema = LuaSchema.of("test", "id");
+        LuaTable first = schema.acquire();
+        schema.release(first);
+        schema.release(new LuaTable()); // 풀에서 꺼내지 않은 테이블은 무시
+
+        assertEquals(1, schema.getPooledCount());
+        assertSame(first, schema.acquire());
+        assertNotSame(first, schema.acquire());
+    }
+
+    @Test
+    void testSchemaFieldWriteKeepsTablePoolable() {
+        LuaSchema schema = LuaSchema.of("test", "id");
+        LuaTable table = schema.acquire();
+        table.rawset(schema.key("id"), LuaValue.valueOf(1));
+
+        globals.load("local t = ... t.id = 2").call(table);
+        schema.release(table);
+
+        assertEquals(1, schema.getPooledCount());
+    }
+
+    @Test
+    void testForeignKeyTaintsTable() {
+        LuaSchema schema = LuaSchema.of("test", "id");
+        LuaTable table = schema.acquire();
+
+        globals.load("local t = ... t.extra = true").call(table);
+        assertTrue(table.get("extra").toboolean());
+
+        // 스크립트가 모양을 바꾼 테이블은 풀에 반환하지 않음
+        schema.release(table);
+        assertEquals(0, schema.getPooledCount());
+    }
+
+    @Test
+    void testFillListTrimsPreviousValues() {
+        LuaTable table = LuaSchema.list("tags", 4).acquire();
+
+        LuaSchema.fillList(table, List.of("FIRE", "MELEE", "CORE"));
+        LuaSchema.fillList(table, List.of("COLD"));
+
+        assertEquals(1, table.length());
+        assertEquals("COLD", table.get(1).tojstring());
+        assertTrue(table.get(2).isnil());
+    }
+}
@@ -0,0 +1,146 @@
+package com.sanctuary.core.script;
+
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaError;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.ZeroArgFunction;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ScriptCheckpoints 소스 계측 단위 테스트
+ */
+public class ScriptCheckpointsTest {
+
+    private static final String CALL = "__sanctuary_cp()";
+
+    @Test
+    void testInstrumentSkipsStringsAndComments() {
+        String source = "local s = \"while x do\" -- do repeat\n"
+                + "local t = [[function() do end]]\n"
+                + "--[==[ do ]==]\n"
+                + "for i = 1, 2 do end";
+        String instrumented = ScriptCheckpoints.instrument(source);
+
+        assertEquals(source.split("\n").length, instrumented.split("\n").length, "줄 번호가 유지되어야 합니다.");
+        assertTrue(instrumented.contains("\"while x do\" -- do repeat\n"));
+        assertTrue(instrumented.contains("[[function() do end]]"));
+        assertTrue(instrumented.contains("--[==[ do ]==]"));
+        assertTrue(instrumented.endsWith("do __sanctuary_cp()  end"));
+    }
+
+    @Test
+    void testLongBracketsWithEmbeddedClosers() {
+        // 레벨이 다른 닫는 괄호는 긴 문자열/주석을 끝내지 않음
+        String source = "local s = [==[ ]] do end ]=] repeat ]==]\n"
+                + "--[=[ ]] function() end ]==] ]=]\n"
+                + "local u = [[ [==[ do ]]";
+        String instrumented = ScriptCheckpoints.instrument(source);
+
+        assertEquals(0, count(instrumented));
+        assertEquals(" ]] do end ]=] repeat ", run(source + " return s").tojstring());
+    }
+
+    @Test
+    void testEscapedQuotes() {
+        String source = "local s = \"a\\\"do\" .. 'b\\'repeat' .. \"c\\\\\" .. '\\\\' do end\n"
+                + "local t = \"x\\\n do\"\n"
+                + "return s";
+        String instrumented = ScriptCheckpoints.instrument(source);
+
+        assertEquals(1, count(instrumented));
+        assertEquals("a\"dob'repeatc\\\\", run(source).tojstring());
+    }
+
+    @Test
+    void testKeywordsInsideIdentifiers() {
+        String source = "local undo, do_it, functional, repeated, gotox, _do, do2 = 1, 2, 3, 4, 5, 6, 7\n"
+                + "local t = { redo = 1, doing = 2 }\n"
+                + "return undo + do_it + functional + repeated + gotox + _do + do2 + t.redo + t.doing";
+
+        assertEquals(0, count(ScriptCheckpoints.instrument(source)));
+        assertEquals(31, run(source).toint());
+    }
+
+    @Test
+    void testNumbersAreNotSplitIntoKeywords() {
+        String source = "local a, b, c = 1e-5, 0x10, 3.5e+2 do end return b + c";
+        String instrumented = ScriptCheckpoints.instrument(source);
+
+        assertEquals(1, count(instrumented));
+        assertEquals(366, run(source).toint());
+    }
+
+    @Test
+    void testCommentInParameterList() {
+        String source = "function f(a --[[ ) ]], -- b)\n b) return a + b end\n"
+                + "return f(1, 2)";
+        String instrumented = ScriptCheckpoints.instrument(source);
+
+        assertTrue(instrumented.contains(" b) " + CALL), instrumented);
+        assertEquals(3, run(source).toint());
+    }
+
+    @Test
+    void testCheckpointsRunOncePerIteration() {
+        String source = "local n = 0\n"
+                + "for i = 1, 5 do n = n + 1 end\n"
+                + "local j = 0 while j < 3 do j = j + 1 end\n"
+                + "repeat n = n + 1 until n >= 10\n"
+                + "local function g() return 1 end g() g()\n"
+                + "return n";
+        Globals globals = JsePlatform.standardGlobals();
+        int[] checkpoints = new int[1];
+        globals.set(ScriptCheckpoints.GLOBAL_NAME, new ZeroArgFunction() {
+            @Override
+            public LuaValue call() {
+                checkpoints[0]++;
+                return NIL;
+            }
+        });
+
+        assertEquals(10, globals.load(ScriptCheckpoints.instrument(source)).call().toint());
+        // for 5회 + while 3회 + repeat 5회 + 함수 진입 2회
+        assertEquals(15, checkpoints[0]);
+    }
+
+    @Test
+    void testLineNumbersArePreserved() {
+        String source = "local function f()\n"
+                + "  for i = 1, 1 do\n"
+                + "    error('boom')\n"
+                + "  end\n"
+                + "end\n"
+                + "f()";
+
+        LuaError error = assertThrows(LuaError.class, () -> run(source));
+        assertTrue(error.getMessage().contains(":3:"), error.getMessage());
+    }
+
+    @Test
+    void testUtf8BytesArePreserved() {
+        String source = "return \"화염 피해 do\" -- 주석 repeat";
+        byte[] instrumented = ScriptCheckpoints.instrument(source.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, count(new String(instrumented, StandardCharsets.UTF_8)));
+        assertEquals("화염 피해 do",
+                JsePlatform.standardGlobals().load(new String(instrumented, StandardCharsets.UTF_8)).call().tojstring());
+    }
+
+    private static LuaValue run(String source) {
+        return JsePlatform.standardGlobals().load(ScriptCheckpoints.instrument(source), "test").call();
+    }
+
+    private static int count(String instrumented) {
+        int count = 0;
+        int i = instrumented.indexOf(CALL);
+        while (i >= 0) {
+            count++;
+            i = instrumented.indexOf(CALL, i + CALL.length());
+        }
+        return count;
+    }
+}
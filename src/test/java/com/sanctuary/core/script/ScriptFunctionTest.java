@@ -0,0 +1,107 @@
+package com.sanctuary.core.script;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.ZeroArgFunction;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ScriptFunction 단위 테스트
+ */
+public class ScriptFunctionTest {
+
+    private File tempFolder;
+    private ScriptEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        tempFolder = new File("target/test-script-function");
+        deleteFolder(tempFolder);
+        new File(tempFolder, "scripts").mkdirs();
+        engine = new ScriptEngine(tempFolder, Logger.getLogger("ScriptFunctionTest"));
+    }
+
+    @Test
+    void testSameNameReturnsSameHandle() {
+        assertSame(engine.function("value"), engine.function("value"));
+        assertNotSame(engine.function("value"), engine.function("misc.lua", "value"));
+    }
+
+    @Test
+    void testBindingIsReusedUntilEpochChanges() throws IOException {
+        writeScript("misc.lua", "function value() return 1 end");
+        engine.loadScript("misc.lua");
+        ScriptFunction value = engine.function("value");
+        assertEquals(1, value.call().toint());
+
+        // 전역을 직접 바꿔도 세대가 그대로면 바인딩된 함수를 계속 호출
+        engine.getGlobals().set("value", new ZeroArgFunction() {
+            @Override
+            public LuaValue call() {
+                return LuaValue.valueOf(2);
+            }
+        });
+        assertEquals(1, value.call().toint());
+
+        engine.invalidate("misc.lua");
+        assertEquals(2, value.call().toint());
+    }
+
+    @Test
+    void testScriptHandleLoadsOnFirstCall() throws IOException {
+        writeScript("misc.lua", "function value() return 1 end");
+        ScriptFunction value = engine.function("misc.lua", "value");
+        assertEquals(1, value.call().toint());
+
+        writeScript("misc.lua", "function value() return 2 end");
+        assertEquals(1, value.call().toint());
+        engine.invalidate("misc.lua");
+        assertEquals(2, value.call().toint());
+    }
+
+    @Test
+    void testUndefinedFunctionReturnsNil() throws IOException {
+        ScriptFunction later = engine.function("later");
+        assertFalse(later.isDefined());
+        assertTrue(later.call().isnil());
+
+        writeScript("misc.lua", "function later() return 3 end\nfunction fail() error('boom') end");
+        engine.loadScript("misc.lua");
+        assertEquals(3, later.call().toint());
+        assertTrue(engine.function("fail").call().isnil());
+    }
+
+    @Test
+    void testMissingScriptIsRetriedOnlyAfterEpochChanges() throws IOException {
+        ScriptFunction value = engine.function("misc.lua", "value");
+        assertTrue(value.call().isnil());
+
+        // 같은 세대에서는 실패한 조회 결과를 그대로 사용 (호출마다 파일을 다시 찾지 않음)
+        writeScript("misc.lua", "function value() return 1 end");
+        assertTrue(value.call().isnil());
+
+        engine.reloadAll();
+        assertEquals(1, value.call().toint());
+    }
+
+    private void writeScript(String name, String source) throws IOException {
+        Files.write(new File(tempFolder, "scripts/" + name).toPath(), source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void deleteFolder(File folder) {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                deleteFolder(file);
+            }
+        }
+        folder.delete();
+    }
+}
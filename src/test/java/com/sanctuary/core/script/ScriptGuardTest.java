@@ -0,0 +1,152 @@
+package com.sanctuary.core.script;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.LuaValue;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ScriptGuard 실행 예산 단위 테스트
+ */
+public class ScriptGuardTest {
+
+    private static final String LOOPS = String.join("\n",
+            "function spin() while true do end end",
+            "function spinRepeat() repeat until false end",
+            "function spinSwallow() while true do pcall(function() while true do end end) end end",
+            "function spinGoto() ::top:: goto top end",
+            "function sum(n) local s = 0 for i = 1, n do s = s + i end return s end");
+
+    private File tempFolder;
+    private ScriptEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempFolder = new File("target/test-script-guard");
+        deleteFolder(tempFolder);
+        new File(tempFolder, "scripts").mkdirs();
+        engine = new ScriptEngine(tempFolder, Logger.getLogger("ScriptGuardTest"));
+    }
+
+    @Test
+    void testCompiledInfiniteLoopIsCutOff() throws IOException {
+        writeScript("damage_calculator.lua", LOOPS);
+        engine.setDefaultBudget(new ScriptBudget(0, 20));
+        engine.loadScript("damage_calculator.lua");
+        assertTrue(engine.isCompiled("damage_calculator.lua"), "핫 스크립트는 컴파일 모드로 로드되어야 합니다.");
+
+        for (String name : new String[] { "spin", "spinRepeat", "spinSwallow", "spinGoto" }) {
+            ScriptFunction function = engine.function(name);
+            LuaValue result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> function.call());
+            assertTrue(result.isnil(), name);
+            assertEquals(1, function.getProfile().getBudgetExceeded(), name);
+        }
+
+        // 예산 안에서 끝나는 함수는 그대로 동작
+        assertEquals(5050, engine.function("sum").call(LuaValue.valueOf(100)).toint());
+    }
+
+    @Test
+    void testCompiledInstructionBudget() throws IOException {
+        writeScript("damage_calculator.lua", LOOPS);
+        engine.setBudget("spin", new ScriptBudget(10_000, 0));
+        engine.loadScript("damage_calculator.lua");
+
+        ScriptFunction spin = engine.function("spin");
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> spin.call());
+        assertEquals(1, spin.getProfile().getBudgetExceeded());
+    }
+
+    @Test
+    void testInterpretedInfiniteLoopIsCutOff() throws IOException {
+        writeScript("loops.lua", LOOPS);
+        engine.setBudget("spin", new ScriptBudget(100_000, 0));
+        engine.loadScript("loops.lua");
+        assertFalse(engine.isCompiled("loops.lua"));
+
+        ScriptFunction spin = engine.function("spin");
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> spin.call());
+        assertEquals(1, spin.getProfile().getBudgetExceeded());
+    }
+
+    @Test
+    void testInterpretedTimeBudget() throws IOException {
+        writeScript("loops.lua", LOOPS);
+        engine.setBudget("spin", new ScriptBudget(0, 20));
+        engine.loadScript("loops.lua");
+
+        ScriptFunction spin = engine.function("spin");
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> spin.call());
+        assertEquals(1, spin.getProfile().getBudgetExceeded());
+    }
+
+    @Test
+    void testBudgetChangesApplyToExistingHandles() {
+        ScriptFunction spin = engine.function("spin");
+        ScriptFunction sum = engine.function("sum");
+        assertEquals(ScriptBudget.DEFAULT, spin.getBudget());
+
+        ScriptBudget tight = new ScriptBudget(1_000, 0);
+        engine.setBudget("spin", tight);
+        assertEquals(tight, spin.getBudget());
+        assertEquals(ScriptBudget.DEFAULT, sum.getBudget());
+
+        // 기본 예산 변경은 개별 예산이 없는 함수에만 적용
+        engine.setDefaultBudget(ScriptBudget.UNLIMITED);
+        assertEquals(tight, spin.getBudget());
+        assertEquals(ScriptBudget.UNLIMITED, sum.getBudget());
+
+        engine.setBudget("spin", null);
+        assertEquals(ScriptBudget.UNLIMITED, spin.getBudget());
+    }
+
+    @Test
+    void testProfilesRecordCallsPerFunction() throws IOException {
+        writeScript("loops.lua", LOOPS);
+        engine.loadScript("loops.lua");
+
+        ScriptFunction sum = engine.function("sum");
+        for (int i = 0; i < 3; i++) {
+            sum.call(LuaValue.valueOf(10_000));
+        }
+        engine.function("missing").call(); // 정의되지 않은 함수는 호출로 기록하지 않음
+
+        assertSame(sum.getProfile(), engine.getProfile("sum"));
+        assertEquals(3, sum.getProfile().getCalls());
+        assertEquals(1, engine.getProfiles().size());
+
+        engine.resetProfiles();
+        assertEquals(0, sum.getProfile().getCalls());
+    }
+
+    @Test
+    void testUnlimitedBudgetDoesNotInterrupt() throws IOException {
+        writeScript("damage_calculator.lua", LOOPS);
+        engine.setDefaultBudget(ScriptBudget.UNLIMITED);
+        engine.loadScript("damage_calculator.lua");
+
+        assertEquals(500_000_500_000L,
+                engine.function("sum").call(LuaValue.valueOf(1_000_000)).tolong());
+    }
+
+    private void writeScript(String name, String source) throws IOException {
+        Files.write(new File(tempFolder, "scripts/" + name).toPath(), source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void deleteFolder(File folder) {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                deleteFolder(file);
+            }
+        }
+        folder.delete();
+    }
+}